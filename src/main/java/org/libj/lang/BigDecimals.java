@@ -20,14 +20,41 @@ import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Utility functions for operations pertaining to {@link BigDecimal}.
  */
 public final class BigDecimals {
-  private static final ConcurrentHashMap<Serializable,BigDecimal> instances = new ConcurrentHashMap<>();
+  /** The minimum length of a part of a range processed by a fork/join task. */
+  private static final int MIN_PARALLEL_LENGTH = 1 << 14;
+
+  /**
+   * Returns the value of the specified {@link Integer} system property, or
+   * {@code defaultValue} if it is not set or not positive.
+   */
+  private static int getPositiveInteger(final String name, final int defaultValue) {
+    final int value = Integer.getInteger(name, defaultValue);
+    return value > 0 ? value : defaultValue;
+  }
+
+  private static final int internMaximumSize = getPositiveInteger("org.libj.lang.BigDecimals.internMaximumSize", 65536);
+
+  /**
+   * Canonical instances keyed by themselves, which is by unscaled value and
+   * scale, as per {@link BigDecimal#equals(Object)}.
+   */
+  private static final Interner<BigDecimal,BigDecimal> instances = new Interner<>(internMaximumSize);
+
+  /** Canonical instances keyed by the {@link String}, {@link Long} or {@link Double} they were interned by. */
+  private static final Interner<Serializable,BigDecimal> aliases = new Interner<>(internMaximumSize);
 
   private static class BigDecimalInfinity extends BigDecimal {
     private static final long serialVersionUID = -6061982086335481343L;
@@ -104,9 +131,45 @@ public final class BigDecimals {
   /** The {@link BigDecimal} constant {@code sqrt(2)}, with a scale of {@code 15}. */
   public static final BigDecimal SQRT_2 = init(String.valueOf(Constants.SQRT_2), BigDecimal.valueOf(Constants.SQRT_2));
 
-  private static BigDecimal init(final Serializable key, final BigDecimal val) {
-    instances.put(key, val);
-    return val;
+  private static BigDecimal init(final String key, final BigDecimal val) {
+    return aliases.pin(key, instances.pin(val, val));
+  }
+
+  /**
+   * Returns the {@link Interner} of the canonical instances returned by the
+   * {@code intern} methods, keyed by value. It is bounded to the value of the
+   * {@code org.libj.lang.BigDecimals.internMaximumSize} system property
+   * (default {@code 65536}, which is also used if the property is not
+   * positive), and provides the statistics of the pool. The constants of this
+   * class are pinned, so they remain canonical.
+   * <p>
+   * Values interned by their {@link String}, {@code long} or {@code double} representation are looked up in a
+   * second pool of the same bound, which is returned by
+   * {@link #aliasInterner()}. The memory of the canonical instances is
+   * therefore bounded by the sum of the two pools, and the statistics of both
+   * are needed for the full picture.
+   *
+   * @return The {@link Interner} of the canonical instances returned by the
+   *         {@code intern} methods.
+   * @see #aliasInterner()
+   */
+  public static Interner<?,BigDecimal> interner() {
+    return instances;
+  }
+
+  /**
+   * Returns the {@link Interner} of the canonical instances returned by the
+   * {@code intern} methods, keyed by the {@link String}, {@code long} or {@code double} representation they were
+   * interned by. It has the same bound as {@link #interner()}, and provides
+   * the statistics of the lookups by representation, which precede the
+   * lookups by value.
+   *
+   * @return The {@link Interner} of the canonical instances keyed by the
+   *         representation they were interned by.
+   * @see #interner()
+   */
+  public static Interner<?,BigDecimal> aliasInterner() {
+    return aliases;
   }
 
   /**
@@ -119,8 +182,7 @@ public final class BigDecimals {
    * @throws NullPointerException If the specified string value is null.
    */
   public static BigDecimal intern(final String val) {
-    final BigDecimal instance = instances.get(Objects.requireNonNull(val));
-    return instance != null ? instance : init(val, new BigDecimal(val));
+    return aliases.computeIfAbsent(Objects.requireNonNull(val), k -> intern(new BigDecimal((String)k)));
   }
 
   /**
@@ -133,8 +195,8 @@ public final class BigDecimals {
    * @throws NullPointerException If {@code n} is null.
    */
   public static BigDecimal intern(final BigDecimal n) {
-    final BigDecimal instance = instances.putIfAbsent(n.toString(), n);
-    return instance != null ? instance : n;
+    // BigDecimalInfinity is equal to 0, so it is kept out of the pool
+    return n instanceof BigDecimalInfinity ? n : instances.intern(n, n);
   }
 
   /**
@@ -146,8 +208,7 @@ public final class BigDecimals {
    *         representing the specified {@code long} value.
    */
   public static BigDecimal intern(final long val) {
-    final BigDecimal instance = instances.get(val);
-    return instance != null ? instance : init(val, new BigDecimal(val));
+    return aliases.computeIfAbsent(val, k -> intern(new BigDecimal((Long)k)));
   }
 
   /**
@@ -160,8 +221,7 @@ public final class BigDecimals {
    * @throws NullPointerException If the specified {@link Long} value is null.
    */
   public static BigDecimal intern(final Long val) {
-    final BigDecimal instance = instances.get(Objects.requireNonNull(val));
-    return instance != null ? instance : init(val, new BigDecimal(val));
+    return aliases.computeIfAbsent(Objects.requireNonNull(val), k -> intern(new BigDecimal((Long)k)));
   }
 
   /**
@@ -173,8 +233,7 @@ public final class BigDecimals {
    *         representing the specified {@code double} value.
    */
   public static BigDecimal intern(final double val) {
-    final BigDecimal instance = instances.get(val);
-    return instance != null ? instance : init(val, new BigDecimal(val));
+    return aliases.computeIfAbsent(val, k -> intern(new BigDecimal((Double)k)));
   }
 
   /**
@@ -187,8 +246,21 @@ public final class BigDecimals {
    * @throws NullPointerException If the specified {@link Double} value is null.
    */
   public static BigDecimal intern(final Double val) {
-    final BigDecimal instance = instances.get(Objects.requireNonNull(val));
-    return instance != null ? instance : init(val, new BigDecimal(val));
+    return aliases.computeIfAbsent(Objects.requireNonNull(val), k -> intern(new BigDecimal((Double)k)));
+  }
+
+  /**
+   * Returns {@code 10^exp} as a {@link BigDecimal}, with a scale of {@code 0}
+   * if {@code exp} is not negative, and otherwise a scale of {@code -exp}.
+   * Powers with an absolute exponent up to the value specified by the
+   * {@code org.libj.lang.PowersOfTen.maxCachedExponent} system property
+   * (default {@code 512}) are cached on first use.
+   *
+   * @param exp The exponent.
+   * @return {@code 10^exp} as a {@link BigDecimal}.
+   */
+  public static BigDecimal pow10(final int exp) {
+    return PowersOfTen.bigDecimal(exp);
   }
 
   /**
@@ -222,15 +294,355 @@ public final class BigDecimals {
    * @throws NullPointerException If {@code rm} is null.
    */
   public static BigDecimal setScale(BigDecimal v, final int newScale, final RoundingMode rm) {
-    if (v.scale() <= newScale + 1)
+    final int scale = v.scale();
+    if (scale <= newScale + 1) {
+      // An unscaled value of precision p is at least 10^(p-1), so if p + up > 19 the product cannot fit in a long, and it is
+      // scaled with the cached powers of ten. Otherwise, setScale multiplies in long arithmetic with its own overflow check
+      final int up = newScale - scale;
+      if (up > 0 && v.precision() > 19 - up)
+        return new BigDecimal(v.unscaledValue().multiply(PowersOfTen.bigInteger(up)), newScale);
+
       return v.setScale(newScale, rm);
+    }
 
-    if (rm != RoundingMode.UNNECESSARY)
-      v = v.setScale(newScale + 1, RoundingMode.DOWN);
+    if (rm != RoundingMode.UNNECESSARY) {
+      // BigInteger.divide(BigInteger) truncates, which is RoundingMode.DOWN
+      final int down = scale - newScale - 1;
+      v = down > 0 && v.precision() > 18 ? new BigDecimal(v.unscaledValue().divide(PowersOfTen.bigInteger(down)), newScale + 1) : v.setScale(newScale + 1, RoundingMode.DOWN);
+    }
 
     return v.setScale(newScale, rm);
   }
 
+  private static final class ScaleTask extends RecursiveAction {
+    private static final long serialVersionUID = -5102583853394370915L;
+
+    private final List<BigDecimal> values;
+    private final int fromIndex;
+    private final int toIndex;
+    private final int newScale;
+    private final RoundingMode rm;
+
+    private ScaleTask(final List<BigDecimal> values, final int fromIndex, final int toIndex, final int newScale, final RoundingMode rm) {
+      this.values = values;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.newScale = newScale;
+      this.rm = rm;
+    }
+
+    @Override
+    protected void compute() {
+      if (toIndex - fromIndex < 2 * MIN_PARALLEL_LENGTH) {
+        setScale(values, fromIndex, toIndex, newScale, rm);
+        return;
+      }
+
+      final int mid = (fromIndex + toIndex) >>> 1;
+      final ScaleTask left = new ScaleTask(values, fromIndex, mid, newScale, rm);
+      left.fork();
+      new ScaleTask(values, mid, toIndex, newScale, rm).compute();
+      left.join();
+    }
+  }
+
+  private static final class SumTask extends RecursiveTask<BigDecimal> {
+    private static final long serialVersionUID = 2950263542453937462L;
+
+    private final List<BigDecimal> values;
+    private final int fromIndex;
+    private final int toIndex;
+    private final int scale;
+
+    private SumTask(final List<BigDecimal> values, final int fromIndex, final int toIndex, final int scale) {
+      this.values = values;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+      this.scale = scale;
+    }
+
+    @Override
+    protected BigDecimal compute() {
+      if (toIndex - fromIndex < 2 * MIN_PARALLEL_LENGTH)
+        return sum(values, fromIndex, toIndex, scale);
+
+      final int mid = (fromIndex + toIndex) >>> 1;
+      final SumTask left = new SumTask(values, fromIndex, mid, scale);
+      left.fork();
+      final BigDecimal right = new SumTask(values, mid, toIndex, scale).compute();
+      return left.join().add(right);
+    }
+  }
+
+  private static void setScale(final List<BigDecimal> values, final int fromIndex, final int toIndex, final int newScale, final RoundingMode rm) {
+    if (values instanceof RandomAccess) {
+      for (int i = fromIndex; i < toIndex; ++i) {
+        final BigDecimal value = values.get(i);
+        if (value.scale() != newScale)
+          values.set(i, setScale(value, newScale, rm));
+      }
+    }
+    else {
+      final ListIterator<BigDecimal> iterator = values.listIterator(fromIndex);
+      for (int i = fromIndex; i < toIndex; ++i) {
+        final BigDecimal value = iterator.next();
+        if (value.scale() != newScale)
+          iterator.set(setScale(value, newScale, rm));
+      }
+    }
+  }
+
+  private static int maxScale(final List<BigDecimal> values, final int fromIndex, final int toIndex) {
+    int scale = Integer.MIN_VALUE;
+    if (values instanceof RandomAccess) {
+      for (int i = fromIndex; i < toIndex; ++i)
+        scale = Math.max(scale, values.get(i).scale());
+    }
+    else {
+      final ListIterator<BigDecimal> iterator = values.listIterator(fromIndex);
+      for (int i = fromIndex; i < toIndex; ++i)
+        scale = Math.max(scale, iterator.next().scale());
+    }
+
+    return scale;
+  }
+
+  private static BigDecimal addScaled(final BigDecimal sum, final BigDecimal value, final int scale) {
+    // Wide values are scaled up with the cached powers of ten, so the sum is never rescaled
+    return sum.add(value.scale() == scale || value.precision() <= 18 ? value : setScale(value, scale, RoundingMode.UNNECESSARY));
+  }
+
+  private static BigDecimal sum(final List<BigDecimal> values, final int fromIndex, final int toIndex, final int scale) {
+    BigDecimal sum = BigDecimal.ZERO.setScale(scale);
+    if (values instanceof RandomAccess) {
+      for (int i = fromIndex; i < toIndex; ++i)
+        sum = addScaled(sum, values.get(i), scale);
+    }
+    else {
+      final ListIterator<BigDecimal> iterator = values.listIterator(fromIndex);
+      for (int i = fromIndex; i < toIndex; ++i)
+        sum = addScaled(sum, iterator.next(), scale);
+    }
+
+    return sum;
+  }
+
+  /**
+   * Sets the scale of each value in the specified array, replacing each value
+   * whose scale is not {@code newScale} with the result of
+   * {@link #setScale(BigDecimal,int,RoundingMode)}. Values that already have
+   * the scale {@code newScale} are left as they are.
+   *
+   * @param values The array of values.
+   * @param newScale The scale of the values after this method returns.
+   * @param rm The {@link RoundingMode}.
+   * @return The specified array.
+   * @throws ArithmeticException If {@code rm} is
+   *           {@link RoundingMode#UNNECESSARY} and the scaling of a value would
+   *           require rounding.
+   * @throws NullPointerException If {@code values}, a value in the array, or
+   *           {@code rm} is null.
+   */
+  public static BigDecimal[] setScale(final BigDecimal[] values, final int newScale, final RoundingMode rm) {
+    return setScale(values, 0, values.length, newScale, rm, false);
+  }
+
+  /**
+   * Sets the scale of each value in the specified range of the array,
+   * replacing each value whose scale is not {@code newScale} with the result of
+   * {@link #setScale(BigDecimal,int,RoundingMode)}. Values that already have
+   * the scale {@code newScale} are left as they are. The range is processed in
+   * parallel with fork/join over parts of the range if {@code parallel} is
+   * {@code true} and the range is large enough.
+   *
+   * @param values The array of values.
+   * @param fromIndex The index of the first value to scale (inclusive).
+   * @param toIndex The index of the last value to scale (exclusive).
+   * @param newScale The scale of the values after this method returns.
+   * @param rm The {@link RoundingMode}.
+   * @param parallel Whether to process the range in parallel.
+   * @return The specified array.
+   * @throws ArithmeticException If {@code rm} is
+   *           {@link RoundingMode#UNNECESSARY} and the scaling of a value would
+   *           require rounding.
+   * @throws NullPointerException If {@code values}, a value in the range, or
+   *           {@code rm} is null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static BigDecimal[] setScale(final BigDecimal[] values, final int fromIndex, final int toIndex, final int newScale, final RoundingMode rm, final boolean parallel) {
+    setScale(Arrays.asList(values), fromIndex, toIndex, newScale, rm, parallel);
+    return values;
+  }
+
+  /**
+   * Sets the scale of each value in the specified range of the list, replacing
+   * each value whose scale is not {@code newScale} with the result of
+   * {@link #setScale(BigDecimal,int,RoundingMode)}. Values that already have
+   * the scale {@code newScale} are left as they are. The range is processed in
+   * parallel with fork/join over parts of the range if {@code parallel} is
+   * {@code true}, the list is {@link RandomAccess}, and the range is large
+   * enough.
+   *
+   * @param <L> The type of the list.
+   * @param values The list of values, which must support
+   *          {@link List#set(int,Object)}.
+   * @param fromIndex The index of the first value to scale (inclusive).
+   * @param toIndex The index of the last value to scale (exclusive).
+   * @param newScale The scale of the values after this method returns.
+   * @param rm The {@link RoundingMode}.
+   * @param parallel Whether to process the range in parallel.
+   * @return The specified list.
+   * @throws ArithmeticException If {@code rm} is
+   *           {@link RoundingMode#UNNECESSARY} and the scaling of a value would
+   *           require rounding.
+   * @throws NullPointerException If {@code values}, a value in the range, or
+   *           {@code rm} is null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static <L extends List<BigDecimal>>L setScale(final L values, final int fromIndex, final int toIndex, final int newScale, final RoundingMode rm, final boolean parallel) {
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "size", values.size());
+    Objects.requireNonNull(rm);
+    if (parallel && values instanceof RandomAccess && toIndex - fromIndex >= 2 * MIN_PARALLEL_LENGTH)
+      ForkJoinPool.commonPool().invoke(new ScaleTask(values, fromIndex, toIndex, newScale, rm));
+    else
+      setScale(values, fromIndex, toIndex, newScale, rm);
+
+    return values;
+  }
+
+  /**
+   * Returns the sum of the values in the specified array, with the scale of
+   * the value with the greatest scale, as per {@link BigDecimal#add(BigDecimal)}.
+   *
+   * @param values The array of values.
+   * @return The sum of the values in the specified array, or
+   *         {@link BigDecimal#ZERO} if the array is empty.
+   * @throws NullPointerException If {@code values} or a value in the array is
+   *           null.
+   */
+  public static BigDecimal sum(final BigDecimal[] values) {
+    return sum(values, 0, values.length, false);
+  }
+
+  /**
+   * Returns the sum of the values in the specified range of the array, with the
+   * scale of the value with the greatest scale, as per
+   * {@link BigDecimal#add(BigDecimal)}. The range is accumulated in parallel
+   * with fork/join over parts of the range if {@code parallel} is {@code true}
+   * and the range is large enough.
+   *
+   * @param values The array of values.
+   * @param fromIndex The index of the first value to accumulate (inclusive).
+   * @param toIndex The index of the last value to accumulate (exclusive).
+   * @param parallel Whether to accumulate the range in parallel.
+   * @return The sum of the values in the specified range of the array, or
+   *         {@link BigDecimal#ZERO} if the range is empty.
+   * @throws NullPointerException If {@code values} or a value in the range is
+   *           null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static BigDecimal sum(final BigDecimal[] values, final int fromIndex, final int toIndex, final boolean parallel) {
+    return sum(Arrays.asList(values), fromIndex, toIndex, parallel);
+  }
+
+  /**
+   * Returns the sum of the values in the specified range of the list, with the
+   * scale of the value with the greatest scale, as per
+   * {@link BigDecimal#add(BigDecimal)}. The range is accumulated in parallel
+   * with fork/join over parts of the range if {@code parallel} is
+   * {@code true}, the list is {@link RandomAccess}, and the range is large
+   * enough.
+   *
+   * @param values The list of values.
+   * @param fromIndex The index of the first value to accumulate (inclusive).
+   * @param toIndex The index of the last value to accumulate (exclusive).
+   * @param parallel Whether to accumulate the range in parallel.
+   * @return The sum of the values in the specified range of the list, or
+   *         {@link BigDecimal#ZERO} if the range is empty.
+   * @throws NullPointerException If {@code values} or a value in the range is
+   *           null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static BigDecimal sum(final List<BigDecimal> values, final int fromIndex, final int toIndex, final boolean parallel) {
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "size", values.size());
+    if (fromIndex == toIndex)
+      return BigDecimal.ZERO;
+
+    // The sum is accumulated at the greatest scale, so that it is never rescaled
+    final int scale = maxScale(values, fromIndex, toIndex);
+    return parallel && values instanceof RandomAccess && toIndex - fromIndex >= 2 * MIN_PARALLEL_LENGTH ? ForkJoinPool.commonPool().invoke(new SumTask(values, fromIndex, toIndex, scale)) : sum(values, fromIndex, toIndex, scale);
+  }
+
+  /**
+   * Returns the average of the values in the specified array, with the scale
+   * of their {@linkplain #sum(BigDecimal[]) sum}, rounded with
+   * {@link RoundingMode#HALF_UP}, as per {@link Numbers#average(BigDecimal...)}.
+   *
+   * @param values The array of values.
+   * @return The average of the values in the specified array.
+   * @throws ArithmeticException If the array is empty.
+   * @throws NullPointerException If {@code values} or a value in the array is
+   *           null.
+   */
+  public static BigDecimal average(final BigDecimal[] values) {
+    return average(values, 0, values.length, false);
+  }
+
+  /**
+   * Returns the average of the values in the specified range of the array,
+   * with the scale of their
+   * {@linkplain #sum(BigDecimal[],int,int,boolean) sum}, rounded with
+   * {@link RoundingMode#HALF_UP}, as per {@link Numbers#average(BigDecimal...)}.
+   * The range is accumulated in parallel with fork/join over parts of the range
+   * if {@code parallel} is {@code true} and the range is large enough.
+   *
+   * @param values The array of values.
+   * @param fromIndex The index of the first value to accumulate (inclusive).
+   * @param toIndex The index of the last value to accumulate (exclusive).
+   * @param parallel Whether to accumulate the range in parallel.
+   * @return The average of the values in the specified range of the array.
+   * @throws ArithmeticException If the range is empty.
+   * @throws NullPointerException If {@code values} or a value in the range is
+   *           null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static BigDecimal average(final BigDecimal[] values, final int fromIndex, final int toIndex, final boolean parallel) {
+    return average(Arrays.asList(values), fromIndex, toIndex, parallel);
+  }
+
+  /**
+   * Returns the average of the values in the specified range of the list, with
+   * the scale of their {@linkplain #sum(List,int,int,boolean) sum}, rounded
+   * with {@link RoundingMode#HALF_UP}, as per
+   * {@link Numbers#average(BigDecimal...)}. The range is accumulated in
+   * parallel with fork/join over parts of the range if {@code parallel} is
+   * {@code true}, the list is {@link RandomAccess}, and the range is large
+   * enough.
+   *
+   * @param values The list of values.
+   * @param fromIndex The index of the first value to accumulate (inclusive).
+   * @param toIndex The index of the last value to accumulate (exclusive).
+   * @param parallel Whether to accumulate the range in parallel.
+   * @return The average of the values in the specified range of the list.
+   * @throws ArithmeticException If the range is empty.
+   * @throws NullPointerException If {@code values} or a value in the range is
+   *           null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static BigDecimal average(final List<BigDecimal> values, final int fromIndex, final int toIndex, final boolean parallel) {
+    final BigDecimal sum = sum(values, fromIndex, toIndex, parallel);
+    if (fromIndex == toIndex)
+      throw new ArithmeticException("Average of empty range");
+
+    return sum.divide(BigDecimal.valueOf(toIndex - fromIndex), RoundingMode.HALF_UP);
+  }
+
   private BigDecimals() {
   }
 }
\ No newline at end of file
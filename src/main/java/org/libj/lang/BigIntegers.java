@@ -18,13 +18,27 @@ package org.libj.lang;
 
 import java.math.BigInteger;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility functions for operations pertaining to {@link BigInteger}.
  */
 public final class BigIntegers {
-  private static final ConcurrentHashMap<String,BigInteger> instances = new ConcurrentHashMap<>();
+  /**
+   * Returns the value of the specified {@link Integer} system property, or
+   * {@code defaultValue} if it is not set or not positive.
+   */
+  private static int getPositiveInteger(final String name, final int defaultValue) {
+    final int value = Integer.getInteger(name, defaultValue);
+    return value > 0 ? value : defaultValue;
+  }
+
+  private static final int internMaximumSize = getPositiveInteger("org.libj.lang.BigIntegers.internMaximumSize", 65536);
+
+  /** Canonical instances keyed by themselves, which is by value. */
+  private static final Interner<BigInteger,BigInteger> instances = new Interner<>(internMaximumSize);
+
+  /** Canonical instances keyed by the {@link String} they were interned by. */
+  private static final Interner<String,BigInteger> aliases = new Interner<>(internMaximumSize);
 
   /** The {@link BigInteger} constant zero ({@code 0}). */
   public static final BigInteger ZERO = init("0", BigInteger.ZERO);
@@ -38,9 +52,66 @@ public final class BigIntegers {
   /** The {@link BigInteger} constant ten ({@code 10}). */
   public static final BigInteger TEN = init("10", BigInteger.TEN);
 
+  /**
+   * The number of decimal digits at or below which
+   * {@link #valueOf(CharSequence)} parses with the JDK constructor, and the
+   * number of digits of the least power of ten at which longer values are
+   * split. See {@code BigIntegersParseBenchmark} for the crossover. A value
+   * that is not positive falls back to the default.
+   */
+  static final int PARSE_THRESHOLD = getPositiveInteger("org.libj.lang.BigIntegers.parseThreshold", 256);
+
+  /** Lazily populated cache of {@code 10^(PARSE_THRESHOLD * 2^k)}, by {@code k}. */
+  private static final BigInteger[] parsePowers = new BigInteger[32];
+
+  private static BigInteger parsePower(final int k) {
+    // Racy, but benign, because BigInteger is immutable
+    BigInteger pow = parsePowers[k];
+    if (pow == null)
+      parsePowers[k] = pow = k == 0 ? pow10(PARSE_THRESHOLD) : parsePower(k - 1).pow(2);
+
+    return pow;
+  }
+
   private static BigInteger init(final String str, final BigInteger val) {
-    instances.put(str, val);
-    return val;
+    return aliases.pin(str, instances.pin(val, val));
+  }
+
+  /**
+   * Returns the {@link Interner} of the canonical instances returned by the
+   * {@code intern} methods, keyed by value. It is bounded to the value of the
+   * {@code org.libj.lang.BigIntegers.internMaximumSize} system property
+   * (default {@code 65536}, which is also used if the property is not
+   * positive), and provides the statistics of the pool. The constants of this
+   * class are pinned, so they remain canonical.
+   * <p>
+   * Values interned by their {@link String} representation are looked up in a
+   * second pool of the same bound, which is returned by
+   * {@link #aliasInterner()}. The memory of the canonical instances is
+   * therefore bounded by the sum of the two pools, and the statistics of both
+   * are needed for the full picture.
+   *
+   * @return The {@link Interner} of the canonical instances returned by the
+   *         {@code intern} methods.
+   * @see #aliasInterner()
+   */
+  public static Interner<?,BigInteger> interner() {
+    return instances;
+  }
+
+  /**
+   * Returns the {@link Interner} of the canonical instances returned by the
+   * {@code intern} methods, keyed by the {@link String} representation they were
+   * interned by. It has the same bound as {@link #interner()}, and provides
+   * the statistics of the lookups by representation, which precede the
+   * lookups by value.
+   *
+   * @return The {@link Interner} of the canonical instances keyed by the
+   *         representation they were interned by.
+   * @see #interner()
+   */
+  public static Interner<?,BigInteger> aliasInterner() {
+    return aliases;
   }
 
   /**
@@ -53,8 +124,7 @@ public final class BigIntegers {
    * @throws NullPointerException If the specified string value is null.
    */
   public static BigInteger intern(final String val) {
-    final BigInteger intern = instances.get(Objects.requireNonNull(val));
-    return intern != null ? intern : init(val, new BigInteger(val));
+    return aliases.computeIfAbsent(Objects.requireNonNull(val), k -> intern(valueOf(k)));
   }
 
   /**
@@ -67,8 +137,7 @@ public final class BigIntegers {
    * @throws NullPointerException If {@code n} is null.
    */
   public static BigInteger intern(final BigInteger n) {
-    final BigInteger instance = instances.putIfAbsent(n.toString(), n);
-    return instance != null ? instance : n;
+    return instances.intern(n, n);
   }
 
   /**
@@ -126,6 +195,101 @@ public final class BigIntegers {
     return new BigInteger(signum, mag);
   }
 
+  /**
+   * Returns {@code 10^exp} as a {@link BigInteger}. Powers up to the
+   * exponent specified by the {@code org.libj.lang.PowersOfTen.maxCachedExponent}
+   * system property (default {@code 512}) are cached on first use.
+   *
+   * @param exp The exponent.
+   * @return {@code 10^exp} as a {@link BigInteger}.
+   * @throws IllegalArgumentException If {@code exp} is negative.
+   */
+  public static BigInteger pow10(final int exp) {
+    if (exp < 0)
+      throw new IllegalArgumentException("exp (" + exp + ") must not be negative");
+
+    return PowersOfTen.bigInteger(exp);
+  }
+
+  /**
+   * Returns a {@link BigInteger} with the value of the decimal representation
+   * in the specified {@link CharSequence}, which is an optional sign followed
+   * by digits, as accepted by {@link BigInteger#BigInteger(String)}.
+   * <p>
+   * Values of up to {@code 256} digits (overridable by the
+   * {@code org.libj.lang.BigIntegers.parseThreshold} system property) are
+   * parsed by the JDK, which takes quadratic time in the number of digits.
+   * Longer values are split in two at a cached power of ten, and the halves
+   * are parsed recursively and recombined with one multiplication, which takes
+   * subquadratic time.
+   *
+   * @param s The {@link CharSequence}.
+   * @return A {@link BigInteger} with the value of the decimal representation
+   *         in the specified {@link CharSequence}.
+   * @throws NumberFormatException If {@code s} is not a valid decimal
+   *           representation of a {@link BigInteger}.
+   * @throws NullPointerException If {@code s} is null.
+   */
+  public static BigInteger valueOf(final CharSequence s) {
+    return valueOf(s, 0, s.length());
+  }
+
+  /**
+   * Returns a {@link BigInteger} with the value of the decimal representation
+   * in the specified range of the provided {@link CharSequence}, which is an
+   * optional sign followed by digits, as accepted by
+   * {@link BigInteger#BigInteger(String)}.
+   *
+   * @param s The {@link CharSequence}.
+   * @param fromIndex The index in {@code s} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end parsing
+   *          (exclusive).
+   * @return A {@link BigInteger} with the value of the decimal representation
+   *         in the specified range of the provided {@link CharSequence}.
+   * @throws NumberFormatException If the range is not a valid decimal
+   *           representation of a {@link BigInteger}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @throws NullPointerException If {@code s} is null.
+   * @see #valueOf(CharSequence)
+   */
+  public static BigInteger valueOf(final CharSequence s, int fromIndex, final int toIndex) {
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    if (toIndex - fromIndex <= PARSE_THRESHOLD)
+      return new BigInteger(s.subSequence(fromIndex, toIndex).toString());
+
+    final char first = s.charAt(fromIndex);
+    final boolean negative = first == '-';
+    if (negative || first == '+')
+      ++fromIndex;
+
+    // The halves are parsed without their signs, so every char must be a digit
+    for (int i = fromIndex; i < toIndex; ++i) {
+      final char ch = s.charAt(i);
+      if (ch < '0' || '9' < ch)
+        throw new NumberFormatException("Illegal digit '" + ch + "' in: \"" + s.subSequence(fromIndex, Math.min(toIndex, fromIndex + 32)) + "...\"");
+    }
+
+    final BigInteger n = parseDigits(s, fromIndex, toIndex);
+    return negative ? n.negate() : n;
+  }
+
+  private static BigInteger parseDigits(final CharSequence s, final int fromIndex, final int toIndex) {
+    final int length = toIndex - fromIndex;
+    if (length <= PARSE_THRESHOLD)
+      return new BigInteger(s.subSequence(fromIndex, toIndex).toString());
+
+    // Split at the greatest PARSE_THRESHOLD * 2^k that is less than length, so the powers of ten are reused
+    int k = 0;
+    // Shifted as a long, because PARSE_THRESHOLD * 2^(k + 1) can exceed Integer.MAX_VALUE
+    while ((long)PARSE_THRESHOLD << (k + 1) < length)
+      ++k;
+
+    final int split = toIndex - (PARSE_THRESHOLD << k);
+    return parseDigits(s, fromIndex, split).multiply(parsePower(k)).add(parseDigits(s, split, toIndex));
+  }
+
   private BigIntegers() {
   }
 }
\ No newline at end of file
@@ -20,9 +20,6 @@ package org.libj.lang;
  * Functions implementing common operations on {@code byte[]} references.
  */
 public final class Bytes {
-  /** The {@code double} constant log(2) */
-  private static final double LOG_2 = 0.6931471805599453;
-
   /**
    * Returns the index of the first occurrence of the specified
    * {@code byte[] sequence} in {@code bytes}.
@@ -763,23 +760,27 @@ public final class Bytes {
   }
 
   /**
-   * Get the number of bits necessary to store a value.
+   * Get the number of bits necessary to store a value, which is regarded as
+   * unsigned. The size of {@code 0} is {@code 0}, and the size of a negative
+   * value is {@code 32}.
    *
    * @param value The value.
    * @return The number of bits necessary to store a value.
    */
   public static byte getSize(final int value) {
-    return (byte)(1 + StrictMath.log(value) / LOG_2);
+    return (byte)(32 - Integer.numberOfLeadingZeros(value));
   }
 
   /**
-   * Get the number of bits necessary to store a value.
+   * Get the number of bits necessary to store a value, which is regarded as
+   * unsigned. The size of {@code 0} is {@code 0}, and the size of a negative
+   * value is {@code 64}.
    *
    * @param value The value.
    * @return The number of bits necessary to store a value.
    */
   public static byte getSize(final long value) {
-    return (byte)(1 + StrictMath.log(value) / LOG_2);
+    return (byte)(64 - Long.numberOfLeadingZeros(value));
   }
 
   private Bytes() {
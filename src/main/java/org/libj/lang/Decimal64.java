@@ -0,0 +1,538 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Utility functions for fixed-point decimal values that are encoded in a
+ * {@code long}, as an allocation-free alternative to {@link BigDecimal}.
+ * <p>
+ * A {@code Decimal64} value has the numerical value
+ * {@code unscaledValue * 10^-scale}, just like a {@link BigDecimal}. The
+ * {@code scale} is held in the low {@value #SCALE_BITS} bits of the
+ * {@code long}, and ranges from {@code 0} to {@value #MAX_SCALE}. The
+ * {@code unscaledValue} is held in the remaining high bits, and ranges from
+ * {@value #MIN_UNSCALED} to {@value #MAX_UNSCALED}.
+ * <p>
+ * Operations that produce a result that cannot be represented as a
+ * {@code Decimal64} throw an {@link ArithmeticException}, upon which the
+ * caller can continue with {@link #toBigDecimal(long)}, which is lossless.
+ * Operations that round apply the {@link RoundingMode} in the way of
+ * {@link BigDecimals#setScale(BigDecimal,int,RoundingMode)}: only the first
+ * discarded digit affects the rounding.
+ */
+public final class Decimal64 {
+  /** The number of low bits of a {@code Decimal64} that hold the scale. */
+  public static final int SCALE_BITS = 5;
+
+  /** The maximum scale of a {@code Decimal64}. */
+  public static final int MAX_SCALE = 18;
+
+  /** The minimum unscaled value of a {@code Decimal64}. */
+  public static final long MIN_UNSCALED = Long.MIN_VALUE >> SCALE_BITS;
+
+  /** The maximum unscaled value of a {@code Decimal64}. */
+  public static final long MAX_UNSCALED = Long.MAX_VALUE >> SCALE_BITS;
+
+  private static final long SCALE_MASK = (1 << SCALE_BITS) - 1;
+
+  private static long encode(final long unscaled, final int scale) {
+    if (unscaled < MIN_UNSCALED || MAX_UNSCALED < unscaled)
+      throw new ArithmeticException("Decimal64 overflow");
+
+    return unscaled << SCALE_BITS | scale;
+  }
+
+  private static int assertScale(final int scale) {
+    if (scale < 0 || MAX_SCALE < scale)
+      throw new IllegalArgumentException("scale (" + scale + ") must be between 0 and " + MAX_SCALE);
+
+    return scale;
+  }
+
+  /**
+   * Returns a {@code Decimal64} with the specified unscaled value and scale.
+   *
+   * @param unscaled The unscaled value.
+   * @param scale The scale.
+   * @return A {@code Decimal64} with the specified unscaled value and scale.
+   * @throws ArithmeticException If {@code unscaled} is less than
+   *           {@link #MIN_UNSCALED} or greater than {@link #MAX_UNSCALED}.
+   * @throws IllegalArgumentException If {@code scale} is not between
+   *           {@code 0} and {@link #MAX_SCALE}.
+   */
+  public static long valueOf(final long unscaled, final int scale) {
+    return encode(unscaled, assertScale(scale));
+  }
+
+  /**
+   * Returns a {@code Decimal64} with the value of the specified
+   * {@link BigDecimal}, without loss of precision. A {@link BigDecimal} with a
+   * negative scale is represented with a scale of {@code 0}, and one with a
+   * scale greater than {@link #MAX_SCALE} is represented with a scale of
+   * {@link #MAX_SCALE} if its trailing zeroes allow it.
+   *
+   * @param n The {@link BigDecimal}.
+   * @return A {@code Decimal64} with the value of the specified
+   *         {@link BigDecimal}.
+   * @throws ArithmeticException If the value of {@code n} cannot be
+   *           represented as a {@code Decimal64} without loss of precision.
+   * @throws NullPointerException If {@code n} is null.
+   */
+  public static long valueOf(BigDecimal n) {
+    final int scale = n.scale();
+    if (scale < 0)
+      n = n.setScale(0);
+    else if (scale > MAX_SCALE)
+      n = n.setScale(MAX_SCALE, RoundingMode.UNNECESSARY);
+
+    final BigInteger unscaled = n.unscaledValue();
+    if (unscaled.bitLength() > 63 - SCALE_BITS)
+      throw new ArithmeticException("Decimal64 overflow");
+
+    return encode(unscaled.longValue(), n.scale());
+  }
+
+  /**
+   * Returns a {@link BigDecimal} with the value and scale of the specified
+   * {@code Decimal64}.
+   *
+   * @param dec The {@code Decimal64}.
+   * @return A {@link BigDecimal} with the value and scale of the specified
+   *         {@code Decimal64}.
+   */
+  public static BigDecimal toBigDecimal(final long dec) {
+    return BigDecimal.valueOf(unscaledValue(dec), scale(dec));
+  }
+
+  /**
+   * Returns the unscaled value of the specified {@code Decimal64}.
+   *
+   * @param dec The {@code Decimal64}.
+   * @return The unscaled value of the specified {@code Decimal64}.
+   */
+  public static long unscaledValue(final long dec) {
+    return dec >> SCALE_BITS;
+  }
+
+  /**
+   * Returns the scale of the specified {@code Decimal64}.
+   *
+   * @param dec The {@code Decimal64}.
+   * @return The scale of the specified {@code Decimal64}.
+   */
+  public static int scale(final long dec) {
+    return (int)(dec & SCALE_MASK);
+  }
+
+  /**
+   * Returns the signum of the specified {@code Decimal64}.
+   *
+   * @param dec The {@code Decimal64}.
+   * @return {@code -1}, {@code 0}, or {@code 1} as the value of the specified
+   *         {@code Decimal64} is negative, zero or positive.
+   */
+  public static int signum(final long dec) {
+    return Numbers.signum(unscaledValue(dec));
+  }
+
+  /**
+   * Returns a {@code Decimal64} whose value is {@code -dec}, and whose scale is
+   * the scale of {@code dec}.
+   *
+   * @param dec The {@code Decimal64}.
+   * @return A {@code Decimal64} whose value is {@code -dec}.
+   * @throws ArithmeticException If the result overflows a {@code Decimal64}.
+   */
+  public static long negate(final long dec) {
+    return encode(-unscaledValue(dec), scale(dec));
+  }
+
+  /**
+   * Compares the numerical values of the specified {@code Decimal64} values.
+   * Values that are equal in value but have a different scale (like
+   * {@code 2.0} and {@code 2.00}) are considered equal.
+   *
+   * @param a The first {@code Decimal64}.
+   * @param b The second {@code Decimal64}.
+   * @return A negative integer, zero, or a positive integer as the first
+   *         argument is numerically less than, equal to, or greater than the
+   *         second.
+   */
+  public static int compare(final long a, final long b) {
+    final int aScale = scale(a);
+    final int bScale = scale(b);
+    long ua = unscaledValue(a);
+    long ub = unscaledValue(b);
+    try {
+      if (aScale < bScale)
+        ua = Math.multiplyExact(ua, Numbers.pow10(bScale - aScale));
+      else if (aScale > bScale)
+        ub = Math.multiplyExact(ub, Numbers.pow10(aScale - bScale));
+    }
+    catch (final ArithmeticException e) {
+      // The magnitude of the value that overflowed exceeds that of the other
+      return aScale < bScale ? Numbers.signum(ua) : -Numbers.signum(ub);
+    }
+
+    return Long.compare(ua, ub);
+  }
+
+  /**
+   * Returns a {@code Decimal64} whose value is {@code a + b}, and whose scale
+   * is {@code max(scale(a), scale(b))}.
+   *
+   * @param a The first {@code Decimal64}.
+   * @param b The second {@code Decimal64}.
+   * @return A {@code Decimal64} whose value is {@code a + b}.
+   * @throws ArithmeticException If the result overflows a {@code Decimal64}.
+   */
+  public static long add(final long a, final long b) {
+    final int aScale = scale(a);
+    final int bScale = scale(b);
+    if (aScale == bScale)
+      return encode(unscaledValue(a) + unscaledValue(b), aScale);
+
+    if (aScale < bScale)
+      return encode(Math.addExact(Math.multiplyExact(unscaledValue(a), Numbers.pow10(bScale - aScale)), unscaledValue(b)), bScale);
+
+    return encode(Math.addExact(unscaledValue(a), Math.multiplyExact(unscaledValue(b), Numbers.pow10(aScale - bScale))), aScale);
+  }
+
+  /**
+   * Returns a {@code Decimal64} whose value is {@code a - b}, and whose scale
+   * is {@code max(scale(a), scale(b))}.
+   *
+   * @param a The first {@code Decimal64}.
+   * @param b The second {@code Decimal64}.
+   * @return A {@code Decimal64} whose value is {@code a - b}.
+   * @throws ArithmeticException If the result overflows a {@code Decimal64}.
+   */
+  public static long subtract(final long a, final long b) {
+    final int aScale = scale(a);
+    final int bScale = scale(b);
+    if (aScale == bScale)
+      return encode(unscaledValue(a) - unscaledValue(b), aScale);
+
+    if (aScale < bScale)
+      return encode(Math.subtractExact(Math.multiplyExact(unscaledValue(a), Numbers.pow10(bScale - aScale)), unscaledValue(b)), bScale);
+
+    return encode(Math.subtractExact(unscaledValue(a), Math.multiplyExact(unscaledValue(b), Numbers.pow10(aScale - bScale))), aScale);
+  }
+
+  /**
+   * Returns a {@code Decimal64} whose value is {@code a * b}, with the
+   * specified scale, rounded with the provided {@link RoundingMode} in the way
+   * of {@link BigDecimals#setScale(BigDecimal,int,RoundingMode)}.
+   *
+   * @param a The first {@code Decimal64}.
+   * @param b The second {@code Decimal64}.
+   * @param scale The scale of the {@code Decimal64} to be returned.
+   * @param rm The {@link RoundingMode}.
+   * @return A {@code Decimal64} whose value is {@code a * b}, with the
+   *         specified scale.
+   * @throws ArithmeticException If the result overflows a {@code Decimal64},
+   *           or if {@code rm} is {@link RoundingMode#UNNECESSARY} and the
+   *           result requires rounding.
+   * @throws IllegalArgumentException If {@code scale} is not between
+   *           {@code 0} and {@link #MAX_SCALE}.
+   * @throws NullPointerException If {@code rm} is null.
+   */
+  public static long multiply(final long a, final long b, final int scale, final RoundingMode rm) {
+    assertScale(scale);
+    final long product;
+    try {
+      product = Math.multiplyExact(unscaledValue(a), unscaledValue(b));
+    }
+    catch (final ArithmeticException e) {
+      return valueOf(BigDecimals.setScale(toBigDecimal(a).multiply(toBigDecimal(b)), scale, rm));
+    }
+
+    return encode(rescale(product, scale(a) + scale(b), scale, rm), scale);
+  }
+
+  /**
+   * Returns a {@code Decimal64} whose value is {@code a / b}, with the
+   * specified scale, rounded with the provided {@link RoundingMode} in the way
+   * of {@link BigDecimals#setScale(BigDecimal,int,RoundingMode)}.
+   *
+   * @param a The dividend {@code Decimal64}.
+   * @param b The divisor {@code Decimal64}.
+   * @param scale The scale of the {@code Decimal64} to be returned.
+   * @param rm The {@link RoundingMode}.
+   * @return A {@code Decimal64} whose value is {@code a / b}, with the
+   *         specified scale.
+   * @throws ArithmeticException If {@code b} is zero, if the result overflows
+   *           a {@code Decimal64}, or if {@code rm} is
+   *           {@link RoundingMode#UNNECESSARY} and the result requires
+   *           rounding.
+   * @throws IllegalArgumentException If {@code scale} is not between
+   *           {@code 0} and {@link #MAX_SCALE}.
+   * @throws NullPointerException If {@code rm} is null.
+   */
+  public static long divide(final long a, final long b, final int scale, final RoundingMode rm) {
+    assertScale(scale);
+    final long ub = unscaledValue(b);
+    if (ub == 0)
+      throw new ArithmeticException("Division by zero");
+
+    // The quotient is computed with 1 more digit than the scale, which is the digit that decides the rounding
+    final int exp = scale + 1 + scale(b) - scale(a);
+    final long dividend;
+    final long divisor;
+    try {
+      dividend = exp >= 0 ? Math.multiplyExact(unscaledValue(a), Numbers.pow10(exp)) : unscaledValue(a);
+      divisor = exp >= 0 ? ub : Math.multiplyExact(ub, Numbers.pow10(-exp));
+    }
+    catch (final ArithmeticException e) {
+      final BigDecimal quotient = rm == RoundingMode.UNNECESSARY ? toBigDecimal(a).divide(toBigDecimal(b), scale, rm) : toBigDecimal(a).divide(toBigDecimal(b), scale + 1, RoundingMode.DOWN).setScale(scale, rm);
+      return valueOf(quotient);
+    }
+
+    final long truncated = dividend / divisor;
+    if (rm == RoundingMode.UNNECESSARY && truncated % 10 == 0 && dividend % divisor != 0)
+      throw new ArithmeticException("Rounding necessary");
+
+    return encode(round(truncated / 10, (int)(truncated % 10), rm), scale);
+  }
+
+  /**
+   * Returns a {@code Decimal64} whose value is equal to that of {@code dec},
+   * with the specified scale, rounded with the provided {@link RoundingMode}
+   * in the way of {@link BigDecimals#setScale(BigDecimal,int,RoundingMode)}.
+   *
+   * @param dec The {@code Decimal64}.
+   * @param newScale The scale of the {@code Decimal64} to be returned.
+   * @param rm The {@link RoundingMode}.
+   * @return A {@code Decimal64} whose value is equal to that of {@code dec},
+   *         with the specified scale.
+   * @throws ArithmeticException If the result overflows a {@code Decimal64},
+   *           or if {@code rm} is {@link RoundingMode#UNNECESSARY} and the
+   *           result requires rounding.
+   * @throws IllegalArgumentException If {@code newScale} is not between
+   *           {@code 0} and {@link #MAX_SCALE}.
+   * @throws NullPointerException If {@code rm} is null.
+   */
+  public static long setScale(final long dec, final int newScale, final RoundingMode rm) {
+    return encode(rescale(unscaledValue(dec), scale(dec), assertScale(newScale), rm), newScale);
+  }
+
+  /**
+   * Returns the unscaled value of {@code unscaled * 10^-scale} at
+   * {@code newScale}, rounded with the provided {@link RoundingMode} by the
+   * first discarded digit.
+   */
+  private static long rescale(final long unscaled, final int scale, final int newScale, final RoundingMode rm) {
+    if (newScale >= scale)
+      return Math.multiplyExact(unscaled, Numbers.pow10(newScale - scale));
+
+    final int drop = scale - newScale;
+    if (rm == RoundingMode.UNNECESSARY) {
+      if (drop > 18 ? unscaled != 0 : unscaled % Numbers.pow10(drop) != 0)
+        throw new ArithmeticException("Rounding necessary");
+
+      return drop > 18 ? 0 : unscaled / Numbers.pow10(drop);
+    }
+
+    // Truncate to 1 more digit than the new scale, and round by that digit
+    final long truncated = drop > 19 ? 0 : unscaled / Numbers.pow10(drop - 1);
+    return round(truncated / 10, (int)(truncated % 10), rm);
+  }
+
+  /**
+   * Returns {@code quotient} rounded with the provided {@link RoundingMode} by
+   * the first discarded digit, which has the sign of the value being rounded.
+   */
+  private static long round(final long quotient, final int digit, final RoundingMode rm) {
+    if (digit == 0)
+      return quotient;
+
+    switch (rm) {
+      case UP:
+        return digit > 0 ? quotient + 1 : quotient - 1;
+      case DOWN:
+        return quotient;
+      case CEILING:
+        return digit > 0 ? quotient + 1 : quotient;
+      case FLOOR:
+        return digit < 0 ? quotient - 1 : quotient;
+      case HALF_UP:
+        return digit >= 5 ? quotient + 1 : digit <= -5 ? quotient - 1 : quotient;
+      case HALF_DOWN:
+        return digit > 5 ? quotient + 1 : digit < -5 ? quotient - 1 : quotient;
+      case HALF_EVEN:
+        if (digit > 5 || digit == 5 && (quotient & 1) != 0)
+          return quotient + 1;
+
+        return digit < -5 || digit == -5 && (quotient & 1) != 0 ? quotient - 1 : quotient;
+      case UNNECESSARY:
+        throw new ArithmeticException("Rounding necessary");
+      default:
+        throw new UnsupportedOperationException("Unsupported RoundingMode: " + rm);
+    }
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as a {@code Decimal64}, but
+   * returns {@code defaultValue} if the sequence does not contain a parsable
+   * {@code Decimal64}. The sequence is an optional sign, followed by digits
+   * that may contain a {@code '.'}. The scale of the result is the number of
+   * digits following the {@code '.'}.
+   *
+   * @param s A {@link CharSequence} containing the {@code Decimal64}
+   *          representation to be parsed.
+   * @param defaultValue The {@code long} value to be returned if the sequence
+   *          does not contain a parsable {@code Decimal64}.
+   * @return The {@code Decimal64} represented by the argument, or
+   *         {@code defaultValue} if the sequence does not contain a parsable
+   *         {@code Decimal64}.
+   */
+  public static long parse(final CharSequence s, final long defaultValue) {
+    return s == null ? defaultValue : parse0(s, 0, s.length(), defaultValue);
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as a {@code Decimal64}, but
+   * returns {@code defaultValue} if the sequence does not contain a parsable
+   * {@code Decimal64}. The sequence is an optional sign, followed by digits
+   * that may contain a {@code '.'}. The scale of the result is the number of
+   * digits following the {@code '.'}.
+   *
+   * @param s A {@link CharSequence} containing the {@code Decimal64}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code s} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code long} value to be returned if the sequence
+   *          does not contain a parsable {@code Decimal64}.
+   * @return The {@code Decimal64} represented by the argument, or
+   *         {@code defaultValue} if the sequence does not contain a parsable
+   *         {@code Decimal64}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static long parse(final CharSequence s, final int fromIndex, final int toIndex, final long defaultValue) {
+    if (s == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    return parse0(s, fromIndex, toIndex, defaultValue);
+  }
+
+  private static long parse0(final CharSequence s, final int fromIndex, final int toIndex, final long defaultValue) {
+    int i = fromIndex;
+    if (i == toIndex)
+      return defaultValue;
+
+    final char first = s.charAt(i);
+    final boolean negative = first == '-';
+    if (negative || first == '+')
+      ++i;
+
+    // The magnitude is accumulated as a negative number, because the negative range is larger
+    final long limit = negative ? MIN_UNSCALED : -MAX_UNSCALED;
+    long result = 0;
+    int digits = 0;
+    int scale = -1;
+    for (; i < toIndex; ++i) {
+      final char ch = s.charAt(i);
+      if (ch == '.') {
+        if (scale != -1)
+          return defaultValue;
+
+        scale = 0;
+        continue;
+      }
+
+      final int digit = ch - '0';
+      if (digit < 0 || digit > 9)
+        return defaultValue;
+
+      if (result < (limit + digit) / 10)
+        return defaultValue;
+
+      result = result * 10 - digit;
+      ++digits;
+      if (scale != -1 && ++scale > MAX_SCALE)
+        return defaultValue;
+    }
+
+    if (digits == 0)
+      return defaultValue;
+
+    return (negative ? result : -result) << SCALE_BITS | (scale == -1 ? 0 : scale);
+  }
+
+  /**
+   * Writes the plain decimal representation of the specified
+   * {@code Decimal64} into the provided {@code char[]}, starting at the
+   * specified offset. The representation is in the format of
+   * {@link BigDecimal#toPlainString()}, and is at most 21 characters long.
+   *
+   * @param dec The {@code Decimal64}.
+   * @param buf The {@code char[]} into which to write.
+   * @param offset The index in {@code buf} at which to start writing.
+   * @return The index in {@code buf} following the last written character.
+   * @throws NullPointerException If {@code buf} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have enough
+   *           capacity after {@code offset}.
+   */
+  public static int toString(final long dec, final char[] buf, int offset) {
+    long unscaled = unscaledValue(dec);
+    final int scale = scale(dec);
+    if (unscaled < 0) {
+      buf[offset++] = '-';
+      unscaled = -unscaled;
+    }
+
+    final int precision = Numbers.precision(unscaled);
+    final int integerDigits = Math.max(1, precision - scale);
+    final int end = offset + integerDigits + (scale == 0 ? 0 : scale + 1);
+    int i = end;
+    for (int j = 0; j < scale; ++j, unscaled /= 10)
+      buf[--i] = (char)('0' + unscaled % 10);
+
+    if (scale != 0)
+      buf[--i] = '.';
+
+    do
+      buf[--i] = (char)('0' + unscaled % 10);
+    while ((unscaled /= 10) != 0);
+
+    return end;
+  }
+
+  /**
+   * Returns the plain decimal representation of the specified
+   * {@code Decimal64}, in the format of {@link BigDecimal#toPlainString()}.
+   *
+   * @param dec The {@code Decimal64}.
+   * @return The plain decimal representation of the specified
+   *         {@code Decimal64}.
+   */
+  public static String toString(final long dec) {
+    final char[] buf = new char[21];
+    return new String(buf, 0, toString(dec, buf, 0));
+  }
+
+  private Decimal64() {
+  }
+}
@@ -0,0 +1,491 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Allocation-free binary floating-point to decimal conversion, writing
+ * directly into a {@code char[]}, {@code byte[]} or {@link StringBuilder}, or
+ * into a {@link BigDecimal} without rendering any characters.
+ * <p>
+ * The shortest decimal that rounds back to the original value is computed
+ * with the Schubfach algorithm, and is rendered in the format of
+ * {@link Double#toString(double)} (as specified since JDK 19, where it is
+ * always the shortest). In fixed mode, the shortest decimal is rounded
+ * {@link java.math.RoundingMode#HALF_UP half up} to the provided number of
+ * decimal places, and is always rendered in plain notation with trailing
+ * zeroes stripped.
+ *
+ * @see "Raffaello Giulietti, The Schubfach way to render doubles"
+ */
+final class DoubleFormatter {
+  /** The maximum number of characters written for a {@code double} in shortest mode. */
+  static final int MAX_DOUBLE_LENGTH = 24;
+
+  /** The maximum number of characters written for a {@code float} in shortest mode. */
+  static final int MAX_FLOAT_LENGTH = 15;
+
+  /** The value of {@code decimals} that selects the shortest mode. */
+  static final int SHORTEST = Integer.MIN_VALUE;
+
+  /** The zero rendered as {@code "0.0"}. */
+  private static final BigDecimal ZERO = BigDecimal.valueOf(0, 1);
+
+  private static final int K_MIN = -324;
+  private static final int K_MAX = 292;
+
+  private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L};
+
+  /**
+   * The 126-bit values {@code g = floor(10^-k * 2^-r) + 1}, where {@code r} is
+   * chosen such that {@code 2^125 <= floor(10^-k * 2^-r) < 2^126}, for
+   * {@code k} in {@code [K_MIN, K_MAX]}, stored as pairs of the high and low
+   * 63 bits.
+   */
+  private static final long[] G = new long[2 * (K_MAX - K_MIN + 1)];
+
+  static {
+    final BigInteger mask63 = BigInteger.ONE.shiftLeft(63).subtract(BigInteger.ONE);
+    for (int k = K_MIN, i = 0; k <= K_MAX; ++k, i += 2) {
+      final int r = flog2pow10(-k) - 125;
+      BigInteger num = k <= 0 ? BigInteger.TEN.pow(-k) : BigInteger.ONE;
+      BigInteger den = k <= 0 ? BigInteger.ONE : BigInteger.TEN.pow(k);
+      if (r < 0)
+        num = num.shiftLeft(-r);
+      else
+        den = den.shiftLeft(r);
+
+      final BigInteger g = num.divide(den).add(BigInteger.ONE);
+      G[i] = g.shiftRight(63).longValue();
+      G[i + 1] = g.and(mask63).longValue();
+    }
+  }
+
+  /** Returns {@code floor(log10(2^e))}. */
+  private static int flog10pow2(final int e) {
+    return (int)(e * 661971961083L >> 41);
+  }
+
+  /** Returns {@code floor(log10(3/4 * 2^e))}. */
+  private static int flog10threeQuartersPow2(final int e) {
+    return (int)(e * 661971961083L - 274743187321L >> 41);
+  }
+
+  /** Returns {@code floor(log2(10^e))}. */
+  private static int flog2pow10(final int e) {
+    return (int)(e * 913124641741L >> 38);
+  }
+
+  /**
+   * Returns the result of rounding to odd {@code g * cp / 2^127}, where
+   * {@code g = g1 * 2^63 + g0}.
+   */
+  private static long rop(final long g1, final long g0, final long cp) {
+    final long x1 = Numbers.Unsigned.multiplyHigh(g0, cp);
+    final long y0 = g1 * cp;
+    final long y1 = Numbers.Unsigned.multiplyHigh(g1, cp);
+    final long z = (y0 >>> 1) + x1;
+    final long vbp = y1 + (z >>> 63);
+    return vbp | (z & 0x7fffffffffffffffL) + 0x7fffffffffffffffL >>> 63;
+  }
+
+  /**
+   * Returns the result of rounding to odd {@code g * cp / 2^95}.
+   */
+  private static int rop(final long g, final long cp) {
+    final long x1 = Numbers.Unsigned.multiplyHigh(g, cp);
+    final long vbp = x1 >>> 31;
+    return (int)(vbp | (x1 & 0xffffffffL) + 0xffffffffL >>> 32);
+  }
+
+  /**
+   * Writes the specified {@code double} to {@code out} starting at index
+   * {@code i}.
+   *
+   * @param v The {@code double}.
+   * @param decimals The number of decimal places, or {@link #SHORTEST}.
+   * @param out The {@code char[]}, {@code byte[]} or {@link StringBuilder}.
+   * @param i The starting index.
+   * @return The index following the last written character.
+   */
+  static int format(final double v, final int decimals, final Object out, final int i) {
+    final long bits = Double.doubleToRawLongBits(v);
+    final long t = bits & 0xfffffffffffffL;
+    final int bq = (int)(bits >>> 52) & 0x7ff;
+    if (bq == 0x7ff)
+      return put(out, i, t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity");
+
+    final boolean negative = bits < 0;
+    if (bq != 0) {
+      final int mq = 1075 - bq;
+      final long c = 1L << 52 | t;
+      if (0 < mq && mq < 53) {
+        final long f = c >> mq;
+        if (f << mq == c)
+          return write(negative, f, 0, decimals, out, i);
+      }
+
+      return toDecimal(negative, -mq, c, 0, decimals, out, i);
+    }
+
+    if (t != 0)
+      return t < 3 ? toDecimal(negative, -1074, 10 * t, -1, decimals, out, i) : toDecimal(negative, -1074, t, 0, decimals, out, i);
+
+    return zero(negative, decimals, out, i);
+  }
+
+  /**
+   * Writes the specified {@code float} to {@code out} starting at index
+   * {@code i}.
+   *
+   * @param v The {@code float}.
+   * @param decimals The number of decimal places, or {@link #SHORTEST}.
+   * @param out The {@code char[]}, {@code byte[]} or {@link StringBuilder}.
+   * @param i The starting index.
+   * @return The index following the last written character.
+   */
+  static int format(final float v, final int decimals, final Object out, final int i) {
+    final int bits = Float.floatToRawIntBits(v);
+    final int t = bits & 0x7fffff;
+    final int bq = (bits >>> 23) & 0xff;
+    if (bq == 0xff)
+      return put(out, i, t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity");
+
+    final boolean negative = bits < 0;
+    if (bq != 0) {
+      final int mq = 150 - bq;
+      final int c = 1 << 23 | t;
+      if (0 < mq && mq < 24) {
+        final int f = c >> mq;
+        if (f << mq == c)
+          return write(negative, f, 0, decimals, out, i);
+      }
+
+      return toDecimal(negative, -mq, c, 0, decimals, out, i);
+    }
+
+    if (t != 0)
+      return t < 8 ? toDecimal(negative, -149, 10 * t, -1, decimals, out, i) : toDecimal(negative, -149, t, 0, decimals, out, i);
+
+    return zero(negative, decimals, out, i);
+  }
+
+  /**
+   * Returns the shortest decimal that rounds to the specified {@code double},
+   * with the scale of its rendering in shortest mode, as per
+   * {@link BigDecimal#valueOf(double)}.
+   *
+   * @param v The {@code double}.
+   * @return The shortest decimal that rounds to the specified {@code double}.
+   * @throws NumberFormatException If {@code v} is infinite or NaN.
+   */
+  static BigDecimal toBigDecimal(final double v) {
+    if (Double.isNaN(v) || Double.isInfinite(v))
+      throw new NumberFormatException("Infinite or NaN");
+
+    if (v == 0)
+      return ZERO;
+
+    final BigDecimal[] out = new BigDecimal[1];
+    format(v, SHORTEST, out, 0);
+    return out[0];
+  }
+
+  /**
+   * Returns the shortest decimal that rounds to the specified {@code float},
+   * with the scale of its rendering in shortest mode.
+   *
+   * @param v The {@code float}.
+   * @return The shortest decimal that rounds to the specified {@code float}.
+   * @throws NumberFormatException If {@code v} is infinite or NaN.
+   */
+  static BigDecimal toBigDecimal(final float v) {
+    if (Float.isNaN(v) || Float.isInfinite(v))
+      throw new NumberFormatException("Infinite or NaN");
+
+    if (v == 0)
+      return ZERO;
+
+    final BigDecimal[] out = new BigDecimal[1];
+    format(v, SHORTEST, out, 0);
+    return out[0];
+  }
+
+  /**
+   * Computes the shortest decimal (closest to the exact value, if there is a
+   * choice) that rounds to the {@code double} value {@code c * 2^q}, and
+   * writes it to {@code out}.
+   */
+  private static int toDecimal(final boolean negative, final int q, final long c, final int dk, final int decimals, final Object out, final int i) {
+    final int odd = (int)c & 1;
+    final long cb = c << 2;
+    final long cbr = cb + 2;
+    final long cbl;
+    final int k;
+    if (c != 1L << 52 || q == -1074) {
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    }
+    else {
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+
+    final int h = q + flog2pow10(-k) + 2;
+    final int index = 2 * (k - K_MIN);
+    final long g1 = G[index];
+    final long g0 = G[index + 1];
+    final long vb = rop(g1, g0, cb << h);
+    final long vbl = rop(g1, g0, cbl << h);
+    final long vbr = rop(g1, g0, cbr << h);
+
+    final long s = vb >> 2;
+    if (s >= 100) {
+      final long sp10 = 10 * (s / 10);
+      final long tp10 = sp10 + 10;
+      final boolean upin = vbl + odd <= sp10 << 2;
+      final boolean wpin = (tp10 << 2) + odd <= vbr;
+      if (upin != wpin)
+        return write(negative, upin ? sp10 : tp10, k, decimals, out, i);
+    }
+
+    final long t = s + 1;
+    final boolean uin = vbl + odd <= s << 2;
+    final boolean win = (t << 2) + odd <= vbr;
+    if (uin != win)
+      return write(negative, uin ? s : t, k + dk, decimals, out, i);
+
+    final long cmp = vb - (s + t << 1);
+    return write(negative, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk, decimals, out, i);
+  }
+
+  /**
+   * Computes the shortest decimal (closest to the exact value, if there is a
+   * choice) that rounds to the {@code float} value {@code c * 2^q}, and writes
+   * it to {@code out}.
+   */
+  private static int toDecimal(final boolean negative, final int q, final int c, final int dk, final int decimals, final Object out, final int i) {
+    final int odd = c & 1;
+    final long cb = (long)c << 2;
+    final long cbr = cb + 2;
+    final long cbl;
+    final int k;
+    if (c != 1 << 23 || q == -149) {
+      cbl = cb - 2;
+      k = flog10pow2(q);
+    }
+    else {
+      cbl = cb - 1;
+      k = flog10threeQuartersPow2(q);
+    }
+
+    final int h = q + flog2pow10(-k) + 33;
+    final long g = G[2 * (k - K_MIN)] + 1;
+    final int vb = rop(g, cb << h);
+    final int vbl = rop(g, cbl << h);
+    final int vbr = rop(g, cbr << h);
+
+    final int s = vb >> 2;
+    if (s >= 100) {
+      final int sp10 = 10 * (s / 10);
+      final int tp10 = sp10 + 10;
+      final boolean upin = vbl + odd <= sp10 << 2;
+      final boolean wpin = (tp10 << 2) + odd <= vbr;
+      if (upin != wpin)
+        return write(negative, upin ? sp10 : tp10, k, decimals, out, i);
+    }
+
+    final int t = s + 1;
+    final boolean uin = vbl + odd <= s << 2;
+    final boolean win = (t << 2) + odd <= vbr;
+    if (uin != win)
+      return write(negative, uin ? s : t, k + dk, decimals, out, i);
+
+    final int cmp = vb - (s + t << 1);
+    return write(negative, cmp < 0 || cmp == 0 && (s & 1) == 0 ? s : t, k + dk, decimals, out, i);
+  }
+
+  private static int zero(final boolean negative, final int decimals, final Object out, final int i) {
+    return put(out, i, negative && decimals == SHORTEST ? "-0.0" : "0.0");
+  }
+
+  /**
+   * Writes the decimal {@code f * 10^e} (with {@code f > 0}) to {@code out}.
+   */
+  private static int write(final boolean negative, long f, int e, final int decimals, final Object out, int i) {
+    int n = Numbers.precision(f);
+    while (f % 10 == 0) {
+      f /= 10;
+      ++e;
+      --n;
+    }
+
+    if (out instanceof BigDecimal[]) {
+      // The scale of the shortest rendering, which always has a fractional digit
+      final int p = n + e;
+      final int scale = p <= -3 || 7 < p ? Math.max(n - 1, 1) - p + 1 : Math.max(-e, 1);
+      final long unscaled = f * POWERS_OF_TEN[scale + e];
+      ((BigDecimal[])out)[0] = BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+      return i;
+    }
+
+    if (decimals != SHORTEST) {
+      // Digits to keep; long arithmetic guards against overflow of extreme decimals
+      final long kept = (long)n + e + decimals;
+      if (kept < n) {
+        // All digits are dropped, and the remainder is less than half a unit
+        if (n - kept > n)
+          return zero(false, decimals, out, i);
+
+        final int drop = (int)(n - kept);
+        final long pow = POWERS_OF_TEN[drop];
+        final long rem = f % pow;
+        f /= pow;
+        if (rem * 2 >= pow)
+          ++f;
+
+        if (f == 0)
+          return zero(false, decimals, out, i);
+
+        e += drop;
+        n = Numbers.precision(f);
+        while (f % 10 == 0) {
+          f /= 10;
+          ++e;
+          --n;
+        }
+      }
+    }
+
+    if (negative)
+      i = put(out, i, '-');
+
+    // The position of the decimal point relative to the first digit
+    final int p = n + e;
+    if (decimals == SHORTEST && (p <= -3 || 7 < p)) {
+      i = putDigits(out, i, f, n, 1);
+      if (n == 1)
+        i = put(out, put(out, i, '.'), '0');
+
+      i = put(out, i, 'E');
+      int x = p - 1;
+      if (x < 0) {
+        i = put(out, i, '-');
+        x = -x;
+      }
+
+      if (x >= 100)
+        i = put(out, i, (char)('0' + x / 100));
+
+      if (x >= 10)
+        i = put(out, i, (char)('0' + x / 10 % 10));
+
+      return put(out, i, (char)('0' + x % 10));
+    }
+
+    if (p <= 0) {
+      i = put(out, put(out, i, '0'), '.');
+      for (int z = p; z < 0; ++z)
+        i = put(out, i, '0');
+
+      return putDigits(out, i, f, n, 0);
+    }
+
+    if (n <= p) {
+      i = putDigits(out, i, f, n, 0);
+      for (int z = n; z < p; ++z)
+        i = put(out, i, '0');
+
+      return put(out, put(out, i, '.'), '0');
+    }
+
+    return putDigits(out, i, f, n, p);
+  }
+
+  /**
+   * Writes the {@code n} digits of {@code f} to {@code out} starting at index
+   * {@code i}, with a decimal point after the first {@code point} digits if
+   * {@code 0 < point < n}.
+   */
+  private static int putDigits(final Object out, final int i, long f, final int n, final int point) {
+    final boolean hasDot = 0 < point && point < n;
+    final int end = hasDot ? i + n + 1 : i + n;
+    final int dot = hasDot ? i + point : -1;
+    if (out instanceof char[]) {
+      final char[] buf = (char[])out;
+      for (int j = end - 1; j >= i; --j) {
+        if (j == dot) {
+          buf[j] = '.';
+        }
+        else {
+          buf[j] = (char)('0' + f % 10);
+          f /= 10;
+        }
+      }
+    }
+    else if (out instanceof byte[]) {
+      final byte[] buf = (byte[])out;
+      for (int j = end - 1; j >= i; --j) {
+        if (j == dot) {
+          buf[j] = '.';
+        }
+        else {
+          buf[j] = (byte)('0' + f % 10);
+          f /= 10;
+        }
+      }
+    }
+    else {
+      final StringBuilder builder = (StringBuilder)out;
+      builder.setLength(end);
+      for (int j = end - 1; j >= i; --j) {
+        if (j == dot) {
+          builder.setCharAt(j, '.');
+        }
+        else {
+          builder.setCharAt(j, (char)('0' + f % 10));
+          f /= 10;
+        }
+      }
+    }
+
+    return end;
+  }
+
+  private static int put(final Object out, final int i, final char ch) {
+    if (out instanceof char[])
+      ((char[])out)[i] = ch;
+    else if (out instanceof byte[])
+      ((byte[])out)[i] = (byte)ch;
+    else
+      ((StringBuilder)out).append(ch);
+
+    return i + 1;
+  }
+
+  private static int put(final Object out, int i, final String str) {
+    for (int j = 0, len = str.length(); j < len; ++j)
+      i = put(out, i, str.charAt(j));
+
+    return i;
+  }
+
+  private DoubleFormatter() {
+  }
+}
@@ -0,0 +1,865 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Allocation-free decimal to binary floating-point conversion, accepting the
+ * grammar of {@link Double#parseDouble(String)} and {@link Float#parseFloat(String)}.
+ * <p>
+ * Decimal input is converted with the Clinger fast path when the significand
+ * and exponent are exactly representable, and otherwise with the Eisel-Lemire
+ * algorithm, which is correctly rounded for significands of up to 19 digits.
+ * Only valid input that cannot be decided by Eisel-Lemire (more than 19
+ * significant digits that fall close to a halfway point), or hexadecimal
+ * input, is handed off to the JDK.
+ * <p>
+ * The parse methods return the raw IEEE 754 bits of the result as a
+ * {@code long} (with {@code float} bits in the low 32 bits), or
+ * {@link #INVALID} if the input does not represent a floating-point value.
+ *
+ * @see <a href="https://arxiv.org/abs/2101.11408">Number Parsing at a Gigabyte
+ *      per Second</a>
+ */
+final class DoubleParser {
+  /** Returned from the parse methods if the input is not parsable. */
+  static final long INVALID = -1L;
+
+  /**
+   * Returned from {@link #toDoubleBits(boolean,long,long,boolean)} if the
+   * truncated significand does not decide the result.
+   */
+  static final long AMBIGUOUS = -2L;
+
+  private static final int SMALLEST_POWER_OF_TEN = -342;
+  private static final int LARGEST_POWER_OF_TEN = 308;
+
+  private static final double[] DOUBLE_POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+  private static final float[] FLOAT_POWERS_OF_TEN = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+  /**
+   * The 128-bit truncated (or, for negative exponents, rounded up) normalized
+   * significands of {@code 5^q} for {@code q} in
+   * {@code [SMALLEST_POWER_OF_TEN, LARGEST_POWER_OF_TEN]}, stored as pairs of
+   * high and low {@code long} words.
+   */
+  private static final long[] POWERS_OF_FIVE = new long[2 * (LARGEST_POWER_OF_TEN - SMALLEST_POWER_OF_TEN + 1)];
+
+  static {
+    final BigInteger five = BigInteger.valueOf(5);
+    final BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+    final BigInteger mask64 = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+    for (int q = SMALLEST_POWER_OF_TEN, i = 0; q <= LARGEST_POWER_OF_TEN; ++q, i += 2) {
+      BigInteger c;
+      if (q < 0) {
+        final BigInteger power5 = five.pow(-q);
+        final int z = power5.bitLength();
+        c = BigInteger.ONE.shiftLeft(q >= -27 ? z + 127 : 2 * z + 128).divide(power5).add(BigInteger.ONE);
+        if (c.compareTo(two128) >= 0)
+          c = c.shiftRight(c.bitLength() - 128);
+      }
+      else {
+        c = five.pow(q);
+        final int bitLength = c.bitLength();
+        c = bitLength < 128 ? c.shiftLeft(128 - bitLength) : c.shiftRight(bitLength - 128);
+      }
+
+      POWERS_OF_FIVE[i] = c.shiftRight(64).longValue();
+      POWERS_OF_FIVE[i + 1] = c.and(mask64).longValue();
+    }
+  }
+
+  /**
+   * Converts the decimal significand {@code w} and exponent {@code q} to the
+   * binary floating-point format with the provided parameters, returning the
+   * unsigned bits of the result.
+   */
+  private static long eiselLemire(long w, final long q, final int mantissaBits, final int minExponent, final int infinitePower, final int smallestPowerOfTen, final int largestPowerOfTen, final int minRoundToEven, final int maxRoundToEven) {
+    if (q < smallestPowerOfTen)
+      return 0;
+
+    if (q > largestPowerOfTen)
+      return (long)infinitePower << mantissaBits;
+
+    final int lz = Long.numberOfLeadingZeros(w);
+    w <<= lz;
+
+    final int index = 2 * ((int)q - SMALLEST_POWER_OF_TEN);
+    final long hi5 = POWERS_OF_FIVE[index];
+    long high = Numbers.Unsigned.multiplyHigh(w, hi5);
+    long low = w * hi5;
+    final long precisionMask = 0xffffffffffffffffL >>> (mantissaBits + 3);
+    if ((high & precisionMask) == precisionMask) {
+      final long secondHigh = Numbers.Unsigned.multiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+      low += secondHigh;
+      if (Long.compareUnsigned(secondHigh, low) > 0)
+        ++high;
+    }
+
+    final int upperBit = (int)(high >>> 63);
+    final int shift = upperBit + 64 - mantissaBits - 3;
+    long mantissa = high >>> shift;
+    int power2 = (int)((((152170 + 65536) * q) >> 16) + 63) + upperBit - lz - minExponent;
+    if (power2 <= 0) { // Subnormal
+      if (-power2 + 1 >= 64)
+        return 0;
+
+      mantissa >>>= -power2 + 1;
+      mantissa += mantissa & 1;
+      mantissa >>>= 1;
+      // Rounding up may have carried the value into the normal range
+      return mantissa | (mantissa < 1L << mantissaBits ? 0L : 1L << mantissaBits);
+    }
+
+    // Round half to even if the product is exactly halfway between two values
+    if (Long.compareUnsigned(low, 1) <= 0 && minRoundToEven <= q && q <= maxRoundToEven && (mantissa & 3) == 1 && mantissa << shift == high)
+      mantissa &= ~1L;
+
+    mantissa += mantissa & 1;
+    mantissa >>>= 1;
+    if (mantissa >= 2L << mantissaBits) {
+      mantissa = 1L << mantissaBits;
+      ++power2;
+    }
+
+    mantissa &= ~(1L << mantissaBits);
+    if (power2 >= infinitePower)
+      return (long)infinitePower << mantissaBits;
+
+    return mantissa | (long)power2 << mantissaBits;
+  }
+
+  /**
+   * Returns the raw IEEE 754 bits of the {@code double} closest to
+   * {@code w * 10^q}, or {@link #AMBIGUOUS} if {@code truncated} is
+   * {@code true} and the digits beyond {@code w} are needed to decide the
+   * result.
+   *
+   * @param negative Whether the value is negative.
+   * @param w The decimal significand of up to 19 digits.
+   * @param q The decimal exponent.
+   * @param truncated Whether nonzero digits were truncated from {@code w}.
+   * @return The raw IEEE 754 bits of the {@code double} closest to
+   *         {@code w * 10^q}, or {@link #AMBIGUOUS}.
+   */
+  static long toDoubleBits(final boolean negative, final long w, final long q, final boolean truncated) {
+    long bits;
+    if (w == 0) {
+      bits = 0;
+    }
+    else if (!truncated && -22 <= q && q <= 22 && 0 < w && w <= 1L << 53) {
+      final double d = q < 0 ? w / DOUBLE_POWERS_OF_TEN[(int)-q] : w * DOUBLE_POWERS_OF_TEN[(int)q];
+      bits = Double.doubleToRawLongBits(d);
+    }
+    else {
+      bits = eiselLemire(w, q, 52, -1023, 0x7ff, SMALLEST_POWER_OF_TEN, LARGEST_POWER_OF_TEN, -4, 23);
+      if (truncated && bits != eiselLemire(w + 1, q, 52, -1023, 0x7ff, SMALLEST_POWER_OF_TEN, LARGEST_POWER_OF_TEN, -4, 23))
+        return AMBIGUOUS;
+    }
+
+    return negative ? bits | 0x8000000000000000L : bits;
+  }
+
+  private static long toFloatBits(final boolean negative, final long w, final long q, final boolean truncated) {
+    long bits;
+    if (w == 0) {
+      bits = 0;
+    }
+    else if (!truncated && -10 <= q && q <= 10 && 0 < w && w <= 1L << 24) {
+      final float f = q < 0 ? w / FLOAT_POWERS_OF_TEN[(int)-q] : w * FLOAT_POWERS_OF_TEN[(int)q];
+      bits = Float.floatToRawIntBits(f);
+    }
+    else {
+      bits = eiselLemire(w, q, 23, -127, 0xff, -65, 38, -17, 10);
+      if (truncated && bits != eiselLemire(w + 1, q, 23, -127, 0xff, -65, 38, -17, 10))
+        return AMBIGUOUS;
+    }
+
+    return negative ? bits | 0x80000000L : bits;
+  }
+
+  private static long toBits(final boolean isFloat, final boolean negative, final long w, final long q, final boolean truncated) {
+    return isFloat ? toFloatBits(negative, w, q, truncated) : toDoubleBits(negative, w, q, truncated);
+  }
+
+  private static long nan(final boolean isFloat) {
+    return isFloat ? Float.floatToRawIntBits(Float.NaN) & 0xffffffffL : Double.doubleToRawLongBits(Double.NaN);
+  }
+
+  private static long infinity(final boolean isFloat, final boolean negative) {
+    if (isFloat)
+      return Float.floatToRawIntBits(negative ? Float.NEGATIVE_INFINITY : Float.POSITIVE_INFINITY) & 0xffffffffL;
+
+    return Double.doubleToRawLongBits(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+  }
+
+  private static long slowPath(final boolean isFloat, final String str) {
+    try {
+      return isFloat ? Float.floatToRawIntBits(Float.parseFloat(str)) & 0xffffffffL : Double.doubleToRawLongBits(Double.parseDouble(str));
+    }
+    catch (final NumberFormatException e) {
+      return INVALID;
+    }
+  }
+
+  private static boolean isHexDigit(final int ch) {
+    return '0' <= ch && ch <= '9' || 'a' <= ch && ch <= 'f' || 'A' <= ch && ch <= 'F';
+  }
+
+  private static boolean isSuffix(final int ch) {
+    return ch == 'd' || ch == 'D' || ch == 'f' || ch == 'F';
+  }
+
+  private static boolean regionEquals(final CharSequence s, final int fromIndex, final int toIndex, final String str) {
+    if (toIndex - fromIndex != str.length())
+      return false;
+
+    for (int i = fromIndex; i < toIndex; ++i)
+      if (s.charAt(i) != str.charAt(i - fromIndex))
+        return false;
+
+    return true;
+  }
+
+  private static boolean isHex(final CharSequence s, int i, final int toIndex) {
+    int digits = 0;
+    for (; i < toIndex && isHexDigit(s.charAt(i)); ++i, ++digits);
+    if (i < toIndex && s.charAt(i) == '.')
+      for (++i; i < toIndex && isHexDigit(s.charAt(i)); ++i, ++digits);
+
+    char ch;
+    if (digits == 0 || i == toIndex || (ch = s.charAt(i)) != 'p' && ch != 'P')
+      return false;
+
+    if (++i < toIndex && ((ch = s.charAt(i)) == '+' || ch == '-'))
+      ++i;
+
+    digits = 0;
+    for (; i < toIndex && '0' <= (ch = s.charAt(i)) && ch <= '9'; ++i, ++digits);
+    if (digits == 0)
+      return false;
+
+    return i == toIndex || i == toIndex - 1 && isSuffix(s.charAt(i));
+  }
+
+  /**
+   * Parses the specified range of the {@link CharSequence} as per the
+   * specification of {@link Double#parseDouble(String)} (or
+   * {@link Float#parseFloat(String)} if {@code isFloat} is {@code true}).
+   *
+   * @param s The {@link CharSequence}.
+   * @param fromIndex The index from which to start parsing (inclusive).
+   * @param toIndex The index at which to end parsing (exclusive).
+   * @param isFloat Whether to parse a {@code float}, rather than a
+   *          {@code double}.
+   * @return The raw IEEE 754 bits of the parsed value, or {@link #INVALID} if
+   *         the range does not contain a parsable value.
+   */
+  static long parse(final CharSequence s, int fromIndex, int toIndex, final boolean isFloat) {
+    while (fromIndex < toIndex && s.charAt(fromIndex) <= ' ')
+      ++fromIndex;
+
+    while (toIndex > fromIndex && s.charAt(toIndex - 1) <= ' ')
+      --toIndex;
+
+    if (fromIndex == toIndex)
+      return INVALID;
+
+    int i = fromIndex;
+    char ch = s.charAt(i);
+    final boolean negative = ch == '-';
+    if (negative || ch == '+') {
+      if (++i == toIndex)
+        return INVALID;
+
+      ch = s.charAt(i);
+    }
+
+    if (ch == 'N')
+      return regionEquals(s, i, toIndex, "NaN") ? nan(isFloat) : INVALID;
+
+    if (ch == 'I')
+      return regionEquals(s, i, toIndex, "Infinity") ? infinity(isFloat, negative) : INVALID;
+
+    if (ch == '0' && i + 1 < toIndex && ((ch = s.charAt(i + 1)) == 'x' || ch == 'X'))
+      return isHex(s, i + 2, toIndex) ? slowPath(isFloat, s.subSequence(fromIndex, toIndex).toString()) : INVALID;
+
+    long w = 0;
+    int digits = 0;
+    long exp = 0;
+    boolean any = false;
+    boolean truncated = false;
+    for (int d; i < toIndex && (d = s.charAt(i) - '0') >= 0 && d <= 9; ++i) {
+      any = true;
+      if (digits < 19) {
+        if (w != 0 || d != 0) {
+          w = w * 10 + d;
+          ++digits;
+        }
+      }
+      else {
+        ++exp;
+        truncated |= d != 0;
+      }
+    }
+
+    if (i < toIndex && s.charAt(i) == '.') {
+      for (int d; ++i < toIndex && (d = s.charAt(i) - '0') >= 0 && d <= 9;) {
+        any = true;
+        if (digits < 19) {
+          --exp;
+          if (w != 0 || d != 0) {
+            w = w * 10 + d;
+            ++digits;
+          }
+        }
+        else {
+          truncated |= d != 0;
+        }
+      }
+    }
+
+    if (!any)
+      return INVALID;
+
+    if (i < toIndex && ((ch = s.charAt(i)) == 'e' || ch == 'E')) {
+      if (++i == toIndex)
+        return INVALID;
+
+      ch = s.charAt(i);
+      final boolean negativeExp = ch == '-';
+      if ((negativeExp || ch == '+') && ++i == toIndex)
+        return INVALID;
+
+      final int start = i;
+      int e = 0;
+      for (int d; i < toIndex && (d = s.charAt(i) - '0') >= 0 && d <= 9; ++i)
+        if (e < 100000)
+          e = e * 10 + d;
+
+      if (i == start)
+        return INVALID;
+
+      exp += negativeExp ? -e : e;
+    }
+
+    if (i < toIndex && (i != toIndex - 1 || !isSuffix(s.charAt(i))))
+      return INVALID;
+
+    final long bits = toBits(isFloat, negative, w, exp, truncated);
+    return bits != AMBIGUOUS ? bits : slowPath(isFloat, s.subSequence(fromIndex, toIndex).toString());
+  }
+
+  private static boolean regionEquals(final char[] cbuf, final int fromIndex, final int toIndex, final String str) {
+    if (toIndex - fromIndex != str.length())
+      return false;
+
+    for (int i = fromIndex; i < toIndex; ++i)
+      if (cbuf[i] != str.charAt(i - fromIndex))
+        return false;
+
+    return true;
+  }
+
+  private static boolean isHex(final char[] cbuf, int i, final int toIndex) {
+    int digits = 0;
+    for (; i < toIndex && isHexDigit(cbuf[i]); ++i, ++digits);
+    if (i < toIndex && cbuf[i] == '.')
+      for (++i; i < toIndex && isHexDigit(cbuf[i]); ++i, ++digits);
+
+    char ch;
+    if (digits == 0 || i == toIndex || (ch = cbuf[i]) != 'p' && ch != 'P')
+      return false;
+
+    if (++i < toIndex && ((ch = cbuf[i]) == '+' || ch == '-'))
+      ++i;
+
+    digits = 0;
+    for (; i < toIndex && '0' <= (ch = cbuf[i]) && ch <= '9'; ++i, ++digits);
+    if (digits == 0)
+      return false;
+
+    return i == toIndex || i == toIndex - 1 && isSuffix(cbuf[i]);
+  }
+
+  /**
+   * Parses the specified range of the {@code char[]} as per the specification
+   * of {@link Double#parseDouble(String)} (or {@link Float#parseFloat(String)}
+   * if {@code isFloat} is {@code true}).
+   *
+   * @param cbuf The {@code char[]}.
+   * @param fromIndex The index from which to start parsing (inclusive).
+   * @param toIndex The index at which to end parsing (exclusive).
+   * @param isFloat Whether to parse a {@code float}, rather than a
+   *          {@code double}.
+   * @return The raw IEEE 754 bits of the parsed value, or {@link #INVALID} if
+   *         the range does not contain a parsable value.
+   */
+  static long parse(final char[] cbuf, int fromIndex, int toIndex, final boolean isFloat) {
+    while (fromIndex < toIndex && cbuf[fromIndex] <= ' ')
+      ++fromIndex;
+
+    while (toIndex > fromIndex && cbuf[toIndex - 1] <= ' ')
+      --toIndex;
+
+    if (fromIndex == toIndex)
+      return INVALID;
+
+    int i = fromIndex;
+    char ch = cbuf[i];
+    final boolean negative = ch == '-';
+    if (negative || ch == '+') {
+      if (++i == toIndex)
+        return INVALID;
+
+      ch = cbuf[i];
+    }
+
+    if (ch == 'N')
+      return regionEquals(cbuf, i, toIndex, "NaN") ? nan(isFloat) : INVALID;
+
+    if (ch == 'I')
+      return regionEquals(cbuf, i, toIndex, "Infinity") ? infinity(isFloat, negative) : INVALID;
+
+    if (ch == '0' && i + 1 < toIndex && ((ch = cbuf[i + 1]) == 'x' || ch == 'X'))
+      return isHex(cbuf, i + 2, toIndex) ? slowPath(isFloat, new String(cbuf, fromIndex, toIndex - fromIndex)) : INVALID;
+
+    long w = 0;
+    int digits = 0;
+    long exp = 0;
+    boolean any = false;
+    boolean truncated = false;
+    for (int d; i < toIndex && (d = cbuf[i] - '0') >= 0 && d <= 9; ++i) {
+      any = true;
+      if (digits < 19) {
+        if (w != 0 || d != 0) {
+          w = w * 10 + d;
+          ++digits;
+        }
+      }
+      else {
+        ++exp;
+        truncated |= d != 0;
+      }
+    }
+
+    if (i < toIndex && cbuf[i] == '.') {
+      for (int d; ++i < toIndex && (d = cbuf[i] - '0') >= 0 && d <= 9;) {
+        any = true;
+        if (digits < 19) {
+          --exp;
+          if (w != 0 || d != 0) {
+            w = w * 10 + d;
+            ++digits;
+          }
+        }
+        else {
+          truncated |= d != 0;
+        }
+      }
+    }
+
+    if (!any)
+      return INVALID;
+
+    if (i < toIndex && ((ch = cbuf[i]) == 'e' || ch == 'E')) {
+      if (++i == toIndex)
+        return INVALID;
+
+      ch = cbuf[i];
+      final boolean negativeExp = ch == '-';
+      if ((negativeExp || ch == '+') && ++i == toIndex)
+        return INVALID;
+
+      final int start = i;
+      int e = 0;
+      for (int d; i < toIndex && (d = cbuf[i] - '0') >= 0 && d <= 9; ++i)
+        if (e < 100000)
+          e = e * 10 + d;
+
+      if (i == start)
+        return INVALID;
+
+      exp += negativeExp ? -e : e;
+    }
+
+    if (i < toIndex && (i != toIndex - 1 || !isSuffix(cbuf[i])))
+      return INVALID;
+
+    final long bits = toBits(isFloat, negative, w, exp, truncated);
+    return bits != AMBIGUOUS ? bits : slowPath(isFloat, new String(cbuf, fromIndex, toIndex - fromIndex));
+  }
+
+  private static boolean regionEquals(final byte[] bbuf, final int fromIndex, final int toIndex, final String str) {
+    if (toIndex - fromIndex != str.length())
+      return false;
+
+    for (int i = fromIndex; i < toIndex; ++i)
+      if (bbuf[i] != str.charAt(i - fromIndex))
+        return false;
+
+    return true;
+  }
+
+  private static boolean isHex(final byte[] bbuf, int i, final int toIndex) {
+    int digits = 0;
+    for (; i < toIndex && isHexDigit(bbuf[i]); ++i, ++digits);
+    if (i < toIndex && bbuf[i] == '.')
+      for (++i; i < toIndex && isHexDigit(bbuf[i]); ++i, ++digits);
+
+    int ch;
+    if (digits == 0 || i == toIndex || (ch = bbuf[i]) != 'p' && ch != 'P')
+      return false;
+
+    if (++i < toIndex && ((ch = bbuf[i]) == '+' || ch == '-'))
+      ++i;
+
+    digits = 0;
+    for (; i < toIndex && '0' <= (ch = bbuf[i]) && ch <= '9'; ++i, ++digits);
+    if (digits == 0)
+      return false;
+
+    return i == toIndex || i == toIndex - 1 && isSuffix(bbuf[i]);
+  }
+
+  /**
+   * Parses the specified range of the ASCII {@code byte[]} as per the specification
+   * of {@link Double#parseDouble(String)} (or {@link Float#parseFloat(String)}
+   * if {@code isFloat} is {@code true}). Runs of 8 digits are converted at
+   * once with {@link Numbers#parseEightDigits(long)}.
+   *
+   * @param bbuf The {@code byte[]}.
+   * @param fromIndex The index from which to start parsing (inclusive).
+   * @param toIndex The index at which to end parsing (exclusive).
+   * @param isFloat Whether to parse a {@code float}, rather than a
+   *          {@code double}.
+   * @return The raw IEEE 754 bits of the parsed value, or {@link #INVALID} if
+   *         the range does not contain a parsable value.
+   */
+  static long parse(final byte[] bbuf, int fromIndex, int toIndex, final boolean isFloat) {
+    while (fromIndex < toIndex && (bbuf[fromIndex] & 0xff) <= ' ')
+      ++fromIndex;
+
+    while (toIndex > fromIndex && (bbuf[toIndex - 1] & 0xff) <= ' ')
+      --toIndex;
+
+    if (fromIndex == toIndex)
+      return INVALID;
+
+    int i = fromIndex;
+    int ch = bbuf[i];
+    final boolean negative = ch == '-';
+    if (negative || ch == '+') {
+      if (++i == toIndex)
+        return INVALID;
+
+      ch = bbuf[i];
+    }
+
+    if (ch == 'N')
+      return regionEquals(bbuf, i, toIndex, "NaN") ? nan(isFloat) : INVALID;
+
+    if (ch == 'I')
+      return regionEquals(bbuf, i, toIndex, "Infinity") ? infinity(isFloat, negative) : INVALID;
+
+    if (ch == '0' && i + 1 < toIndex && ((ch = bbuf[i + 1]) == 'x' || ch == 'X'))
+      return isHex(bbuf, i + 2, toIndex) ? slowPath(isFloat, toString(bbuf, fromIndex, toIndex)) : INVALID;
+
+    long w = 0;
+    int digits = 0;
+    long exp = 0;
+    boolean any = false;
+    boolean truncated = false;
+    for (int d; i < toIndex; ++i) {
+      if (w != 0 && digits <= 11 && toIndex - i >= 8) {
+        final long chunk = Numbers.getLongLE(bbuf, i);
+        if (Numbers.isEightDigits(chunk)) {
+          w = w * 100000000 + Numbers.parseEightDigits(chunk);
+          digits += 8;
+          i += 7;
+          continue;
+        }
+      }
+
+      if ((d = bbuf[i] - '0') < 0 || d > 9)
+        break;
+
+      any = true;
+      if (digits < 19) {
+        if (w != 0 || d != 0) {
+          w = w * 10 + d;
+          ++digits;
+        }
+      }
+      else {
+        ++exp;
+        truncated |= d != 0;
+      }
+    }
+
+    if (i < toIndex && bbuf[i] == '.') {
+      for (int d; ++i < toIndex;) {
+        if (w != 0 && digits <= 11 && toIndex - i >= 8) {
+          final long chunk = Numbers.getLongLE(bbuf, i);
+          if (Numbers.isEightDigits(chunk)) {
+            w = w * 100000000 + Numbers.parseEightDigits(chunk);
+            digits += 8;
+            exp -= 8;
+            i += 7;
+            continue;
+          }
+        }
+
+        if ((d = bbuf[i] - '0') < 0 || d > 9)
+          break;
+
+        any = true;
+        if (digits < 19) {
+          --exp;
+          if (w != 0 || d != 0) {
+            w = w * 10 + d;
+            ++digits;
+          }
+        }
+        else {
+          truncated |= d != 0;
+        }
+      }
+    }
+
+    if (!any)
+      return INVALID;
+
+    if (i < toIndex && ((ch = bbuf[i]) == 'e' || ch == 'E')) {
+      if (++i == toIndex)
+        return INVALID;
+
+      ch = bbuf[i];
+      final boolean negativeExp = ch == '-';
+      if ((negativeExp || ch == '+') && ++i == toIndex)
+        return INVALID;
+
+      final int start = i;
+      int e = 0;
+      for (int d; i < toIndex && (d = bbuf[i] - '0') >= 0 && d <= 9; ++i)
+        if (e < 100000)
+          e = e * 10 + d;
+
+      if (i == start)
+        return INVALID;
+
+      exp += negativeExp ? -e : e;
+    }
+
+    if (i < toIndex && (i != toIndex - 1 || !isSuffix(bbuf[i])))
+      return INVALID;
+
+    final long bits = toBits(isFloat, negative, w, exp, truncated);
+    return bits != AMBIGUOUS ? bits : slowPath(isFloat, toString(bbuf, fromIndex, toIndex));
+  }
+
+  private static boolean regionEquals(final ByteBuffer buf, final int fromIndex, final int toIndex, final String str) {
+    if (toIndex - fromIndex != str.length())
+      return false;
+
+    for (int i = fromIndex; i < toIndex; ++i)
+      if (buf.get(i) != str.charAt(i - fromIndex))
+        return false;
+
+    return true;
+  }
+
+  private static boolean isHex(final ByteBuffer buf, int i, final int toIndex) {
+    int digits = 0;
+    for (; i < toIndex && isHexDigit(buf.get(i)); ++i, ++digits);
+    if (i < toIndex && buf.get(i) == '.')
+      for (++i; i < toIndex && isHexDigit(buf.get(i)); ++i, ++digits);
+
+    int ch;
+    if (digits == 0 || i == toIndex || (ch = buf.get(i)) != 'p' && ch != 'P')
+      return false;
+
+    if (++i < toIndex && ((ch = buf.get(i)) == '+' || ch == '-'))
+      ++i;
+
+    digits = 0;
+    for (; i < toIndex && '0' <= (ch = buf.get(i)) && ch <= '9'; ++i, ++digits);
+    if (digits == 0)
+      return false;
+
+    return i == toIndex || i == toIndex - 1 && isSuffix(buf.get(i));
+  }
+
+  /**
+   * Parses the specified range of the ASCII {@link ByteBuffer} as per the specification
+   * of {@link Double#parseDouble(String)} (or {@link Float#parseFloat(String)}
+   * if {@code isFloat} is {@code true}). Runs of 8 digits are converted at
+   * once with {@link Numbers#parseEightDigits(long)}.
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param fromIndex The index from which to start parsing (inclusive).
+   * @param toIndex The index at which to end parsing (exclusive).
+   * @param isFloat Whether to parse a {@code float}, rather than a
+   *          {@code double}.
+   * @return The raw IEEE 754 bits of the parsed value, or {@link #INVALID} if
+   *         the range does not contain a parsable value.
+   */
+  static long parse(final ByteBuffer buf, int fromIndex, int toIndex, final boolean isFloat) {
+    if (buf.hasArray())
+      return parse(buf.array(), buf.arrayOffset() + fromIndex, buf.arrayOffset() + toIndex, isFloat);
+
+    final boolean bigEndian = buf.order() == ByteOrder.BIG_ENDIAN;
+    while (fromIndex < toIndex && (buf.get(fromIndex) & 0xff) <= ' ')
+      ++fromIndex;
+
+    while (toIndex > fromIndex && (buf.get(toIndex - 1) & 0xff) <= ' ')
+      --toIndex;
+
+    if (fromIndex == toIndex)
+      return INVALID;
+
+    int i = fromIndex;
+    int ch = buf.get(i);
+    final boolean negative = ch == '-';
+    if (negative || ch == '+') {
+      if (++i == toIndex)
+        return INVALID;
+
+      ch = buf.get(i);
+    }
+
+    if (ch == 'N')
+      return regionEquals(buf, i, toIndex, "NaN") ? nan(isFloat) : INVALID;
+
+    if (ch == 'I')
+      return regionEquals(buf, i, toIndex, "Infinity") ? infinity(isFloat, negative) : INVALID;
+
+    if (ch == '0' && i + 1 < toIndex && ((ch = buf.get(i + 1)) == 'x' || ch == 'X'))
+      return isHex(buf, i + 2, toIndex) ? slowPath(isFloat, toString(buf, fromIndex, toIndex)) : INVALID;
+
+    long w = 0;
+    int digits = 0;
+    long exp = 0;
+    boolean any = false;
+    boolean truncated = false;
+    for (int d; i < toIndex; ++i) {
+      if (w != 0 && digits <= 11 && toIndex - i >= 8) {
+        final long chunk = Numbers.getLongLE(buf, i, bigEndian);
+        if (Numbers.isEightDigits(chunk)) {
+          w = w * 100000000 + Numbers.parseEightDigits(chunk);
+          digits += 8;
+          i += 7;
+          continue;
+        }
+      }
+
+      if ((d = buf.get(i) - '0') < 0 || d > 9)
+        break;
+
+      any = true;
+      if (digits < 19) {
+        if (w != 0 || d != 0) {
+          w = w * 10 + d;
+          ++digits;
+        }
+      }
+      else {
+        ++exp;
+        truncated |= d != 0;
+      }
+    }
+
+    if (i < toIndex && buf.get(i) == '.') {
+      for (int d; ++i < toIndex;) {
+        if (w != 0 && digits <= 11 && toIndex - i >= 8) {
+          final long chunk = Numbers.getLongLE(buf, i, bigEndian);
+          if (Numbers.isEightDigits(chunk)) {
+            w = w * 100000000 + Numbers.parseEightDigits(chunk);
+            digits += 8;
+            exp -= 8;
+            i += 7;
+            continue;
+          }
+        }
+
+        if ((d = buf.get(i) - '0') < 0 || d > 9)
+          break;
+
+        any = true;
+        if (digits < 19) {
+          --exp;
+          if (w != 0 || d != 0) {
+            w = w * 10 + d;
+            ++digits;
+          }
+        }
+        else {
+          truncated |= d != 0;
+        }
+      }
+    }
+
+    if (!any)
+      return INVALID;
+
+    if (i < toIndex && ((ch = buf.get(i)) == 'e' || ch == 'E')) {
+      if (++i == toIndex)
+        return INVALID;
+
+      ch = buf.get(i);
+      final boolean negativeExp = ch == '-';
+      if ((negativeExp || ch == '+') && ++i == toIndex)
+        return INVALID;
+
+      final int start = i;
+      int e = 0;
+      for (int d; i < toIndex && (d = buf.get(i) - '0') >= 0 && d <= 9; ++i)
+        if (e < 100000)
+          e = e * 10 + d;
+
+      if (i == start)
+        return INVALID;
+
+      exp += negativeExp ? -e : e;
+    }
+
+    if (i < toIndex && (i != toIndex - 1 || !isSuffix(buf.get(i))))
+      return INVALID;
+
+    final long bits = toBits(isFloat, negative, w, exp, truncated);
+    return bits != AMBIGUOUS ? bits : slowPath(isFloat, toString(buf, fromIndex, toIndex));
+  }
+
+  private static String toString(final byte[] bbuf, final int fromIndex, final int toIndex) {
+    return new String(bbuf, fromIndex, toIndex - fromIndex, StandardCharsets.ISO_8859_1);
+  }
+
+  private static String toString(final ByteBuffer buf, final int fromIndex, final int toIndex) {
+    final char[] chars = new char[toIndex - fromIndex];
+    for (int i = fromIndex; i < toIndex; ++i)
+      chars[i - fromIndex] = (char)(buf.get(i) & 0xff);
+
+    return new String(chars);
+  }
+
+  private DoubleParser() {
+  }
+}
@@ -0,0 +1,318 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A bounded pool of canonical instances, which evicts the least recently used
+ * instance when it is full.
+ * <p>
+ * The pool is divided into lock-striped segments, each of which is an
+ * access-ordered map with an equal share of the maximum size. Concurrent
+ * callers contend only when their keys map to the same segment. Eviction is
+ * least recently used per segment, which approximates least recently used
+ * over the whole pool.
+ * <p>
+ * Because instances are evicted, a value that is interned again after its
+ * eviction may be canonicalized to a different instance than before. Instances
+ * that must stay canonical, such as constants, can be pinned with
+ * {@link #pin(Object,Object)}. Pinned instances are held apart from the
+ * segments, are looked up first without locking, and are never evicted.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the canonical instances.
+ */
+public class Interner<K,V> {
+  private static final class Segment<K,V> extends LinkedHashMap<K,V> {
+    private static final long serialVersionUID = 7327305580823934337L;
+
+    private final int maximumSize;
+    private final LongAdder evictionCount;
+
+    private Segment(final int maximumSize, final LongAdder evictionCount) {
+      super(16, .75f, true);
+      this.maximumSize = maximumSize;
+      this.evictionCount = evictionCount;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(final Map.Entry<K,V> eldest) {
+      if (size() <= maximumSize)
+        return false;
+
+      evictionCount.increment();
+      return true;
+    }
+  }
+
+  private final ConcurrentHashMap<K,V> pinned = new ConcurrentHashMap<>();
+  private final Segment<K,V>[] segments;
+  private final int mask;
+  private final int maximumSize;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * Creates a new {@link Interner} with the specified maximum size and
+   * concurrency level.
+   *
+   * @param maximumSize The maximum number of instances in the pool.
+   * @param concurrencyLevel The estimated number of concurrently accessing
+   *          threads, which is rounded up to a power of two to determine the
+   *          number of segments.
+   * @throws IllegalArgumentException If {@code maximumSize} or
+   *           {@code concurrencyLevel} is not positive.
+   */
+  @SuppressWarnings({"rawtypes", "unchecked"})
+  public Interner(final int maximumSize, final int concurrencyLevel) {
+    if (maximumSize <= 0)
+      throw new IllegalArgumentException("maximumSize (" + maximumSize + ") must be positive");
+
+    if (concurrencyLevel <= 0)
+      throw new IllegalArgumentException("concurrencyLevel (" + concurrencyLevel + ") must be positive");
+
+    // Every segment holds at least 1 instance
+    final int length = Math.min(Integer.highestOneBit(maximumSize), Integer.highestOneBit(Math.min(concurrencyLevel, 1 << 16) * 2 - 1));
+    this.segments = new Segment[length];
+    this.mask = length - 1;
+    this.maximumSize = maximumSize;
+    final int segmentSize = maximumSize / length;
+    final int remainder = maximumSize % length;
+    for (int i = 0; i < length; ++i)
+      segments[i] = new Segment<>(i < remainder ? segmentSize + 1 : segmentSize, evictionCount);
+  }
+
+  /**
+   * Creates a new {@link Interner} with the specified maximum size, and a
+   * concurrency level of 4 times the number of available processors.
+   *
+   * @param maximumSize The maximum number of instances in the pool.
+   * @throws IllegalArgumentException If {@code maximumSize} is not positive.
+   */
+  public Interner(final int maximumSize) {
+    this(maximumSize, 4 * Runtime.getRuntime().availableProcessors());
+  }
+
+  private Segment<K,V> segment(final Object key) {
+    final int h = key.hashCode();
+    return segments[(h ^ (h >>> 16)) & mask];
+  }
+
+  /**
+   * Returns the canonical instance for the specified key, or {@code null} if
+   * the pool does not contain an instance for the key.
+   *
+   * @param key The key.
+   * @return The canonical instance for the specified key, or {@code null} if
+   *         the pool does not contain an instance for the key.
+   * @throws NullPointerException If {@code key} is null.
+   */
+  public V get(final K key) {
+    V value = pinned.get(key);
+    if (value == null) {
+      final Segment<K,V> segment = segment(key);
+      synchronized (segment) {
+        value = segment.get(key);
+      }
+    }
+
+    (value != null ? hitCount : missCount).increment();
+    return value;
+  }
+
+  /**
+   * Returns the canonical instance for the specified key, adding the
+   * specified value as the canonical instance if the pool does not contain an
+   * instance for the key.
+   *
+   * @param key The key.
+   * @param value The value to be added if the pool does not contain an
+   *          instance for the key.
+   * @return The canonical instance for the specified key.
+   * @throws NullPointerException If {@code key} or {@code value} is null.
+   */
+  public V intern(final K key, final V value) {
+    Objects.requireNonNull(value);
+    V instance = pinned.get(key);
+    if (instance == null) {
+      final Segment<K,V> segment = segment(key);
+      synchronized (segment) {
+        // A key pinned since the lookup above is seen here, because pin() holds the same lock
+        instance = pinned.get(key);
+        if (instance == null)
+          instance = segment.putIfAbsent(key, value);
+      }
+    }
+
+    if (instance != null) {
+      hitCount.increment();
+      return instance;
+    }
+
+    missCount.increment();
+    return value;
+  }
+
+  /**
+   * Returns the canonical instance for the specified key, adding the value
+   * computed by the provided function as the canonical instance if the pool
+   * does not contain an instance for the key. The function is called at most
+   * once per absent key, while holding the lock of the key's segment, so it
+   * should be short and must not access this {@link Interner}.
+   *
+   * @param key The key.
+   * @param mappingFunction The function to compute the instance if the pool
+   *          does not contain an instance for the key.
+   * @return The canonical instance for the specified key, or {@code null} if
+   *         {@code mappingFunction} returned {@code null}.
+   * @throws NullPointerException If {@code key} or {@code mappingFunction} is
+   *           null.
+   */
+  public V computeIfAbsent(final K key, final Function<? super K,? extends V> mappingFunction) {
+    Objects.requireNonNull(mappingFunction);
+    V instance = pinned.get(key);
+    if (instance != null) {
+      hitCount.increment();
+      return instance;
+    }
+
+    final Segment<K,V> segment = segment(key);
+    synchronized (segment) {
+      if ((instance = pinned.get(key)) != null || (instance = segment.get(key)) != null) {
+        hitCount.increment();
+        return instance;
+      }
+
+      missCount.increment();
+      instance = mappingFunction.apply(key);
+      if (instance != null)
+        segment.put(key, instance);
+
+      return instance;
+    }
+  }
+
+  /**
+   * Pins the specified value as the canonical instance for the specified key,
+   * such that it is never evicted. If the pool already contains an instance
+   * for the key, that instance is pinned instead, so that the canonical
+   * instance does not change. Pinned instances do not count toward the
+   * maximum size, and are not removed by {@link #clear()}.
+   *
+   * @param key The key.
+   * @param value The value to be pinned if the pool does not contain an
+   *          instance for the key.
+   * @return The canonical instance for the specified key, which is pinned.
+   * @throws NullPointerException If {@code key} or {@code value} is null.
+   */
+  public V pin(final K key, final V value) {
+    Objects.requireNonNull(value);
+    final Segment<K,V> segment = segment(key);
+    synchronized (segment) {
+      V instance = pinned.get(key);
+      if (instance == null) {
+        instance = segment.remove(key);
+        if (instance == null)
+          instance = value;
+
+        pinned.put(key, instance);
+      }
+
+      return instance;
+    }
+  }
+
+  /**
+   * Returns the maximum number of instances in the pool, not counting the
+   * pinned instances.
+   *
+   * @return The maximum number of instances in the pool, not counting the
+   *         pinned instances.
+   */
+  public int maximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * Returns the number of instances in the pool, including the pinned
+   * instances.
+   *
+   * @return The number of instances in the pool, including the pinned
+   *         instances.
+   */
+  public int size() {
+    int size = pinned.size();
+    for (final Segment<K,V> segment : segments) {
+      synchronized (segment) {
+        size += segment.size();
+      }
+    }
+
+    return size;
+  }
+
+  /**
+   * Removes all instances that are not pinned from the pool. The statistics
+   * are not reset.
+   */
+  public void clear() {
+    for (final Segment<K,V> segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+  }
+
+  /**
+   * Returns the number of lookups that found an instance in the pool.
+   *
+   * @return The number of lookups that found an instance in the pool.
+   */
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns the number of lookups that did not find an instance in the pool.
+   *
+   * @return The number of lookups that did not find an instance in the pool.
+   */
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Returns the number of instances that were evicted from the pool.
+   *
+   * @return The number of instances that were evicted from the pool.
+   */
+  public long evictionCount() {
+    return evictionCount.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "{size=" + size() + ", maximumSize=" + maximumSize + ", hitCount=" + hitCount() + ", missCount=" + missCount() + ", evictionCount=" + evictionCount() + "}";
+  }
+}
@@ -0,0 +1,285 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The engine of {@link Strings#interpolate(Map,String,String)} and
+ * {@link Strings#interpolate(String,Map,String,String)}.
+ * <p>
+ * Each value is parsed once into a list of segments, each of which is either
+ * literal text or a reference to a key. The key of a reference may itself
+ * contain references, which are resolved first. Values are resolved depth
+ * first in the order of their dependencies with an explicit stack rather than
+ * recursion, so long chains of references cannot overflow the thread stack,
+ * and each value is rendered exactly once, so the cost is linear in the total
+ * length of the values and of their interpolated results. A reference to a
+ * value that is still being resolved is a loop, which is reported with the
+ * keys that form it. If the prefix or the suffix is empty, no text contains
+ * references.
+ */
+final class Interpolator {
+  /** A reference to the key that is the result of rendering {@link #key}. */
+  private static final class Reference {
+    private final Object[] key;
+
+    private Reference(final Object[] key) {
+      this.key = key;
+    }
+  }
+
+  private static final Object[] EMPTY = {};
+
+  private final Map<String,String> properties;
+  private final String prefix;
+  private final String suffix;
+  private final HashMap<String,String> resolved = new HashMap<>();
+  private final LinkedHashSet<String> resolving = new LinkedHashSet<>();
+
+  Interpolator(final Map<String,String> properties, final String prefix, final String suffix) {
+    this.properties = properties;
+    this.prefix = prefix;
+    this.suffix = suffix;
+  }
+
+  /**
+   * Returns the parts of the specified text, each of which is a literal
+   * {@link String} or a {@link Reference}. A suffix closes the innermost open
+   * prefix, and prefixes that are not closed and suffixes that close nothing
+   * are literal text. If the prefix equals the suffix, an occurrence closes an
+   * open prefix if there is one, and otherwise opens a new one. If the prefix
+   * or the suffix is empty, the text is literal.
+   *
+   * @param text The text.
+   * @return The parts of the specified text.
+   */
+  private Object[] parse(final String text) {
+    final int prefixLength = prefix.length();
+    final int suffixLength = suffix.length();
+    if (prefixLength == 0 || suffixLength == 0)
+      return new Object[] {text};
+
+    final ArrayList<ArrayList<Object>> stack = new ArrayList<>();
+    ArrayList<Object> parts = new ArrayList<>();
+    int nextPrefix = text.indexOf(prefix);
+    if (nextPrefix < 0)
+      return new Object[] {text};
+
+    int nextSuffix = text.indexOf(suffix, nextPrefix + prefixLength);
+    int index = 0;
+    while (nextPrefix >= 0 || nextSuffix >= 0) {
+      if (nextSuffix >= 0 && stack.size() > 0 && (nextPrefix < 0 || nextSuffix <= nextPrefix)) {
+        if (index < nextSuffix)
+          parts.add(text.substring(index, nextSuffix));
+
+        final Reference reference = new Reference(parts.toArray());
+        parts = stack.remove(stack.size() - 1);
+        parts.add(reference);
+        index = nextSuffix + suffixLength;
+        if (nextPrefix >= 0 && nextPrefix < index)
+          nextPrefix = text.indexOf(prefix, index);
+      }
+      else if (nextPrefix >= 0 && (nextSuffix < 0 || nextPrefix < nextSuffix || stack.size() == 0)) {
+        if (index < nextPrefix)
+          parts.add(text.substring(index, nextPrefix));
+
+        stack.add(parts);
+        parts = new ArrayList<>();
+        index = nextPrefix + prefixLength;
+        nextPrefix = text.indexOf(prefix, index);
+      }
+      else {
+        // No prefix remains, so the remaining suffixes close nothing and are literal text
+        break;
+      }
+
+      if (nextSuffix < index)
+        nextSuffix = text.indexOf(suffix, index);
+    }
+
+    if (index < text.length())
+      parts.add(text.substring(index));
+
+    // Prefixes that are not closed are literal text
+    while (stack.size() > 0) {
+      final ArrayList<Object> parent = stack.remove(stack.size() - 1);
+      parent.add(prefix);
+      parent.addAll(parts);
+      parts = parent;
+    }
+
+    return parts.size() == 0 ? EMPTY : parts.toArray();
+  }
+
+  /** The rendering of a list of parts, which is suspended while a reference in it is resolved. */
+  private static final class Frame {
+    private final Object[] parts;
+    private final StringBuilder builder;
+    /** The key whose value is rendered, or {@code null} if none. */
+    private final String key;
+    /** Whether the result is the key of the reference at which the enclosing frame is suspended. */
+    private final boolean isKey;
+    private int index;
+
+    private Frame(final Object[] parts, final int capacity, final String key, final boolean isKey) {
+      this.parts = parts;
+      this.builder = new StringBuilder(capacity);
+      this.key = key;
+      this.isKey = isKey;
+    }
+  }
+
+  /**
+   * Begins the resolution of the specified key.
+   *
+   * @param key The key.
+   * @param value The value of the key before interpolation, which is not
+   *          null.
+   * @return The interpolated value of the key if it is resolved without
+   *         rendering, or otherwise the {@link Frame} that renders it.
+   * @throws IllegalArgumentException If the value of the key refers back to
+   *           itself.
+   */
+  private Object enter(final String key, final String value) {
+    final String result = resolved.get(key);
+    if (result != null)
+      return result;
+
+    if (!resolving.add(key)) {
+      final StringBuilder message = new StringBuilder("Loop detected: ");
+      final Iterator<String> iterator = resolving.iterator();
+      while (!Objects.equals(key, iterator.next()));
+      message.append(key);
+      while (iterator.hasNext())
+        message.append(" -> ").append(iterator.next());
+
+      throw new IllegalArgumentException(message.append(" -> ").append(key).toString());
+    }
+
+    final Object[] parts = parse(value);
+    if (parts.length == 1 && parts[0] instanceof String)
+      return exit(key, (String)parts[0]);
+
+    return new Frame(parts, value.length(), key, false);
+  }
+
+  private String exit(final String key, final String result) {
+    resolving.remove(key);
+    resolved.put(key, result);
+    return result;
+  }
+
+  /**
+   * Renders the specified frame, and returns its result. References are
+   * resolved depth first with an explicit stack of suspended frames instead of
+   * recursion, so the depth of the dependencies is bounded only by the heap.
+   *
+   * @param frame The frame.
+   * @return The result of rendering the specified frame.
+   * @throws IllegalArgumentException If a value that is referred to refers
+   *           back to itself.
+   */
+  private String render(Frame frame) {
+    final ArrayList<Frame> stack = new ArrayList<>();
+    while (true) {
+      String key;
+      if (frame.index < frame.parts.length) {
+        final Object part = frame.parts[frame.index++];
+        if (part instanceof String) {
+          frame.builder.append((String)part);
+          continue;
+        }
+
+        final Object[] keyParts = ((Reference)part).key;
+        if (keyParts.length != 1 || !(keyParts[0] instanceof String)) {
+          stack.add(frame);
+          frame = new Frame(keyParts, 16, null, true);
+          continue;
+        }
+
+        key = (String)keyParts[0];
+      }
+      else {
+        final String result = frame.key != null ? exit(frame.key, frame.builder.toString()) : frame.builder.toString();
+        if (stack.size() == 0)
+          return result;
+
+        final boolean isKey = frame.isKey;
+        frame = stack.remove(stack.size() - 1);
+        if (!isKey) {
+          frame.builder.append(result);
+          continue;
+        }
+
+        key = result;
+      }
+
+      // The frame is suspended at a reference to key
+      final String value = properties.get(key);
+      if (value == null) {
+        frame.builder.append(prefix).append(key).append(suffix);
+      }
+      else {
+        final Object next = enter(key, value);
+        if (next instanceof String) {
+          frame.builder.append((String)next);
+        }
+        else {
+          stack.add(frame);
+          frame = (Frame)next;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the interpolated value of the specified key.
+   *
+   * @param key The key.
+   * @param value The value of the key before interpolation.
+   * @return The interpolated value of the specified key, or {@code null} if
+   *         {@code value} is null.
+   * @throws IllegalArgumentException If the value of the key refers back to
+   *           itself.
+   */
+  String resolve(final String key, final String value) {
+    if (value == null)
+      return null;
+
+    final Object result = enter(key, value);
+    return result instanceof String ? (String)result : render((Frame)result);
+  }
+
+  /**
+   * Returns the specified text, interpolated.
+   *
+   * @param text The text.
+   * @return The specified text, interpolated.
+   * @throws IllegalArgumentException If a value that is referred to refers
+   *           back to itself.
+   */
+  String interpolate(final String text) {
+    final Object[] parts = parse(text);
+    return parts.length == 1 && parts[0] instanceof String ? (String)parts[0] : render(new Frame(parts, text.length(), null, false));
+  }
+}
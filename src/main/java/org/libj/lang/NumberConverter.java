@@ -0,0 +1,36 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+/**
+ * Converts a {@link Number} to a {@link Number} of a type that was resolved
+ * once at construction, as returned by {@link Numbers#converter(Class)}.
+ *
+ * @param <T> The type of {@link Number} to be returned.
+ * @see Numbers#cast(Number,Class)
+ */
+@FunctionalInterface
+public interface NumberConverter<T extends Number> {
+  /**
+   * Returns the specified {@link Number} converted to type {@code <T>}.
+   *
+   * @param n The {@link Number} to be converted.
+   * @return The specified {@link Number} converted to type {@code <T>}, or
+   *         {@code null} if {@code n} is null.
+   */
+  T convert(Number n);
+}
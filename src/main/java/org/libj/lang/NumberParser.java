@@ -0,0 +1,39 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+/**
+ * Parses strings to a {@link Number} of a type that was resolved once at
+ * construction, as returned by {@link Numbers#parser(Class)}.
+ *
+ * @param <T> The type of {@link Number} to be returned.
+ * @see Numbers#parseNumber(String,Class)
+ */
+@FunctionalInterface
+public interface NumberParser<T extends Number> {
+  /**
+   * Returns a {@link Number} of type {@code <T>} of the value for the provided
+   * string.
+   *
+   * @param s The number to get the value of.
+   * @return A {@link Number} of type {@code <T>} of the value for the provided
+   *         string.
+   * @throws NumberFormatException If the string does not contain a parsable
+   *           {@link Number} of type {@code <T>}.
+   */
+  T parse(String s);
+}
@@ -0,0 +1,596 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A cursor over delimited text in a {@link CharSequence} or {@code char[]},
+ * which parses the numeric fields in place without allocating.
+ * <p>
+ * Fields are separated by the delimiter, or by a line terminator
+ * ({@code "\n"}, {@code "\r"} or {@code "\r\n"}), such that multi-line text
+ * is scanned as a flat sequence of fields in row-major order. A delimiter at
+ * the very end of the text does not start another field. Each field is parsed
+ * as per the specification of {@link Numbers#parseInt(CharSequence,int)},
+ * {@link Numbers#parseLong(CharSequence,long)} or
+ * {@link Numbers#parseDouble(CharSequence,double)}, with the provided default
+ * value returned for fields that are not parsable. Whether the last
+ * {@code next*} call succeeded is reported by {@link #succeeded()}.
+ * <p>
+ * The static {@code parse*} methods parse all fields of a text into a new
+ * array, optionally in parallel over chunks of the text split at field
+ * boundaries.
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b>
+ */
+public class NumberScanner {
+  private static final int MIN_CHUNK_SIZE = 1 << 16;
+
+  private final CharSequence s;
+  private final char[] cbuf;
+  private final int fromIndex;
+  private final int toIndex;
+  private final char delimiter;
+  private int index;
+  private boolean success;
+
+  /**
+   * Creates a new {@link NumberScanner} over the specified
+   * {@link CharSequence} with the provided delimiter.
+   *
+   * @param s The {@link CharSequence}.
+   * @param delimiter The delimiter that separates fields.
+   * @throws NullPointerException If {@code s} is null.
+   */
+  public NumberScanner(final CharSequence s, final char delimiter) {
+    this(s, null, 0, s.length(), delimiter);
+  }
+
+  /**
+   * Creates a new {@link NumberScanner} over the specified range of the
+   * {@link CharSequence} with the provided delimiter.
+   *
+   * @param s The {@link CharSequence}.
+   * @param fromIndex The index in {@code s} from which to start scanning
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end scanning
+   *          (exclusive).
+   * @param delimiter The delimiter that separates fields.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @throws NullPointerException If {@code s} is null.
+   */
+  public NumberScanner(final CharSequence s, final int fromIndex, final int toIndex, final char delimiter) {
+    this(s, null, fromIndex, toIndex, delimiter);
+  }
+
+  /**
+   * Creates a new {@link NumberScanner} over the specified {@code char[]} with
+   * the provided delimiter.
+   *
+   * @param cbuf The {@code char[]}.
+   * @param delimiter The delimiter that separates fields.
+   * @throws NullPointerException If {@code cbuf} is null.
+   */
+  public NumberScanner(final char[] cbuf, final char delimiter) {
+    this(null, cbuf, 0, cbuf.length, delimiter);
+  }
+
+  /**
+   * Creates a new {@link NumberScanner} over the specified range of the
+   * {@code char[]} with the provided delimiter.
+   *
+   * @param cbuf The {@code char[]}.
+   * @param fromIndex The index in {@code cbuf} from which to start scanning
+   *          (inclusive).
+   * @param toIndex The index in {@code cbuf} at which to end scanning
+   *          (exclusive).
+   * @param delimiter The delimiter that separates fields.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @throws NullPointerException If {@code cbuf} is null.
+   */
+  public NumberScanner(final char[] cbuf, final int fromIndex, final int toIndex, final char delimiter) {
+    this(null, cbuf, fromIndex, toIndex, delimiter);
+  }
+
+  private NumberScanner(final CharSequence s, final char[] cbuf, final int fromIndex, final int toIndex, final char delimiter) {
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "length", s != null ? s.length() : cbuf.length);
+    this.s = s;
+    this.cbuf = cbuf;
+    this.fromIndex = fromIndex;
+    this.toIndex = toIndex;
+    this.delimiter = delimiter;
+    this.index = fromIndex;
+  }
+
+  /**
+   * Returns the index of the cursor, which is the start of the next field.
+   *
+   * @return The index of the cursor.
+   */
+  public int position() {
+    return index;
+  }
+
+  /**
+   * Moves the cursor back to the start of the text.
+   */
+  public void reset() {
+    index = fromIndex;
+    success = false;
+  }
+
+  /**
+   * Returns whether there is another field after the cursor.
+   *
+   * @return Whether there is another field after the cursor.
+   */
+  public boolean hasNext() {
+    return index < toIndex;
+  }
+
+  /**
+   * Returns whether the last call to a {@code next*} method parsed its
+   * field(s) successfully, rather than returning the default value.
+   *
+   * @return Whether the last call to a {@code next*} method parsed its
+   *         field(s) successfully.
+   */
+  public boolean succeeded() {
+    return success;
+  }
+
+  private char charAt(final int i) {
+    return s != null ? s.charAt(i) : cbuf[i];
+  }
+
+  private boolean isTerminator(final char ch) {
+    return ch == delimiter || ch == '\n' || ch == '\r';
+  }
+
+  /**
+   * Returns the index at which the field at the cursor ends (exclusive).
+   */
+  private int endOfField() {
+    int i = index;
+    if (cbuf != null) {
+      while (i < toIndex && !isTerminator(cbuf[i]))
+        ++i;
+    }
+    else {
+      while (i < toIndex && !isTerminator(s.charAt(i)))
+        ++i;
+    }
+
+    return i;
+  }
+
+  /**
+   * Moves the cursor past the terminator at the specified end of field.
+   */
+  private void advance(final int end) {
+    index = end < toIndex && charAt(end) == '\r' && end + 1 < toIndex && charAt(end + 1) == '\n' ? end + 2 : end + 1;
+    if (index > toIndex)
+      index = toIndex;
+  }
+
+  /**
+   * Parses the specified range as a decimal integer between {@code min} and
+   * {@code max}, as per the specification of
+   * {@link Numbers#parseLong(CharSequence,int,int,long)}, and sets
+   * {@link #success} to whether the range is parsable.
+   */
+  private long parseLong(final int fromIndex, final int toIndex, final long min, final long max) {
+    success = false;
+    final int len = toIndex - fromIndex;
+    if (len == 0)
+      return 0;
+
+    boolean negative = false;
+    int i = fromIndex;
+    long limit = -max;
+
+    final char firstChar = charAt(i);
+    if (firstChar < '0') { // Possible leading "+" or "-"
+      if (firstChar == '-') {
+        negative = true;
+        limit = min;
+      }
+      else if (firstChar != '+') {
+        return 0;
+      }
+
+      if (len == 1) { // Cannot have lone "+" or "-"
+        return 0;
+      }
+
+      ++i;
+    }
+
+    final long multmin = limit / 10;
+    long result = 0;
+    while (i < toIndex) {
+      // Accumulating negatively avoids surprises near MAX_VALUE
+      final int digit = Numbers.toDigit(charAt(i++), 10);
+      if (digit < 0 || result < multmin)
+        return 0;
+
+      result *= 10;
+      if (result < limit + digit)
+        return 0;
+
+      result -= digit;
+    }
+
+    success = true;
+    return negative ? result : -result;
+  }
+
+  /**
+   * Moves the cursor past the next field without parsing it.
+   *
+   * @return {@code true} if there was a field to skip, otherwise
+   *         {@code false}.
+   */
+  public boolean skip() {
+    if (!hasNext())
+      return false;
+
+    advance(endOfField());
+    return true;
+  }
+
+  /**
+   * Parses the next field as an {@code int}, and moves the cursor past it.
+   *
+   * @param defaultValue The {@code int} value to be returned if the field does
+   *          not contain a parsable {@code int}, or if there is no next field.
+   * @return The {@code int} value of the next field, or {@code defaultValue}
+   *         if it does not contain a parsable {@code int}.
+   * @see Numbers#parseInt(CharSequence,int,int,int)
+   */
+  public int nextInt(final int defaultValue) {
+    if (!(success = hasNext()))
+      return defaultValue;
+
+    final int end = endOfField();
+    final long value = parseLong(index, end, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    advance(end);
+    return success ? (int)value : defaultValue;
+  }
+
+  /**
+   * Parses the next field as a {@code long}, and moves the cursor past it.
+   *
+   * @param defaultValue The {@code long} value to be returned if the field
+   *          does not contain a parsable {@code long}, or if there is no next
+   *          field.
+   * @return The {@code long} value of the next field, or {@code defaultValue}
+   *         if it does not contain a parsable {@code long}.
+   * @see Numbers#parseLong(CharSequence,int,int,long)
+   */
+  public long nextLong(final long defaultValue) {
+    if (!(success = hasNext()))
+      return defaultValue;
+
+    final int end = endOfField();
+    final long value = parseLong(index, end, Long.MIN_VALUE, Long.MAX_VALUE);
+    advance(end);
+    return success ? value : defaultValue;
+  }
+
+  /**
+   * Parses the next field as a {@code double}, and moves the cursor past it.
+   *
+   * @param defaultValue The {@code double} value to be returned if the field
+   *          does not contain a parsable {@code double}, or if there is no
+   *          next field.
+   * @return The {@code double} value of the next field, or
+   *         {@code defaultValue} if it does not contain a parsable
+   *         {@code double}.
+   * @see Numbers#parseDouble(CharSequence,int,int,double)
+   */
+  public double nextDouble(final double defaultValue) {
+    if (!(success = hasNext()))
+      return defaultValue;
+
+    final int end = endOfField();
+    final long bits = s != null ? DoubleParser.parse(s, index, end, false) : DoubleParser.parse(cbuf, index, end, false);
+    advance(end);
+    return (success = bits != DoubleParser.INVALID) ? Double.longBitsToDouble(bits) : defaultValue;
+  }
+
+  /**
+   * Parses up to {@code length} next fields as {@code int} values into the
+   * provided array, starting at the specified offset.
+   * {@link #succeeded()} subsequently reports whether all of the fields were
+   * parsable.
+   *
+   * @param values The array into which to parse the values.
+   * @param offset The index in {@code values} at which to start.
+   * @param length The maximum number of fields to parse.
+   * @param defaultValue The {@code int} value to be assigned for fields that
+   *          do not contain a parsable {@code int}.
+   * @return The number of fields parsed, which is less than {@code length} if
+   *         the end of the text is reached.
+   * @throws ArrayIndexOutOfBoundsException If {@code offset} or
+   *           {@code length} is out of range of {@code values}.
+   * @throws NullPointerException If {@code values} is null.
+   */
+  public int nextInts(final int[] values, final int offset, final int length, final int defaultValue) {
+    boolean all = true;
+    int i = 0;
+    for (; i < length && hasNext(); ++i) {
+      values[offset + i] = nextInt(defaultValue);
+      all &= success;
+    }
+
+    success = all;
+    return i;
+  }
+
+  /**
+   * Parses up to {@code length} next fields as {@code long} values into the
+   * provided array, starting at the specified offset.
+   * {@link #succeeded()} subsequently reports whether all of the fields were
+   * parsable.
+   *
+   * @param values The array into which to parse the values.
+   * @param offset The index in {@code values} at which to start.
+   * @param length The maximum number of fields to parse.
+   * @param defaultValue The {@code long} value to be assigned for fields that
+   *          do not contain a parsable {@code long}.
+   * @return The number of fields parsed, which is less than {@code length} if
+   *         the end of the text is reached.
+   * @throws ArrayIndexOutOfBoundsException If {@code offset} or
+   *           {@code length} is out of range of {@code values}.
+   * @throws NullPointerException If {@code values} is null.
+   */
+  public int nextLongs(final long[] values, final int offset, final int length, final long defaultValue) {
+    boolean all = true;
+    int i = 0;
+    for (; i < length && hasNext(); ++i) {
+      values[offset + i] = nextLong(defaultValue);
+      all &= success;
+    }
+
+    success = all;
+    return i;
+  }
+
+  /**
+   * Parses up to {@code length} next fields as {@code double} values into the
+   * provided array, starting at the specified offset.
+   * {@link #succeeded()} subsequently reports whether all of the fields were
+   * parsable.
+   *
+   * @param values The array into which to parse the values.
+   * @param offset The index in {@code values} at which to start.
+   * @param length The maximum number of fields to parse.
+   * @param defaultValue The {@code double} value to be assigned for fields
+   *          that do not contain a parsable {@code double}.
+   * @return The number of fields parsed, which is less than {@code length} if
+   *         the end of the text is reached.
+   * @throws ArrayIndexOutOfBoundsException If {@code offset} or
+   *           {@code length} is out of range of {@code values}.
+   * @throws NullPointerException If {@code values} is null.
+   */
+  public int nextDoubles(final double[] values, final int offset, final int length, final double defaultValue) {
+    boolean all = true;
+    int i = 0;
+    for (; i < length && hasNext(); ++i) {
+      values[offset + i] = nextDouble(defaultValue);
+      all &= success;
+    }
+
+    success = all;
+    return i;
+  }
+
+  /**
+   * Returns the boundaries of the chunks into which to split the specified
+   * text, such that each chunk starts at the start of a field.
+   */
+  private static int[] split(final CharSequence s, final char[] cbuf, final int length, final char delimiter, final boolean parallel) {
+    final int chunks = parallel ? Math.min(length / MIN_CHUNK_SIZE, ForkJoinPool.getCommonPoolParallelism() * 4) : 1;
+    if (chunks <= 1)
+      return new int[] {0, length};
+
+    final NumberScanner scanner = new NumberScanner(s, cbuf, 0, length, delimiter);
+    final int[] bounds = new int[chunks + 1];
+    for (int c = 1; c < chunks; ++c) {
+      scanner.index = Math.max(bounds[c - 1], (int)((long)length * c / chunks));
+      // Back up to the start of the field, so that the chunk starts at a field boundary
+      while (scanner.index > bounds[c - 1] && !scanner.isTerminator(scanner.charAt(scanner.index - 1)))
+        --scanner.index;
+
+      // A "\r\n" terminator must not be split
+      if (scanner.index > 0 && scanner.index < length && scanner.charAt(scanner.index - 1) == '\r' && scanner.charAt(scanner.index) == '\n')
+        ++scanner.index;
+
+      bounds[c] = scanner.index;
+    }
+
+    bounds[chunks] = length;
+    return bounds;
+  }
+
+  /**
+   * Returns the offsets of the first field of each chunk within all fields of
+   * the text, followed by the total number of fields.
+   */
+  private static int[] offsets(final CharSequence s, final char[] cbuf, final int[] bounds, final char delimiter, final boolean parallel) {
+    final int chunks = bounds.length - 1;
+    final int[] offsets = new int[chunks + 1];
+    forEach(chunks, parallel, c -> {
+      final NumberScanner scanner = new NumberScanner(s, cbuf, bounds[c], bounds[c + 1], delimiter);
+      int count = 0;
+      while (scanner.skip())
+        ++count;
+
+      offsets[c + 1] = count;
+    });
+
+    for (int c = 1; c <= chunks; ++c)
+      offsets[c] += offsets[c - 1];
+
+    return offsets;
+  }
+
+  private static void forEach(final int chunks, final boolean parallel, final IntConsumer action) {
+    if (chunks == 1)
+      action.accept(0);
+    else if (parallel)
+      IntStream.range(0, chunks).parallel().forEach(action);
+    else
+      IntStream.range(0, chunks).forEach(action);
+  }
+
+  private static int[] parseInts(final CharSequence s, final char[] cbuf, final int length, final char delimiter, final int defaultValue, final boolean parallel) {
+    final int[] bounds = split(s, cbuf, length, delimiter, parallel);
+    final int[] offsets = offsets(s, cbuf, bounds, delimiter, parallel);
+    final int[] values = new int[offsets[offsets.length - 1]];
+    forEach(bounds.length - 1, parallel, c -> new NumberScanner(s, cbuf, bounds[c], bounds[c + 1], delimiter).nextInts(values, offsets[c], offsets[c + 1] - offsets[c], defaultValue));
+    return values;
+  }
+
+  private static long[] parseLongs(final CharSequence s, final char[] cbuf, final int length, final char delimiter, final long defaultValue, final boolean parallel) {
+    final int[] bounds = split(s, cbuf, length, delimiter, parallel);
+    final int[] offsets = offsets(s, cbuf, bounds, delimiter, parallel);
+    final long[] values = new long[offsets[offsets.length - 1]];
+    forEach(bounds.length - 1, parallel, c -> new NumberScanner(s, cbuf, bounds[c], bounds[c + 1], delimiter).nextLongs(values, offsets[c], offsets[c + 1] - offsets[c], defaultValue));
+    return values;
+  }
+
+  private static double[] parseDoubles(final CharSequence s, final char[] cbuf, final int length, final char delimiter, final double defaultValue, final boolean parallel) {
+    final int[] bounds = split(s, cbuf, length, delimiter, parallel);
+    final int[] offsets = offsets(s, cbuf, bounds, delimiter, parallel);
+    final double[] values = new double[offsets[offsets.length - 1]];
+    forEach(bounds.length - 1, parallel, c -> new NumberScanner(s, cbuf, bounds[c], bounds[c + 1], delimiter).nextDoubles(values, offsets[c], offsets[c + 1] - offsets[c], defaultValue));
+    return values;
+  }
+
+  /**
+   * Parses all fields of the specified {@link CharSequence} as {@code int}
+   * values.
+   *
+   * @param s The {@link CharSequence}.
+   * @param delimiter The delimiter that separates fields.
+   * @param defaultValue The {@code int} value to be assigned for fields that
+   *          do not contain a parsable {@code int}.
+   * @param parallel If {@code true}, texts of multiple chunks of at least
+   *          {@code 64K} characters are parsed in parallel in the common
+   *          {@link ForkJoinPool}.
+   * @return An array of the {@code int} values of all fields.
+   * @throws NullPointerException If {@code s} is null.
+   */
+  public static int[] parseInts(final CharSequence s, final char delimiter, final int defaultValue, final boolean parallel) {
+    return parseInts(s, null, s.length(), delimiter, defaultValue, parallel);
+  }
+
+  /**
+   * Parses all fields of the specified {@code char[]} as {@code int} values.
+   *
+   * @param cbuf The {@code char[]}.
+   * @param delimiter The delimiter that separates fields.
+   * @param defaultValue The {@code int} value to be assigned for fields that
+   *          do not contain a parsable {@code int}.
+   * @param parallel If {@code true}, texts of multiple chunks of at least
+   *          {@code 64K} characters are parsed in parallel in the common
+   *          {@link ForkJoinPool}.
+   * @return An array of the {@code int} values of all fields.
+   * @throws NullPointerException If {@code cbuf} is null.
+   */
+  public static int[] parseInts(final char[] cbuf, final char delimiter, final int defaultValue, final boolean parallel) {
+    return parseInts(null, cbuf, cbuf.length, delimiter, defaultValue, parallel);
+  }
+
+  /**
+   * Parses all fields of the specified {@link CharSequence} as {@code long}
+   * values.
+   *
+   * @param s The {@link CharSequence}.
+   * @param delimiter The delimiter that separates fields.
+   * @param defaultValue The {@code long} value to be assigned for fields that
+   *          do not contain a parsable {@code long}.
+   * @param parallel If {@code true}, texts of multiple chunks of at least
+   *          {@code 64K} characters are parsed in parallel in the common
+   *          {@link ForkJoinPool}.
+   * @return An array of the {@code long} values of all fields.
+   * @throws NullPointerException If {@code s} is null.
+   */
+  public static long[] parseLongs(final CharSequence s, final char delimiter, final long defaultValue, final boolean parallel) {
+    return parseLongs(s, null, s.length(), delimiter, defaultValue, parallel);
+  }
+
+  /**
+   * Parses all fields of the specified {@code char[]} as {@code long} values.
+   *
+   * @param cbuf The {@code char[]}.
+   * @param delimiter The delimiter that separates fields.
+   * @param defaultValue The {@code long} value to be assigned for fields that
+   *          do not contain a parsable {@code long}.
+   * @param parallel If {@code true}, texts of multiple chunks of at least
+   *          {@code 64K} characters are parsed in parallel in the common
+   *          {@link ForkJoinPool}.
+   * @return An array of the {@code long} values of all fields.
+   * @throws NullPointerException If {@code cbuf} is null.
+   */
+  public static long[] parseLongs(final char[] cbuf, final char delimiter, final long defaultValue, final boolean parallel) {
+    return parseLongs(null, cbuf, cbuf.length, delimiter, defaultValue, parallel);
+  }
+
+  /**
+   * Parses all fields of the specified {@link CharSequence} as {@code double}
+   * values.
+   *
+   * @param s The {@link CharSequence}.
+   * @param delimiter The delimiter that separates fields.
+   * @param defaultValue The {@code double} value to be assigned for fields that
+   *          do not contain a parsable {@code double}.
+   * @param parallel If {@code true}, texts of multiple chunks of at least
+   *          {@code 64K} characters are parsed in parallel in the common
+   *          {@link ForkJoinPool}.
+   * @return An array of the {@code double} values of all fields.
+   * @throws NullPointerException If {@code s} is null.
+   */
+  public static double[] parseDoubles(final CharSequence s, final char delimiter, final double defaultValue, final boolean parallel) {
+    return parseDoubles(s, null, s.length(), delimiter, defaultValue, parallel);
+  }
+
+  /**
+   * Parses all fields of the specified {@code char[]} as {@code double}
+   * values.
+   *
+   * @param cbuf The {@code char[]}.
+   * @param delimiter The delimiter that separates fields.
+   * @param defaultValue The {@code double} value to be assigned for fields that
+   *          do not contain a parsable {@code double}.
+   * @param parallel If {@code true}, texts of multiple chunks of at least
+   *          {@code 64K} characters are parsed in parallel in the common
+   *          {@link ForkJoinPool}.
+   * @return An array of the {@code double} values of all fields.
+   * @throws NullPointerException If {@code cbuf} is null.
+   */
+  public static double[] parseDoubles(final char[] cbuf, final char delimiter, final double defaultValue, final boolean parallel) {
+    return parseDoubles(null, cbuf, cbuf.length, delimiter, defaultValue, parallel);
+  }
+}
@@ -0,0 +1,510 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A streaming accumulator of the count, sum, minimum, maximum, mean and
+ * variance of a sequence of numbers, all of which are computed in a single
+ * pass.
+ * <p>
+ * Integral values are summed exactly in 128 bits, so the sum cannot overflow.
+ * Floating-point values are summed with Neumaier's compensated summation, and
+ * the variance is computed with Welford's online algorithm. Two accumulators
+ * can be combined with {@link #merge(NumberStatistics)}, which allows a
+ * sequence to be accumulated in parts. The static {@code of} methods
+ * accumulate a {@code byte[]}, {@code short[]}, {@code int[]},
+ * {@code long[]}, {@code float[]} or {@code double[]}, optionally in parallel
+ * with fork/join over parts of the array.
+ * <p>
+ * <b>Note that this implementation is not synchronized.</b>
+ */
+public class NumberStatistics {
+  /** The minimum length of a part of an array accumulated by a fork/join task. */
+  private static final int MIN_PARALLEL_LENGTH = 1 << 14;
+
+  private long count;
+
+  // The exact sum of integral values, as the high and low 64 bits of a 128-bit integer
+  private long sumHigh;
+  private long sumLow;
+
+  // The Neumaier sum of floating-point values, with its compensation, and the simple sum for non-finite values
+  private double sum;
+  private double compensation;
+  private double simpleSum;
+
+  private double min = Double.POSITIVE_INFINITY;
+  private double max = Double.NEGATIVE_INFINITY;
+
+  // Welford's running mean and sum of squared deviations from the mean
+  private double mean;
+  private double m2;
+
+  /**
+   * Creates a new {@link NumberStatistics} with no values.
+   */
+  public NumberStatistics() {
+  }
+
+  /**
+   * Accumulates the specified integral value.
+   *
+   * @param value The value to accumulate.
+   */
+  public void accept(final long value) {
+    final long low = sumLow + value;
+    sumHigh += (value >> 63) + (Long.compareUnsigned(low, sumLow) < 0 ? 1 : 0);
+    sumLow = low;
+    update(value);
+  }
+
+  /**
+   * Accumulates the specified floating-point value.
+   *
+   * @param value The value to accumulate.
+   */
+  public void accept(final double value) {
+    add(value);
+    simpleSum += value;
+    update(value);
+  }
+
+  private void add(final double value) {
+    final double t = sum + value;
+    if (Math.abs(sum) >= Math.abs(value))
+      compensation += (sum - t) + value;
+    else
+      compensation += (value - t) + sum;
+
+    sum = t;
+  }
+
+  private void update(final double value) {
+    if (value < min)
+      min = value;
+
+    if (value > max)
+      max = value;
+
+    final double delta = value - mean;
+    mean += delta / ++count;
+    m2 += delta * (value - mean);
+  }
+
+  /**
+   * Combines the values accumulated by the specified {@link NumberStatistics}
+   * into this instance, as if they had been accumulated by this instance.
+   *
+   * @param other The {@link NumberStatistics} to combine into this instance.
+   * @return This instance.
+   * @throws NullPointerException If {@code other} is null.
+   */
+  public NumberStatistics merge(final NumberStatistics other) {
+    if (other.count == 0)
+      return this;
+
+    final long low = sumLow + other.sumLow;
+    sumHigh += other.sumHigh + (Long.compareUnsigned(low, sumLow) < 0 ? 1 : 0);
+    sumLow = low;
+
+    add(other.sum);
+    compensation += other.compensation;
+    simpleSum += other.simpleSum;
+
+    min = Math.min(min, other.min);
+    max = Math.max(max, other.max);
+
+    final long n = count + other.count;
+    final double delta = other.mean - mean;
+    mean += delta * other.count / n;
+    m2 += other.m2 + delta * delta * ((double)count * other.count / n);
+    count = n;
+    return this;
+  }
+
+  /**
+   * Returns the number of accumulated values.
+   *
+   * @return The number of accumulated values.
+   */
+  public long getCount() {
+    return count;
+  }
+
+  /**
+   * Returns the 128-bit two's complement value of the specified high and low
+   * words, rounded to a {@code double}.
+   *
+   * @param high The high 64 bits.
+   * @param low The low 64 bits.
+   * @return The 128-bit value of the specified words, rounded to a
+   *         {@code double}.
+   */
+  static double toDouble(final long high, final long low) {
+    return high == low >> 63 ? low : BigInteger.valueOf(high).shiftLeft(64).add(Numbers.Unsigned.toUnsignedBigInteger(low)).doubleValue();
+  }
+
+  /**
+   * Returns the sum of the accumulated values, or {@code 0} if no values have
+   * been accumulated.
+   *
+   * @return The sum of the accumulated values.
+   */
+  public double getSum() {
+    final double integral = toDouble(sumHigh, sumLow);
+    final double floating = sum + compensation;
+    // The compensation is NaN if an infinity was accumulated, in which case the simple sum is right
+    return integral + (Double.isNaN(floating) && Double.isInfinite(simpleSum) ? simpleSum : floating);
+  }
+
+  /**
+   * Returns the minimum of the accumulated values, or
+   * {@link Double#POSITIVE_INFINITY} if no values have been accumulated.
+   *
+   * @return The minimum of the accumulated values.
+   */
+  public double getMin() {
+    return min;
+  }
+
+  /**
+   * Returns the maximum of the accumulated values, or
+   * {@link Double#NEGATIVE_INFINITY} if no values have been accumulated.
+   *
+   * @return The maximum of the accumulated values.
+   */
+  public double getMax() {
+    return max;
+  }
+
+  /**
+   * Returns the arithmetic mean of the accumulated values, or
+   * {@link Double#NaN} if no values have been accumulated.
+   *
+   * @return The arithmetic mean of the accumulated values.
+   */
+  public double getMean() {
+    return count == 0 ? Double.NaN : getSum() / count;
+  }
+
+  /**
+   * Returns the population variance of the accumulated values, or
+   * {@link Double#NaN} if no values have been accumulated.
+   *
+   * @return The population variance of the accumulated values.
+   */
+  public double getVariance() {
+    return count == 0 ? Double.NaN : m2 / count;
+  }
+
+  /**
+   * Returns the sample variance of the accumulated values, or
+   * {@link Double#NaN} if fewer than 2 values have been accumulated.
+   *
+   * @return The sample variance of the accumulated values.
+   */
+  public double getSampleVariance() {
+    return count < 2 ? Double.NaN : m2 / (count - 1);
+  }
+
+  /**
+   * Returns the population standard deviation of the accumulated values, or
+   * {@link Double#NaN} if no values have been accumulated.
+   *
+   * @return The population standard deviation of the accumulated values.
+   */
+  public double getStandardDeviation() {
+    return Math.sqrt(getVariance());
+  }
+
+  private void acceptAll(final Object array, final int fromIndex, final int toIndex) {
+    if (array instanceof int[]) {
+      final int[] a = (int[])array;
+      for (int i = fromIndex; i < toIndex; ++i)
+        accept(a[i]);
+    }
+    else if (array instanceof long[]) {
+      final long[] a = (long[])array;
+      for (int i = fromIndex; i < toIndex; ++i)
+        accept(a[i]);
+    }
+    else if (array instanceof double[]) {
+      final double[] a = (double[])array;
+      for (int i = fromIndex; i < toIndex; ++i)
+        accept(a[i]);
+    }
+    else if (array instanceof float[]) {
+      final float[] a = (float[])array;
+      for (int i = fromIndex; i < toIndex; ++i)
+        accept(a[i]);
+    }
+    else if (array instanceof short[]) {
+      final short[] a = (short[])array;
+      for (int i = fromIndex; i < toIndex; ++i)
+        accept(a[i]);
+    }
+    else {
+      final byte[] a = (byte[])array;
+      for (int i = fromIndex; i < toIndex; ++i)
+        accept(a[i]);
+    }
+  }
+
+  private static final class Task extends RecursiveTask<NumberStatistics> {
+    private static final long serialVersionUID = 4375069231963720716L;
+
+    private final Object array;
+    private final int fromIndex;
+    private final int toIndex;
+
+    private Task(final Object array, final int fromIndex, final int toIndex) {
+      this.array = array;
+      this.fromIndex = fromIndex;
+      this.toIndex = toIndex;
+    }
+
+    @Override
+    protected NumberStatistics compute() {
+      if (toIndex - fromIndex < 2 * MIN_PARALLEL_LENGTH)
+        return of(array, fromIndex, toIndex);
+
+      final int mid = (fromIndex + toIndex) >>> 1;
+      final Task left = new Task(array, fromIndex, mid);
+      left.fork();
+      final NumberStatistics right = new Task(array, mid, toIndex).compute();
+      return left.join().merge(right);
+    }
+  }
+
+  private static NumberStatistics of(final Object array, final int fromIndex, final int toIndex) {
+    final NumberStatistics statistics = new NumberStatistics();
+    statistics.acceptAll(array, fromIndex, toIndex);
+    return statistics;
+  }
+
+  private static NumberStatistics of(final Object array, final int length, final int fromIndex, final int toIndex, final boolean parallel) {
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "length", length);
+    return parallel && toIndex - fromIndex >= 2 * MIN_PARALLEL_LENGTH ? ForkJoinPool.commonPool().invoke(new Task(array, fromIndex, toIndex)) : of(array, fromIndex, toIndex);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified
+   * array.
+   *
+   * @param values The array of values.
+   * @return A new {@link NumberStatistics} of the values in the specified
+   *         array.
+   * @throws NullPointerException If {@code values} is null.
+   */
+  public static NumberStatistics of(final byte[] values) {
+    return of(values, 0, values.length);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified range
+   * of the array, which is accumulated in parallel with fork/join over parts
+   * of the range if {@code parallel} is {@code true} and the range is large
+   * enough.
+   *
+   * @param values The array of values.
+   * @param fromIndex The index of the first value to accumulate (inclusive).
+   * @param toIndex The index of the last value to accumulate (exclusive).
+   * @param parallel Whether to accumulate the range in parallel.
+   * @return A new {@link NumberStatistics} of the values in the specified range
+   *         of the array.
+   * @throws NullPointerException If {@code values} is null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static NumberStatistics of(final byte[] values, final int fromIndex, final int toIndex, final boolean parallel) {
+    return of(values, values.length, fromIndex, toIndex, parallel);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified
+   * array.
+   *
+   * @param values The array of values.
+   * @return A new {@link NumberStatistics} of the values in the specified
+   *         array.
+   * @throws NullPointerException If {@code values} is null.
+   */
+  public static NumberStatistics of(final short[] values) {
+    return of(values, 0, values.length);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified range
+   * of the array, which is accumulated in parallel with fork/join over parts
+   * of the range if {@code parallel} is {@code true} and the range is large
+   * enough.
+   *
+   * @param values The array of values.
+   * @param fromIndex The index of the first value to accumulate (inclusive).
+   * @param toIndex The index of the last value to accumulate (exclusive).
+   * @param parallel Whether to accumulate the range in parallel.
+   * @return A new {@link NumberStatistics} of the values in the specified range
+   *         of the array.
+   * @throws NullPointerException If {@code values} is null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static NumberStatistics of(final short[] values, final int fromIndex, final int toIndex, final boolean parallel) {
+    return of(values, values.length, fromIndex, toIndex, parallel);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified
+   * array.
+   *
+   * @param values The array of values.
+   * @return A new {@link NumberStatistics} of the values in the specified
+   *         array.
+   * @throws NullPointerException If {@code values} is null.
+   */
+  public static NumberStatistics of(final int[] values) {
+    return of(values, 0, values.length);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified range
+   * of the array, which is accumulated in parallel with fork/join over parts
+   * of the range if {@code parallel} is {@code true} and the range is large
+   * enough.
+   *
+   * @param values The array of values.
+   * @param fromIndex The index of the first value to accumulate (inclusive).
+   * @param toIndex The index of the last value to accumulate (exclusive).
+   * @param parallel Whether to accumulate the range in parallel.
+   * @return A new {@link NumberStatistics} of the values in the specified range
+   *         of the array.
+   * @throws NullPointerException If {@code values} is null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static NumberStatistics of(final int[] values, final int fromIndex, final int toIndex, final boolean parallel) {
+    return of(values, values.length, fromIndex, toIndex, parallel);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified
+   * array.
+   *
+   * @param values The array of values.
+   * @return A new {@link NumberStatistics} of the values in the specified
+   *         array.
+   * @throws NullPointerException If {@code values} is null.
+   */
+  public static NumberStatistics of(final long[] values) {
+    return of(values, 0, values.length);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified range
+   * of the array, which is accumulated in parallel with fork/join over parts
+   * of the range if {@code parallel} is {@code true} and the range is large
+   * enough.
+   *
+   * @param values The array of values.
+   * @param fromIndex The index of the first value to accumulate (inclusive).
+   * @param toIndex The index of the last value to accumulate (exclusive).
+   * @param parallel Whether to accumulate the range in parallel.
+   * @return A new {@link NumberStatistics} of the values in the specified range
+   *         of the array.
+   * @throws NullPointerException If {@code values} is null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static NumberStatistics of(final long[] values, final int fromIndex, final int toIndex, final boolean parallel) {
+    return of(values, values.length, fromIndex, toIndex, parallel);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified
+   * array.
+   *
+   * @param values The array of values.
+   * @return A new {@link NumberStatistics} of the values in the specified
+   *         array.
+   * @throws NullPointerException If {@code values} is null.
+   */
+  public static NumberStatistics of(final float[] values) {
+    return of(values, 0, values.length);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified range
+   * of the array, which is accumulated in parallel with fork/join over parts
+   * of the range if {@code parallel} is {@code true} and the range is large
+   * enough.
+   *
+   * @param values The array of values.
+   * @param fromIndex The index of the first value to accumulate (inclusive).
+   * @param toIndex The index of the last value to accumulate (exclusive).
+   * @param parallel Whether to accumulate the range in parallel.
+   * @return A new {@link NumberStatistics} of the values in the specified range
+   *         of the array.
+   * @throws NullPointerException If {@code values} is null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static NumberStatistics of(final float[] values, final int fromIndex, final int toIndex, final boolean parallel) {
+    return of(values, values.length, fromIndex, toIndex, parallel);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified
+   * array.
+   *
+   * @param values The array of values.
+   * @return A new {@link NumberStatistics} of the values in the specified
+   *         array.
+   * @throws NullPointerException If {@code values} is null.
+   */
+  public static NumberStatistics of(final double[] values) {
+    return of(values, 0, values.length);
+  }
+
+  /**
+   * Returns a new {@link NumberStatistics} of the values in the specified range
+   * of the array, which is accumulated in parallel with fork/join over parts
+   * of the range if {@code parallel} is {@code true} and the range is large
+   * enough.
+   *
+   * @param values The array of values.
+   * @param fromIndex The index of the first value to accumulate (inclusive).
+   * @param toIndex The index of the last value to accumulate (exclusive).
+   * @param parallel Whether to accumulate the range in parallel.
+   * @return A new {@link NumberStatistics} of the values in the specified range
+   *         of the array.
+   * @throws NullPointerException If {@code values} is null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static NumberStatistics of(final double[] values, final int fromIndex, final int toIndex, final boolean parallel) {
+    return of(values, values.length, fromIndex, toIndex, parallel);
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "{count=" + count + ", sum=" + getSum() + ", min=" + min + ", mean=" + getMean() + ", max=" + max + ", variance=" + getVariance() + "}";
+  }
+}
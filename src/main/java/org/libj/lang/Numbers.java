@@ -19,7 +19,9 @@ package org.libj.lang;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
-import java.util.Comparator;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 
 /**
  * Utility functions for operations pertaining to {@link Number}.
@@ -153,61 +155,276 @@ public final class Numbers {
       return BigIntegers.valueOf(1, uint);
     }
 
-    private Unsigned() {
+    /**
+     * Compares the specified <i>unsigned</i> {@code long} values.
+     *
+     * @param uint64a The first <i>unsigned</i> {@code long}.
+     * @param uint64b The second <i>unsigned</i> {@code long}.
+     * @return A negative integer, zero, or a positive integer as the first
+     *         argument is less than, equal to, or greater than the second.
+     */
+    public static int compare(final long uint64a, final long uint64b) {
+      return Long.compare(uint64a + Long.MIN_VALUE, uint64b + Long.MIN_VALUE);
     }
-  }
 
-  private static final Comparator<Number> comparator = (o1, o2) -> {
-    if (o1 == null)
-      return o2 == null ? 0 : 1;
+    /**
+     * Returns the <i>unsigned</i> quotient of dividing the specified
+     * <i>unsigned</i> {@code long} values, computed without {@link BigInteger}.
+     *
+     * @param dividend The <i>unsigned</i> {@code long} to be divided.
+     * @param divisor The <i>unsigned</i> {@code long} by which to divide.
+     * @return The <i>unsigned</i> quotient of dividing the specified
+     *         <i>unsigned</i> {@code long} values.
+     * @throws ArithmeticException If {@code divisor} is zero.
+     */
+    public static long divide(final long dividend, final long divisor) {
+      if (divisor < 0) // The divisor is at least 2^63, so the quotient is 0 or 1
+        return compare(dividend, divisor) < 0 ? 0 : 1;
+
+      if (dividend >= 0)
+        return dividend / divisor;
 
-    if (o2 == null)
-      return -1;
+      // Halving the dividend makes it positive, and the quotient is then off by at most 1
+      final long quotient = ((dividend >>> 1) / divisor) << 1;
+      return compare(dividend - quotient * divisor, divisor) < 0 ? quotient : quotient + 1;
+    }
+
+    /**
+     * Returns the <i>unsigned</i> remainder of dividing the specified
+     * <i>unsigned</i> {@code long} values, computed without
+     * {@link BigInteger}.
+     *
+     * @param dividend The <i>unsigned</i> {@code long} to be divided.
+     * @param divisor The <i>unsigned</i> {@code long} by which to divide.
+     * @return The <i>unsigned</i> remainder of dividing the specified
+     *         <i>unsigned</i> {@code long} values.
+     * @throws ArithmeticException If {@code divisor} is zero.
+     */
+    public static long remainder(final long dividend, final long divisor) {
+      if (divisor < 0)
+        return compare(dividend, divisor) < 0 ? dividend : dividend - divisor;
+
+      if (dividend >= 0)
+        return dividend % divisor;
+
+      final long remainder = dividend - (((dividend >>> 1) / divisor) << 1) * divisor;
+      return compare(remainder, divisor) < 0 ? remainder : remainder - divisor;
+    }
+
+    /**
+     * Returns the high 64 bits of the <i>unsigned</i> 128-bit product of the
+     * specified <i>unsigned</i> {@code long} values.
+     *
+     * @param uint64a The first <i>unsigned</i> {@code long}.
+     * @param uint64b The second <i>unsigned</i> {@code long}.
+     * @return The high 64 bits of the <i>unsigned</i> 128-bit product of the
+     *         specified <i>unsigned</i> {@code long} values.
+     */
+    public static long multiplyHigh(final long uint64a, final long uint64b) {
+      final long a0 = uint64a & 0xffffffffL;
+      final long a1 = uint64a >>> 32;
+      final long b0 = uint64b & 0xffffffffL;
+      final long b1 = uint64b >>> 32;
+      final long p01 = a0 * b1;
+      final long middle = a1 * b0 + ((a0 * b0) >>> 32) + (p01 & 0xffffffffL);
+      return a1 * b1 + (middle >>> 32) + (p01 >>> 32);
+    }
+
+    /**
+     * Parses the {@link CharSequence} argument as an <i>unsigned</i> decimal
+     * {@code long}, but returns {@code defaultValue} if the sequence does not
+     * contain a parsable <i>unsigned</i> {@code long}.
+     *
+     * @param s A {@link CharSequence} containing the <i>unsigned</i>
+     *          {@code long} representation to be parsed.
+     * @param defaultValue The {@code long} value to be returned if the sequence
+     *          does not contain a parsable <i>unsigned</i> {@code long}.
+     * @return The <i>unsigned</i> {@code long} value represented by the
+     *         argument, or {@code defaultValue} if the sequence does not contain
+     *         a parsable <i>unsigned</i> {@code long}.
+     * @see Long#parseUnsignedLong(String)
+     */
+    public static long parseUINT64(final CharSequence s, final long defaultValue) {
+      return s == null ? defaultValue : parseUINT640(s, null, 0, s.length(), defaultValue);
+    }
+
+    /**
+     * Parses the {@link CharSequence} argument as an <i>unsigned</i> decimal
+     * {@code long}, but returns {@code defaultValue} if the sequence does not
+     * contain a parsable <i>unsigned</i> {@code long}.
+     *
+     * @param s A {@link CharSequence} containing the <i>unsigned</i>
+     *          {@code long} representation to be parsed.
+     * @param fromIndex The index in {@code s} from which to start parsing
+     *          (inclusive).
+     * @param toIndex The index in {@code s} at which to end parsing
+     *          (exclusive).
+     * @param defaultValue The {@code long} value to be returned if the sequence
+     *          does not contain a parsable <i>unsigned</i> {@code long}.
+     * @return The <i>unsigned</i> {@code long} value represented by the
+     *         argument, or {@code defaultValue} if the sequence does not contain
+     *         a parsable <i>unsigned</i> {@code long}.
+     * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+     *           {@code toIndex} is out of range.
+     * @see Long#parseUnsignedLong(String)
+     */
+    public static long parseUINT64(final CharSequence s, final int fromIndex, final int toIndex, final long defaultValue) {
+      if (s == null)
+        return defaultValue;
 
-    if (o1 instanceof BigDecimal) {
-      if (o2 instanceof BigDecimal)
-        return ((BigDecimal)o1).compareTo((BigDecimal)o2);
+      Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+      return parseUINT640(s, null, fromIndex, toIndex, defaultValue);
+    }
 
-      if (o2 instanceof BigInteger)
-        return ((BigDecimal)o1).compareTo(new BigDecimal((BigInteger)o2));
+    /**
+     * Parses the ASCII {@code byte[]} argument as an <i>unsigned</i> decimal
+     * {@code long}, but returns {@code defaultValue} if the array does not
+     * contain a parsable <i>unsigned</i> {@code long}.
+     *
+     * @param bbuf A {@code byte} array containing the <i>unsigned</i>
+     *          {@code long} representation to be parsed.
+     * @param defaultValue The {@code long} value to be returned if the array
+     *          does not contain a parsable <i>unsigned</i> {@code long}.
+     * @return The <i>unsigned</i> {@code long} value represented by the
+     *         argument, or {@code defaultValue} if the array does not contain a
+     *         parsable <i>unsigned</i> {@code long}.
+     * @see Long#parseUnsignedLong(String)
+     */
+    public static long parseUINT64(final byte[] bbuf, final long defaultValue) {
+      return bbuf == null ? defaultValue : parseUINT640(null, bbuf, 0, bbuf.length, defaultValue);
+    }
 
-      if (o2 instanceof Byte || o2 instanceof Short || o2 instanceof Integer || o2 instanceof Long)
-        return ((BigDecimal)o1).compareTo(BigDecimal.valueOf(o2.longValue()));
+    /**
+     * Parses the ASCII {@code byte[]} argument as an <i>unsigned</i> decimal
+     * {@code long}, but returns {@code defaultValue} if the array does not
+     * contain a parsable <i>unsigned</i> {@code long}.
+     *
+     * @param bbuf A {@code byte} array containing the <i>unsigned</i>
+     *          {@code long} representation to be parsed.
+     * @param fromIndex The index in {@code bbuf} from which to start parsing
+     *          (inclusive).
+     * @param toIndex The index in {@code bbuf} at which to end parsing
+     *          (exclusive).
+     * @param defaultValue The {@code long} value to be returned if the array
+     *          does not contain a parsable <i>unsigned</i> {@code long}.
+     * @return The <i>unsigned</i> {@code long} value represented by the
+     *         argument, or {@code defaultValue} if the array does not contain a
+     *         parsable <i>unsigned</i> {@code long}.
+     * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+     *           {@code toIndex} is out of range.
+     * @see Long#parseUnsignedLong(String)
+     */
+    public static long parseUINT64(final byte[] bbuf, final int fromIndex, final int toIndex, final long defaultValue) {
+      if (bbuf == null)
+        return defaultValue;
 
-      return ((BigDecimal)o1).compareTo(BigDecimal.valueOf(o2.doubleValue()));
+      Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "bbuf.length", bbuf.length);
+      return parseUINT640(null, bbuf, fromIndex, toIndex, defaultValue);
     }
 
-    if (o1 instanceof BigInteger) {
-      if (o2 instanceof BigInteger)
-        return ((BigInteger)o1).compareTo((BigInteger)o2);
+    private static long parseUINT640(final CharSequence s, final byte[] bbuf, final int fromIndex, final int toIndex, final long defaultValue) {
+      int i = fromIndex;
+      if (i < toIndex && (s != null ? s.charAt(i) : bbuf[i]) == '+')
+        ++i;
+
+      if (i == toIndex)
+        return defaultValue;
 
-      if (o2 instanceof BigDecimal)
-        return new BigDecimal((BigInteger)o1).compareTo((BigDecimal)o2);
+      long result = 0;
+      do {
+        final int digit = (s != null ? s.charAt(i) : bbuf[i]) - '0';
+        if (digit < 0 || digit > 9)
+          return defaultValue;
 
-      if (o2 instanceof Byte || o2 instanceof Short || o2 instanceof Integer || o2 instanceof Long)
-        return ((BigInteger)o1).compareTo(BigInteger.valueOf(o2.longValue()));
+        // 1844674407370955161 * 10 + 5 is the maximum unsigned long
+        if (Long.compareUnsigned(result, 1844674407370955161L) >= 0 && (result != 1844674407370955161L || digit > 5))
+          return defaultValue;
 
-      return new BigDecimal((BigInteger)o1).compareTo(BigDecimal.valueOf(o2.doubleValue()));
+        result = result * 10 + digit;
+      }
+      while (++i < toIndex);
+      return result;
     }
 
-    if (o1 instanceof Byte || o1 instanceof Short || o1 instanceof Integer || o1 instanceof Long) {
-      if (o2 instanceof BigInteger)
-        return BigInteger.valueOf(o1.longValue()).compareTo((BigInteger)o2);
+    /**
+     * Returns the number of decimal digits of the specified <i>unsigned</i>
+     * {@code long}.
+     */
+    private static int stringSize(final long uint64) {
+      if (uint64 < 0)
+        return compare(uint64, -8446744073709551616L) < 0 ? 19 : 20; // 10^19
+
+      long p = 10;
+      for (int i = 1; i < 19; ++i, p *= 10)
+        if (uint64 < p)
+          return i;
 
-      if (o2 instanceof BigDecimal)
-        return BigDecimal.valueOf(o1.doubleValue()).compareTo((BigDecimal)o2);
+      return 19;
+    }
+
+    /**
+     * Writes the decimal representation of the specified <i>unsigned</i>
+     * {@code long} into the provided {@code char[]}, starting at the specified
+     * offset.
+     *
+     * @param uint64 The <i>unsigned</i> {@code long}.
+     * @param buf The {@code char[]} into which to write, which must have
+     *          capacity for up to 20 characters after {@code offset}.
+     * @param offset The index in {@code buf} at which to start writing.
+     * @return The index in {@code buf} following the last written character.
+     * @throws NullPointerException If {@code buf} is null.
+     * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have enough
+     *           capacity after {@code offset}.
+     * @see Long#toUnsignedString(long)
+     */
+    public static int toString(long uint64, final char[] buf, final int offset) {
+      final int end = offset + stringSize(uint64);
+      int i = end;
+      if (uint64 < 0) {
+        final long quotient = (uint64 >>> 1) / 5;
+        buf[--i] = (char)('0' + (uint64 - quotient * 10));
+        uint64 = quotient;
+      }
 
-      return Double.compare(o1.doubleValue(), o2.doubleValue());
+      do
+        buf[--i] = (char)('0' + uint64 % 10);
+      while ((uint64 /= 10) != 0);
+      return end;
     }
 
-    if (o2 instanceof BigInteger)
-      return BigDecimal.valueOf(o1.doubleValue()).compareTo(new BigDecimal((BigInteger)o2));
+    /**
+     * Writes the decimal representation of the specified <i>unsigned</i>
+     * {@code long} as ASCII into the provided {@code byte[]}, starting at the
+     * specified offset.
+     *
+     * @param uint64 The <i>unsigned</i> {@code long}.
+     * @param buf The {@code byte[]} into which to write, which must have
+     *          capacity for up to 20 bytes after {@code offset}.
+     * @param offset The index in {@code buf} at which to start writing.
+     * @return The index in {@code buf} following the last written byte.
+     * @throws NullPointerException If {@code buf} is null.
+     * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have enough
+     *           capacity after {@code offset}.
+     * @see Long#toUnsignedString(long)
+     */
+    public static int toString(long uint64, final byte[] buf, final int offset) {
+      final int end = offset + stringSize(uint64);
+      int i = end;
+      if (uint64 < 0) {
+        final long quotient = (uint64 >>> 1) / 5;
+        buf[--i] = (byte)('0' + (uint64 - quotient * 10));
+        uint64 = quotient;
+      }
 
-    if (o2 instanceof BigDecimal)
-      return BigDecimal.valueOf(o1.doubleValue()).compareTo((BigDecimal)o2);
+      do
+        buf[--i] = (byte)('0' + uint64 % 10);
+      while ((uint64 /= 10) != 0);
+      return end;
+    }
 
-    return Double.compare(o1.doubleValue(), o2.doubleValue());
-  };
+    private Unsigned() {
+    }
+  }
 
   /**
    * Utility functions for the encoding and decoding of "compound values" in
@@ -447,16 +664,320 @@ public final class Numbers {
       return (byte)((val >> Byte.SIZE * pos) & 0xff);
     }
 
+    /**
+     * Encodes {@code length} pairs of {@code int}s from {@code a} and
+     * {@code int}s from {@code b} into {@code dest}, such that
+     * {@code dest[destOffset + i]} is
+     * {@link #encode(int,int) encode(a[aOffset + i], b[bOffset + i])}.
+     *
+     * @param a The array of the first values.
+     * @param aOffset The index of the first value in {@code a}.
+     * @param b The array of the second values.
+     * @param bOffset The index of the first value in {@code b}.
+     * @param dest The array into which the compounded values are to be
+     *          written.
+     * @param destOffset The index in {@code dest} at which to start writing.
+     * @param length The number of pairs to encode.
+     * @throws NullPointerException If {@code a}, {@code b} or {@code dest}
+     *           is null.
+     * @throws IndexOutOfBoundsException If a range is out of bounds of its
+     *           array.
+     */
+    public static void encode(final int[] a, final int aOffset, final int[] b, final int bOffset, final long[] dest, final int destOffset, final int length) {
+      Assertions.assertBoundsOffsetCount("a.length", a.length, "aOffset", aOffset, "length", length);
+      Assertions.assertBoundsOffsetCount("b.length", b.length, "bOffset", bOffset, "length", length);
+      Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+      for (int i = 0; i < length; ++i)
+        dest[destOffset + i] = (long)b[bOffset + i] << Integer.SIZE | a[aOffset + i] & 0xffffffffL;
+    }
+
+    /**
+     * Returns a new {@code long} array of the pairs of {@code int}s from
+     * {@code a} and {@code int}s from {@code b}, such that the value at
+     * index {@code i} is {@link #encode(int,int) encode(a[i], b[i])}.
+     *
+     * @param a The array of the first values.
+     * @param b The array of the second values.
+     * @return A new {@code long} array of the compounded values.
+     * @throws NullPointerException If {@code a} or {@code b} is null.
+     * @throws IllegalArgumentException If the lengths of {@code a} and
+     *           {@code b} are not equal.
+     */
+    public static long[] encode(final int[] a, final int[] b) {
+      if (a.length != b.length)
+        throw new IllegalArgumentException("a.length (" + a.length + ") != b.length (" + b.length + ")");
+
+      final long[] dest = new long[a.length];
+      encode(a, 0, b, 0, dest, 0, a.length);
+      return dest;
+    }
+
+    /**
+     * Encodes {@code length} pairs of {@code int}s from {@code a} and
+     * {@code float}s from {@code b} into {@code dest}, such that
+     * {@code dest[destOffset + i]} is
+     * {@link #encode(int,float) encode(a[aOffset + i], b[bOffset + i])}.
+     *
+     * @param a The array of the first values.
+     * @param aOffset The index of the first value in {@code a}.
+     * @param b The array of the second values.
+     * @param bOffset The index of the first value in {@code b}.
+     * @param dest The array into which the compounded values are to be
+     *          written.
+     * @param destOffset The index in {@code dest} at which to start writing.
+     * @param length The number of pairs to encode.
+     * @throws NullPointerException If {@code a}, {@code b} or {@code dest}
+     *           is null.
+     * @throws IndexOutOfBoundsException If a range is out of bounds of its
+     *           array.
+     */
+    public static void encode(final int[] a, final int aOffset, final float[] b, final int bOffset, final long[] dest, final int destOffset, final int length) {
+      Assertions.assertBoundsOffsetCount("a.length", a.length, "aOffset", aOffset, "length", length);
+      Assertions.assertBoundsOffsetCount("b.length", b.length, "bOffset", bOffset, "length", length);
+      Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+      for (int i = 0; i < length; ++i)
+        dest[destOffset + i] = (long)Float.floatToIntBits(b[bOffset + i]) << Integer.SIZE | a[aOffset + i] & 0xffffffffL;
+    }
+
+    /**
+     * Returns a new {@code long} array of the pairs of {@code int}s from
+     * {@code a} and {@code float}s from {@code b}, such that the value at
+     * index {@code i} is {@link #encode(int,float) encode(a[i], b[i])}.
+     *
+     * @param a The array of the first values.
+     * @param b The array of the second values.
+     * @return A new {@code long} array of the compounded values.
+     * @throws NullPointerException If {@code a} or {@code b} is null.
+     * @throws IllegalArgumentException If the lengths of {@code a} and
+     *           {@code b} are not equal.
+     */
+    public static long[] encode(final int[] a, final float[] b) {
+      if (a.length != b.length)
+        throw new IllegalArgumentException("a.length (" + a.length + ") != b.length (" + b.length + ")");
+
+      final long[] dest = new long[a.length];
+      encode(a, 0, b, 0, dest, 0, a.length);
+      return dest;
+    }
+
+    /**
+     * Encodes {@code length} pairs of {@code float}s from {@code a} and
+     * {@code int}s from {@code b} into {@code dest}, such that
+     * {@code dest[destOffset + i]} is
+     * {@link #encode(float,int) encode(a[aOffset + i], b[bOffset + i])}.
+     *
+     * @param a The array of the first values.
+     * @param aOffset The index of the first value in {@code a}.
+     * @param b The array of the second values.
+     * @param bOffset The index of the first value in {@code b}.
+     * @param dest The array into which the compounded values are to be
+     *          written.
+     * @param destOffset The index in {@code dest} at which to start writing.
+     * @param length The number of pairs to encode.
+     * @throws NullPointerException If {@code a}, {@code b} or {@code dest}
+     *           is null.
+     * @throws IndexOutOfBoundsException If a range is out of bounds of its
+     *           array.
+     */
+    public static void encode(final float[] a, final int aOffset, final int[] b, final int bOffset, final long[] dest, final int destOffset, final int length) {
+      Assertions.assertBoundsOffsetCount("a.length", a.length, "aOffset", aOffset, "length", length);
+      Assertions.assertBoundsOffsetCount("b.length", b.length, "bOffset", bOffset, "length", length);
+      Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+      for (int i = 0; i < length; ++i)
+        dest[destOffset + i] = (long)b[bOffset + i] << Integer.SIZE | Float.floatToIntBits(a[aOffset + i]) & 0xffffffffL;
+    }
+
+    /**
+     * Returns a new {@code long} array of the pairs of {@code float}s from
+     * {@code a} and {@code int}s from {@code b}, such that the value at
+     * index {@code i} is {@link #encode(float,int) encode(a[i], b[i])}.
+     *
+     * @param a The array of the first values.
+     * @param b The array of the second values.
+     * @return A new {@code long} array of the compounded values.
+     * @throws NullPointerException If {@code a} or {@code b} is null.
+     * @throws IllegalArgumentException If the lengths of {@code a} and
+     *           {@code b} are not equal.
+     */
+    public static long[] encode(final float[] a, final int[] b) {
+      if (a.length != b.length)
+        throw new IllegalArgumentException("a.length (" + a.length + ") != b.length (" + b.length + ")");
+
+      final long[] dest = new long[a.length];
+      encode(a, 0, b, 0, dest, 0, a.length);
+      return dest;
+    }
+
+    /**
+     * Encodes {@code length} pairs of {@code float}s from {@code a} and
+     * {@code float}s from {@code b} into {@code dest}, such that
+     * {@code dest[destOffset + i]} is
+     * {@link #encode(float,float) encode(a[aOffset + i], b[bOffset + i])}.
+     *
+     * @param a The array of the first values.
+     * @param aOffset The index of the first value in {@code a}.
+     * @param b The array of the second values.
+     * @param bOffset The index of the first value in {@code b}.
+     * @param dest The array into which the compounded values are to be
+     *          written.
+     * @param destOffset The index in {@code dest} at which to start writing.
+     * @param length The number of pairs to encode.
+     * @throws NullPointerException If {@code a}, {@code b} or {@code dest}
+     *           is null.
+     * @throws IndexOutOfBoundsException If a range is out of bounds of its
+     *           array.
+     */
+    public static void encode(final float[] a, final int aOffset, final float[] b, final int bOffset, final long[] dest, final int destOffset, final int length) {
+      Assertions.assertBoundsOffsetCount("a.length", a.length, "aOffset", aOffset, "length", length);
+      Assertions.assertBoundsOffsetCount("b.length", b.length, "bOffset", bOffset, "length", length);
+      Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+      for (int i = 0; i < length; ++i)
+        dest[destOffset + i] = (long)Float.floatToIntBits(b[bOffset + i]) << Integer.SIZE | Float.floatToIntBits(a[aOffset + i]) & 0xffffffffL;
+    }
+
+    /**
+     * Returns a new {@code long} array of the pairs of {@code float}s from
+     * {@code a} and {@code float}s from {@code b}, such that the value at
+     * index {@code i} is {@link #encode(float,float) encode(a[i], b[i])}.
+     *
+     * @param a The array of the first values.
+     * @param b The array of the second values.
+     * @return A new {@code long} array of the compounded values.
+     * @throws NullPointerException If {@code a} or {@code b} is null.
+     * @throws IllegalArgumentException If the lengths of {@code a} and
+     *           {@code b} are not equal.
+     */
+    public static long[] encode(final float[] a, final float[] b) {
+      if (a.length != b.length)
+        throw new IllegalArgumentException("a.length (" + a.length + ") != b.length (" + b.length + ")");
+
+      final long[] dest = new long[a.length];
+      encode(a, 0, b, 0, dest, 0, a.length);
+      return dest;
+    }
+
+    /**
+     * Decodes the {@code int} values at the specified position of
+     * {@code length} compounded {@code long} values in {@code src} into
+     * {@code dest}, such that {@code dest[destOffset + i]} is
+     * {@link #decodeInt(long,int) decodeInt(src[srcOffset + i], pos)}.
+     *
+     * @param src The array of compounded {@code long} values.
+     * @param srcOffset The index of the first value in {@code src}.
+     * @param pos The position of the values to decode (0, 1).
+     * @param dest The array into which the decoded values are to be written.
+     * @param destOffset The index in {@code dest} at which to start writing.
+     * @param length The number of values to decode.
+     * @throws NullPointerException If {@code src} or {@code dest} is null.
+     * @throws IndexOutOfBoundsException If a range is out of bounds of its
+     *           array.
+     */
+    public static void decodeInts(final long[] src, final int srcOffset, final int pos, final int[] dest, final int destOffset, final int length) {
+      Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+      Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+      final int shift = Integer.SIZE * pos;
+      for (int i = 0; i < length; ++i)
+        dest[destOffset + i] = (int)(src[srcOffset + i] >> shift);
+    }
+
+    /**
+     * Returns a new {@code int} array of the {@code int} values at the
+     * specified position of the compounded {@code long} values in {@code src},
+     * such that the value at index {@code i} is
+     * {@link #decodeInt(long,int) decodeInt(src[i], pos)}.
+     *
+     * @param src The array of compounded {@code long} values.
+     * @param pos The position of the values to decode (0, 1).
+     * @return A new {@code int} array of the decoded values.
+     * @throws NullPointerException If {@code src} is null.
+     */
+    public static int[] decodeInts(final long[] src, final int pos) {
+      final int[] dest = new int[src.length];
+      decodeInts(src, 0, pos, dest, 0, src.length);
+      return dest;
+    }
+
+    /**
+     * Decodes the {@code float} values at the specified position of
+     * {@code length} compounded {@code long} values in {@code src} into
+     * {@code dest}, such that {@code dest[destOffset + i]} is
+     * {@link #decodeFloat(long,int) decodeFloat(src[srcOffset + i], pos)}.
+     *
+     * @param src The array of compounded {@code long} values.
+     * @param srcOffset The index of the first value in {@code src}.
+     * @param pos The position of the values to decode (0, 1).
+     * @param dest The array into which the decoded values are to be written.
+     * @param destOffset The index in {@code dest} at which to start writing.
+     * @param length The number of values to decode.
+     * @throws NullPointerException If {@code src} or {@code dest} is null.
+     * @throws IndexOutOfBoundsException If a range is out of bounds of its
+     *           array.
+     */
+    public static void decodeFloats(final long[] src, final int srcOffset, final int pos, final float[] dest, final int destOffset, final int length) {
+      Assertions.assertBoundsOffsetCount("src.length", src.length, "srcOffset", srcOffset, "length", length);
+      Assertions.assertBoundsOffsetCount("dest.length", dest.length, "destOffset", destOffset, "length", length);
+      final int shift = Integer.SIZE * pos;
+      for (int i = 0; i < length; ++i)
+        dest[destOffset + i] = Float.intBitsToFloat((int)(src[srcOffset + i] >> shift));
+    }
+
+    /**
+     * Returns a new {@code float} array of the {@code float} values at the
+     * specified position of the compounded {@code long} values in {@code src},
+     * such that the value at index {@code i} is
+     * {@link #decodeFloat(long,int) decodeFloat(src[i], pos)}.
+     *
+     * @param src The array of compounded {@code long} values.
+     * @param pos The position of the values to decode (0, 1).
+     * @return A new {@code float} array of the decoded values.
+     * @throws NullPointerException If {@code src} is null.
+     */
+    public static float[] decodeFloats(final long[] src, final int pos) {
+      final float[] dest = new float[src.length];
+      decodeFloats(src, 0, pos, dest, 0, src.length);
+      return dest;
+    }
+
     private Compound() {
     }
   }
 
+  /** Type code of {@link Byte}, {@link Short}, {@link Integer} and {@link Long}. */
+  private static final int LONG = 0;
+  /** Type code of {@link Float}, {@link Double} and other {@link Number}s. */
+  private static final int DOUBLE = 1;
+  /** Type code of {@link BigInteger}. */
+  private static final int BIG_INTEGER = 2;
+  /** Type code of {@link BigDecimal}. */
+  private static final int BIG_DECIMAL = 3;
+
+  private static int typeCode(final Number n) {
+    final Class<?> cls = n.getClass();
+    if (cls == Integer.class || cls == Long.class || cls == Short.class || cls == Byte.class)
+      return LONG;
+
+    if (cls == Double.class || cls == Float.class)
+      return DOUBLE;
+
+    if (n instanceof BigDecimal)
+      return BIG_DECIMAL;
+
+    return n instanceof BigInteger ? BIG_INTEGER : DOUBLE;
+  }
+
   /**
    * Compares the specified numbers, returning a negative integer, zero, or a
    * positive integer as the first argument is less than, equal to, or greater
    * than the second.
    * <p>
-   * Null values are considered as less than non-null values.
+   * Numbers of different types are compared by their exact values, such that
+   * {@code 9007199254740993L} is greater than {@code 9007199254740992d}, and
+   * {@code 0.1d} is greater than {@code new BigDecimal("0.1")}. Two
+   * {@link Float}s or {@link Double}s are compared as per
+   * {@link Double#compare(double,double)}, and {@link Double#NaN} is greater
+   * than any other number.
+   * <p>
+   * Null values are considered as greater than non-null values.
    *
    * @param a The first {@link Number} to be compared.
    * @param b The second {@link Number} to be compared.
@@ -464,7 +985,179 @@ public final class Numbers {
    *         argument is less than, equal to, or greater than the second.
    */
   public static int compare(final Number a, final Number b) {
-    return comparator.compare(a, b);
+    if (a == null)
+      return b == null ? 0 : 1;
+
+    if (b == null)
+      return -1;
+
+    return compare(a, typeCode(a), b, typeCode(b));
+  }
+
+  private static int compare(final Number a, final int typeA, final Number b, final int typeB) {
+    switch (typeA << 2 | typeB) {
+      case LONG << 2 | LONG:
+        return Long.compare(a.longValue(), b.longValue());
+      case DOUBLE << 2 | DOUBLE:
+        return Double.compare(a.doubleValue(), b.doubleValue());
+      case BIG_INTEGER << 2 | BIG_INTEGER:
+        return ((BigInteger)a).compareTo((BigInteger)b);
+      case BIG_DECIMAL << 2 | BIG_DECIMAL:
+        return ((BigDecimal)a).compareTo((BigDecimal)b);
+      case LONG << 2 | BIG_INTEGER:
+        return compare(a.longValue(), (BigInteger)b);
+      case BIG_INTEGER << 2 | LONG:
+        return -compare(b.longValue(), (BigInteger)a);
+      default:
+        return compareMixed(a, typeA, b, typeB);
+    }
+  }
+
+  private static int compare(final long a, final BigInteger b) {
+    return b.bitLength() < 64 ? Long.compare(a, b.longValue()) : -b.signum();
+  }
+
+  /**
+   * Compares numbers of different types by their exact values. Rounding to the
+   * nearest {@code double} is monotonic, so the order of the rounded values
+   * decides the comparison unless they are equal, which is the only case that
+   * requires exact arithmetic.
+   */
+  private static int compareMixed(final Number a, final int typeA, final Number b, final int typeB) {
+    final double da = a.doubleValue();
+    final double db = b.doubleValue();
+    if (da != da)
+      return db != db ? 0 : 1;
+
+    if (db != db || da < db)
+      return -1;
+
+    if (da > db)
+      return 1;
+
+    if (typeA == DOUBLE) {
+      if (Double.isInfinite(da))
+        return da > 0 ? 1 : -1;
+
+      if (typeB == LONG)
+        return -compare(b.longValue(), da);
+    }
+    else if (typeB == DOUBLE) {
+      if (Double.isInfinite(db))
+        return db > 0 ? -1 : 1;
+
+      if (typeA == LONG)
+        return compare(a.longValue(), db);
+    }
+
+    return toExactBigDecimal(a, typeA).compareTo(toExactBigDecimal(b, typeB));
+  }
+
+  /**
+   * Compares {@code a} to {@code b}, where {@code b} is the {@code double}
+   * nearest to {@code a}, and thus is a whole number.
+   */
+  private static int compare(final long a, final double b) {
+    return b >= 0x1p63 ? -1 : Long.compare(a, (long)b);
+  }
+
+  private static BigDecimal toExactBigDecimal(final Number n, final int type) {
+    switch (type) {
+      case LONG:
+        return BigDecimal.valueOf(n.longValue());
+      case BIG_INTEGER:
+        return new BigDecimal((BigInteger)n);
+      case BIG_DECIMAL:
+        return (BigDecimal)n;
+      default:
+        return new BigDecimal(n.doubleValue());
+    }
+  }
+
+  /**
+   * Compares the specified arrays of numbers lexicographically, with elements
+   * compared as per {@link #compare(Number,Number)}.
+   * <p>
+   * As with null elements, a null array is considered as greater than a
+   * non-null array.
+   *
+   * @param a The first array to be compared.
+   * @param b The second array to be compared.
+   * @return A negative integer, zero, or a positive integer as the first array
+   *         is lexicographically less than, equal to, or greater than the
+   *         second.
+   */
+  public static int compare(final Number[] a, final Number[] b) {
+    if (a == b)
+      return 0;
+
+    if (a == null || b == null)
+      return a == null ? 1 : -1;
+
+    return compare0(a, 0, a.length, b, 0, b.length);
+  }
+
+  /**
+   * Compares the specified ranges of the arrays of numbers lexicographically,
+   * with elements compared as per {@link #compare(Number,Number)}, such that
+   * null elements are considered as greater than non-null elements.
+   *
+   * @param a The first array to be compared.
+   * @param aFromIndex The index of the first element in {@code a} to be
+   *          compared (inclusive).
+   * @param aToIndex The index of the last element in {@code a} to be compared
+   *          (exclusive).
+   * @param b The second array to be compared.
+   * @param bFromIndex The index of the first element in {@code b} to be
+   *          compared (inclusive).
+   * @param bToIndex The index of the last element in {@code b} to be compared
+   *          (exclusive).
+   * @return A negative integer, zero, or a positive integer as the range of the
+   *         first array is lexicographically less than, equal to, or greater
+   *         than the range of the second.
+   * @throws NullPointerException If {@code a} or {@code b} is null.
+   * @throws IndexOutOfBoundsException If a given index is out of range.
+   */
+  public static int compare(final Number[] a, final int aFromIndex, final int aToIndex, final Number[] b, final int bFromIndex, final int bToIndex) {
+    Assertions.assertRange("aFromIndex", aFromIndex, "aToIndex", aToIndex, "a.length", a.length);
+    Assertions.assertRange("bFromIndex", bFromIndex, "bToIndex", bToIndex, "b.length", b.length);
+    return compare0(a, aFromIndex, aToIndex, b, bFromIndex, bToIndex);
+  }
+
+  private static int compare0(final Number[] a, final int aFromIndex, final int aToIndex, final Number[] b, final int bFromIndex, final int bToIndex) {
+    final int aLength = aToIndex - aFromIndex;
+    final int bLength = bToIndex - bFromIndex;
+    // Columns are usually of a single type, so the type codes are reused while the classes repeat
+    Class<?> classA = null;
+    Class<?> classB = null;
+    int typeA = 0;
+    int typeB = 0;
+    for (int i = 0, len = Math.min(aLength, bLength); i < len; ++i) {
+      final Number x = a[aFromIndex + i];
+      final Number y = b[bFromIndex + i];
+      if (x == null || y == null) {
+        if (x != y)
+          return x == null ? 1 : -1;
+
+        continue;
+      }
+
+      if (x.getClass() != classA) {
+        classA = x.getClass();
+        typeA = typeCode(x);
+      }
+
+      if (y.getClass() != classB) {
+        classB = y.getClass();
+        typeB = typeCode(y);
+      }
+
+      final int c = compare(x, typeA, y, typeB);
+      if (c != 0)
+        return c;
+    }
+
+    return aLength - bLength;
   }
 
   private static final int[] highestBitSet = {
@@ -567,59 +1260,288 @@ public final class Numbers {
     }
   }
 
+  private static void assertExponent(final int exp) {
+    if (exp < 0)
+      throw new IllegalArgumentException("exp (" + exp + ") must not be negative");
+  }
+
   /**
-   * Parses the {@link CharSequence} argument as per the specification of
-   * {@link Short#parseShort(String)}, but returns {@code null} if the sequence
-   * does not contain a parsable {@code short}.
+   * Returns the value of the specified base raised to the power of the
+   * specified exponent, throwing an {@link ArithmeticException} if the result
+   * overflows an {@code int}.
    *
-   * @param s A {@link CharSequence} containing the {@link Short} representation
-   *          to be parsed.
-   * @return The integer value represented by the argument, or {@code null} if
-   *         the sequence does not contain a parsable {@code short}.
-   * @see Short#parseShort(String)
+   * @param base The base.
+   * @param exp The exponent.
+   * @return The value of the specified base raised to the power of the
+   *         specified exponent.
+   * @throws ArithmeticException If the resulting value cannot be represented as
+   *           an {@code int} due to overflow.
+   * @throws IllegalArgumentException If {@code exp} is negative.
    */
-  public static Short parseShort(final CharSequence s) {
-    return s == null ? null : parseShort0(s, 0, s.length(), 10);
+  public static int powExact(int base, int exp) {
+    assertExponent(exp);
+    int result = 1;
+    while (true) {
+      if ((exp & 1) != 0)
+        result = Math.multiplyExact(result, base);
+
+      if ((exp >>>= 1) == 0)
+        return result;
+
+      // With bits of exp remaining, an overflow of base * base is an overflow of the result
+      base = Math.multiplyExact(base, base);
+    }
   }
 
   /**
-   * Parses the {@link CharSequence} argument as per the specification of
-   * {@link Short#parseShort(String)}, but returns {@code null} if the sequence
-   * does not contain a parsable {@code short}.
+   * Returns the value of the specified base raised to the power of the
+   * specified exponent, throwing an {@link ArithmeticException} if the result
+   * overflows a {@code long}.
    *
-   * @param s A {@link CharSequence} containing the {@link Short} representation
-   *          to be parsed.
-   * @param fromIndex The index in {@code s} from which to start parsing
-   *          (inclusive).
-   * @param toIndex The index in {@code s} at which to end parsing (exclusive).
-   * @return The integer value represented by the argument, or {@code null} if
-   *         the sequence does not contain a parsable {@code short}.
-   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
-   *           {@code toIndex} is out of range.
-   * @see Short#parseShort(String)
+   * @param base The base.
+   * @param exp The exponent.
+   * @return The value of the specified base raised to the power of the
+   *         specified exponent.
+   * @throws ArithmeticException If the resulting value cannot be represented as
+   *           a {@code long} due to overflow.
+   * @throws IllegalArgumentException If {@code exp} is negative.
    */
-  public static Short parseShort(final CharSequence s, final int fromIndex, final int toIndex) {
-    if (s == null)
-      return null;
+  public static long powExact(long base, int exp) {
+    assertExponent(exp);
+    long result = 1;
+    while (true) {
+      if ((exp & 1) != 0)
+        result = Math.multiplyExact(result, base);
 
-    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
-    return parseShort0(s, fromIndex, toIndex, 10);
+      if ((exp >>>= 1) == 0)
+        return result;
+
+      base = Math.multiplyExact(base, base);
+    }
   }
 
   /**
-   * Parses the {@link CharSequence} argument as per the specification of
-   * {@link Short#parseShort(String)}, but returns {@code defaultValue} if the
-   * sequence does not contain a parsable {@code short}.
+   * Returns the value of the specified base raised to the power of the
+   * specified exponent, or {@link Integer#MAX_VALUE} or
+   * {@link Integer#MIN_VALUE} if the result overflows an {@code int} in the
+   * positive or negative direction.
    *
-   * @param s A {@link CharSequence} containing the {@code short} representation
-   *          to be parsed.
-   * @param defaultValue The {@code short} value to be returned if the sequence
-   *          does not contain a parsable {@code short}.
-   * @return The {@code short} value represented by the argument, or
-   *         {@code defaultValue} if the sequence does not contain a parsable
-   *         {@code short}.
-   * @see Short#parseShort(String)
-   */
+   * @param base The base.
+   * @param exp The exponent.
+   * @return The value of the specified base raised to the power of the
+   *         specified exponent, saturated to the range of {@code int}.
+   * @throws IllegalArgumentException If {@code exp} is negative.
+   */
+  public static int powSaturated(final int base, final int exp) {
+    final long pow = powSaturated((long)base, exp);
+    return pow > Integer.MAX_VALUE ? Integer.MAX_VALUE : pow < Integer.MIN_VALUE ? Integer.MIN_VALUE : (int)pow;
+  }
+
+  /**
+   * Returns the value of the specified base raised to the power of the
+   * specified exponent, or {@link Long#MAX_VALUE} or {@link Long#MIN_VALUE} if
+   * the result overflows a {@code long} in the positive or negative direction.
+   *
+   * @param base The base.
+   * @param exp The exponent.
+   * @return The value of the specified base raised to the power of the
+   *         specified exponent, saturated to the range of {@code long}.
+   * @throws IllegalArgumentException If {@code exp} is negative.
+   */
+  public static long powSaturated(final long base, int exp) {
+    assertExponent(exp);
+    final boolean negative = base < 0 && (exp & 1) != 0;
+    final long saturated = negative ? Long.MIN_VALUE : Long.MAX_VALUE;
+
+    // Magnitudes are unsigned, so the magnitude of Long.MIN_VALUE (2^63) is the negative limit
+    final long limit = negative ? Long.MIN_VALUE : Long.MAX_VALUE;
+    long magnitude = Math.abs(base);
+    long result = 1;
+    while (true) {
+      if ((exp & 1) != 0) {
+        if (Unsigned.multiplyHigh(result, magnitude) != 0)
+          return saturated;
+
+        result *= magnitude;
+        if (Long.compareUnsigned(result, limit) > 0)
+          return saturated;
+      }
+
+      if ((exp >>>= 1) == 0)
+        return negative ? -result : result;
+
+      if (Unsigned.multiplyHigh(magnitude, magnitude) != 0)
+        return saturated;
+
+      magnitude *= magnitude;
+      if (Long.compareUnsigned(magnitude, limit) > 0)
+        return saturated;
+    }
+  }
+
+  /**
+   * Returns {@code 10^exp} as a {@code long}, by lookup in a table of the
+   * powers of ten that can be represented as a {@code long}.
+   *
+   * @param exp The exponent.
+   * @return {@code 10^exp} as a {@code long}.
+   * @throws ArithmeticException If {@code exp} is greater than {@code 18},
+   *           because the result cannot be represented as a {@code long}.
+   * @throws IllegalArgumentException If {@code exp} is negative.
+   */
+  public static long pow10(final int exp) {
+    assertExponent(exp);
+    if (exp > 18)
+      throw new ArithmeticException("long overflow");
+
+    return LONG_POWERS_OF_TEN[exp];
+  }
+
+  /**
+   * Returns the 8 bytes of the specified {@code byte[]} starting at the
+   * provided index as a little-endian {@code long}, such that the byte at
+   * {@code i} is in the least significant position.
+   *
+   * @param bbuf The {@code byte[]}.
+   * @param i The index of the first byte.
+   * @return The 8 bytes starting at {@code i} as a little-endian {@code long}.
+   */
+  static long getLongLE(final byte[] bbuf, final int i) {
+    return bbuf[i] & 0xffL | (bbuf[i + 1] & 0xffL) << 8 | (bbuf[i + 2] & 0xffL) << 16 | (bbuf[i + 3] & 0xffL) << 24 | (bbuf[i + 4] & 0xffL) << 32 | (bbuf[i + 5] & 0xffL) << 40 | (bbuf[i + 6] & 0xffL) << 48 | (bbuf[i + 7] & 0xffL) << 56;
+  }
+
+  /**
+   * Returns the 8 bytes of the specified {@link ByteBuffer} starting at the
+   * provided absolute index as a little-endian {@code long}, such that the
+   * byte at {@code i} is in the least significant position.
+   *
+   * @param buf The {@link ByteBuffer}.
+   * @param i The index of the first byte.
+   * @param bigEndian Whether the byte order of {@code buf} is
+   *          {@link ByteOrder#BIG_ENDIAN}.
+   * @return The 8 bytes starting at {@code i} as a little-endian {@code long}.
+   */
+  static long getLongLE(final ByteBuffer buf, final int i, final boolean bigEndian) {
+    final long chunk = buf.getLong(i);
+    return bigEndian ? Long.reverseBytes(chunk) : chunk;
+  }
+
+  /**
+   * Returns whether each of the 8 little-endian bytes in the specified
+   * {@code long} is an ASCII digit.
+   *
+   * @param chunk The 8 bytes as a little-endian {@code long}.
+   * @return Whether each of the 8 bytes in {@code chunk} is an ASCII digit.
+   */
+  static boolean isEightDigits(final long chunk) {
+    return ((chunk & 0xf0f0f0f0f0f0f0f0L) | (((chunk + 0x0606060606060606L) & 0xf0f0f0f0f0f0f0f0L) >>> 4)) == 0x3333333333333333L;
+  }
+
+  /**
+   * Returns the value of the 8 ASCII digits in the specified little-endian
+   * {@code long}, computed with three multiplications instead of eight.
+   *
+   * @param chunk The 8 ASCII digits as a little-endian {@code long}, as
+   *          validated by {@link #isEightDigits(long)}.
+   * @return The value of the 8 ASCII digits in {@code chunk}.
+   */
+  static int parseEightDigits(long chunk) {
+    final long mask = 0x000000ff000000ffL;
+    chunk -= 0x3030303030303030L;
+    chunk = chunk * 10 + (chunk >>> 8); // Adjacent digits as 2-digit values in each 16-bit lane
+    return (int)(((chunk & mask) * 0x000f424000000064L + ((chunk >>> 16) & mask) * 0x0000271000000001L) >>> 32); // 100 + (1000000 << 32) and 1 + (10000 << 32)
+  }
+
+  /**
+   * The value of each ASCII character as a digit in radix
+   * {@link Character#MAX_RADIX}, or {@link Byte#MAX_VALUE} if the character is
+   * not a digit in any radix.
+   */
+  private static final byte[] DIGITS = new byte[128];
+
+  static {
+    Arrays.fill(DIGITS, Byte.MAX_VALUE);
+    for (int i = 0; i < 10; ++i)
+      DIGITS['0' + i] = (byte)i;
+
+    for (int i = 0; i < 26; ++i)
+      DIGITS['a' + i] = DIGITS['A' + i] = (byte)(10 + i);
+  }
+
+  /**
+   * Returns the numeric value of the specified character in the provided
+   * radix as per {@link Character#digit(char,int)}, but resolves ASCII
+   * characters with a single table lookup, and only consults the Unicode
+   * character properties for non-ASCII characters.
+   *
+   * @param ch The character to be converted.
+   * @param radix The radix, which must be between
+   *          {@link Character#MIN_RADIX} and {@link Character#MAX_RADIX}.
+   * @return The numeric value of the specified character in the provided
+   *         radix, or {@code -1} if the character is not a digit in the radix.
+   */
+  static int toDigit(final char ch, final int radix) {
+    if (ch < 128) {
+      final int digit = DIGITS[ch];
+      return digit < radix ? digit : -1;
+    }
+
+    return Character.digit(ch, radix);
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as per the specification of
+   * {@link Short#parseShort(String)}, but returns {@code null} if the sequence
+   * does not contain a parsable {@code short}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Short} representation
+   *          to be parsed.
+   * @return The integer value represented by the argument, or {@code null} if
+   *         the sequence does not contain a parsable {@code short}.
+   * @see Short#parseShort(String)
+   */
+  public static Short parseShort(final CharSequence s) {
+    return s == null ? null : parseShort0(s, 0, s.length(), 10);
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as per the specification of
+   * {@link Short#parseShort(String)}, but returns {@code null} if the sequence
+   * does not contain a parsable {@code short}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Short} representation
+   *          to be parsed.
+   * @param fromIndex The index in {@code s} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end parsing (exclusive).
+   * @return The integer value represented by the argument, or {@code null} if
+   *         the sequence does not contain a parsable {@code short}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Short#parseShort(String)
+   */
+  public static Short parseShort(final CharSequence s, final int fromIndex, final int toIndex) {
+    if (s == null)
+      return null;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    return parseShort0(s, fromIndex, toIndex, 10);
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as per the specification of
+   * {@link Short#parseShort(String)}, but returns {@code defaultValue} if the
+   * sequence does not contain a parsable {@code short}.
+   *
+   * @param s A {@link CharSequence} containing the {@code short} representation
+   *          to be parsed.
+   * @param defaultValue The {@code short} value to be returned if the sequence
+   *          does not contain a parsable {@code short}.
+   * @return The {@code short} value represented by the argument, or
+   *         {@code defaultValue} if the sequence does not contain a parsable
+   *         {@code short}.
+   * @see Short#parseShort(String)
+   */
   public static short parseShort(final CharSequence s, final short defaultValue) {
     return s == null ? defaultValue : parseShort0(s, 0, s.length(), 10, defaultValue);
   }
@@ -1116,7 +2038,7 @@ public final class Numbers {
     int result = 0;
     while (i < toIndex) {
       // Accumulating negatively avoids surprises near MAX_VALUE
-      final int digit = Character.digit(s.charAt(i++), radix);
+      final int digit = toDigit(s.charAt(i++), radix);
       if (digit < 0 || result < multmin)
         return defaultValue;
 
@@ -1214,7 +2136,7 @@ public final class Numbers {
     int result = 0;
     while (i < toIndex) {
       // Accumulating negatively avoids surprises near MAX_VALUE
-      final int digit = Character.digit(cbuf[i++], radix);
+      final int digit = toDigit(cbuf[i++], radix);
       if (digit < 0 || result < multmin)
         return defaultValue;
 
@@ -1228,6 +2150,220 @@ public final class Numbers {
     return negative ? result : -result;
   }
 
+  /**
+   * Parses the ASCII {@code byte[]} argument as per the specification of
+   * {@link Integer#parseInt(String)}, but returns {@code defaultValue} if the
+   * byte array does not contain a parsable {@code int}.
+   *
+   * @param bbuf A {@code byte} array containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param defaultValue The {@code int} value to be returned if the byte array
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code int}.
+   * @see Integer#parseInt(String)
+   */
+  public static int parseInt(final byte[] bbuf, final int defaultValue) {
+    return bbuf == null ? defaultValue : parseInt0(bbuf, 0, bbuf.length, defaultValue);
+  }
+
+  /**
+   * Parses the ASCII {@code byte[]} argument as per the specification of
+   * {@link Integer#parseInt(String)}, but returns {@code defaultValue} if the
+   * byte array does not contain a parsable {@code int}.
+   *
+   * @param bbuf A {@code byte} array containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code bbuf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code bbuf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code int} value to be returned if the byte array
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code int}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Integer#parseInt(String)
+   */
+  public static int parseInt(final byte[] bbuf, final int fromIndex, final int toIndex, final int defaultValue) {
+    if (bbuf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "bbuf.length", bbuf.length);
+    return parseInt0(bbuf, fromIndex, toIndex, defaultValue);
+  }
+
+  /**
+   * Parses the ASCII bytes between the position and the limit of the provided
+   * {@link ByteBuffer} as per the specification of
+   * {@link Integer#parseInt(String)}, but returns {@code defaultValue} if the
+   * buffer does not contain a parsable {@code int}. The position of the
+   * buffer is not changed.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param defaultValue The {@code int} value to be returned if the buffer
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code int}.
+   * @see Integer#parseInt(String)
+   */
+  public static int parseInt(final ByteBuffer buf, final int defaultValue) {
+    return buf == null ? defaultValue : parseInt0(buf, buf.position(), buf.limit(), defaultValue);
+  }
+
+  /**
+   * Parses the ASCII bytes between the specified absolute indices of the
+   * provided {@link ByteBuffer} as per the specification of
+   * {@link Integer#parseInt(String)}, but returns {@code defaultValue} if the
+   * buffer does not contain a parsable {@code int}. The position of the
+   * buffer is not changed.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code int}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code int} value to be returned if the buffer
+   *          does not contain a parsable {@code int}.
+   * @return The {@code int} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code int}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Integer#parseInt(String)
+   */
+  public static int parseInt(final ByteBuffer buf, final int fromIndex, final int toIndex, final int defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    return parseInt0(buf, fromIndex, toIndex, defaultValue);
+  }
+
+  private static int parseInt0(final byte[] bbuf, final int fromIndex, final int toIndex, final int defaultValue) {
+    final int len = toIndex - fromIndex;
+    if (len == 0)
+      return defaultValue;
+
+    boolean negative = false;
+    int i = fromIndex;
+    int limit = -Integer.MAX_VALUE;
+
+    final byte firstByte = bbuf[i];
+    if (firstByte < '0') { // Possible leading "+" or "-"
+      if (firstByte == '-') {
+        negative = true;
+        limit = Integer.MIN_VALUE;
+      }
+      else if (firstByte != '+') {
+        return defaultValue;
+      }
+
+      if (len == 1) { // Cannot have lone "+" or "-"
+        return defaultValue;
+      }
+
+      ++i;
+    }
+
+    int result = 0;
+    final int multmin8 = limit / 100000000;
+    for (long chunk; toIndex - i >= 8 && isEightDigits(chunk = getLongLE(bbuf, i)); i += 8) {
+      // Accumulating negatively avoids surprises near MAX_VALUE
+      final int digits = parseEightDigits(chunk);
+      if (result < multmin8)
+        return defaultValue;
+
+      result *= 100000000;
+      if (result < limit + digits)
+        return defaultValue;
+
+      result -= digits;
+    }
+
+    final int multmin = limit / 10;
+    while (i < toIndex) {
+      final int digit = bbuf[i++] - '0';
+      if (digit < 0 || digit > 9 || result < multmin)
+        return defaultValue;
+
+      result *= 10;
+      if (result < limit + digit)
+        return defaultValue;
+
+      result -= digit;
+    }
+
+    return negative ? result : -result;
+  }
+
+  private static int parseInt0(final ByteBuffer buf, final int fromIndex, final int toIndex, final int defaultValue) {
+    if (buf.hasArray())
+      return parseInt0(buf.array(), buf.arrayOffset() + fromIndex, buf.arrayOffset() + toIndex, defaultValue);
+
+    final int len = toIndex - fromIndex;
+    if (len == 0)
+      return defaultValue;
+
+    boolean negative = false;
+    int i = fromIndex;
+    int limit = -Integer.MAX_VALUE;
+
+    final byte firstByte = buf.get(i);
+    if (firstByte < '0') { // Possible leading "+" or "-"
+      if (firstByte == '-') {
+        negative = true;
+        limit = Integer.MIN_VALUE;
+      }
+      else if (firstByte != '+') {
+        return defaultValue;
+      }
+
+      if (len == 1) { // Cannot have lone "+" or "-"
+        return defaultValue;
+      }
+
+      ++i;
+    }
+
+    final boolean bigEndian = buf.order() == ByteOrder.BIG_ENDIAN;
+    int result = 0;
+    final int multmin8 = limit / 100000000;
+    for (long chunk; toIndex - i >= 8 && isEightDigits(chunk = getLongLE(buf, i, bigEndian)); i += 8) {
+      // Accumulating negatively avoids surprises near MAX_VALUE
+      final int digits = parseEightDigits(chunk);
+      if (result < multmin8)
+        return defaultValue;
+
+      result *= 100000000;
+      if (result < limit + digits)
+        return defaultValue;
+
+      result -= digits;
+    }
+
+    final int multmin = limit / 10;
+    while (i < toIndex) {
+      final int digit = buf.get(i++) - '0';
+      if (digit < 0 || digit > 9 || result < multmin)
+        return defaultValue;
+
+      result *= 10;
+      if (result < limit + digit)
+        return defaultValue;
+
+      result -= digit;
+    }
+
+    return negative ? result : -result;
+  }
+
   /**
    * Parses the {@link CharSequence} argument as per the specification of
    * {@link Integer#parseInt(String,int)}, but returns {@code null} if the
@@ -1302,7 +2438,7 @@ public final class Numbers {
     int result = 0;
     while (i < toIndex) {
       // Accumulating negatively avoids surprises near MAX_VALUE
-      final int digit = Character.digit(s.charAt(i++), radix);
+      final int digit = toDigit(s.charAt(i++), radix);
       if (digit < 0 || result < multmin)
         return null;
 
@@ -1394,7 +2530,7 @@ public final class Numbers {
     int result = 0;
     while (i < toIndex) {
       // Accumulating negatively avoids surprises near MAX_VALUE
-      final int digit = Character.digit(cbuf[i++], radix);
+      final int digit = toDigit(cbuf[i++], radix);
       if (digit < 0 || result < multmin)
         return null;
 
@@ -1542,8 +2678,222 @@ public final class Numbers {
   }
 
   /**
-   * Parses the {@link CharSequence} argument as per the specification of
-   * {@link Long#parseLong(String,int)}, but returns {@code null} if the
+   * Parses the ASCII {@code byte[]} argument as per the specification of
+   * {@link Long#parseLong(String)}, but returns {@code defaultValue} if the
+   * byte array does not contain a parsable {@code long}.
+   *
+   * @param bbuf A {@code byte} array containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param defaultValue The {@code long} value to be returned if the byte array
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code long}.
+   * @see Long#parseLong(String)
+   */
+  public static long parseLong(final byte[] bbuf, final long defaultValue) {
+    return bbuf == null ? defaultValue : parseLong0(bbuf, 0, bbuf.length, defaultValue);
+  }
+
+  /**
+   * Parses the ASCII {@code byte[]} argument as per the specification of
+   * {@link Long#parseLong(String)}, but returns {@code defaultValue} if the
+   * byte array does not contain a parsable {@code long}.
+   *
+   * @param bbuf A {@code byte} array containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code bbuf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code bbuf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code long} value to be returned if the byte array
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code long}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Long#parseLong(String)
+   */
+  public static long parseLong(final byte[] bbuf, final int fromIndex, final int toIndex, final long defaultValue) {
+    if (bbuf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "bbuf.length", bbuf.length);
+    return parseLong0(bbuf, fromIndex, toIndex, defaultValue);
+  }
+
+  /**
+   * Parses the ASCII bytes between the position and the limit of the provided
+   * {@link ByteBuffer} as per the specification of
+   * {@link Long#parseLong(String)}, but returns {@code defaultValue} if the
+   * buffer does not contain a parsable {@code long}. The position of the
+   * buffer is not changed.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param defaultValue The {@code long} value to be returned if the buffer
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code long}.
+   * @see Long#parseLong(String)
+   */
+  public static long parseLong(final ByteBuffer buf, final long defaultValue) {
+    return buf == null ? defaultValue : parseLong0(buf, buf.position(), buf.limit(), defaultValue);
+  }
+
+  /**
+   * Parses the ASCII bytes between the specified absolute indices of the
+   * provided {@link ByteBuffer} as per the specification of
+   * {@link Long#parseLong(String)}, but returns {@code defaultValue} if the
+   * buffer does not contain a parsable {@code long}. The position of the
+   * buffer is not changed.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code long}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code long} value to be returned if the buffer
+   *          does not contain a parsable {@code long}.
+   * @return The {@code long} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code long}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Long#parseLong(String)
+   */
+  public static long parseLong(final ByteBuffer buf, final int fromIndex, final int toIndex, final long defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    return parseLong0(buf, fromIndex, toIndex, defaultValue);
+  }
+
+  private static long parseLong0(final byte[] bbuf, final int fromIndex, final int toIndex, final long defaultValue) {
+    final int len = toIndex - fromIndex;
+    if (len == 0)
+      return defaultValue;
+
+    boolean negative = false;
+    int i = fromIndex;
+    long limit = -Long.MAX_VALUE;
+
+    final byte firstByte = bbuf[i];
+    if (firstByte < '0') { // Possible leading "+" or "-"
+      if (firstByte == '-') {
+        negative = true;
+        limit = Long.MIN_VALUE;
+      }
+      else if (firstByte != '+') {
+        return defaultValue;
+      }
+
+      if (len == 1) { // Cannot have lone "+" or "-"
+        return defaultValue;
+      }
+
+      ++i;
+    }
+
+    long result = 0;
+    final long multmin8 = limit / 100000000L;
+    for (long chunk; toIndex - i >= 8 && isEightDigits(chunk = getLongLE(bbuf, i)); i += 8) {
+      // Accumulating negatively avoids surprises near MAX_VALUE
+      final int digits = parseEightDigits(chunk);
+      if (result < multmin8)
+        return defaultValue;
+
+      result *= 100000000L;
+      if (result < limit + digits)
+        return defaultValue;
+
+      result -= digits;
+    }
+
+    final long multmin = limit / 10;
+    while (i < toIndex) {
+      final int digit = bbuf[i++] - '0';
+      if (digit < 0 || digit > 9 || result < multmin)
+        return defaultValue;
+
+      result *= 10;
+      if (result < limit + digit)
+        return defaultValue;
+
+      result -= digit;
+    }
+
+    return negative ? result : -result;
+  }
+
+  private static long parseLong0(final ByteBuffer buf, final int fromIndex, final int toIndex, final long defaultValue) {
+    if (buf.hasArray())
+      return parseLong0(buf.array(), buf.arrayOffset() + fromIndex, buf.arrayOffset() + toIndex, defaultValue);
+
+    final int len = toIndex - fromIndex;
+    if (len == 0)
+      return defaultValue;
+
+    boolean negative = false;
+    int i = fromIndex;
+    long limit = -Long.MAX_VALUE;
+
+    final byte firstByte = buf.get(i);
+    if (firstByte < '0') { // Possible leading "+" or "-"
+      if (firstByte == '-') {
+        negative = true;
+        limit = Long.MIN_VALUE;
+      }
+      else if (firstByte != '+') {
+        return defaultValue;
+      }
+
+      if (len == 1) { // Cannot have lone "+" or "-"
+        return defaultValue;
+      }
+
+      ++i;
+    }
+
+    final boolean bigEndian = buf.order() == ByteOrder.BIG_ENDIAN;
+    long result = 0;
+    final long multmin8 = limit / 100000000L;
+    for (long chunk; toIndex - i >= 8 && isEightDigits(chunk = getLongLE(buf, i, bigEndian)); i += 8) {
+      // Accumulating negatively avoids surprises near MAX_VALUE
+      final int digits = parseEightDigits(chunk);
+      if (result < multmin8)
+        return defaultValue;
+
+      result *= 100000000L;
+      if (result < limit + digits)
+        return defaultValue;
+
+      result -= digits;
+    }
+
+    final long multmin = limit / 10;
+    while (i < toIndex) {
+      final int digit = buf.get(i++) - '0';
+      if (digit < 0 || digit > 9 || result < multmin)
+        return defaultValue;
+
+      result *= 10;
+      if (result < limit + digit)
+        return defaultValue;
+
+      result -= digit;
+    }
+
+    return negative ? result : -result;
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as per the specification of
+   * {@link Long#parseLong(String,int)}, but returns {@code null} if the
    * sequence does not contain a parsable {@code long}.
    *
    * @param s A {@link CharSequence} containing the {@link Long} representation
@@ -1615,7 +2965,7 @@ public final class Numbers {
     long result = 0;
     while (i < toIndex) {
       // Accumulating negatively avoids surprises near MAX_VALUE
-      final int digit = Character.digit(s.charAt(i++), radix);
+      final int digit = toDigit(s.charAt(i++), radix);
       if (digit < 0 || result < multmin)
         return null;
 
@@ -1704,7 +3054,7 @@ public final class Numbers {
     long result = 0;
     while (i < toIndex) {
       // Accumulating negatively avoids surprises near MAX_VALUE
-      final int digit = Character.digit(cbuf[i++], radix);
+      final int digit = toDigit(cbuf[i++], radix);
       if (digit < 0 || result < multmin)
         return null;
 
@@ -1798,7 +3148,7 @@ public final class Numbers {
     long result = 0;
     while (i < toIndex) {
       // Accumulating negatively avoids surprises near MAX_VALUE
-      final int digit = Character.digit(s.charAt(i++), radix);
+      final int digit = toDigit(s.charAt(i++), radix);
       if (digit < 0 || result < multmin)
         return defaultValue;
 
@@ -1893,7 +3243,7 @@ public final class Numbers {
     long result = 0;
     while (i < toIndex) {
       // Accumulating negatively avoids surprises near MAX_VALUE
-      final int digit = Character.digit(cbuf[i++], radix);
+      final int digit = toDigit(cbuf[i++], radix);
       if (digit < 0 || result < multmin)
         return defaultValue;
 
@@ -1912,22 +3262,35 @@ public final class Numbers {
    * {@link Float#parseFloat(String)}, but returns {@code null} if the string
    * does not contain a parsable {@code float}.
    *
-   * @param s A {@link String} containing the {@link Float} representation to be
-   *          parsed.
+   * @param s A {@link String} containing the {@link Float} representation to
+   *          be parsed.
    * @return The {@code float} value represented by the argument, or
    *         {@code null} if the string does not contain a parsable
    *         {@code float}.
    * @see Float#parseFloat(String)
    */
   public static Float parseFloat(final String s) {
-    // FIXME: Can a NumberFormatException be avoided altogether? Yes, if
-    // FIXME: the implementation is copied.
-    try {
-      return s == null ? null : Float.parseFloat(s);
-    }
-    catch (final NumberFormatException e) {
+    return parseFloat((CharSequence)s);
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code null} if the sequence
+   * does not contain a parsable {@code float}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Float}
+   *          representation to be parsed.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code null} if the sequence does not contain a parsable
+   *         {@code float}.
+   * @see Float#parseFloat(String)
+   */
+  public static Float parseFloat(final CharSequence s) {
+    if (s == null)
       return null;
-    }
+
+    final long bits = DoubleParser.parse(s, 0, s.length(), true);
+    return bits == DoubleParser.INVALID ? null : Float.intBitsToFloat((int)bits);
   }
 
   /**
@@ -1935,8 +3298,8 @@ public final class Numbers {
    * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the
    * string does not contain a parsable {@code float}.
    *
-   * @param s A {@link String} containing the {@link Float} representation to be
-   *          parsed.
+   * @param s A {@link String} containing the {@code float} representation to
+   *          be parsed.
    * @param defaultValue The {@code float} value to be returned if the string
    *          does not contain a parsable {@code float}.
    * @return The {@code float} value represented by the argument, or
@@ -1945,14 +3308,108 @@ public final class Numbers {
    * @see Float#parseFloat(String)
    */
   public static float parseFloat(final String s, final float defaultValue) {
-    // FIXME: Can a NumberFormatException be avoided altogether? Yes, if
-    // FIXME: the implementation is copied.
-    try {
-      return s == null ? defaultValue : Float.parseFloat(s);
-    }
-    catch (final NumberFormatException e) {
+    return parseFloat((CharSequence)s, defaultValue);
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the
+   * sequence does not contain a parsable {@code float}.
+   *
+   * @param s A {@link CharSequence} containing the {@code float}
+   *          representation to be parsed.
+   * @param defaultValue The {@code float} value to be returned if the sequence
+   *          does not contain a parsable {@code float}.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code defaultValue} if the sequence does not contain a parsable
+   *         {@code float}.
+   * @see Float#parseFloat(String)
+   */
+  public static float parseFloat(final CharSequence s, final float defaultValue) {
+    if (s == null)
       return defaultValue;
-    }
+
+    final long bits = DoubleParser.parse(s, 0, s.length(), true);
+    return bits == DoubleParser.INVALID ? defaultValue : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the
+   * sequence does not contain a parsable {@code float}.
+   *
+   * @param s A {@link CharSequence} containing the {@code float}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code s} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end parsing (exclusive).
+   * @param defaultValue The {@code float} value to be returned if the sequence
+   *          does not contain a parsable {@code float}.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code defaultValue} if the sequence does not contain a parsable
+   *         {@code float}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Float#parseFloat(String)
+   */
+  public static float parseFloat(final CharSequence s, final int fromIndex, final int toIndex, final float defaultValue) {
+    if (s == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    final long bits = DoubleParser.parse(s, fromIndex, toIndex, true);
+    return bits == DoubleParser.INVALID ? defaultValue : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the {@code char[]} argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the
+   * char array does not contain a parsable {@code float}.
+   *
+   * @param cbuf A {@code char} array containing the {@code float}
+   *          representation to be parsed.
+   * @param defaultValue The {@code float} value to be returned if the char
+   *          array does not contain a parsable {@code float}.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code defaultValue} if the char array does not contain a parsable
+   *         {@code float}.
+   * @see Float#parseFloat(String)
+   */
+  public static float parseFloat(final char[] cbuf, final float defaultValue) {
+    if (cbuf == null)
+      return defaultValue;
+
+    final long bits = DoubleParser.parse(cbuf, 0, cbuf.length, true);
+    return bits == DoubleParser.INVALID ? defaultValue : Float.intBitsToFloat((int)bits);
+  }
+
+  /**
+   * Parses the {@code char[]} argument as per the specification of
+   * {@link Float#parseFloat(String)}, but returns {@code defaultValue} if the
+   * char array does not contain a parsable {@code float}.
+   *
+   * @param cbuf A {@code char} array containing the {@code float}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code cbuf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code cbuf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code float} value to be returned if the char
+   *          array does not contain a parsable {@code float}.
+   * @return The {@code float} value represented by the argument, or
+   *         {@code defaultValue} if the char array does not contain a parsable
+   *         {@code float}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Float#parseFloat(String)
+   */
+  public static float parseFloat(final char[] cbuf, final int fromIndex, final int toIndex, final float defaultValue) {
+    if (cbuf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "cbuf.length", cbuf.length);
+    final long bits = DoubleParser.parse(cbuf, fromIndex, toIndex, true);
+    return bits == DoubleParser.INVALID ? defaultValue : Float.intBitsToFloat((int)bits);
   }
 
   /**
@@ -1968,14 +3425,27 @@ public final class Numbers {
    * @see Double#parseDouble(String)
    */
   public static Double parseDouble(final String s) {
-    // FIXME: Can a NumberFormatException be avoided altogether? Yes, if
-    // FIXME: the implementation is copied.
-    try {
-      return s == null ? null : Double.parseDouble(s);
-    }
-    catch (final NumberFormatException e) {
+    return parseDouble((CharSequence)s);
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code null} if the
+   * sequence does not contain a parsable {@code double}.
+   *
+   * @param s A {@link CharSequence} containing the {@link Double}
+   *          representation to be parsed.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code null} if the sequence does not contain a parsable
+   *         {@code double}.
+   * @see Double#parseDouble(String)
+   */
+  public static Double parseDouble(final CharSequence s) {
+    if (s == null)
       return null;
-    }
+
+    final long bits = DoubleParser.parse(s, 0, s.length(), false);
+    return bits == DoubleParser.INVALID ? null : Double.longBitsToDouble(bits);
   }
 
   /**
@@ -1983,7 +3453,7 @@ public final class Numbers {
    * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the
    * string does not contain a parsable {@code double}.
    *
-   * @param s A {@link String} containing the {@link Double} representation to
+   * @param s A {@link String} containing the {@code double} representation to
    *          be parsed.
    * @param defaultValue The {@code double} value to be returned if the string
    *          does not contain a parsable {@code double}.
@@ -1993,14 +3463,214 @@ public final class Numbers {
    * @see Double#parseDouble(String)
    */
   public static double parseDouble(final String s, final double defaultValue) {
-    // FIXME: Can a NumberFormatException be avoided altogether? Yes, if
-    // FIXME: the implementation is copied.
-    try {
-      return s == null ? defaultValue : Double.parseDouble(s);
-    }
-    catch (final NumberFormatException e) {
+    return parseDouble((CharSequence)s, defaultValue);
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the
+   * sequence does not contain a parsable {@code double}.
+   *
+   * @param s A {@link CharSequence} containing the {@code double}
+   *          representation to be parsed.
+   * @param defaultValue The {@code double} value to be returned if the
+   *          sequence does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the sequence does not contain a parsable
+   *         {@code double}.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final CharSequence s, final double defaultValue) {
+    if (s == null)
       return defaultValue;
-    }
+
+    final long bits = DoubleParser.parse(s, 0, s.length(), false);
+    return bits == DoubleParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the {@link CharSequence} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the
+   * sequence does not contain a parsable {@code double}.
+   *
+   * @param s A {@link CharSequence} containing the {@code double}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code s} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end parsing (exclusive).
+   * @param defaultValue The {@code double} value to be returned if the
+   *          sequence does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the sequence does not contain a parsable
+   *         {@code double}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final CharSequence s, final int fromIndex, final int toIndex, final double defaultValue) {
+    if (s == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    final long bits = DoubleParser.parse(s, fromIndex, toIndex, false);
+    return bits == DoubleParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the {@code char[]} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the
+   * char array does not contain a parsable {@code double}.
+   *
+   * @param cbuf A {@code char} array containing the {@code double}
+   *          representation to be parsed.
+   * @param defaultValue The {@code double} value to be returned if the char
+   *          array does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the char array does not contain a parsable
+   *         {@code double}.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final char[] cbuf, final double defaultValue) {
+    if (cbuf == null)
+      return defaultValue;
+
+    final long bits = DoubleParser.parse(cbuf, 0, cbuf.length, false);
+    return bits == DoubleParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the {@code char[]} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the
+   * char array does not contain a parsable {@code double}.
+   *
+   * @param cbuf A {@code char} array containing the {@code double}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code cbuf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code cbuf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code double} value to be returned if the char
+   *          array does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the char array does not contain a parsable
+   *         {@code double}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final char[] cbuf, final int fromIndex, final int toIndex, final double defaultValue) {
+    if (cbuf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "cbuf.length", cbuf.length);
+    final long bits = DoubleParser.parse(cbuf, fromIndex, toIndex, false);
+    return bits == DoubleParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the ASCII {@code byte[]} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the
+   * byte array does not contain a parsable {@code double}.
+   *
+   * @param bbuf A {@code byte} array containing the ASCII {@code double}
+   *          representation to be parsed.
+   * @param defaultValue The {@code double} value to be returned if the byte
+   *          array does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code double}.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final byte[] bbuf, final double defaultValue) {
+    if (bbuf == null)
+      return defaultValue;
+
+    final long bits = DoubleParser.parse(bbuf, 0, bbuf.length, false);
+    return bits == DoubleParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the ASCII {@code byte[]} argument as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the
+   * byte array does not contain a parsable {@code double}.
+   *
+   * @param bbuf A {@code byte} array containing the ASCII {@code double}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code bbuf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code bbuf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code double} value to be returned if the byte
+   *          array does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the byte array does not contain a parsable
+   *         {@code double}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final byte[] bbuf, final int fromIndex, final int toIndex, final double defaultValue) {
+    if (bbuf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "bbuf.length", bbuf.length);
+    final long bits = DoubleParser.parse(bbuf, fromIndex, toIndex, false);
+    return bits == DoubleParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the ASCII bytes between the position and the limit of the provided
+   * {@link ByteBuffer} as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the
+   * buffer does not contain a parsable {@code double}. The position of the
+   * buffer is not changed.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code double}
+   *          representation to be parsed.
+   * @param defaultValue The {@code double} value to be returned if the buffer
+   *          does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code double}.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final ByteBuffer buf, final double defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    final long bits = DoubleParser.parse(buf, buf.position(), buf.limit(), false);
+    return bits == DoubleParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
+  }
+
+  /**
+   * Parses the ASCII bytes between the specified absolute indices of the
+   * provided {@link ByteBuffer} as per the specification of
+   * {@link Double#parseDouble(String)}, but returns {@code defaultValue} if the
+   * buffer does not contain a parsable {@code double}. The position of the
+   * buffer is not changed.
+   *
+   * @param buf A {@link ByteBuffer} containing the ASCII {@code double}
+   *          representation to be parsed.
+   * @param fromIndex The index in {@code buf} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code buf} at which to end parsing
+   *          (exclusive).
+   * @param defaultValue The {@code double} value to be returned if the buffer
+   *          does not contain a parsable {@code double}.
+   * @return The {@code double} value represented by the argument, or
+   *         {@code defaultValue} if the buffer does not contain a parsable
+   *         {@code double}.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   * @see Double#parseDouble(String)
+   */
+  public static double parseDouble(final ByteBuffer buf, final int fromIndex, final int toIndex, final double defaultValue) {
+    if (buf == null)
+      return defaultValue;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "buf.limit()", buf.limit());
+    final long bits = DoubleParser.parse(buf, fromIndex, toIndex, false);
+    return bits == DoubleParser.INVALID ? defaultValue : Double.longBitsToDouble(bits);
   }
 
   /**
@@ -2061,59 +3731,304 @@ public final class Numbers {
    *           {@code float}, {@link Float},<br>
    *           {@code short}, {@link Short},<br>
    *           {@link BigInteger}, {@link BigDecimal}</blockquote>
+   * @see #parser(Class)
    */
-  @SuppressWarnings("unchecked")
   public static <T extends Number>T parseNumber(final String s, final Class<T> as) {
+    return parser(as).parse(s);
+  }
+
+  private static final NumberParser<Float> FLOAT_PARSER = Float::valueOf;
+  private static final NumberParser<Double> DOUBLE_PARSER = Double::valueOf;
+  private static final NumberParser<Byte> BYTE_PARSER = Byte::valueOf;
+  private static final NumberParser<Short> SHORT_PARSER = Short::valueOf;
+  private static final NumberParser<Integer> INTEGER_PARSER = Integer::valueOf;
+  private static final NumberParser<Long> LONG_PARSER = Long::valueOf;
+  private static final NumberParser<BigInteger> BIG_INTEGER_PARSER = BigInteger::new;
+  private static final NumberParser<BigDecimal> BIG_DECIMAL_PARSER = BigDecimal::new;
+
+  /**
+   * Returns a {@link NumberParser} that parses strings to a {@link Number} of
+   * the provided {@link Class} as per {@link #parseNumber(String,Class)}. The
+   * type is resolved once by this method, so the returned parser is suited to
+   * be reused for many strings of the same type.
+   *
+   * @param <T> The type of {@link Number} to be returned by the parser.
+   * @param as The class representing the type of {@link Number} to be returned
+   *          by the parser.
+   * @return A {@link NumberParser} that parses strings to a {@link Number} of
+   *         the provided {@link Class}.
+   * @throws NullPointerException If {@code as} is null.
+   * @throws UnsupportedOperationException If the specified {@link Class}
+   *           represents a type that is not one of: <br>
+   *           <blockquote>{@code byte}, {@link Byte},<br>
+   *           {@code short}, {@link Short},<br>
+   *           {@code int}, {@link Integer},<br>
+   *           {@code long}, {@link Long},<br>
+   *           {@code double}, {@link Double},<br>
+   *           {@code float}, {@link Float},<br>
+   *           {@link BigInteger}, {@link BigDecimal}</blockquote>
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Number>NumberParser<T> parser(final Class<T> as) {
     if (float.class == as || Float.class == as)
-      return (T)Float.valueOf(s);
+      return (NumberParser<T>)FLOAT_PARSER;
 
     if (double.class == as || Double.class == as)
-      return (T)Double.valueOf(s);
+      return (NumberParser<T>)DOUBLE_PARSER;
 
     if (byte.class == as || Byte.class == as)
-      return (T)Byte.valueOf(s);
+      return (NumberParser<T>)BYTE_PARSER;
 
     if (short.class == as || Short.class == as)
-      return (T)Short.valueOf(s);
+      return (NumberParser<T>)SHORT_PARSER;
 
     if (int.class == as || Integer.class == as)
-      return (T)Integer.valueOf(s);
+      return (NumberParser<T>)INTEGER_PARSER;
 
     if (long.class == as || Long.class == as)
-      return (T)Long.valueOf(s);
+      return (NumberParser<T>)LONG_PARSER;
 
     if (BigInteger.class.isAssignableFrom(as))
-      return (T)new BigInteger(s);
+      return (NumberParser<T>)BIG_INTEGER_PARSER;
 
     if (BigDecimal.class.isAssignableFrom(as))
-      return (T)new BigDecimal(s);
+      return (NumberParser<T>)BIG_DECIMAL_PARSER;
 
     throw new UnsupportedOperationException("Unsupported Number type: " + as.getName());
   }
 
-  public static double parseNumber(String s) {
-    if (s == null || (s = s.trim()).length() == 0 || !isNumber(s))
+  /**
+   * Returns the {@code double} value of the number, or the number with a
+   * fraction of two numbers (i.e. {@code 23 3/4}), represented by the
+   * specified string, or {@link Double#NaN} if the string does not represent a
+   * number as per {@link #isNumber(String)}.
+   *
+   * @param s The string to parse.
+   * @return The {@code double} value of the number represented by the
+   *         specified string, or {@link Double#NaN} if the string does not
+   *         represent a number.
+   */
+  public static double parseNumber(final String s) {
+    return parseNumber((CharSequence)s);
+  }
+
+  /**
+   * Returns the {@code double} value of the number, or the number with a
+   * fraction of two numbers (i.e. {@code 23 3/4}), represented by the
+   * specified {@link CharSequence}, or {@link Double#NaN} if the sequence does
+   * not represent a number as per {@link #isNumber(CharSequence)}.
+   * <p>
+   * The value of a number with a fraction is the sum of the whole number and
+   * the fraction.
+   *
+   * @param s The {@link CharSequence} to parse.
+   * @return The {@code double} value of the number represented by the
+   *         specified {@link CharSequence}, or {@link Double#NaN} if the
+   *         sequence does not represent a number.
+   */
+  public static double parseNumber(final CharSequence s) {
+    return s == null ? Double.NaN : parseNumber0(s, 0, s.length(), true);
+  }
+
+  /**
+   * Returns the {@code double} value of the number, or the number with a
+   * fraction of two numbers (i.e. {@code 23 3/4}), represented by the
+   * specified range of the {@link CharSequence}, or {@link Double#NaN} if the
+   * range does not represent a number as per
+   * {@link #isNumber(CharSequence,int,int)}.
+   * <p>
+   * The value of a number with a fraction is the sum of the whole number and
+   * the fraction.
+   *
+   * @param s The {@link CharSequence} to parse.
+   * @param fromIndex The index in {@code s} from which to start parsing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end parsing (exclusive).
+   * @return The {@code double} value of the number represented by the
+   *         specified range of the {@link CharSequence}, or {@link Double#NaN}
+   *         if the range does not represent a number.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static double parseNumber(final CharSequence s, final int fromIndex, final int toIndex) {
+    if (s == null)
+      return Double.NaN;
+
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    return parseNumber0(s, fromIndex, toIndex, true);
+  }
+
+  /**
+   * Validates, and if {@code evaluate} is {@code true} evaluates, the number
+   * in the specified range in a single scan of its characters.
+   *
+   * @return {@link Double#NaN} if the range does not represent a number;
+   *         otherwise the value of the number if {@code evaluate} is
+   *         {@code true}, or {@code 0} if {@code evaluate} is {@code false}.
+   */
+  private static double parseNumber0(final CharSequence s, int fromIndex, int toIndex, final boolean evaluate) {
+    while (fromIndex < toIndex && s.charAt(fromIndex) <= ' ')
+      ++fromIndex;
+
+    while (toIndex > fromIndex && s.charAt(toIndex - 1) <= ' ')
+      --toIndex;
+
+    if (fromIndex == toIndex)
       return Double.NaN;
 
-    double scalar = 0;
-    final String[] parts = s.split(" ");
-    if (parts.length == 2) {
-      scalar += new BigDecimal(parts[0]).doubleValue();
-      s = parts[1];
+    // The whole number, or the numerator if followed by '/'
+    int i = fromIndex;
+    char ch = s.charAt(i);
+    final boolean negative = ch == '-';
+    if (negative || ch == '+')
+      ++i;
+
+    long w = 0;
+    int digits = 0;
+    long exp = 0;
+    boolean any = false;
+    boolean truncated = false;
+    for (int d; i < toIndex && (d = s.charAt(i) - '0') >= 0 && d <= 9; ++i) {
+      any = true;
+      if (digits < 19) {
+        if (w != 0 || d != 0) {
+          w = w * 10 + d;
+          ++digits;
+        }
+      }
+      else {
+        ++exp;
+        truncated |= d != 0;
+      }
+    }
+
+    final boolean integer = any;
+    boolean decimal = false;
+    if (i < toIndex && s.charAt(i) == '.') {
+      decimal = true;
+      for (int d; ++i < toIndex && (d = s.charAt(i) - '0') >= 0 && d <= 9;) {
+        any = true;
+        if (digits < 19) {
+          --exp;
+          if (w != 0 || d != 0) {
+            w = w * 10 + d;
+            ++digits;
+          }
+        }
+        else {
+          truncated |= d != 0;
+        }
+      }
     }
 
-    final int slash = s.indexOf('/');
-    if (slash == 1)
-      scalar += (double)Integer.parseInt(s.substring(0, slash)) / Integer.parseInt(s.substring(slash + 1));
-    else
-      scalar += new BigDecimal(s).doubleValue();
+    if (!any)
+      return Double.NaN;
+
+    if (i < toIndex && s.charAt(i) == 'E') {
+      decimal = true;
+      if (++i == toIndex)
+        return Double.NaN;
+
+      ch = s.charAt(i);
+      final boolean negativeExp = ch == '-';
+      if ((negativeExp || ch == '+') && ++i == toIndex)
+        return Double.NaN;
+
+      final int start = i;
+      int e = 0;
+      for (int d; i < toIndex && (d = s.charAt(i) - '0') >= 0 && d <= 9; ++i)
+        if (e < 100000)
+          e = e * 10 + d;
 
-    return scalar;
+      if (i == start)
+        return Double.NaN;
+
+      exp += negativeExp ? -e : e;
+    }
+
+    final int end = i;
+    double whole = 0;
+    if (i < toIndex) {
+      ch = s.charAt(i);
+      if (ch == ' ') {
+        // A whole number followed by a fraction, whose numerator may be signed
+        if (++i == toIndex)
+          return Double.NaN;
+
+        ch = s.charAt(i);
+        if (ch == '-' || ch == '+')
+          ++i;
+
+        final int start = i;
+        for (int d; i < toIndex && (d = s.charAt(i) - '0') >= 0 && d <= 9; ++i);
+        if (i == start || i == toIndex || s.charAt(i) != '/')
+          return Double.NaN;
+
+        if (evaluate)
+          whole = toDouble(s, fromIndex, end, negative, w, exp, truncated);
+
+        return parseFraction(s, start, i, ch == '-', toIndex, evaluate, whole);
+      }
+
+      if (ch == '/' && integer && !decimal)
+        return parseFraction(s, fromIndex, i, negative, toIndex, evaluate, whole);
+
+      return Double.NaN;
+    }
+
+    return evaluate ? toDouble(s, fromIndex, end, negative, w, exp, truncated) : 0;
+  }
+
+  /**
+   * Returns the {@code double} closest to {@code w * 10^exp} (with a zero
+   * value always positive), falling back to parsing the specified range if the
+   * truncated digits are needed to decide the result.
+   */
+  private static double toDouble(final CharSequence s, final int fromIndex, final int toIndex, final boolean negative, final long w, final long exp, final boolean truncated) {
+    final long bits = DoubleParser.toDoubleBits(negative, w, exp, truncated);
+    // Adding 0 turns -0.0 into 0.0
+    return Double.longBitsToDouble(bits != DoubleParser.AMBIGUOUS ? bits : DoubleParser.parse(s, fromIndex, toIndex, false)) + 0d;
+  }
+
+  /**
+   * Validates, and if {@code evaluate} is {@code true} evaluates, the fraction
+   * whose unsigned numerator is between {@code fromIndex} and the
+   * {@code slash}, and whose denominator (optionally prefixed with {@code '+'})
+   * is between the {@code slash} and {@code toIndex}, adding it to
+   * {@code whole}.
+   */
+  private static double parseFraction(final CharSequence s, int fromIndex, final int slash, final boolean negative, final int toIndex, final boolean evaluate, final double whole) {
+    int i = slash + 1;
+    if (i < toIndex && s.charAt(i) == '+')
+      ++i;
+
+    final int start = i;
+    double denominator = 0;
+    for (int d; i < toIndex && (d = s.charAt(i) - '0') >= 0 && d <= 9; ++i)
+      denominator = denominator * 10 + d;
+
+    if (i == start || i < toIndex)
+      return Double.NaN;
+
+    if (!evaluate)
+      return 0;
+
+    if (fromIndex < slash && (s.charAt(fromIndex) == '-' || s.charAt(fromIndex) == '+'))
+      ++fromIndex;
+
+    double numerator = 0;
+    for (i = fromIndex; i < slash; ++i)
+      numerator = numerator * 10 + (s.charAt(i) - '0');
+
+    return whole + (negative ? -numerator : numerator) / denominator;
   }
 
   /**
    * Returns the specified {@link Number} cast to the provided {@link Class
    * Class&lt;T&gt;}.
+   * <p>
+   * Conversions to an integral type, including {@link BigInteger}, discard the
+   * fractional part of the specified {@link Number}.
    *
    * @param <T> The type parameter of the cast class.
    * @param n The {@link Number} to be cast.
@@ -2121,122 +4036,172 @@ public final class Numbers {
    *          cast.
    * @return The specified {@link Number} cast to the provided {@link Class
    *         Class&lt;T&gt;}.
+   * @throws UnsupportedOperationException If the specified {@link Class} is
+   *           not a primitive numeric type, its wrapper, {@link BigInteger} or
+   *           {@link BigDecimal}.
+   * @see #converter(Class)
    */
-  @SuppressWarnings("unchecked")
   public static <T extends Number>T cast(final Number n, final Class<T> as) {
-    if (n == null)
-      return null;
+    return n == null ? null : converter(as).convert(n);
+  }
+
+  private static final NumberConverter<Long> LONG_CONVERTER = n -> n == null ? null : Long.valueOf(n.longValue());
+  private static final NumberConverter<Integer> INTEGER_CONVERTER = n -> n == null ? null : Integer.valueOf(n.intValue());
+  private static final NumberConverter<Short> SHORT_CONVERTER = n -> n == null ? null : Short.valueOf(n.shortValue());
+  private static final NumberConverter<Byte> BYTE_CONVERTER = n -> n == null ? null : Byte.valueOf(n.byteValue());
+  private static final NumberConverter<Double> DOUBLE_CONVERTER = n -> n == null ? null : Double.valueOf(n.doubleValue());
+  private static final NumberConverter<Float> FLOAT_CONVERTER = n -> n == null ? null : Float.valueOf(n.floatValue());
+  private static final NumberConverter<BigInteger> BIG_INTEGER_CONVERTER = Numbers::castBigInteger;
+  private static final NumberConverter<BigDecimal> BIG_DECIMAL_CONVERTER = Numbers::castBigDecimal;
+
+  /**
+   * Returns a {@link NumberConverter} that converts {@link Number}s to the
+   * provided {@link Class} as per {@link #cast(Number,Class)}. The type is
+   * resolved once by this method, so the returned converter is suited to be
+   * reused for many numbers of the same target type.
+   *
+   * @param <T> The type of {@link Number} to be returned by the converter.
+   * @param as The {@link Class} to which the converter is to convert.
+   * @return A {@link NumberConverter} that converts {@link Number}s to the
+   *         provided {@link Class}.
+   * @throws NullPointerException If {@code as} is null.
+   * @throws UnsupportedOperationException If the specified {@link Class} is
+   *           not a primitive numeric type, its wrapper, {@link BigInteger} or
+   *           {@link BigDecimal}.
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Number>NumberConverter<T> converter(final Class<T> as) {
+    if (long.class == as || Long.class == as)
+      return (NumberConverter<T>)LONG_CONVERTER;
+
+    if (int.class == as || Integer.class == as)
+      return (NumberConverter<T>)INTEGER_CONVERTER;
+
+    if (short.class == as || Short.class == as)
+      return (NumberConverter<T>)SHORT_CONVERTER;
+
+    if (byte.class == as || Byte.class == as)
+      return (NumberConverter<T>)BYTE_CONVERTER;
+
+    if (double.class == as || Double.class == as)
+      return (NumberConverter<T>)DOUBLE_CONVERTER;
+
+    if (float.class == as || Float.class == as)
+      return (NumberConverter<T>)FLOAT_CONVERTER;
+
+    if (BigInteger.class == as)
+      return (NumberConverter<T>)BIG_INTEGER_CONVERTER;
+
+    if (BigDecimal.class == as)
+      return (NumberConverter<T>)BIG_DECIMAL_CONVERTER;
+
+    throw new UnsupportedOperationException("Unsupported type: " + as.getName());
+  }
+
+  private static BigInteger castBigInteger(final Number n) {
+    if (n == null || n instanceof BigInteger)
+      return (BigInteger)n;
+
+    if (n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte)
+      return BigInteger.valueOf(n.longValue());
+
+    if (n instanceof BigDecimal)
+      return ((BigDecimal)n).toBigInteger();
+
+    if (n instanceof Double || n instanceof Float)
+      return toBigInteger(n.doubleValue());
+
+    return new BigInteger(n.toString());
+  }
 
-    if (long.class == as || Long.class == as)
-      return (T)Long.valueOf(n.longValue());
+  /**
+   * Returns the integral part of the specified {@code double}, which is built
+   * from its IEEE 754 bits if it is beyond the range of {@code long}.
+   */
+  private static BigInteger toBigInteger(final double d) {
+    if (-0x1p63 < d && d < 0x1p63)
+      return BigInteger.valueOf((long)d);
 
-    if (int.class == as || Integer.class == as)
-      return (T)Integer.valueOf(n.intValue());
+    if (Double.isNaN(d) || Double.isInfinite(d))
+      throw new NumberFormatException("Infinite or NaN");
 
-    if (short.class == as || Short.class == as)
-      return (T)Short.valueOf(n.shortValue());
+    // Beyond 2^63 the value is an integer, so the mantissa is shifted left only
+    final long bits = Double.doubleToRawLongBits(d);
+    final BigInteger value = BigInteger.valueOf(bits & 0xfffffffffffffL | 1L << 52).shiftLeft(((int)(bits >>> 52) & 0x7ff) - 1075);
+    return bits < 0 ? value.negate() : value;
+  }
 
-    if (byte.class == as || Byte.class == as)
-      return (T)Byte.valueOf(n.byteValue());
+  private static BigDecimal castBigDecimal(final Number n) {
+    if (n == null || n instanceof BigDecimal)
+      return (BigDecimal)n;
 
-    if (double.class == as || Double.class == as)
-      return (T)Double.valueOf(n.doubleValue());
+    if (n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte)
+      return BigDecimal.valueOf(n.longValue());
 
-    if (float.class == as || Float.class == as)
-      return (T)Float.valueOf(n.floatValue());
+    if (n instanceof BigInteger)
+      return new BigDecimal((BigInteger)n);
 
-    if (BigInteger.class == as)
-      return (T)new BigInteger(n.toString());
+    if (n instanceof Double)
+      return DoubleFormatter.toBigDecimal(n.doubleValue());
 
-    if (BigDecimal.class == as)
-      return (T)new BigDecimal(n.toString());
+    if (n instanceof Float)
+      return DoubleFormatter.toBigDecimal(n.floatValue());
 
-    throw new UnsupportedOperationException("Unsupported type: " + as.getName());
+    return new BigDecimal(n.toString());
   }
 
   /**
    * Tests whether the specified string represents a number, or a number with a
-   * fraction of two numbers (i.e. {@code 23 3/4}).
-   * <p>
-   * This method supports exponent form (i.e. {@code 3.2E-5}).
+   * fraction of two numbers (i.e. {@code 23 3/4}), as per
+   * {@link #isNumber(CharSequence)}.
    *
    * @param s The string to test.
    * @return {@code true} if the specified string represents a number, or a
    *         number with a fraction of two numbers.
    */
-  public static boolean isNumber(String s) {
-    if (s == null || (s = s.trim()).length() == 0)
-      return false;
-
-    final String[] parts = s.split(" ");
-    if (parts.length > 2)
-      return false;
-
-    if (parts.length == 2) {
-      final int slash = parts[1].indexOf('/');
-      if (slash < 0)
-        return false;
-
-      return isNumber(parts[0], false) && isNumber(parts[1], true);
-    }
+  public static boolean isNumber(final String s) {
+    return isNumber((CharSequence)s);
+  }
 
-    return isNumber(parts[0], true);
+  /**
+   * Tests whether the specified {@link CharSequence} represents a number, or a
+   * number with a fraction of two numbers (i.e. {@code 23 3/4}).
+   * <p>
+   * This method supports exponent form (i.e. {@code 3.2E-5}). Leading and
+   * trailing whitespace is ignored, and the whole number and the fraction must
+   * be separated by a single space.
+   *
+   * @param s The {@link CharSequence} to test.
+   * @return {@code true} if the specified {@link CharSequence} represents a
+   *         number, or a number with a fraction of two numbers.
+   */
+  public static boolean isNumber(final CharSequence s) {
+    return s != null && !Double.isNaN(parseNumber0(s, 0, s.length(), false));
   }
 
-  private static boolean isNumber(String string, final boolean fraction) {
-    if (string == null || (string = string.trim()).length() == 0)
+  /**
+   * Tests whether the specified range of the {@link CharSequence} represents a
+   * number, or a number with a fraction of two numbers (i.e. {@code 23 3/4}).
+   * <p>
+   * This method supports exponent form (i.e. {@code 3.2E-5}). Leading and
+   * trailing whitespace is ignored, and the whole number and the fraction must
+   * be separated by a single space.
+   *
+   * @param s The {@link CharSequence} to test.
+   * @param fromIndex The index in {@code s} from which to start testing
+   *          (inclusive).
+   * @param toIndex The index in {@code s} at which to end testing (exclusive).
+   * @return {@code true} if the specified range of the {@link CharSequence}
+   *         represents a number, or a number with a fraction of two numbers.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static boolean isNumber(final CharSequence s, final int fromIndex, final int toIndex) {
+    if (s == null)
       return false;
 
-    boolean dotEncountered = false;
-    boolean expEncountered = false;
-    boolean minusEncountered = false;
-    boolean slashEncountered = false;
-    int factor = 0;
-    for (int i = string.length() - 1; i >= 0; --i) {
-      final char c = string.charAt(i);
-      if (c < '0') {
-        if (c == '/') {
-          if (!fraction || dotEncountered || expEncountered || minusEncountered || slashEncountered)
-            return false;
-
-          slashEncountered = true;
-        }
-        else if (c == '.') {
-          if (dotEncountered || slashEncountered)
-            return false;
-
-          dotEncountered = true;
-        }
-        else if (c == '-') {
-          if (minusEncountered)
-            return false;
-
-          minusEncountered = true;
-        }
-        else if (!expEncountered && c != '+') {
-          return false;
-        }
-      }
-      else if ('9' < c) {
-        if (c != 'E')
-          return false;
-
-        if (factor == 0 || expEncountered)
-          return false;
-
-        expEncountered = true;
-        factor = 0;
-        minusEncountered = false;
-      }
-      else {
-        if (minusEncountered)
-          return false;
-
-        ++factor;
-      }
-    }
-
-    return true;
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "s.length()", s.length());
+    return !Double.isNaN(parseNumber0(s, fromIndex, toIndex, false));
   }
 
   /**
@@ -2364,9 +4329,121 @@ public final class Numbers {
     return a * b;
   }
 
+  /**
+   * Writes the shortest decimal representation of the specified
+   * {@code double} that rounds back to the same value into the provided
+   * {@code char[]}, starting at the specified offset. The representation is in
+   * the format of {@link Double#toString(double)}, and is at most 24
+   * characters long.
+   *
+   * @param n The {@code double}.
+   * @param buf The {@code char[]} into which to write.
+   * @param offset The index in {@code buf} at which to start writing.
+   * @return The index in {@code buf} following the last written character.
+   * @throws NullPointerException If {@code buf} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have enough
+   *           capacity after {@code offset}.
+   */
+  public static int toString(final double n, final char[] buf, final int offset) {
+    return DoubleFormatter.format(n, DoubleFormatter.SHORTEST, buf, offset);
+  }
+
+  /**
+   * Writes the shortest decimal representation of the specified
+   * {@code double} that rounds back to the same value as ASCII into the
+   * provided {@code byte[]}, starting at the specified offset. The
+   * representation is in the format of {@link Double#toString(double)}, and is
+   * at most 24 characters long.
+   *
+   * @param n The {@code double}.
+   * @param buf The {@code byte[]} into which to write.
+   * @param offset The index in {@code buf} at which to start writing.
+   * @return The index in {@code buf} following the last written byte.
+   * @throws NullPointerException If {@code buf} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have enough
+   *           capacity after {@code offset}.
+   */
+  public static int toString(final double n, final byte[] buf, final int offset) {
+    return DoubleFormatter.format(n, DoubleFormatter.SHORTEST, buf, offset);
+  }
+
+  /**
+   * Appends the shortest decimal representation of the specified
+   * {@code double} that rounds back to the same value to the provided
+   * {@link StringBuilder}. The representation is in the format of
+   * {@link Double#toString(double)}.
+   *
+   * @param n The {@code double}.
+   * @param builder The {@link StringBuilder} to which to append.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   */
+  public static StringBuilder toString(final double n, final StringBuilder builder) {
+    DoubleFormatter.format(n, DoubleFormatter.SHORTEST, builder, builder.length());
+    return builder;
+  }
+
+  /**
+   * Writes the shortest decimal representation of the specified {@code float}
+   * that rounds back to the same value into the provided {@code char[]},
+   * starting at the specified offset. The representation is in the format of
+   * {@link Float#toString(float)}, and is at most 15 characters long.
+   *
+   * @param n The {@code float}.
+   * @param buf The {@code char[]} into which to write.
+   * @param offset The index in {@code buf} at which to start writing.
+   * @return The index in {@code buf} following the last written character.
+   * @throws NullPointerException If {@code buf} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have enough
+   *           capacity after {@code offset}.
+   */
+  public static int toString(final float n, final char[] buf, final int offset) {
+    return DoubleFormatter.format(n, DoubleFormatter.SHORTEST, buf, offset);
+  }
+
+  /**
+   * Writes the shortest decimal representation of the specified {@code float}
+   * that rounds back to the same value as ASCII into the provided
+   * {@code byte[]}, starting at the specified offset. The representation is in
+   * the format of {@link Float#toString(float)}, and is at most 15 characters
+   * long.
+   *
+   * @param n The {@code float}.
+   * @param buf The {@code byte[]} into which to write.
+   * @param offset The index in {@code buf} at which to start writing.
+   * @return The index in {@code buf} following the last written byte.
+   * @throws NullPointerException If {@code buf} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have enough
+   *           capacity after {@code offset}.
+   */
+  public static int toString(final float n, final byte[] buf, final int offset) {
+    return DoubleFormatter.format(n, DoubleFormatter.SHORTEST, buf, offset);
+  }
+
+  /**
+   * Appends the shortest decimal representation of the specified
+   * {@code float} that rounds back to the same value to the provided
+   * {@link StringBuilder}. The representation is in the format of
+   * {@link Float#toString(float)}.
+   *
+   * @param n The {@code float}.
+   * @param builder The {@link StringBuilder} to which to append.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   */
+  public static StringBuilder toString(final float n, final StringBuilder builder) {
+    DoubleFormatter.format(n, DoubleFormatter.SHORTEST, builder, builder.length());
+    return builder;
+  }
+
   /**
    * Returns a string representation of the specified {@code double} to the
    * provided number of decimal places.
+   * <p>
+   * The shortest decimal representation of {@code n} is rounded
+   * {@link java.math.RoundingMode#HALF_UP half up} to {@code decimals} places
+   * (a negative value of {@code decimals} rounds to the left of the decimal
+   * point), and is rendered in plain notation with trailing zeroes stripped.
    *
    * @param n The {@code double}.
    * @param decimals The number of decimal places.
@@ -2374,8 +4451,66 @@ public final class Numbers {
    *         provided number of decimal places.
    */
   public static String toString(final double n, final int decimals) {
-    final double factor = StrictMath.pow(10, decimals);
-    return String.valueOf(Math.round(n * factor) / factor);
+    return toString(n, decimals, new StringBuilder()).toString();
+  }
+
+  /**
+   * Writes the string representation of the specified {@code double} to the
+   * provided number of decimal places into the provided {@code char[]},
+   * starting at the specified offset.
+   *
+   * @param n The {@code double}.
+   * @param decimals The number of decimal places.
+   * @param buf The {@code char[]} into which to write.
+   * @param offset The index in {@code buf} at which to start writing.
+   * @return The index in {@code buf} following the last written character.
+   * @throws NullPointerException If {@code buf} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have enough
+   *           capacity after {@code offset}.
+   * @see #toString(double,int)
+   */
+  public static int toString(final double n, final int decimals, final char[] buf, final int offset) {
+    return DoubleFormatter.format(n, checkDecimals(decimals), buf, offset);
+  }
+
+  /**
+   * Writes the string representation of the specified {@code double} to the
+   * provided number of decimal places as ASCII into the provided
+   * {@code byte[]}, starting at the specified offset.
+   *
+   * @param n The {@code double}.
+   * @param decimals The number of decimal places.
+   * @param buf The {@code byte[]} into which to write.
+   * @param offset The index in {@code buf} at which to start writing.
+   * @return The index in {@code buf} following the last written byte.
+   * @throws NullPointerException If {@code buf} is null.
+   * @throws ArrayIndexOutOfBoundsException If {@code buf} does not have enough
+   *           capacity after {@code offset}.
+   * @see #toString(double,int)
+   */
+  public static int toString(final double n, final int decimals, final byte[] buf, final int offset) {
+    return DoubleFormatter.format(n, checkDecimals(decimals), buf, offset);
+  }
+
+  /**
+   * Appends the string representation of the specified {@code double} to the
+   * provided number of decimal places to the provided {@link StringBuilder}.
+   *
+   * @param n The {@code double}.
+   * @param decimals The number of decimal places.
+   * @param builder The {@link StringBuilder} to which to append.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null.
+   * @see #toString(double,int)
+   */
+  public static StringBuilder toString(final double n, final int decimals, final StringBuilder builder) {
+    DoubleFormatter.format(n, checkDecimals(decimals), builder, builder.length());
+    return builder;
+  }
+
+  private static int checkDecimals(final int decimals) {
+    // Integer.MIN_VALUE selects the shortest mode, but rounds to zero just like Integer.MIN_VALUE + 1
+    return decimals == DoubleFormatter.SHORTEST ? Integer.MIN_VALUE + 1 : decimals;
   }
 
   /**
@@ -2403,14 +4538,20 @@ public final class Numbers {
   }
 
   /**
-   * Determines if the difference of the specified {@link Number} values is less
-   * than the provided epsilon.
+   * Determines if the specified {@link Number} values are equal, or if either
+   * is a {@link Float} or {@link Double}, if the difference of the values is
+   * less than the provided epsilon.
+   * <p>
+   * Numbers are compared by their exact values as per
+   * {@link #compare(Number,Number)}, except that {@code -0.0} is equal to
+   * {@code 0.0}, and {@link Double#NaN} is not equal to any number.
    *
    * @param a The first {@link Number}.
    * @param b The second {@link Number}.
    * @param epsilon The epsilon.
-   * @return {@code true} if the difference of the specified {@link Number}
-   *         values is less than the provided epsilon.
+   * @return {@code true} if the specified {@link Number} values are equal, or
+   *         if either is a {@link Float} or {@link Double}, if the difference of
+   *         the values is less than the provided epsilon.
    */
   public static boolean equivalent(final Number a, final Number b, final double epsilon) {
     if (a == null)
@@ -2419,158 +4560,20 @@ public final class Numbers {
     if (b == null)
       return false;
 
-    if (a instanceof Byte) {
-      if (b instanceof Byte)
-        return a.byteValue() == b.byteValue();
-
-      if (b instanceof Short)
-        return a.byteValue() == b.shortValue();
-
-      if (b instanceof Integer)
-        return a.byteValue() == b.intValue();
-
-      if (b instanceof Long)
-        return a.byteValue() == b.longValue();
-
-      if (b instanceof BigInteger)
-        return BigInteger.valueOf(a.byteValue()).equals(b);
-
-      if (b instanceof BigDecimal)
-        return BigDecimal.valueOf(a.byteValue()).equals(b);
-
-      if (b instanceof Float)
-        return Math.abs(a.byteValue() - b.floatValue()) < epsilon;
-
-      return Math.abs(a.byteValue() - b.doubleValue()) < epsilon;
-    }
-
-    if (a instanceof Short) {
-      if (b instanceof Byte)
-        return a.shortValue() == b.byteValue();
-
-      if (b instanceof Short)
-        return a.shortValue() == b.shortValue();
-
-      if (b instanceof Integer)
-        return a.shortValue() == b.intValue();
-
-      if (b instanceof Long)
-        return a.shortValue() == b.longValue();
-
-      if (b instanceof BigInteger)
-        return BigInteger.valueOf(a.shortValue()).equals(b);
-
-      if (b instanceof BigDecimal)
-        return BigDecimal.valueOf(a.shortValue()).equals(b);
-
-      if (b instanceof Float)
-        return Math.abs(a.shortValue() - b.floatValue()) < epsilon;
-
-      return Math.abs(a.shortValue() - b.doubleValue()) < epsilon;
-    }
-
-    if (a instanceof Integer) {
-      if (b instanceof Byte)
-        return a.intValue() == b.byteValue();
-
-      if (b instanceof Short)
-        return a.intValue() == b.shortValue();
-
-      if (b instanceof Integer)
-        return a.intValue() == b.intValue();
-
-      if (b instanceof Long)
-        return a.intValue() == b.longValue();
-
-      if (b instanceof BigInteger)
-        return BigInteger.valueOf(a.intValue()).equals(b);
-
-      if (b instanceof BigDecimal)
-        return BigDecimal.valueOf(a.intValue()).equals(b);
-
-      if (b instanceof Float)
-        return Math.abs(a.intValue() - b.floatValue()) < epsilon;
-
-      return Math.abs(a.intValue() - b.doubleValue()) < epsilon;
-    }
-
-    if (a instanceof Long) {
-      if (b instanceof Byte)
-        return a.longValue() == b.byteValue();
-
-      if (b instanceof Short)
-        return a.longValue() == b.shortValue();
-
-      if (b instanceof Integer)
-        return a.longValue() == b.intValue();
-
-      if (b instanceof Long)
-        return a.longValue() == b.longValue();
-
-      if (b instanceof BigInteger)
-        return BigInteger.valueOf(a.longValue()).equals(b);
-
-      if (b instanceof BigDecimal)
-        return BigDecimal.valueOf(a.longValue()).equals(b);
-
-      if (b instanceof Float)
-        return Math.abs(a.longValue() - b.floatValue()) < epsilon;
-
-      return Math.abs(a.longValue() - b.doubleValue()) < epsilon;
-    }
-
-    if (a instanceof BigInteger) {
-      if (b instanceof Byte)
-        return a.equals(BigInteger.valueOf(b.byteValue()));
-
-      if (b instanceof Short)
-        return a.equals(BigInteger.valueOf(b.shortValue()));
-
-      if (b instanceof Integer)
-        return a.equals(BigInteger.valueOf(b.intValue()));
-
-      if (b instanceof Long)
-        return a.equals(BigInteger.valueOf(b.longValue()));
-
-      if (b instanceof BigInteger)
-        return a.equals(b);
-
-      if (b instanceof BigDecimal)
-        return new BigDecimal((BigInteger)a).equals(b);
-
-      if (b instanceof Float)
-        return a.equals(BigDecimal.valueOf(b.floatValue()).toBigInteger());
-
-      if (b instanceof Double)
-        return a.equals(BigDecimal.valueOf(b.doubleValue()).toBigInteger());
-    }
-    else if (a instanceof BigDecimal) {
-      if (b instanceof Byte)
-        return a.equals(BigDecimal.valueOf(b.byteValue()));
-
-      if (b instanceof Short)
-        return a.equals(BigDecimal.valueOf(b.shortValue()));
-
-      if (b instanceof Integer)
-        return a.equals(BigDecimal.valueOf(b.intValue()));
-
-      if (b instanceof Long)
-        return a.equals(BigDecimal.valueOf(b.longValue()));
-
-      if (b instanceof BigInteger)
-        return a.equals(new BigDecimal((BigInteger)b));
+    final int typeA = typeCode(a);
+    final int typeB = typeCode(b);
+    if (typeA != DOUBLE && typeB != DOUBLE)
+      return compare(a, typeA, b, typeB) == 0;
 
-      if (b instanceof BigDecimal)
-        return a.equals(b);
-
-      if (b instanceof Float)
-        return a.equals(BigDecimal.valueOf(b.floatValue()).toBigInteger());
+    final double da = a.doubleValue();
+    final double db = b.doubleValue();
+    if (Math.abs(da - db) < epsilon)
+      return true;
 
-      if (b instanceof Double)
-        return a.equals(BigDecimal.valueOf(b.doubleValue()));
-    }
+    if (typeA == DOUBLE && typeB == DOUBLE)
+      return da == db;
 
-    return Math.abs(a.doubleValue() - b.doubleValue()) < epsilon;
+    return da == db && compareMixed(a, typeA, b, typeB) == 0;
   }
 
   /**
@@ -2652,7 +4655,7 @@ public final class Numbers {
     for (int i = 1; i < numbers.length; ++i)
       sum += numbers[i];
 
-    return sum / numbers.length;
+    return (double)sum / numbers.length;
   }
 
   /**
@@ -2668,7 +4671,7 @@ public final class Numbers {
     for (int i = 1; i < numbers.length; ++i)
       sum += numbers[i];
 
-    return sum / numbers.length;
+    return (double)sum / numbers.length;
   }
 
   /**
@@ -2684,23 +4687,31 @@ public final class Numbers {
     for (int i = 1; i < numbers.length; ++i)
       sum += numbers[i];
 
-    return sum / numbers.length;
+    return (double)sum / numbers.length;
   }
 
   /**
-   * Computes the average of the specified numbers.
+   * Computes the average of the specified numbers, with a sum that cannot
+   * overflow.
    *
    * @param numbers The numbers to be used to compute the average.
    * @return The average of the specified numbers.
    * @throws NullPointerException If {@code numbers} is null.
    * @throws ArrayIndexOutOfBoundsException If {@code numbers.length == 0}.
+   * @see NumberStatistics
    */
   public static double average(final long ... numbers) {
-    long sum = numbers[0];
-    for (int i = 1; i < numbers.length; ++i)
-      sum += numbers[i];
+    // A 128-bit sum, as in NumberStatistics, without the bookkeeping of the other moments
+    long low = numbers[0];
+    long high = low >> 63;
+    for (int i = 1; i < numbers.length; ++i) {
+      final long value = numbers[i];
+      final long sum = low + value;
+      high += (value >> 63) + (Long.compareUnsigned(sum, low) < 0 ? 1 : 0);
+      low = sum;
+    }
 
-    return sum / numbers.length;
+    return NumberStatistics.toDouble(high, low) / numbers.length;
   }
 
   /**
@@ -2785,6 +4796,12 @@ public final class Numbers {
     return false;
   }
 
+  /**
+   * Powers of ten from {@code 10^0} to {@code 10^19}, the last of which is
+   * stored as its <i>unsigned</i> {@code long} representation.
+   */
+  private static final long[] LONG_POWERS_OF_TEN = {1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L, 10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L, 1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L, -8446744073709551616L};
+
   /**
    * Returns the precision (the number of digits) of the specified {@code byte}
    * value.
@@ -2833,45 +4850,12 @@ public final class Numbers {
    * @return The count of the number of digits in the specified {@code int}
    *         value.
    */
-  public static byte precision(int n) {
-    n = Math.abs(n);
-    if (n < 1000000000) {
-      if (n < 10000) {
-        if (n < 100) {
-          if (n < 10) {
-            // Special case for Integer.MIN_VALUE, because Math.abs() keeps it negative
-            if (n < 0)
-              return 10;
-
-            return 1;
-          }
-
-          return 2;
-        }
-
-        if (n < 1000)
-          return 3;
-
-        return 4;
-      }
-
-      if (n < 10000000) {
-        if (n < 100000)
-          return 5;
-
-        if (n < 1000000)
-          return 6;
-
-        return 7;
-      }
-
-      if (n < 100000000)
-        return 8;
-
-      return 9;
-    }
-
-    return 10;
+  public static byte precision(final int n) {
+    // Math.abs() keeps Integer.MIN_VALUE negative, so the magnitude is taken as unsigned
+    final long abs = Math.abs(n) & 0xffffffffL | 1;
+    // 1233 / 4096 is an approximation of log10(2) that is accurate up to 64 bits
+    final int p = ((64 - Long.numberOfLeadingZeros(abs)) * 1233) >>> 12;
+    return (byte)(abs < LONG_POWERS_OF_TEN[p] ? p : p + 1);
   }
 
   /**
@@ -2882,75 +4866,11 @@ public final class Numbers {
    * @return The count of the number of digits in the specified {@code long}
    *         value.
    */
-  public static byte precision(long n) {
-    n = Math.abs(n);
-    if (n < 1000000000) {
-      if (n < 10000) {
-        if (n < 100) {
-          if (n < 10) {
-            // Special case for Long.MIN_VALUE, because Math.abs() keeps it negative
-            if (n < 0)
-              return 19;
-
-            return 1;
-          }
-
-          return 2;
-        }
-
-        if (n < 1000)
-          return 3;
-
-        return 4;
-      }
-
-      if (n < 10000000) {
-        if (n < 100000)
-          return 5;
-
-        if (n < 1000000)
-          return 6;
-
-        return 7;
-      }
-
-      if (n < 100000000)
-        return 8;
-
-      return 9;
-    }
-
-    if (n < 1000000000000000L) {
-      if (n < 1000000000000L) {
-        if (n < 10000000000L)
-          return 10;
-
-        if (n < 100000000000L)
-          return 11;
-
-        return 12;
-      }
-
-      if (n < 10000000000000L)
-        return 13;
-
-      if (n < 100000000000000L)
-        return 14;
-
-      return 15;
-    }
-
-    if (n < 100000000000000000L) {
-      if (n < 10000000000000000L)
-        return 16;
-
-      return 17;
-    }
-
-    if (n < 1000000000000000000L)
-      return 18;
-
-    return 19;
+  public static byte precision(final long n) {
+    // Math.abs() keeps Long.MIN_VALUE negative, so the magnitude is compared as unsigned
+    final long abs = Math.abs(n) | 1;
+    final int p = ((64 - Long.numberOfLeadingZeros(abs)) * 1233) >>> 12;
+    return (byte)(Long.compareUnsigned(abs, LONG_POWERS_OF_TEN[p]) < 0 ? p : p + 1);
   }
 
   /**
@@ -2963,16 +4883,17 @@ public final class Numbers {
    *         {@link BigInteger} value.
    */
   public static int precision(final BigInteger n) {
-    if (n.signum() == 0)
-      return 1;
+    final int bitLength = n.bitLength();
+    if (bitLength < 64)
+      return precision(n.longValue());
 
     /*
      * Same idea as the long version, but we need a better approximation of
      * log10(2). Using 646456993/2^31 is accurate up to max possible reported
      * bitLength.
      */
-    final int p = (int)(((n.bitLength() + 1) * 646456993L) >>> 31);
-    return n.abs().compareTo(BigInteger.TEN.pow(p)) < 0 ? p : p + 1;
+    final int p = (int)(((bitLength + 1) * 646456993L) >>> 31);
+    return (n.signum() < 0 ? n.negate() : n).compareTo(PowersOfTen.bigInteger(p)) < 0 ? p : p + 1;
   }
 
   /**
@@ -2988,6 +4909,22 @@ public final class Numbers {
     return n.signum() == 0 ? 1 : n.precision();
   }
 
+  /**
+   * Multiplicative inverses modulo {@code 2^32} of {@code 5^1}, {@code 5^2},
+   * {@code 5^4} and {@code 5^8}, and the largest <i>unsigned</i> {@code int}
+   * quotients of each.
+   */
+  private static final int[] INT_INVERSE_POWERS_OF_FIVE = {0xcccccccd, 0xc28f5c29, 0x3afb7e91, 0x22e90e21};
+  private static final int[] INT_MAX_QUOTIENTS_OF_FIVE = {0x33333333, 0xa3d70a3, 0x68db8b, 0x2af3};
+
+  /**
+   * Multiplicative inverses modulo {@code 2^64} of {@code 5^1}, {@code 5^2},
+   * {@code 5^4}, {@code 5^8} and {@code 5^16}, and the largest
+   * <i>unsigned</i> {@code long} quotients of each.
+   */
+  private static final long[] LONG_INVERSE_POWERS_OF_FIVE = {0xcccccccccccccccdL, 0x8f5c28f5c28f5c29L, 0xd288ce703afb7e91L, 0xc767074b22e90e21L, 0xe4a4d1417cd9a041L};
+  private static final long[] LONG_MAX_QUOTIENTS_OF_FIVE = {0x3333333333333333L, 0xa3d70a3d70a3d70L, 0x68db8bac710cb2L, 0x2af31dc46118L, 0x734aca5L};
+
   /**
    * Returns the count of trailing zeroes in the specified {@code byte} value.
    *
@@ -3038,38 +4975,23 @@ public final class Numbers {
     if (n == 0)
       return 1;
 
-    if (n % 1000000000 != 0) {
-      if (n % 10000 != 0) {
-        if (n % 100 != 0) {
-          if (n % 10 != 0)
-            return 0;
-
-          return 1;
+    // Each trailing zero needs a factor of 2, so the trailing zero bits bound the result
+    final int twos = Integer.numberOfTrailingZeros(n);
+    int m = Math.abs(n);
+    byte zeroes = 0;
+    for (int i = INT_INVERSE_POWERS_OF_FIVE.length - 1; i >= 0; --i) {
+      final int step = 1 << i;
+      if (zeroes + step <= twos) {
+        // m is divisible by 5^step iff its product with the inverse of 5^step is a valid quotient
+        final int quotient = m * INT_INVERSE_POWERS_OF_FIVE[i];
+        if (Integer.compareUnsigned(quotient, INT_MAX_QUOTIENTS_OF_FIVE[i]) <= 0) {
+          m = quotient;
+          zeroes += step;
         }
-
-        if (n % 1000 != 0)
-          return 2;
-
-        return 3;
-      }
-
-      if (n % 10000000 != 0) {
-        if (n % 100000 != 0)
-          return 4;
-
-        if (n % 1000000 != 0)
-          return 5;
-
-        return 6;
       }
-
-      if (n % 100000000 != 0)
-        return 7;
-
-      return 8;
     }
 
-    return 9;
+    return zeroes;
   }
 
   /**
@@ -3083,68 +5005,21 @@ public final class Numbers {
     if (n == 0)
       return 1;
 
-    if (n % 1000000000 != 0) {
-      if (n % 10000 != 0) {
-        if (n % 100 != 0) {
-          if (n % 10 != 0)
-            return 0;
-
-          return 1;
+    final int twos = Long.numberOfTrailingZeros(n);
+    long m = Math.abs(n);
+    byte zeroes = 0;
+    for (int i = LONG_INVERSE_POWERS_OF_FIVE.length - 1; i >= 0; --i) {
+      final int step = 1 << i;
+      if (zeroes + step <= twos) {
+        final long quotient = m * LONG_INVERSE_POWERS_OF_FIVE[i];
+        if (Long.compareUnsigned(quotient, LONG_MAX_QUOTIENTS_OF_FIVE[i]) <= 0) {
+          m = quotient;
+          zeroes += step;
         }
-
-        if (n % 1000 != 0)
-          return 2;
-
-        return 3;
-      }
-
-      if (n % 10000000 != 0) {
-        if (n % 100000 != 0)
-          return 4;
-
-        if (n % 1000000 != 0)
-          return 5;
-
-        return 6;
-      }
-
-      if (n % 100000000 != 0)
-        return 7;
-
-      return 8;
-    }
-
-    if (n % 1000000000000000L != 0) {
-      if (n % 1000000000000L != 0) {
-        if (n % 10000000000L != 0)
-          return 9;
-
-        if (n % 100000000000L != 0)
-          return 10;
-
-        return 11;
       }
-
-      if (n % 10000000000000L != 0)
-        return 12;
-
-      if (n % 100000000000000L != 0)
-        return 13;
-
-      return 14;
     }
 
-    if (n % 100000000000000000L != 0) {
-      if (n % 10000000000000000L != 0)
-        return 15;
-
-      return 16;
-    }
-
-    if (n % 1000000000000000000L != 0)
-      return 17;
-
-    return 18;
+    return zeroes;
   }
 
   /**
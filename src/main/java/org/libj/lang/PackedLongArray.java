@@ -0,0 +1,393 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * An immutable array of {@code long} values, which are packed into the minimum
+ * number of bits per value.
+ * <p>
+ * Values are encoded with one of the following {@link Encoding}s:
+ * <ul>
+ * <li>{@link Encoding#NONE}: Each value is stored as is, with the number of
+ * bits of the greatest unsigned value.</li>
+ * <li>{@link Encoding#FRAME_OF_REFERENCE}: Each value is stored as its
+ * difference from the minimum value, with the number of bits of the greatest
+ * difference.</li>
+ * <li>{@link Encoding#DELTA}: Each value is stored as its difference from the
+ * previous value, less the minimum difference, with the number of bits of the
+ * greatest such difference. The first value of each block of
+ * {@value #BLOCK_SIZE} values is stored in full, so a value is decoded by
+ * summing at most {@value #BLOCK_SIZE} differences.</li>
+ * </ul>
+ * Random access with {@link #get(int)} is constant time, and for
+ * {@link Encoding#DELTA} is bounded by {@value #BLOCK_SIZE}. The bulk
+ * {@link #get(int,long[],int,int)} decodes a range sequentially, which is
+ * faster than decoding each value separately.
+ */
+public final class PackedLongArray {
+  /** The encoding of the values in a {@link PackedLongArray}. */
+  public enum Encoding {
+    /** Each value is stored as is. */
+    NONE,
+    /** Each value is stored as its difference from the minimum value. */
+    FRAME_OF_REFERENCE,
+    /** Each value is stored as its difference from the previous value. */
+    DELTA
+  }
+
+  /** The number of values in a block of an array with {@link Encoding#DELTA}. */
+  public static final int BLOCK_SIZE = 64;
+
+  private static final int BLOCK_SHIFT = 6;
+
+  private static final long[] EMPTY_LONGS = {};
+
+  /**
+   * Returns a new {@link PackedLongArray} of the specified values, with the
+   * {@link Encoding} that packs the values into the fewest bits.
+   * {@link Encoding#FRAME_OF_REFERENCE} is preferred over
+   * {@link Encoding#DELTA} if both pack the values into the same number of
+   * bits.
+   *
+   * @param values The values.
+   * @return A new {@link PackedLongArray} of the specified values.
+   * @throws NullPointerException If {@code values} is null.
+   */
+  public static PackedLongArray of(final long ... values) {
+    return of(values, 0, values.length);
+  }
+
+  /**
+   * Returns a new {@link PackedLongArray} of the values in the specified range
+   * of the array, with the {@link Encoding} that packs the values into the
+   * fewest bits. {@link Encoding#FRAME_OF_REFERENCE} is preferred over
+   * {@link Encoding#DELTA} if both pack the values into the same number of
+   * bits.
+   *
+   * @param values The array of values.
+   * @param fromIndex The index of the first value to pack (inclusive).
+   * @param toIndex The index of the last value to pack (exclusive).
+   * @return A new {@link PackedLongArray} of the values in the specified range
+   *         of the array.
+   * @throws NullPointerException If {@code values} is null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static PackedLongArray of(final long[] values, final int fromIndex, final int toIndex) {
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "length", values.length);
+    final int length = toIndex - fromIndex;
+    final long frameBits = (long)frameOfReferenceBitsPerValue(values, fromIndex, toIndex) * length;
+    final long deltaBits = (long)deltaBitsPerValue(values, fromIndex, toIndex) * length + (long)Long.SIZE * blocks(length);
+    return new PackedLongArray(values, fromIndex, toIndex, deltaBits < frameBits ? Encoding.DELTA : Encoding.FRAME_OF_REFERENCE);
+  }
+
+  /**
+   * Returns a new {@link PackedLongArray} of the specified values, with the
+   * specified {@link Encoding}.
+   *
+   * @param values The values.
+   * @param encoding The {@link Encoding}.
+   * @return A new {@link PackedLongArray} of the specified values.
+   * @throws NullPointerException If {@code values} or {@code encoding} is null.
+   */
+  public static PackedLongArray of(final long[] values, final Encoding encoding) {
+    return of(values, 0, values.length, encoding);
+  }
+
+  /**
+   * Returns a new {@link PackedLongArray} of the values in the specified range
+   * of the array, with the specified {@link Encoding}.
+   *
+   * @param values The array of values.
+   * @param fromIndex The index of the first value to pack (inclusive).
+   * @param toIndex The index of the last value to pack (exclusive).
+   * @param encoding The {@link Encoding}.
+   * @return A new {@link PackedLongArray} of the values in the specified range
+   *         of the array.
+   * @throws NullPointerException If {@code values} or {@code encoding} is null.
+   * @throws IndexOutOfBoundsException If the given {@code fromIndex} or
+   *           {@code toIndex} is out of range.
+   */
+  public static PackedLongArray of(final long[] values, final int fromIndex, final int toIndex, final Encoding encoding) {
+    Assertions.assertRange("fromIndex", fromIndex, "toIndex", toIndex, "length", values.length);
+    return new PackedLongArray(values, fromIndex, toIndex, encoding);
+  }
+
+  private static int blocks(final int length) {
+    return (length + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+  }
+
+  private static int frameOfReferenceBitsPerValue(final long[] values, final int fromIndex, final int toIndex) {
+    if (fromIndex == toIndex)
+      return 0;
+
+    long min = values[fromIndex];
+    long max = min;
+    for (int i = fromIndex + 1; i < toIndex; ++i) {
+      final long value = values[i];
+      if (value < min)
+        min = value;
+      else if (value > max)
+        max = value;
+    }
+
+    // The difference is regarded as unsigned, so it does not overflow
+    return Bytes.getSize(max - min);
+  }
+
+  private static int deltaBitsPerValue(final long[] values, final int fromIndex, final int toIndex) {
+    if (toIndex - fromIndex < 2)
+      return 0;
+
+    long min = Long.MAX_VALUE;
+    long max = Long.MIN_VALUE;
+    for (int i = fromIndex + 1; i < toIndex; ++i) {
+      final long delta = values[i] - values[i - 1];
+      if (delta < min)
+        min = delta;
+
+      if (delta > max)
+        max = delta;
+    }
+
+    return Bytes.getSize(max - min);
+  }
+
+  private final Encoding encoding;
+  private final int length;
+  private final int bitsPerValue;
+  private final long mask;
+  private final long reference;
+  private final long[] bases;
+  private final long[] words;
+
+  private PackedLongArray(final long[] values, final int fromIndex, final int toIndex, final Encoding encoding) {
+    this.encoding = Objects.requireNonNull(encoding);
+    this.length = toIndex - fromIndex;
+
+    final long[] bases;
+    long reference = 0;
+    if (encoding == Encoding.DELTA) {
+      bases = new long[blocks(length)];
+      reference = Long.MAX_VALUE;
+      for (int i = fromIndex + 1; i < toIndex; ++i)
+        reference = Math.min(reference, values[i] - values[i - 1]);
+
+      this.bitsPerValue = deltaBitsPerValue(values, fromIndex, toIndex);
+    }
+    else {
+      bases = EMPTY_LONGS;
+      if (encoding == Encoding.FRAME_OF_REFERENCE) {
+        reference = Long.MAX_VALUE;
+        for (int i = fromIndex; i < toIndex; ++i)
+          reference = Math.min(reference, values[i]);
+
+        this.bitsPerValue = frameOfReferenceBitsPerValue(values, fromIndex, toIndex);
+      }
+      else {
+        long or = 0;
+        for (int i = fromIndex; i < toIndex; ++i)
+          or |= values[i];
+
+        this.bitsPerValue = Bytes.getSize(or);
+      }
+    }
+
+    this.reference = reference;
+    this.bases = bases;
+    this.mask = bitsPerValue == Long.SIZE ? -1L : (1L << bitsPerValue) - 1;
+    this.words = new long[(int)(((long)length * bitsPerValue + Long.SIZE - 1) >>> 6)];
+    if (bitsPerValue == 0 && encoding != Encoding.DELTA)
+      return;
+
+    for (int i = 0; i < length; ++i) {
+      final long value = values[fromIndex + i];
+      final long packed;
+      if (encoding != Encoding.DELTA) {
+        packed = value - reference;
+      }
+      else if ((i & (BLOCK_SIZE - 1)) == 0) {
+        bases[i >>> BLOCK_SHIFT] = value;
+        packed = 0;
+      }
+      else {
+        packed = value - values[fromIndex + i - 1] - reference;
+      }
+
+      if (packed != 0)
+        pack(i, packed);
+    }
+  }
+
+  private void pack(final int index, final long packed) {
+    final long bitIndex = (long)index * bitsPerValue;
+    final int word = (int)(bitIndex >>> 6);
+    final int shift = (int)bitIndex & 63;
+    words[word] |= packed << shift;
+    if (shift + bitsPerValue > Long.SIZE)
+      words[word + 1] |= packed >>> (Long.SIZE - shift);
+  }
+
+  private long unpack(final int index) {
+    if (bitsPerValue == 0)
+      return 0;
+
+    final long bitIndex = (long)index * bitsPerValue;
+    final int word = (int)(bitIndex >>> 6);
+    final int shift = (int)bitIndex & 63;
+    long packed = words[word] >>> shift;
+    if (shift + bitsPerValue > Long.SIZE)
+      packed |= words[word + 1] << (Long.SIZE - shift);
+
+    return packed & mask;
+  }
+
+  /**
+   * Returns the {@link Encoding} of the values in this array.
+   *
+   * @return The {@link Encoding} of the values in this array.
+   */
+  public Encoding encoding() {
+    return encoding;
+  }
+
+  /**
+   * Returns the number of values in this array.
+   *
+   * @return The number of values in this array.
+   */
+  public int size() {
+    return length;
+  }
+
+  /**
+   * Returns the number of bits in which each value of this array is packed.
+   *
+   * @return The number of bits in which each value of this array is packed.
+   */
+  public int bitsPerValue() {
+    return bitsPerValue;
+  }
+
+  /**
+   * Returns the number of bytes of the packed values of this array, which
+   * excludes the fixed overhead of the object itself.
+   *
+   * @return The number of bytes of the packed values of this array.
+   */
+  public long sizeInBytes() {
+    return (long)(words.length + bases.length) * Long.BYTES;
+  }
+
+  /**
+   * Returns the value at the specified index.
+   *
+   * @param index The index of the value to return.
+   * @return The value at the specified index.
+   * @throws IndexOutOfBoundsException If the index is out of range.
+   */
+  public long get(final int index) {
+    Assertions.assertRangeArray(index, length);
+    if (encoding != Encoding.DELTA)
+      return reference + unpack(index);
+
+    final int block = index >>> BLOCK_SHIFT;
+    long value = bases[block];
+    for (int i = block << BLOCK_SHIFT; i < index;)
+      value += unpack(++i) + reference;
+
+    return value;
+  }
+
+  /**
+   * Decodes the specified number of values from this array, starting at
+   * {@code fromIndex}, into the specified destination array, starting at
+   * {@code destOffset}.
+   *
+   * @param fromIndex The index of the first value to decode.
+   * @param dest The destination array.
+   * @param destOffset The index in {@code dest} at which to write the first
+   *          value.
+   * @param length The number of values to decode.
+   * @return The destination array.
+   * @throws NullPointerException If {@code dest} is null.
+   * @throws IndexOutOfBoundsException If the range of this array or of
+   *           {@code dest} is out of range.
+   */
+  public long[] get(final int fromIndex, final long[] dest, final int destOffset, final int length) {
+    Assertions.assertRange("fromIndex", fromIndex, "fromIndex + length", fromIndex + length, "size", this.length);
+    Assertions.assertRange("destOffset", destOffset, "destOffset + length", destOffset + length, "dest.length", dest.length);
+    if (length == 0)
+      return dest;
+
+    final int toIndex = fromIndex + length;
+    if (bitsPerValue == 0 && encoding != Encoding.DELTA) {
+      Arrays.fill(dest, destOffset, destOffset + length, reference);
+      return dest;
+    }
+
+    // Read the packed values sequentially, keeping the current word in a register
+    long bitIndex = (long)fromIndex * bitsPerValue;
+    int word = (int)(bitIndex >>> 6);
+    int shift = (int)bitIndex & 63;
+    long current = words.length == 0 ? 0 : words[word];
+    long value = encoding == Encoding.DELTA ? get(fromIndex) : 0;
+    for (int i = fromIndex, j = destOffset; i < toIndex; ++i, ++j) {
+      long packed = 0;
+      if (bitsPerValue != 0) {
+        packed = current >>> shift;
+        shift += bitsPerValue;
+        if (shift >= Long.SIZE) {
+          shift -= Long.SIZE;
+          current = ++word < words.length ? words[word] : 0;
+          if (shift > 0)
+            packed |= current << (bitsPerValue - shift);
+        }
+
+        packed &= mask;
+      }
+
+      if (encoding != Encoding.DELTA)
+        dest[j] = reference + packed;
+      else if (i == fromIndex)
+        dest[j] = value;
+      else if ((i & (BLOCK_SIZE - 1)) == 0)
+        dest[j] = value = bases[i >>> BLOCK_SHIFT];
+      else
+        dest[j] = value += packed + reference;
+    }
+
+    return dest;
+  }
+
+  /**
+   * Returns a new array of the values of this array.
+   *
+   * @return A new array of the values of this array.
+   */
+  public long[] toArray() {
+    return get(0, new long[length], 0, length);
+  }
+
+  @Override
+  public String toString() {
+    return "{size=" + length + ", encoding=" + encoding + ", bitsPerValue=" + bitsPerValue + ", sizeInBytes=" + sizeInBytes() + "}";
+  }
+}
@@ -0,0 +1,79 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Lazily populated caches of powers of ten as {@link BigInteger} and
+ * {@link BigDecimal}, backing {@link BigIntegers#pow10(int)} and
+ * {@link BigDecimals#pow10(int)}.
+ * <p>
+ * Exponents up to the value of the {@value #MAX_CACHED_EXPONENT_PROPERTY}
+ * system property (default {@code 512}) are cached on first use, and larger
+ * exponents are computed on every call. The caches are populated without
+ * locking: concurrent callers may compute the same power more than once, but
+ * always observe a fully constructed value, because {@link BigInteger} and
+ * {@link BigDecimal} are immutable.
+ */
+final class PowersOfTen {
+  static final String MAX_CACHED_EXPONENT_PROPERTY = "org.libj.lang.PowersOfTen.maxCachedExponent";
+  static final int MAX_CACHED_EXPONENT = Math.max(0, Integer.getInteger(MAX_CACHED_EXPONENT_PROPERTY, 512));
+
+  private static final BigInteger[] bigIntegers = new BigInteger[MAX_CACHED_EXPONENT + 1];
+  private static final BigDecimal[] bigDecimals = new BigDecimal[2 * MAX_CACHED_EXPONENT + 1];
+
+  /**
+   * Returns {@code 10^exp} as a {@link BigInteger}.
+   *
+   * @param exp The exponent, which must not be negative.
+   * @return {@code 10^exp} as a {@link BigInteger}.
+   */
+  static BigInteger bigInteger(final int exp) {
+    if (exp > MAX_CACHED_EXPONENT)
+      return BigInteger.TEN.pow(exp);
+
+    BigInteger pow = bigIntegers[exp];
+    if (pow == null)
+      bigIntegers[exp] = pow = exp == 0 ? BigInteger.ONE : exp == 1 ? BigInteger.TEN : BigInteger.TEN.pow(exp);
+
+    return pow;
+  }
+
+  /**
+   * Returns {@code 10^exp} as a {@link BigDecimal}, with a scale of {@code 0}
+   * if {@code exp} is not negative, and otherwise a scale of {@code -exp}.
+   *
+   * @param exp The exponent.
+   * @return {@code 10^exp} as a {@link BigDecimal}.
+   */
+  static BigDecimal bigDecimal(final int exp) {
+    if (exp > MAX_CACHED_EXPONENT || exp < -MAX_CACHED_EXPONENT)
+      return exp < 0 ? new BigDecimal(BigInteger.ONE, -exp) : new BigDecimal(BigInteger.TEN.pow(exp));
+
+    final int index = exp + MAX_CACHED_EXPONENT;
+    BigDecimal pow = bigDecimals[index];
+    if (pow == null)
+      bigDecimals[index] = pow = exp < 0 ? new BigDecimal(BigInteger.ONE, -exp) : new BigDecimal(bigInteger(exp));
+
+    return pow;
+  }
+
+  private PowersOfTen() {
+  }
+}
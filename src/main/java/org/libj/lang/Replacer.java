@@ -0,0 +1,320 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable, thread-safe replacer of many literal targets in one pass,
+ * which is built on an Aho-Corasick automaton of the targets.
+ * <p>
+ * Matches are leftmost-longest and do not overlap: of the targets that occur
+ * in the text, the one that starts first is replaced, and of the targets that
+ * start at the same index, the longest is replaced. The search then resumes at
+ * the end of the replaced target. Replacements are not searched for targets.
+ * <p>
+ * The text is read once, except that after each match, at most the length of
+ * the longest target is read again. The output is written to a fresh buffer,
+ * so no characters are shifted.
+ */
+public final class Replacer {
+  private static final int DEAD = 0;
+  private static final int ROOT = 1;
+
+  /**
+   * Returns a new {@link Replacer} that replaces each key of the specified map
+   * with its value.
+   *
+   * @param replacements The map of target to replacement sequences.
+   * @return A new {@link Replacer} that replaces each key of the specified map
+   *         with its value.
+   * @throws IllegalArgumentException If a target is empty.
+   * @throws NullPointerException If {@code replacements}, or a key or value in
+   *           {@code replacements} is null.
+   */
+  public static Replacer of(final Map<? extends CharSequence,? extends CharSequence> replacements) {
+    final CharSequence[] targets = new CharSequence[replacements.size()];
+    final CharSequence[] values = new CharSequence[targets.length];
+    int i = 0;
+    for (final Map.Entry<? extends CharSequence,? extends CharSequence> entry : replacements.entrySet()) {
+      targets[i] = entry.getKey();
+      values[i++] = entry.getValue();
+    }
+
+    return new Replacer(targets, values);
+  }
+
+  /**
+   * Returns a new {@link Replacer} that replaces each of the specified targets
+   * with the replacement at the same index. If a target is specified more than
+   * once, its first replacement is used.
+   *
+   * @param targets The target sequences.
+   * @param replacements The replacement sequences.
+   * @return A new {@link Replacer} that replaces each of the specified targets
+   *         with the replacement at the same index.
+   * @throws IllegalArgumentException If a target is empty, or if the lengths of
+   *           {@code targets} and {@code replacements} differ.
+   * @throws NullPointerException If {@code targets}, {@code replacements}, or
+   *           a member of either is null.
+   */
+  public static Replacer of(final CharSequence[] targets, final CharSequence[] replacements) {
+    if (targets.length != replacements.length)
+      throw new IllegalArgumentException("targets.length (" + targets.length + ") != replacements.length (" + replacements.length + ")");
+
+    return new Replacer(targets.clone(), replacements.clone());
+  }
+
+  private final String[] replacements;
+  private final int[] lengths;
+
+  // The transitions of state s are keys[offsets[s]..offsets[s + 1]) to nexts[offsets[s]..offsets[s + 1]), with keys sorted
+  private final int[] offsets;
+  private final char[] keys;
+  private final int[] nexts;
+
+  // The failure transition of each state, which is DEAD if failing would skip a match that has been seen
+  private final int[] fails;
+
+  // The index of the target to record as the match when each state is reached, or -1
+  private final int[] reports;
+
+  private Replacer(final CharSequence[] targets, final CharSequence[] values) {
+    this.replacements = new String[targets.length];
+    this.lengths = new int[targets.length];
+
+    // Build the trie, with the DEAD and ROOT states
+    final ArrayList<TreeMap<Character,Integer>> children = new ArrayList<>();
+    final ArrayList<Integer> owns = new ArrayList<>();
+    final ArrayList<Integer> depths = new ArrayList<>();
+    for (int s = 0; s <= ROOT; ++s) {
+      children.add(new TreeMap<>());
+      owns.add(-1);
+      depths.add(0);
+    }
+
+    for (int i = 0; i < targets.length; ++i) {
+      final CharSequence target = targets[i];
+      final int len = target.length();
+      if (len == 0)
+        throw new IllegalArgumentException("Empty target at index " + i);
+
+      replacements[i] = values[i].toString();
+      lengths[i] = len;
+      int state = ROOT;
+      for (int j = 0; j < len; ++j) {
+        final TreeMap<Character,Integer> next = children.get(state);
+        final Character ch = target.charAt(j);
+        Integer child = next.get(ch);
+        if (child == null) {
+          next.put(ch, child = children.size());
+          children.add(new TreeMap<>());
+          owns.add(-1);
+          depths.add(j + 1);
+        }
+
+        state = child;
+      }
+
+      if (owns.get(state) < 0)
+        owns.set(state, i);
+    }
+
+    final int size = children.size();
+    this.offsets = new int[size + 1];
+    for (int s = 0; s < size; ++s)
+      offsets[s + 1] = offsets[s] + children.get(s).size();
+
+    this.keys = new char[offsets[size]];
+    this.nexts = new int[offsets[size]];
+    for (int s = 0, k = 0; s < size; ++s) {
+      for (final Map.Entry<Character,Integer> entry : children.get(s).entrySet()) {
+        keys[k] = entry.getKey();
+        nexts[k++] = entry.getValue();
+      }
+    }
+
+    // Compute the failure transitions breadth first. The link is the usual
+    // Aho-Corasick failure transition, and seen is the start (counted from 1
+    // at the start of the state's string) of the leftmost match on the path to
+    // each state, or 0 if there is none. A failure transition that would start
+    // after the leftmost match is replaced with DEAD, so that the match is
+    // reported instead.
+    this.fails = new int[size];
+    this.reports = new int[size];
+    final int[] links = new int[size];
+    final int[] matches = new int[size];
+    final int[] seen = new int[size];
+    reports[DEAD] = reports[ROOT] = matches[DEAD] = matches[ROOT] = -1;
+    links[ROOT] = fails[ROOT] = ROOT;
+    final int[] queue = new int[size];
+    int head = 0, tail = 0;
+    queue[tail++] = ROOT;
+    while (head < tail) {
+      final int parent = queue[head++];
+      for (int k = offsets[parent], end = offsets[parent + 1]; k < end; ++k) {
+        final int state = nexts[k];
+        queue[tail++] = state;
+        final int depth = depths.get(state);
+        int link = ROOT;
+        if (parent != ROOT) {
+          for (int l = links[parent];; l = links[l]) {
+            final int next = transition(l, keys[k]);
+            if (next >= 0) {
+              link = next;
+              break;
+            }
+
+            if (l == ROOT)
+              break;
+          }
+        }
+
+        links[state] = link;
+        final int own = owns.get(state);
+        final int match = matches[state] = own >= 0 ? own : matches[link];
+        final int start = match < 0 ? 0 : depth - lengths[match] + 1;
+        reports[state] = match >= 0 && (seen[parent] == 0 || start <= seen[parent]) ? match : -1;
+        seen[state] = seen[parent] == 0 ? start : start == 0 ? seen[parent] : Math.min(seen[parent], start);
+        fails[state] = seen[state] != 0 && depth - depths.get(link) + 1 > seen[state] ? DEAD : link;
+      }
+    }
+  }
+
+  private int transition(final int state, final char ch) {
+    int low = offsets[state];
+    int high = offsets[state + 1] - 1;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      final char key = keys[mid];
+      if (key < ch)
+        low = mid + 1;
+      else if (key > ch)
+        high = mid - 1;
+      else
+        return nexts[mid];
+    }
+
+    return -1;
+  }
+
+  private int next(int state, final char ch) {
+    while (true) {
+      final int next = transition(state, ch);
+      if (next >= 0)
+        return next;
+
+      if (state == ROOT)
+        return ROOT;
+
+      if ((state = fails[state]) == DEAD)
+        return DEAD;
+    }
+  }
+
+  /**
+   * Appends the specified text to the provided {@link StringBuilder}, with each
+   * target replaced with its replacement.
+   *
+   * @param text The text.
+   * @param out The {@link StringBuilder} to which to append.
+   * @return The number of targets that were replaced.
+   */
+  private int replace(final CharSequence text, final StringBuilder out) {
+    final int len = text.length();
+    int count = 0;
+    int copied = 0;
+    for (int from = 0; from < len;) {
+      int state = ROOT;
+      int match = -1;
+      int matchEnd = 0;
+      for (int i = from; i < len;) {
+        if ((state = next(state, text.charAt(i++))) == DEAD)
+          break;
+
+        final int report = reports[state];
+        if (report >= 0) {
+          match = report;
+          matchEnd = i;
+        }
+      }
+
+      if (match < 0)
+        break;
+
+      ++count;
+      out.append(text, copied, matchEnd - lengths[match]).append(replacements[match]);
+      from = copied = matchEnd;
+    }
+
+    if (count > 0)
+      out.append(text, copied, len);
+
+    return count;
+  }
+
+  /**
+   * Returns the specified text, with each target replaced with its
+   * replacement.
+   *
+   * @param text The text.
+   * @return The specified text, with each target replaced with its
+   *         replacement.
+   * @throws NullPointerException If {@code text} is null.
+   */
+  public String replace(final CharSequence text) {
+    final StringBuilder out = new StringBuilder(text.length());
+    return replace(text, out) > 0 ? out.toString() : text.toString();
+  }
+
+  /**
+   * Replaces each target in the specified {@link StringBuilder} with its
+   * replacement.
+   *
+   * @param builder The {@link StringBuilder}.
+   * @return Whether the specified {@link StringBuilder} was changed as a result
+   *         of this operation.
+   * @throws NullPointerException If {@code builder} is null.
+   */
+  public boolean replace(final StringBuilder builder) {
+    final StringBuilder out = new StringBuilder(builder.length());
+    if (replace(builder, out) == 0)
+      return false;
+
+    builder.setLength(0);
+    builder.append(out);
+    return true;
+  }
+
+  /**
+   * Appends the specified text to the provided {@link StringBuilder}, with each
+   * target replaced with its replacement.
+   *
+   * @param text The text.
+   * @param out The {@link StringBuilder} to which to append.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code text} or {@code out} is null.
+   */
+  public StringBuilder appendTo(final CharSequence text, final StringBuilder out) {
+    if (replace(text, out) == 0)
+      out.append(text);
+
+    return out;
+  }
+}
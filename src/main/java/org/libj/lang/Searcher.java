@@ -0,0 +1,580 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * An immutable, thread-safe searcher of the occurrences of a literal pattern
+ * in text, which is compiled once and can be reused for any number of
+ * searches.
+ * <p>
+ * Patterns of up to 32 chars are searched with the Boyer-Moore-Horspool
+ * algorithm, which skips ahead by up to the length of the pattern after each
+ * comparison. Longer patterns are searched with the Two-Way algorithm, which
+ * runs in linear time in the worst case, and which also skips ahead on the
+ * last char of each window. The skip tables are indexed by the low 8 bits of
+ * each char, so chars that share them skip by the smaller distance.
+ * <p>
+ * Backward searches use the same algorithms, compiled from the reverse of the
+ * pattern.
+ */
+public final class Searcher {
+  private static final int TWO_WAY_MIN_LENGTH = 33;
+  private static final int MASK = 0xFF;
+
+  /**
+   * Returns a new {@link Searcher} of the specified pattern.
+   *
+   * @param pattern The pattern.
+   * @return A new {@link Searcher} of the specified pattern.
+   * @throws NullPointerException If {@code pattern} is null.
+   */
+  public static Searcher of(final CharSequence pattern) {
+    return new Searcher(pattern.toString());
+  }
+
+  /** A forward search of a pattern. */
+  private abstract static class Engine {
+    final char[] x;
+    final int[] shifts = new int[MASK + 1];
+
+    Engine(final char[] x) {
+      this.x = x;
+      final int m = x.length;
+      Arrays.fill(shifts, m);
+      for (int i = 0; i < m - 1; ++i)
+        shifts[x[i] & MASK] = m - 1 - i;
+    }
+
+    /**
+     * Returns the first index at or after {@code j} at which the pattern
+     * occurs in the specified text, or {@code -1} if there is none.
+     *
+     * @param y The text.
+     * @param n The length of the text.
+     * @param j The index at which to start.
+     * @param memory The length of the prefix of the pattern that is known to
+     *          match at {@code j}.
+     * @return The first index at or after {@code j} at which the pattern
+     *         occurs in the specified text, or {@code -1} if there is none.
+     */
+    abstract int search(CharSequence y, int n, int j, int memory);
+
+    /**
+     * Returns the distance to advance after an occurrence to reach the next
+     * possible one.
+     *
+     * @return The distance to advance after an occurrence to reach the next
+     *         possible one.
+     */
+    abstract int skip();
+
+    /**
+     * Returns the length of the prefix of the pattern that is known to match
+     * after advancing by {@link #skip()} from an occurrence.
+     *
+     * @return The length of the prefix of the pattern that is known to match
+     *         after advancing by {@link #skip()} from an occurrence.
+     */
+    abstract int skipMemory();
+  }
+
+  private static final class Horspool extends Engine {
+    Horspool(final char[] x) {
+      super(x);
+    }
+
+    @Override
+    int skip() {
+      return 1;
+    }
+
+    @Override
+    int skipMemory() {
+      return 0;
+    }
+
+    @Override
+    int search(final CharSequence y, final int n, int j, final int memory) {
+      final char[] x = this.x;
+      final int last = x.length - 1;
+      final char ch = x[last];
+      for (final int end = n - last; j < end;) {
+        final char c = y.charAt(j + last);
+        if (c == ch) {
+          int i = last - 1;
+          while (i >= 0 && x[i] == y.charAt(j + i))
+            --i;
+
+          if (i < 0)
+            return j;
+        }
+
+        j += shifts[c & MASK];
+      }
+
+      return -1;
+    }
+  }
+
+  private static final class TwoWay extends Engine {
+    // The start of the right half of the critical factorization
+    private final int suffix;
+    private final int period;
+    private final boolean periodic;
+
+    TwoWay(final char[] x) {
+      super(x);
+      final int m = x.length;
+
+      // A window whose last char may match is not skipped, so that a skip
+      // implies a mismatch
+      shifts[x[m - 1] & MASK] = 0;
+
+      // Compute the maximal suffixes for both orderings of the alphabet, the
+      // later of which gives the critical factorization
+      int ms = -1, p = 1;
+      for (int j = 0, k = 1; j + k < m;) {
+        final char a = x[j + k];
+        final char b = x[ms + k];
+        if (a < b) {
+          j += k;
+          k = 1;
+          p = j - ms;
+        }
+        else if (a == b) {
+          if (k != p) {
+            ++k;
+          }
+          else {
+            j += p;
+            k = 1;
+          }
+        }
+        else {
+          ms = j++;
+          k = p = 1;
+        }
+      }
+
+      int msr = -1, pr = 1;
+      for (int j = 0, k = 1; j + k < m;) {
+        final char a = x[j + k];
+        final char b = x[msr + k];
+        if (a > b) {
+          j += k;
+          k = 1;
+          pr = j - msr;
+        }
+        else if (a == b) {
+          if (k != pr) {
+            ++k;
+          }
+          else {
+            j += pr;
+            k = 1;
+          }
+        }
+        else {
+          msr = j++;
+          k = pr = 1;
+        }
+      }
+
+      if (msr < ms) {
+        this.suffix = ms + 1;
+      }
+      else {
+        this.suffix = msr + 1;
+        p = pr;
+      }
+
+      // The pattern is periodic if its left half recurs one period later
+      boolean periodic = suffix + p <= m;
+      for (int i = 0; periodic && i < suffix; ++i)
+        periodic = x[i] == x[i + p];
+
+      this.periodic = periodic;
+
+      // If the pattern is not periodic, its period is longer than either half,
+      // so an occurrence cannot be followed by another one that is closer
+      this.period = periodic ? p : Math.max(suffix, m - suffix) + 1;
+    }
+
+    @Override
+    int skip() {
+      return period;
+    }
+
+    @Override
+    int skipMemory() {
+      return periodic ? x.length - period : 0;
+    }
+
+    @Override
+    int search(final CharSequence y, final int n, int j, int memory) {
+      final char[] x = this.x;
+      final int m = x.length;
+      final int last = m - 1;
+      final int suffix = this.suffix;
+      final int period = this.period;
+      if (periodic) {
+        while (j <= n - m) {
+          int shift = shifts[y.charAt(j + last) & MASK];
+          if (shift > 0) {
+            // The last period of the window has a char out of place, so
+            // there can be no match before the mismatch
+            if (memory > 0 && shift < period)
+              shift = m - period;
+
+            memory = 0;
+            j += shift;
+            continue;
+          }
+
+          // The shift table is not exact, so the last char is compared too
+          int i = Math.max(suffix, memory);
+          while (i < m && x[i] == y.charAt(j + i))
+            ++i;
+
+          if (i < m) {
+            j += i - suffix + 1;
+            memory = 0;
+            continue;
+          }
+
+          i = suffix - 1;
+          while (i >= memory && x[i] == y.charAt(j + i))
+            --i;
+
+          if (i < memory)
+            return j;
+
+          j += period;
+          memory = m - period;
+        }
+      }
+      else {
+        while (j <= n - m) {
+          final int shift = shifts[y.charAt(j + last) & MASK];
+          if (shift > 0) {
+            j += shift;
+            continue;
+          }
+
+          int i = suffix;
+          while (i < m && x[i] == y.charAt(j + i))
+            ++i;
+
+          if (i < m) {
+            j += i - suffix + 1;
+            continue;
+          }
+
+          i = suffix - 1;
+          while (i >= 0 && x[i] == y.charAt(j + i))
+            --i;
+
+          if (i < 0)
+            return j;
+
+          j += period;
+        }
+      }
+
+      return -1;
+    }
+  }
+
+  /** A view of a {@link CharSequence} in reverse order. */
+  private static final class Reversed implements CharSequence {
+    private final CharSequence text;
+    private final int last;
+
+    private Reversed(final CharSequence text) {
+      this.text = text;
+      this.last = text.length() - 1;
+    }
+
+    @Override
+    public int length() {
+      return last + 1;
+    }
+
+    @Override
+    public char charAt(final int index) {
+      return text.charAt(last - index);
+    }
+
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+      return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+      final char[] chars = new char[last + 1];
+      for (int i = 0; i <= last; ++i)
+        chars[i] = text.charAt(last - i);
+
+      return new String(chars);
+    }
+  }
+
+  private static Engine compile(final char[] x) {
+    return x.length < TWO_WAY_MIN_LENGTH ? new Horspool(x) : new TwoWay(x);
+  }
+
+  private final String pattern;
+  private final Engine forward;
+  private final Engine backward;
+
+  private Searcher(final String pattern) {
+    this.pattern = pattern;
+    final int m = pattern.length();
+    if (m == 0) {
+      this.forward = null;
+      this.backward = null;
+    }
+    else {
+      final char[] x = pattern.toCharArray();
+      final char[] reverse = new char[m];
+      for (int i = 0; i < m; ++i)
+        reverse[i] = x[m - 1 - i];
+
+      this.forward = compile(x);
+      this.backward = compile(reverse);
+    }
+  }
+
+  /**
+   * Returns the pattern of this {@link Searcher}.
+   *
+   * @return The pattern of this {@link Searcher}.
+   */
+  public String getPattern() {
+    return pattern;
+  }
+
+  /**
+   * Returns the index within the specified text of the first occurrence of
+   * the pattern.
+   *
+   * @param text The text.
+   * @return The index within the specified text of the first occurrence of
+   *         the pattern, or {@code -1} if the pattern does not occur.
+   * @throws NullPointerException If {@code text} is null.
+   */
+  public int indexOf(final CharSequence text) {
+    return indexOf(text, 0);
+  }
+
+  /**
+   * Returns the index within the specified text of the first occurrence of
+   * the pattern, starting at the specified index. As with
+   * {@link String#indexOf(String,int)}, there is no restriction on the value
+   * of {@code fromIndex}: if it is negative, the whole text is searched, and if
+   * it is greater than the length of the text, {@code -1} is returned.
+   *
+   * @param text The text.
+   * @param fromIndex The index from which to start the search.
+   * @return The index within the specified text of the first occurrence of
+   *         the pattern that is greater than or equal to {@code fromIndex}, or
+   *         {@code -1} if the pattern does not occur.
+   * @throws NullPointerException If {@code text} is null.
+   */
+  public int indexOf(final CharSequence text, final int fromIndex) {
+    final int n = text.length();
+    final int from = Math.max(fromIndex, 0);
+    if (forward == null)
+      return Math.min(from, n);
+
+    return from > n - pattern.length() ? -1 : forward.search(text, n, from, 0);
+  }
+
+  /**
+   * Returns the index within the specified {@code char[]} of the first
+   * occurrence of the pattern.
+   *
+   * @param text The {@code char[]}.
+   * @return The index within the specified {@code char[]} of the first
+   *         occurrence of the pattern, or {@code -1} if the pattern does not
+   *         occur.
+   * @throws NullPointerException If {@code text} is null.
+   */
+  public int indexOf(final char[] text) {
+    return indexOf(new ArrayCharSequence(text), 0);
+  }
+
+  /**
+   * Returns the index within the specified {@code char[]} of the first
+   * occurrence of the pattern, starting at the specified index, with the same
+   * semantics as {@link #indexOf(CharSequence,int)}.
+   *
+   * @param text The {@code char[]}.
+   * @param fromIndex The index from which to start the search.
+   * @return The index within the specified {@code char[]} of the first
+   *         occurrence of the pattern that is greater than or equal to
+   *         {@code fromIndex}, or {@code -1} if the pattern does not occur.
+   * @throws NullPointerException If {@code text} is null.
+   */
+  public int indexOf(final char[] text, final int fromIndex) {
+    return indexOf(new ArrayCharSequence(text), fromIndex);
+  }
+
+  /**
+   * Returns the index within the specified text of the last occurrence of the
+   * pattern.
+   *
+   * @param text The text.
+   * @return The index within the specified text of the last occurrence of the
+   *         pattern, or {@code -1} if the pattern does not occur.
+   * @throws NullPointerException If {@code text} is null.
+   */
+  public int lastIndexOf(final CharSequence text) {
+    return lastIndexOf(text, Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the index within the specified text of the last occurrence of the
+   * pattern, searching backward from the specified index. As with
+   * {@link String#lastIndexOf(String,int)}, there is no restriction on the
+   * value of {@code fromIndex}: if it is greater than or equal to the length of
+   * the text, the whole text is searched, and if it is negative, {@code -1} is
+   * returned.
+   *
+   * @param text The text.
+   * @param fromIndex The index from which to start the search.
+   * @return The index within the specified text of the last occurrence of the
+   *         pattern that is less than or equal to {@code fromIndex}, or
+   *         {@code -1} if the pattern does not occur.
+   * @throws NullPointerException If {@code text} is null.
+   */
+  public int lastIndexOf(final CharSequence text, final int fromIndex) {
+    final int n = text.length();
+    final int m = pattern.length();
+    final int from = Math.min(fromIndex, n - m);
+    if (from < 0)
+      return -1;
+
+    if (backward == null)
+      return from;
+
+    // An occurrence at i in the text is an occurrence of the reverse of the pattern at n - m - i in the reverse of the text
+    final int index = backward.search(new Reversed(text), n, n - m - from, 0);
+    return index < 0 ? -1 : n - m - index;
+  }
+
+  /**
+   * Returns the index within the specified {@code char[]} of the last
+   * occurrence of the pattern.
+   *
+   * @param text The {@code char[]}.
+   * @return The index within the specified {@code char[]} of the last
+   *         occurrence of the pattern, or {@code -1} if the pattern does not
+   *         occur.
+   * @throws NullPointerException If {@code text} is null.
+   */
+  public int lastIndexOf(final char[] text) {
+    return lastIndexOf(new ArrayCharSequence(text), Integer.MAX_VALUE);
+  }
+
+  /**
+   * Returns the index within the specified {@code char[]} of the last
+   * occurrence of the pattern, searching backward from the specified index,
+   * with the same semantics as {@link #lastIndexOf(CharSequence,int)}.
+   *
+   * @param text The {@code char[]}.
+   * @param fromIndex The index from which to start the search.
+   * @return The index within the specified {@code char[]} of the last
+   *         occurrence of the pattern that is less than or equal to
+   *         {@code fromIndex}, or {@code -1} if the pattern does not occur.
+   * @throws NullPointerException If {@code text} is null.
+   */
+  public int lastIndexOf(final char[] text, final int fromIndex) {
+    return lastIndexOf(new ArrayCharSequence(text), fromIndex);
+  }
+
+  /**
+   * Returns an iterator of the indices of all occurrences of the pattern in
+   * the specified text, in increasing order. Occurrences may overlap. The
+   * iterator carries what it knows of the text from one occurrence to the
+   * next, so the whole iteration takes linear time in the worst case. The
+   * text must not be modified during the iteration.
+   *
+   * @param text The text.
+   * @return An iterator of the indices of all occurrences of the pattern in
+   *         the specified text.
+   * @throws NullPointerException If {@code text} is null.
+   */
+  public PrimitiveIterator.OfInt matches(final CharSequence text) {
+    final int n = text.length();
+    return new PrimitiveIterator.OfInt() {
+      private int from = 0;
+      private int memory = 0;
+      private int next = -2;
+
+      @Override
+      public boolean hasNext() {
+        if (next == -2) {
+          if (forward == null) {
+            next = from <= n ? from : -1;
+            ++from;
+          }
+          else if ((next = from > n - pattern.length() ? -1 : forward.search(text, n, from, memory)) >= 0) {
+            from = next + forward.skip();
+            memory = forward.skipMemory();
+          }
+        }
+
+        return next >= 0;
+      }
+
+      @Override
+      public int nextInt() {
+        if (!hasNext())
+          throw new NoSuchElementException();
+
+        final int index = next;
+        next = -2;
+        return index;
+      }
+    };
+  }
+
+  /**
+   * Returns an iterator of the indices of all occurrences of the pattern in
+   * the specified {@code char[]}, with the same semantics as
+   * {@link #matches(CharSequence)}.
+   *
+   * @param text The {@code char[]}.
+   * @return An iterator of the indices of all occurrences of the pattern in
+   *         the specified {@code char[]}.
+   * @throws NullPointerException If {@code text} is null.
+   */
+  public PrimitiveIterator.OfInt matches(final char[] text) {
+    return matches(new ArrayCharSequence(text));
+  }
+
+  @Override
+  public String toString() {
+    return pattern;
+  }
+}
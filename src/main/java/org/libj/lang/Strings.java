@@ -16,6 +16,8 @@
 
 package org.libj.lang;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.security.SecureRandom;
 import java.text.ParseException;
@@ -36,6 +38,12 @@ public final class Strings {
   private static final char[] alphaNumeric = {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't', 'u', 'v', 'w', 'x', 'y', 'z', 'A', 'B', 'C', 'D', 'E', 'F', 'G', 'H', 'I', 'J', 'K', 'L', 'M', 'N', 'O', 'P', 'Q', 'R', 'S', 'T', 'U', 'V', 'W', 'X', 'Y', 'Z', '0', '1', '2', '3', '4', '5', '6', '7', '8', '9'};
   private static final SecureRandom secureRandom = new SecureRandom();
 
+  /** The size of the chunks in which the streaming {@code derefEL} and {@code derefEV} methods read and write. */
+  private static final int DEREF_BUFFER_SIZE = 8192;
+
+  /** The length of text from which {@link #lastIndexOf(CharSequence,CharSequence,int)} searches with a {@link Searcher}. */
+  private static final int SEARCHER_MIN_LENGTH = 1024;
+
   private static String getRandom(final SecureRandom secureRandom, final int length, final int start, final int len) {
     if (length == 0)
       return "";
@@ -134,42 +142,18 @@ public final class Strings {
     return getRandom(secureRandom, len, alphaNumeric.length - 10, 10);
   }
 
-  private static boolean interpolateShallow(final StringBuilder text, final Map<String,String> properties, final String open, final String close) {
-    boolean changed = false;
-    for (int start = text.length() - close.length() - 1; (start = text.lastIndexOf(open, start - 1)) > -1;) {
-      final int end = text.indexOf(close, start + open.length());
-      if (end < start)
-        continue;
-
-      final String key = text.substring(start + open.length(), end);
-      final String value = properties.get(key);
-      if (value != null) {
-        text.replace(start, end + close.length(), value);
-        changed = true;
-      }
-    }
-
-    return changed;
-  }
-
-  private static String interpolateDeep(final StringBuilder text, final Map<String,String> properties, final String prefix, final String suffix) {
-    final int max = properties.size() * properties.size();
-    for (int i = 0; interpolateShallow(text, properties, prefix, suffix); ++i)
-      if (i == max)
-        throw new IllegalArgumentException("Loop detected");
-
-    return text.toString();
-  }
-
   /**
    * Interpolates all the <i>value</i> strings in the specified {@link Map} by
    * matching {@code prefix + value + suffix}, where <i>value</i> is a
    * <i>key</i> in the {@link Map}, and replacing it with the value from the
    * {@link Map}.
    * <p>
-   * This performance of this algorithm is {@code O(n^2)} by nature. If the
-   * specified {@link Map} has {@code key=value} entries that result in a loop,
-   * this method will throw a {@link IllegalArgumentException}.
+   * Each value is parsed once, and is interpolated once, after the values it
+   * refers to, so the performance of this algorithm is linear in the total
+   * length of the values and of their interpolated results. If the specified
+   * {@link Map} has {@code key=value} entries that result in a loop, this
+   * method will throw a {@link IllegalArgumentException} with a message that
+   * names the keys in the loop.
    * <p>
    * <blockquote>
    * <b>Example:</b>
@@ -196,8 +180,10 @@ public final class Strings {
    * </blockquote>
    *
    * @param properties The map to interpolate.
-   * @param prefix String prefixing the key name.
-   * @param suffix String suffixing the key name.
+   * @param prefix String prefixing the key name. If empty, nothing is
+   *          interpolated.
+   * @param suffix String suffixing the key name. If empty, nothing is
+   *          interpolated.
    * @return The specified map, with its values interpolated.
    * @see #interpolate(String,Map,String,String)
    * @throws IllegalArgumentException If the specified {@code properties} has
@@ -206,21 +192,11 @@ public final class Strings {
    *           {@code suffix} is null.
    */
   public static Map<String,String> interpolate(final Map<String,String> properties, final String prefix, final String suffix) {
-    Objects.requireNonNull(properties);
-    Objects.requireNonNull(prefix);
-    Objects.requireNonNull(suffix);
-    StringBuilder builder = null;
+    final Interpolator interpolator = new Interpolator(Objects.requireNonNull(properties), Objects.requireNonNull(prefix), Objects.requireNonNull(suffix));
     for (final Map.Entry<String,String> entry : properties.entrySet()) {
       final String value = entry.getValue();
-      if (value != null) {
-        if (builder == null)
-          builder = new StringBuilder(value.length());
-        else
-          builder.setLength(0);
-
-        builder.append(value);
-        entry.setValue(interpolateDeep(builder, properties, prefix, suffix));
-      }
+      if (value != null)
+        entry.setValue(interpolator.resolve(entry.getKey(), value));
     }
 
     return properties;
@@ -249,15 +225,20 @@ public final class Strings {
    *
    * @param text The string to interpolate.
    * @param properties The map with key=value entries for interpolation.
-   * @param prefix String prefixing the key name.
-   * @param suffix String suffixing the key name.
+   * @param prefix String prefixing the key name. If empty, nothing is
+   *          interpolated.
+   * @param suffix String suffixing the key name. If empty, nothing is
+   *          interpolated.
    * @return The interpolated string.
    * @see #interpolate(Map,String,String)
+   * @throws IllegalArgumentException If the specified {@code properties} has
+   *           {@code key=value} entries that result in a loop.
    * @throws NullPointerException If {@code text}, {@code properties},
    *           {@code prefix}, or {@code suffix} is null.
    */
   public static String interpolate(final String text, final Map<String,String> properties, final String prefix, final String suffix) {
-    return interpolateDeep(new StringBuilder(Objects.requireNonNull(text)), Objects.requireNonNull(properties), Objects.requireNonNull(prefix), Objects.requireNonNull(suffix));
+    Objects.requireNonNull(text);
+    return new Interpolator(Objects.requireNonNull(properties), Objects.requireNonNull(prefix), Objects.requireNonNull(suffix)).interpolate(text);
   }
 
   /**
@@ -265,7 +246,8 @@ public final class Strings {
    * the literal target sequence with the specified literal replacement
    * sequence. The replacement proceeds from the beginning of the string to the
    * end, for example, replacing "aa" with "b" in the string "aaa" will result
-   * in "ba" rather than "ab".
+   * in "ba" rather than "ab". To replace many targets in one pass, use a
+   * {@link Replacer}.
    *
    * @param builder The {@link StringBuilder}.
    * @param target The sequence of char values to be replaced
@@ -1225,6 +1207,9 @@ public final class Strings {
    * position {@code fromIndex}, then {@code -1} is returned.
    * <p>
    * All indices are specified in {@code char} values (Unicode code units).
+   * <p>
+   * To search for the same substring many times, compile it once with
+   * {@link Searcher#of(CharSequence)}.
    *
    * @param str The {@link CharSequence}.
    * @param substr A substring.
@@ -1247,6 +1232,10 @@ public final class Strings {
 
   private static int lastIndexOf0(final CharSequence str, final CharSequence substr, final int fromIndex) {
     final int substrLen = substr.length();
+    // Long searches amortize the compilation of a Searcher, which skips ahead instead of comparing at every index
+    if (substrLen > 1 && Math.min(fromIndex, str.length() - 1) >= SEARCHER_MIN_LENGTH)
+      return Searcher.of(substr).lastIndexOf(str, fromIndex);
+
     for (int i = Math.min(fromIndex, str.length() - 1); i >= 0; --i)
       if (regionMatches(str, false, i, substr, 0, substrLen))
         return i;
@@ -2024,29 +2013,6 @@ public final class Strings {
     return (Character.isLowerCase(ch) ? Character.toUpperCase(ch) : Character.toLowerCase(ch)) + str.substring(1);
   }
 
-  @SuppressWarnings("rawtypes")
-  private static void appendElVar(final Map variables, final StringBuilder builder, final StringBuilder var) {
-    final String name = var.toString();
-    final Object value = variables.get(name);
-    if (value != null)
-      builder.append(value);
-    else
-      builder.append('$').append('{').append(name).append('}');
-
-    var.setLength(0);
-  }
-
-  private static void appendElNoMatch(final StringBuilder builder, final StringBuilder var, final char close) {
-    builder.append('$').append('{');
-    if (var.length() > 0) {
-      builder.append(var);
-      var.setLength(0);
-    }
-
-    if (close != '\0')
-      builder.append(close);
-  }
-
   /**
    * Dereferences all Expression Language-encoded names, such as
    * <code>${foo}</code> or <code>${bar}</code>, in the specified string with
@@ -2054,7 +2020,8 @@ public final class Strings {
    * <p>
    * Names encoded in Expression Language follow the same rules as <a href=
    * "https://docs.oracle.com/javase/specs/jls/se7/html/jls-3.html#jls-3.8">Java
-   * Identifiers</a>.
+   * Identifiers</a>. A string that is dereferenced repeatedly should be
+   * compiled once with {@link Template#compileEL(String)}.
    *
    * @param s The string in which EL-encoded names are to be dereferenced.
    * @param variables The properties of name to value pairs.
@@ -2068,7 +2035,7 @@ public final class Strings {
    *           an EL-encoded name and {@code variables} is null.
    */
   public static String derefEL(final String s, final Properties variables) {
-    return derefEL(variables, s);
+    return Template.derefEL(s, variables);
   }
 
   /**
@@ -2078,7 +2045,8 @@ public final class Strings {
    * <p>
    * Names encoded in Expression Language follow the same rules as <a href=
    * "https://docs.oracle.com/javase/specs/jls/se7/html/jls-3.html#jls-3.8">Java
-   * Identifiers</a>.
+   * Identifiers</a>. A string that is dereferenced repeatedly should be
+   * compiled once with {@link Template#compileEL(String)}.
    *
    * @param s The string in which EL-encoded names are to be dereferenced.
    * @param variables The map of name to value pairs.
@@ -2092,96 +2060,72 @@ public final class Strings {
    *           an EL-encoded name and {@code variables} is null.
    */
   public static String derefEL(final String s, final Map<String,String> variables) {
-    return derefEL(variables, s);
+    return Template.derefEL(s, variables);
   }
 
-  @SuppressWarnings("rawtypes")
-  private static String derefEL(final Map variables, final String s) {
-    if (s.length() < 4)
-      return s;
-
-    final StringBuilder builder = new StringBuilder();
-    final StringBuilder var = new StringBuilder();
-    boolean escape = false;
-    final int len = s.length();
-    for (int i = 0; i < len; ++i) {
-      char ch = s.charAt(i);
-      if (ch == '\\') {
-        if (var.length() > 0) {
-          builder.append('$').append('{').append(var);
-          var.setLength(0);
-        }
-
-        if (!(escape = !escape))
-          builder.append(ch);
-      }
-      else if (!escape) {
-        if (ch == '$') {
-          if (var.length() > 0) {
-            appendElVar(variables, builder, var);
-          }
-
-          if (++i == len) {
-            builder.append('$');
-          }
-          else {
-            ch = s.charAt(i);
-            if (ch != '{') {
-              var.setLength(0);
-              builder.append('$');
-              if (ch != '\\')
-                builder.append(ch);
-            }
-            else if (++i == len) {
-              appendElNoMatch(builder, var, '\0');
-            }
-            else {
-              ch = s.charAt(i);
-              if ('a' <= ch && ch <= 'z' || 'A' <= ch && ch <= 'Z' || ch == '_' || ch == '.')
-                var.append(ch);
-              else
-                appendElNoMatch(builder, var, ch);
-            }
-          }
-        }
-        else if (var.length() > 0) {
-          if ('a' <= ch && ch <= 'z' || 'A' <= ch && ch <= 'Z' || '0' <= ch && ch <= '9' || ch == '_' || ch == '.') {
-            var.append(ch);
-          }
-          else if (ch != '}') {
-            appendElNoMatch(builder, var, ch);
-          }
-          else {
-            appendElVar(variables, builder, var);
-            if (ch != '}')
-              builder.append(ch);
-          }
-        }
-        else {
-          builder.append(ch);
-        }
-      }
-      else {
-        if (var.length() > 0)
-          appendElVar(variables, builder, var);
-
-        builder.append(ch);
-        escape = false;
-      }
-    }
-
-    if (var.length() > 0)
-      appendElNoMatch(builder, var, '\0');
-
-    return builder.toString();
+  /**
+   * Dereferences all Expression Language-encoded names, such as
+   * <code>${foo}</code> or <code>${bar}</code>, in the characters read from the
+   * specified {@link Reader} with values in the specified map, and writes the
+   * result to the provided {@link Appendable}, following the same rules as
+   * {@link #derefEL(String,Map)}.
+   * <p>
+   * The input is read, and the output is written, in chunks of up to
+   * {@code 8192} characters, so the memory used is bounded by
+   * the chunk size and the length of the longest name, and not by the length
+   * of the input.
+   *
+   * @param <A> The type of the {@link Appendable}.
+   * @param in The {@link Reader} from which to read the characters in which
+   *          EL-encoded names are to be dereferenced.
+   * @param out The {@link Appendable} to which to write the result.
+   * @param variables The map of name to value pairs.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code in} or {@code out} is null, or if
+   *           the input contains an EL-encoded name and {@code variables} is
+   *           null.
+   */
+  public static <A extends Appendable>A derefEL(final Reader in, final A out, final Map<String,String> variables) throws IOException {
+    return deref(new Template.Source(Objects.requireNonNull(in), DEREF_BUFFER_SIZE), Objects.requireNonNull(out), variables, true);
   }
 
-  private static void appendEvVar(final Map<String,String> variables, final StringBuilder builder, final StringBuilder var) {
-    final String variable = variables.get(var.toString());
-    if (variable != null)
-      builder.append(variable);
+  /**
+   * Dereferences all Expression Language-encoded names, such as
+   * <code>${foo}</code> or <code>${bar}</code>, in the specified
+   * {@link CharSequence}, such as a {@link java.nio.CharBuffer CharBuffer},
+   * with values in the specified map, and writes the result to the provided
+   * {@link Appendable}, following the same rules as
+   * {@link #derefEL(String,Map)}.
+   * <p>
+   * The output is written in chunks of up to {@code 8192}
+   * characters, so the memory used is bounded by the chunk size and the length
+   * of the longest name, and not by the length of the input.
+   *
+   * @param <A> The type of the {@link Appendable}.
+   * @param in The {@link CharSequence} in which EL-encoded names are to be
+   *          dereferenced.
+   * @param out The {@link Appendable} to which to write the result.
+   * @param variables The map of name to value pairs.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code in} or {@code out} is null, or if
+   *           the input contains an EL-encoded name and {@code variables} is
+   *           null.
+   */
+  public static <A extends Appendable>A derefEL(final CharSequence in, final A out, final Map<String,String> variables) throws IOException {
+    return deref(new Template.Source(Objects.requireNonNull(in)), Objects.requireNonNull(out), variables, true);
+  }
 
-    var.setLength(0);
+  private static <A extends Appendable>A deref(final Template.Source in, final A out, final Map<String,String> variables, final boolean el) throws IOException {
+    try {
+      Template.deref(in, out, variables, el, DEREF_BUFFER_SIZE);
+      return out;
+    }
+    catch (final ParseException e) {
+      // Expression Language-encoded names are never malformed
+      throw new IllegalStateException(e);
+    }
   }
 
   /**
@@ -2192,7 +2136,8 @@ public final class Strings {
    * Names encoded in POSIX format follow the rules defined in the POSIX
    * standard on shells <a href=
    * "http://pubs.opengroup.org/onlinepubs/9699919799/utilities/V3_chap02.html#tag_18_10_02">IEEE
-   * Std 1003.1-2017</a>.
+   * Std 1003.1-2017</a>. A string that is dereferenced repeatedly should be
+   * compiled once with {@link Template#compileEV(String)}.
    *
    * @param s The string in which POSIX-compliant names are to be dereferenced.
    * @param variables The map of name to value pairs.
@@ -2205,91 +2150,70 @@ public final class Strings {
    *           an POSIX-compliant name and {@code variables} is null.
    */
   public static String derefEV(final String s, final Map<String,String> variables) throws ParseException {
-    if (s.length() < 2)
-      return s;
-
-    final StringBuilder builder = new StringBuilder();
-    final StringBuilder var = new StringBuilder();
-    boolean escape = false;
-    boolean bracket = false;
-    final int len = s.length();
-    for (int i = 0; i < len; ++i) {
-      char ch = s.charAt(i);
-      if (ch == '\\') {
-        if (var.length() > 0)
-          appendEvVar(variables, builder, var);
-
-        if (!(escape = !escape))
-          builder.append(ch);
-      }
-      else if (!escape) {
-        if (ch == '$') {
-          if (var.length() > 0)
-            appendEvVar(variables, builder, var);
-
-          if (++i == len) {
-            builder.append('$');
-          }
-          else {
-            ch = s.charAt(i);
-            if (ch == '$')
-              throw new ParseException("$$: not supported", i);
-
-            if (ch == '{') {
-              bracket = true;
-              if (++i == len)
-                throw new ParseException("${: bad substitution", i);
-
-              ch = s.charAt(i);
-            }
-
-            if ('a' <= ch && ch <= 'z' || 'A' <= ch && ch <= 'Z' || ch == '_') {
-              var.append(ch);
-            }
-            else if (!bracket) {
-              builder.append('$');
-              if (ch != '\\')
-                builder.append(ch);
-            }
-            else {
-              throw new ParseException("${" + ch + ": bad substitution", i);
-            }
-          }
-        }
-        else if (var.length() > 0) {
-          if ('a' <= ch && ch <= 'z' || 'A' <= ch && ch <= 'Z' || '0' <= ch && ch <= '9' || ch == '_') {
-            var.append(ch);
-          }
-          else if (bracket && ch != '}') {
-            throw new ParseException("${" + var + ch + ": bad substitution", i);
-          }
-          else {
-            appendEvVar(variables, builder, var);
-            if (!bracket || ch != '}')
-              builder.append(ch);
-          }
-        }
-        else {
-          builder.append(ch);
-        }
-      }
-      else {
-        if (var.length() > 0)
-          appendEvVar(variables, builder, var);
-
-        builder.append(ch);
-        escape = false;
-      }
-    }
-
-    if (var.length() > 0) {
-      if (bracket)
-        throw new ParseException("${" + var + ": bad substitution", len);
+    return Template.derefEV(s, variables);
+  }
 
-      appendEvVar(variables, builder, var);
-    }
+  /**
+   * Dereferences all POSIX-compliant Environment Variable names, such as
+   * <code>$FOO</code> or <code>${BAR}</code>, in the characters read from the
+   * specified {@link Reader} with values in the specified map, and writes the
+   * result to the provided {@link Appendable}, following the same rules as
+   * {@link #derefEV(String,Map)}.
+   * <p>
+   * The input is read, and the output is written, in chunks of up to
+   * {@code 8192} characters, so the memory used is bounded by
+   * the chunk size and the length of the longest name, and not by the length
+   * of the input. If a {@link ParseException} is thrown, the output before the
+   * malformed name may have been written.
+   *
+   * @param <A> The type of the {@link Appendable}.
+   * @param in The {@link Reader} from which to read the characters in which
+   *          POSIX-compliant names are to be dereferenced.
+   * @param out The {@link Appendable} to which to write the result.
+   * @param variables The map of name to value pairs.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws ParseException If the encoding of the environment variable name is
+   *           malformed, with the offset of the malformed name in the input.
+   * @throws NullPointerException If {@code in} or {@code out} is null, or if
+   *           the input contains a POSIX-compliant name and {@code variables}
+   *           is null.
+   */
+  public static <A extends Appendable>A derefEV(final Reader in, final A out, final Map<String,String> variables) throws IOException, ParseException {
+    Template.deref(new Template.Source(Objects.requireNonNull(in), DEREF_BUFFER_SIZE), Objects.requireNonNull(out), variables, false, DEREF_BUFFER_SIZE);
+    return out;
+  }
 
-    return builder.toString();
+  /**
+   * Dereferences all POSIX-compliant Environment Variable names, such as
+   * <code>$FOO</code> or <code>${BAR}</code>, in the specified
+   * {@link CharSequence}, such as a {@link java.nio.CharBuffer CharBuffer},
+   * with values in the specified map, and writes the result to the provided
+   * {@link Appendable}, following the same rules as
+   * {@link #derefEV(String,Map)}.
+   * <p>
+   * The output is written in chunks of up to {@code 8192}
+   * characters, so the memory used is bounded by the chunk size and the length
+   * of the longest name, and not by the length of the input. If a
+   * {@link ParseException} is thrown, the output before the malformed name may
+   * have been written.
+   *
+   * @param <A> The type of the {@link Appendable}.
+   * @param in The {@link CharSequence} in which POSIX-compliant names are to be
+   *          dereferenced.
+   * @param out The {@link Appendable} to which to write the result.
+   * @param variables The map of name to value pairs.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws ParseException If the encoding of the environment variable name is
+   *           malformed, with the offset of the malformed name in the input.
+   * @throws NullPointerException If {@code in} or {@code out} is null, or if
+   *           the input contains a POSIX-compliant name and {@code variables}
+   *           is null.
+   */
+  public static <A extends Appendable>A derefEV(final CharSequence in, final A out, final Map<String,String> variables) throws IOException, ParseException {
+    Template.deref(new Template.Source(Objects.requireNonNull(in)), Objects.requireNonNull(out), variables, false, DEREF_BUFFER_SIZE);
+    return out;
   }
 
   /**
@@ -0,0 +1,706 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.Map;
+
+/**
+ * An immutable, thread-safe string template with Expression Language-encoded
+ * names, such as <code>${foo}</code>, or POSIX-compliant Environment Variable
+ * names, such as <code>$FOO</code> or <code>${BAR}</code>, which is parsed
+ * once, and is rendered any number of times with different variables.
+ * <p>
+ * A template is compiled with {@link #compileEL(String)} or
+ * {@link #compileEV(String)}, which follow the same rules as
+ * {@link Strings#derefEL(String,Map)} and {@link Strings#derefEV(String,Map)}
+ * respectively. Rendering only looks up the names of the template in the
+ * variables, and appends the literal text and the values, without parsing.
+ */
+public final class Template {
+  /** The estimated length of the value of a name, for the sizing of output. */
+  private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+  private static final String[] EMPTY = {};
+
+  /** The minimum length of a string with an Expression Language-encoded name. */
+  private static final int MIN_EL_LENGTH = 4;
+
+  /** The minimum length of a string with a POSIX-compliant name. */
+  private static final int MIN_EV_LENGTH = 2;
+
+  /** A sequential source of characters, from a {@link CharSequence} or a {@link Reader}. */
+  static final class Source {
+    private final CharSequence chars;
+    private final Reader reader;
+    private final char[] buffer;
+    private int position;
+    private int limit;
+    private int count;
+
+    Source(final CharSequence chars) {
+      this.chars = chars;
+      this.reader = null;
+      this.buffer = null;
+    }
+
+    Source(final Reader reader, final int bufferSize) {
+      this.chars = null;
+      this.reader = reader;
+      this.buffer = new char[Math.max(MIN_EL_LENGTH, bufferSize)];
+    }
+
+    /**
+     * Reads ahead until at least {@code n} characters are available, or the
+     * end of the source is reached.
+     *
+     * @param n The number of characters to read ahead, which must not be
+     *          greater than the size of the buffer.
+     * @return Whether at least {@code n} characters are available.
+     * @throws IOException If an I/O error has occurred.
+     */
+    boolean fill(final int n) throws IOException {
+      if (chars != null)
+        return chars.length() - count >= n;
+
+      for (int read; limit - position < n; limit += read) {
+        if (position > 0) {
+          System.arraycopy(buffer, position, buffer, 0, limit - position);
+          limit -= position;
+          position = 0;
+        }
+
+        if ((read = reader.read(buffer, limit, buffer.length - limit)) < 0)
+          return false;
+      }
+
+      return true;
+    }
+
+    /**
+     * Returns the next character, or {@code -1} if the end of the source is
+     * reached.
+     *
+     * @return The next character, or {@code -1} if the end of the source is
+     *         reached.
+     * @throws IOException If an I/O error has occurred.
+     */
+    int read() throws IOException {
+      if (chars != null)
+        return count < chars.length() ? chars.charAt(count++) : -1;
+
+      if (position == limit) {
+        int read;
+        do
+          read = reader.read(buffer, 0, buffer.length);
+        while (read == 0);
+
+        position = 0;
+        if (read < 0) {
+          limit = 0;
+          return -1;
+        }
+
+        limit = read;
+      }
+
+      ++count;
+      return buffer[position++];
+    }
+
+    /**
+     * Appends the remaining characters of this source to the provided
+     * {@link Sink} as is.
+     *
+     * @param sink The {@link Sink}.
+     * @throws IOException If an I/O error has occurred.
+     */
+    private void copyTo(final Sink sink) throws IOException {
+      for (int ch; (ch = read()) >= 0;)
+        sink.append((char)ch);
+    }
+  }
+
+  /** The recipient of the literal text and names of a parsed string. */
+  private abstract static class Sink {
+    final StringBuilder literal;
+
+    Sink(final int capacity) {
+      this.literal = new StringBuilder(capacity);
+    }
+
+    void append(final char ch) throws IOException {
+      literal.append(ch);
+    }
+
+    void append(final char ch1, final char ch2) throws IOException {
+      literal.append(ch1).append(ch2);
+    }
+
+    void append(final CharSequence chars) throws IOException {
+      literal.append(chars);
+    }
+
+    /**
+     * Accepts the specified name, and clears it.
+     *
+     * @param var The name.
+     * @throws IOException If an I/O error has occurred.
+     */
+    abstract void name(StringBuilder var) throws IOException;
+  }
+
+  private static final class Compiler extends Sink {
+    private final ArrayList<String> literals = new ArrayList<>();
+    private final ArrayList<String> names = new ArrayList<>();
+
+    private Compiler(final int length) {
+      super(length);
+    }
+
+    @Override
+    void name(final StringBuilder var) {
+      literals.add(literal.toString());
+      literal.setLength(0);
+      names.add(var.toString());
+      var.setLength(0);
+    }
+
+    private Template toTemplate(final String source, final boolean el) {
+      if (names.size() == 0)
+        return new Template(source, source.contentEquals(literal) ? source : literal.toString(), el);
+
+      literals.add(literal.toString());
+      return new Template(source, literals.toArray(new String[literals.size()]), names.toArray(new String[names.size()]), el);
+    }
+  }
+
+  /** A {@link Sink} that dereferences each name with the variables, into its buffer. */
+  private static class Renderer extends Sink {
+    private final Map<?,?> variables;
+    private final boolean el;
+
+    private Renderer(final int capacity, final Map<?,?> variables, final boolean el) {
+      super(capacity);
+      this.variables = variables;
+      this.el = el;
+    }
+
+    @Override
+    final void name(final StringBuilder var) throws IOException {
+      final Object value = variables.get(var.toString());
+      if (value != null) {
+        append(value.toString());
+      }
+      else if (el) {
+        append('$', '{');
+        append(var);
+        append('}');
+      }
+
+      var.setLength(0);
+    }
+  }
+
+  /**
+   * A {@link Renderer} that writes its output to an {@link Appendable}
+   * whenever its buffer is full.
+   */
+  private static final class Dereferencer extends Renderer {
+    private final Appendable out;
+    private final int bufferSize;
+
+    private Dereferencer(final Appendable out, final Map<String,String> variables, final boolean el, final int bufferSize) {
+      super(bufferSize, variables, el);
+      this.out = out;
+      this.bufferSize = bufferSize;
+    }
+
+    @Override
+    void append(final char ch) throws IOException {
+      literal.append(ch);
+      if (literal.length() >= bufferSize)
+        flush();
+    }
+
+    @Override
+    void append(final char ch1, final char ch2) throws IOException {
+      literal.append(ch1).append(ch2);
+      if (literal.length() >= bufferSize)
+        flush();
+    }
+
+    @Override
+    void append(final CharSequence chars) throws IOException {
+      if (literal.length() + chars.length() < bufferSize) {
+        literal.append(chars);
+      }
+      else {
+        flush();
+        out.append(chars);
+      }
+    }
+
+    private void flush() throws IOException {
+      if (literal.length() > 0) {
+        out.append(literal);
+        literal.setLength(0);
+      }
+    }
+  }
+
+  private static void appendElNoMatch(final Sink sink, final StringBuilder var, final char close) throws IOException {
+    sink.append('$', '{');
+    if (var.length() > 0) {
+      sink.append(var);
+      var.setLength(0);
+    }
+
+    if (close != '\0')
+      sink.append(close);
+  }
+
+  private static void parseEL(final Source in, final Sink out) throws IOException {
+    final StringBuilder var = new StringBuilder();
+    boolean escape = false;
+    for (int c; (c = in.read()) >= 0;) {
+      char ch = (char)c;
+      if (ch == '\\') {
+        if (var.length() > 0) {
+          out.append('$', '{');
+          out.append(var);
+          var.setLength(0);
+        }
+
+        if (!(escape = !escape))
+          out.append(ch);
+      }
+      else if (!escape) {
+        if (ch == '$') {
+          if (var.length() > 0) {
+            out.name(var);
+          }
+
+          if ((c = in.read()) < 0) {
+            out.append('$');
+          }
+          else {
+            ch = (char)c;
+            if (ch != '{') {
+              var.setLength(0);
+              out.append('$');
+              if (ch != '\\')
+                out.append(ch);
+            }
+            else if ((c = in.read()) < 0) {
+              appendElNoMatch(out, var, '\0');
+            }
+            else {
+              ch = (char)c;
+              if ('a' <= ch && ch <= 'z' || 'A' <= ch && ch <= 'Z' || ch == '_' || ch == '.')
+                var.append(ch);
+              else
+                appendElNoMatch(out, var, ch);
+            }
+          }
+        }
+        else if (var.length() > 0) {
+          if ('a' <= ch && ch <= 'z' || 'A' <= ch && ch <= 'Z' || '0' <= ch && ch <= '9' || ch == '_' || ch == '.')
+            var.append(ch);
+          else if (ch != '}')
+            appendElNoMatch(out, var, ch);
+          else
+            out.name(var);
+        }
+        else {
+          out.append(ch);
+        }
+      }
+      else {
+        if (var.length() > 0)
+          out.name(var);
+
+        out.append(ch);
+        escape = false;
+      }
+    }
+
+    if (var.length() > 0)
+      appendElNoMatch(out, var, '\0');
+  }
+
+  private static void parseEV(final Source in, final Sink out) throws IOException, ParseException {
+    final StringBuilder var = new StringBuilder();
+    boolean escape = false;
+    boolean bracket = false;
+    for (int c; (c = in.read()) >= 0;) {
+      char ch = (char)c;
+      if (ch == '\\') {
+        if (var.length() > 0) {
+          if (bracket)
+            throw new ParseException("${" + var + ch + ": bad substitution", in.count - 1);
+
+          out.name(var);
+        }
+
+        if (!(escape = !escape))
+          out.append(ch);
+      }
+      else if (!escape) {
+        if (ch == '$') {
+          if (var.length() > 0) {
+            if (bracket)
+              throw new ParseException("${" + var + ch + ": bad substitution", in.count - 1);
+
+            out.name(var);
+          }
+
+          bracket = false;
+          if ((c = in.read()) < 0) {
+            out.append('$');
+          }
+          else {
+            ch = (char)c;
+            if (ch == '$')
+              throw new ParseException("$$: not supported", in.count - 1);
+
+            if (ch == '{') {
+              bracket = true;
+              if ((c = in.read()) < 0)
+                throw new ParseException("${: bad substitution", in.count);
+
+              ch = (char)c;
+            }
+
+            if ('a' <= ch && ch <= 'z' || 'A' <= ch && ch <= 'Z' || ch == '_') {
+              var.append(ch);
+            }
+            else if (!bracket) {
+              out.append('$');
+              if (ch != '\\')
+                out.append(ch);
+            }
+            else {
+              throw new ParseException("${" + ch + ": bad substitution", in.count - 1);
+            }
+          }
+        }
+        else if (var.length() > 0) {
+          if ('a' <= ch && ch <= 'z' || 'A' <= ch && ch <= 'Z' || '0' <= ch && ch <= '9' || ch == '_') {
+            var.append(ch);
+          }
+          else if (bracket && ch != '}') {
+            throw new ParseException("${" + var + ch + ": bad substitution", in.count - 1);
+          }
+          else {
+            out.name(var);
+            if (!bracket || ch != '}')
+              out.append(ch);
+          }
+        }
+        else {
+          out.append(ch);
+        }
+      }
+      else {
+        if (var.length() > 0)
+          out.name(var);
+
+        out.append(ch);
+        escape = false;
+      }
+    }
+
+    if (var.length() > 0) {
+      if (bracket)
+        throw new ParseException("${" + var + ": bad substitution", in.count);
+
+      out.name(var);
+    }
+  }
+
+  /**
+   * Returns a new {@link Template} of the specified string with Expression
+   * Language-encoded names, such as <code>${foo}</code> or
+   * <code>${bar}</code>.
+   * <p>
+   * Names encoded in Expression Language follow the same rules as <a href=
+   * "https://docs.oracle.com/javase/specs/jls/se7/html/jls-3.html#jls-3.8">Java
+   * Identifiers</a>. When the template is rendered, a name that is missing
+   * from the variables remains in the output as-is, as do names that do not
+   * conform to these rules, and malformed Expression Language encodings.
+   *
+   * @param s The string with Expression Language-encoded names.
+   * @return A new {@link Template} of the specified string.
+   * @throws NullPointerException If {@code s} is null.
+   * @see Strings#derefEL(String,Map)
+   */
+  public static Template compileEL(final String s) {
+    if (s.length() < MIN_EL_LENGTH)
+      return new Template(s, s, true);
+
+    final Compiler compiler = new Compiler(s.length());
+    try {
+      parseEL(new Source(s), compiler);
+    }
+    catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return compiler.toTemplate(s, true);
+  }
+
+  /**
+   * Returns a new {@link Template} of the specified string with
+   * POSIX-compliant Environment Variable names, such as <code>$FOO</code> or
+   * <code>${BAR}</code>.
+   * <p>
+   * Names encoded in POSIX format follow the rules defined in the POSIX
+   * standard on shells <a href=
+   * "http://pubs.opengroup.org/onlinepubs/9699919799/utilities/V3_chap02.html#tag_18_10_02">IEEE
+   * Std 1003.1-2017</a>. When the template is rendered, a name that is missing
+   * from the variables is replaced with the empty string.
+   *
+   * @param s The string with POSIX-compliant names.
+   * @return A new {@link Template} of the specified string.
+   * @throws ParseException If the encoding of an environment variable name is
+   *           malformed.
+   * @throws NullPointerException If {@code s} is null.
+   * @see Strings#derefEV(String,Map)
+   */
+  public static Template compileEV(final String s) throws ParseException {
+    if (s.length() < MIN_EV_LENGTH)
+      return new Template(s, s, false);
+
+    final Compiler compiler = new Compiler(s.length());
+    try {
+      parseEV(new Source(s), compiler);
+    }
+    catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return compiler.toTemplate(s, false);
+  }
+
+  /**
+   * Dereferences the names in the characters of the specified {@link Source},
+   * and writes the output to the provided {@link Appendable}, with at most
+   * {@code bufferSize} characters of output buffered at a time.
+   *
+   * @param in The {@link Source}.
+   * @param out The {@link Appendable}.
+   * @param variables The map of name to value pairs.
+   * @param el Whether the names are Expression Language-encoded, or
+   *          POSIX-compliant.
+   * @param bufferSize The size of the output buffer.
+   * @throws IOException If an I/O error has occurred.
+   * @throws ParseException If {@code el} is {@code false}, and the encoding
+   *           of an environment variable name is malformed.
+   */
+  static void deref(final Source in, final Appendable out, final Map<String,String> variables, final boolean el, final int bufferSize) throws IOException, ParseException {
+    final Dereferencer dereferencer = new Dereferencer(out, variables, el, bufferSize);
+    // Strings shorter than the shortest name are copied as is
+    if (!in.fill(el ? MIN_EL_LENGTH : MIN_EV_LENGTH))
+      in.copyTo(dereferencer);
+    else if (el)
+      parseEL(in, dereferencer);
+    else
+      parseEV(in, dereferencer);
+
+    dereferencer.flush();
+  }
+
+  /**
+   * Returns the specified string with its Expression Language-encoded names
+   * dereferenced with the specified variables, without compiling a
+   * {@link Template}.
+   *
+   * @param s The string.
+   * @param variables The map of name to value pairs.
+   * @return The specified string with its names dereferenced.
+   * @throws NullPointerException If {@code s} is null, or if {@code s}
+   *           contains a name and {@code variables} is null.
+   * @see #compileEL(String)
+   */
+  static String derefEL(final String s, final Map<?,?> variables) {
+    if (s.length() < MIN_EL_LENGTH)
+      return s;
+
+    final Renderer renderer = new Renderer(s.length(), variables, true);
+    try {
+      parseEL(new Source(s), renderer);
+    }
+    catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return renderer.literal.toString();
+  }
+
+  /**
+   * Returns the specified string with its POSIX-compliant names dereferenced
+   * with the specified variables, without compiling a {@link Template}.
+   *
+   * @param s The string.
+   * @param variables The map of name to value pairs.
+   * @return The specified string with its names dereferenced.
+   * @throws ParseException If the encoding of an environment variable name is
+   *           malformed.
+   * @throws NullPointerException If {@code s} is null, or if {@code s}
+   *           contains a name and {@code variables} is null.
+   * @see #compileEV(String)
+   */
+  static String derefEV(final String s, final Map<?,?> variables) throws ParseException {
+    if (s.length() < MIN_EV_LENGTH)
+      return s;
+
+    final Renderer renderer = new Renderer(s.length(), variables, false);
+    try {
+      parseEV(new Source(s), renderer);
+    }
+    catch (final IOException e) {
+      throw new IllegalStateException(e);
+    }
+
+    return renderer.literal.toString();
+  }
+
+  private final String source;
+  private final String[] literals;
+  private final String[] names;
+  private final boolean el;
+  private final int estimatedLength;
+
+  private Template(final String source, final String[] literals, final String[] names, final boolean el) {
+    this.source = source;
+    this.literals = literals;
+    this.names = names;
+    this.el = el;
+    int length = names.length * ESTIMATED_VALUE_LENGTH;
+    for (final String literal : literals)
+      length += literal.length();
+
+    this.estimatedLength = length;
+  }
+
+  private Template(final String source, final String literal, final boolean el) {
+    this(source, new String[] {literal}, EMPTY, el);
+  }
+
+  /**
+   * Returns the names in this template, in the order of their occurrence.
+   *
+   * @return The names in this template, in the order of their occurrence.
+   */
+  public String[] getNames() {
+    return names.clone();
+  }
+
+  /**
+   * Returns the estimated length of the output of this template, which is the
+   * length of its literal text, plus a fixed estimate for each name.
+   *
+   * @return The estimated length of the output of this template.
+   */
+  public int getEstimatedLength() {
+    return estimatedLength;
+  }
+
+  /**
+   * Appends the rendering of this template with the specified variables to the
+   * provided {@link StringBuilder}.
+   *
+   * @param builder The {@link StringBuilder} to which to append.
+   * @param variables The map of name to value pairs.
+   * @return The provided {@link StringBuilder}.
+   * @throws NullPointerException If {@code builder} is null, or if this
+   *           template contains a name and {@code variables} is null.
+   */
+  public StringBuilder appendTo(final StringBuilder builder, final Map<?,?> variables) {
+    builder.ensureCapacity(builder.length() + estimatedLength);
+    builder.append(literals[0]);
+    for (int i = 0; i < names.length; ++i) {
+      final Object value = variables.get(names[i]);
+      if (value != null)
+        builder.append(value);
+      else if (el)
+        builder.append('$').append('{').append(names[i]).append('}');
+
+      builder.append(literals[i + 1]);
+    }
+
+    return builder;
+  }
+
+  /**
+   * Appends the rendering of this template with the specified variables to the
+   * provided {@link Appendable}.
+   *
+   * @param <A> The type of the {@link Appendable}.
+   * @param appendable The {@link Appendable} to which to append.
+   * @param variables The map of name to value pairs.
+   * @return The provided {@link Appendable}.
+   * @throws IOException If an I/O error has occurred.
+   * @throws NullPointerException If {@code appendable} is null, or if this
+   *           template contains a name and {@code variables} is null.
+   */
+  public <A extends Appendable>A appendTo(final A appendable, final Map<?,?> variables) throws IOException {
+    if (appendable instanceof StringBuilder) {
+      appendTo((StringBuilder)appendable, variables);
+      return appendable;
+    }
+
+    appendable.append(literals[0]);
+    for (int i = 0; i < names.length; ++i) {
+      final Object value = variables.get(names[i]);
+      if (value != null)
+        appendable.append(value.toString());
+      else if (el)
+        appendable.append('$').append('{').append(names[i]).append('}');
+
+      appendable.append(literals[i + 1]);
+    }
+
+    return appendable;
+  }
+
+  /**
+   * Returns the rendering of this template with the specified variables.
+   *
+   * @param variables The map of name to value pairs.
+   * @return The rendering of this template with the specified variables.
+   * @throws NullPointerException If this template contains a name and
+   *           {@code variables} is null.
+   */
+  public String render(final Map<?,?> variables) {
+    return names.length == 0 ? literals[0] : appendTo(new StringBuilder(estimatedLength), variables).toString();
+  }
+
+  /**
+   * Returns the string from which this template was compiled.
+   *
+   * @return The string from which this template was compiled.
+   */
+  @Override
+  public String toString() {
+    return source;
+  }
+}
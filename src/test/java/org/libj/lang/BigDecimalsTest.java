@@ -19,6 +19,11 @@ package org.libj.lang;
 import static org.junit.Assert.*;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
 import java.util.Random;
 
 import org.junit.Test;
@@ -39,6 +44,52 @@ public class BigDecimalsTest {
     }
   }
 
+  @Test
+  public void testInternByValue() {
+    final BigDecimal a = BigDecimals.intern(new BigDecimal("8473.1209"));
+    assertSame(a, BigDecimals.intern("8473.1209"));
+    assertSame(a, BigDecimals.intern(new BigDecimal(new BigInteger("84731209"), 4)));
+    assertNotSame(a, BigDecimals.intern(new BigDecimal("8473.12090")));
+    assertSame(BigDecimals.ONE, BigDecimals.intern(1L));
+    assertSame(BigDecimals.ONE, BigDecimals.intern("1"));
+    assertSame(BigDecimals.POSITIVE_INFINITY, BigDecimals.intern(BigDecimals.POSITIVE_INFINITY));
+    assertSame(BigDecimals.ZERO, BigDecimals.intern(BigDecimal.ZERO));
+  }
+
+  @Test
+  public void testInternConstantsAfterEviction() {
+    for (int i = 0; i < 200000; ++i)
+      BigDecimals.intern(1000000L + i);
+
+    assertTrue(BigDecimals.interner().evictionCount() > 0);
+    assertTrue(BigDecimals.aliasInterner().evictionCount() > 0);
+    assertNotSame(BigDecimals.interner(), BigDecimals.aliasInterner());
+    assertSame(BigDecimals.ONE, BigDecimals.intern(1L));
+    assertSame(BigDecimals.TWO, BigDecimals.intern("2"));
+    assertSame(BigDecimals.PI, BigDecimals.intern(BigDecimal.valueOf(Math.PI)));
+  }
+
+  @Test
+  public void testInternConcurrent() throws InterruptedException {
+    final BigDecimal[][] interned = new BigDecimal[8][1000];
+    final Thread[] threads = new Thread[interned.length];
+    for (int i = 0; i < threads.length; ++i) {
+      final BigDecimal[] results = interned[i];
+      threads[i] = new Thread(() -> {
+        for (int j = 0; j < results.length; ++j)
+          results[j] = j % 2 == 0 ? BigDecimals.intern(String.valueOf(-1000000L - j)) : BigDecimals.intern(-1000000L - j);
+      });
+      threads[i].start();
+    }
+
+    for (final Thread thread : threads)
+      thread.join();
+
+    for (int i = 1; i < interned.length; ++i)
+      for (int j = 0; j < interned[i].length; ++j)
+        assertSame(interned[0][j], interned[i][j]);
+  }
+
   @Test
   public void testInternString() {
     for (int i = 0; i < 100; ++i) {
@@ -110,4 +161,124 @@ public class BigDecimalsTest {
     testBigDecimalInfinity(BigDecimals.POSITIVE_INFINITY, 1, true);
     testBigDecimalInfinity(BigDecimals.NEGATIVE_INFINITY, -1, true);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testPow10() {
+    for (int i = -PowersOfTen.MAX_CACHED_EXPONENT - 10; i <= PowersOfTen.MAX_CACHED_EXPONENT + 10; ++i) {
+      final BigDecimal expected = i < 0 ? BigDecimal.ONE.divide(BigDecimal.TEN.pow(-i)) : BigDecimal.TEN.pow(i);
+      final BigDecimal pow = BigDecimals.pow10(i);
+      assertEquals(String.valueOf(i), 0, expected.compareTo(pow));
+      assertEquals(String.valueOf(i), Math.max(0, -i), pow.scale());
+      if (Math.abs(i) <= PowersOfTen.MAX_CACHED_EXPONENT)
+        assertSame(pow, BigDecimals.pow10(i));
+    }
+  }
+
+  private static BigDecimal setScale(BigDecimal v, final int newScale, final RoundingMode rm) {
+    if (v.scale() <= newScale + 1)
+      return v.setScale(newScale, rm);
+
+    if (rm != RoundingMode.UNNECESSARY)
+      v = v.setScale(newScale + 1, RoundingMode.DOWN);
+
+    return v.setScale(newScale, rm);
+  }
+
+  @Test
+  public void testSetScale() {
+    final RoundingMode[] roundingModes = {RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR, RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN};
+    for (int i = 0; i < 100000; ++i) {
+      final BigInteger unscaled = new BigInteger(random.nextInt(200) + 1, random);
+      final BigDecimal v = new BigDecimal(random.nextBoolean() ? unscaled : unscaled.negate(), random.nextInt(80) - 20);
+      final int newScale = random.nextInt(80) - 20;
+      final RoundingMode rm = roundingModes[random.nextInt(roundingModes.length)];
+      final BigDecimal expected = setScale(v, newScale, rm);
+      final BigDecimal actual = BigDecimals.setScale(v, newScale, rm);
+      assertEquals(v + " " + newScale + " " + rm, expected, actual);
+    }
+
+    // Products at the boundary of the long range
+    for (final long unscaled : new long[] {1, 9, 92, 93, 922337203685477580L, 922337203685477581L, Long.MAX_VALUE}) {
+      final int up = 19 - Numbers.precision(unscaled);
+      for (final BigDecimal v : new BigDecimal[] {BigDecimal.valueOf(unscaled, 2), BigDecimal.valueOf(-unscaled, 2)}) {
+        assertEquals(v.setScale(2 + up), BigDecimals.setScale(v, 2 + up, RoundingMode.HALF_UP));
+        assertEquals(v.setScale(3 + up), BigDecimals.setScale(v, 3 + up, RoundingMode.HALF_UP));
+      }
+    }
+  }
+
+  private static BigDecimal[] randomValues(final int length) {
+    final BigDecimal[] values = new BigDecimal[length];
+    for (int i = 0; i < length; ++i) {
+      final BigInteger unscaled = new BigInteger(random.nextInt(100) + 1, random);
+      values[i] = new BigDecimal(random.nextBoolean() ? unscaled : unscaled.negate(), random.nextInt(40) - 10);
+    }
+
+    return values;
+  }
+
+  @Test
+  public void testSetScaleArray() {
+    final BigDecimal[] values = randomValues(50000);
+    values[7] = new BigDecimal("1.23");
+    final BigDecimal same = values[7];
+    final BigDecimal[] expected = values.clone();
+    for (int i = 0; i < expected.length; ++i)
+      expected[i] = setScale(expected[i], 2, RoundingMode.HALF_EVEN);
+
+    assertArrayEquals(expected, BigDecimals.setScale(values.clone(), 2, RoundingMode.HALF_EVEN));
+    assertArrayEquals(expected, BigDecimals.setScale(values, 0, values.length, 2, RoundingMode.HALF_EVEN, true));
+    assertSame(same, values[7]);
+
+    final ArrayList<BigDecimal> list = new ArrayList<>(Arrays.asList(randomValues(100)));
+    final LinkedList<BigDecimal> linked = new LinkedList<>(list);
+    BigDecimals.setScale(list, 10, 90, 3, RoundingMode.DOWN, true);
+    BigDecimals.setScale(linked, 10, 90, 3, RoundingMode.DOWN, true);
+    assertEquals(list, linked);
+    for (int i = 0; i < list.size(); ++i)
+      if (10 <= i && i < 90)
+        assertEquals(3, list.get(i).scale());
+
+    try {
+      BigDecimals.setScale(new BigDecimal[] {new BigDecimal("1.5")}, 0, RoundingMode.UNNECESSARY);
+      fail("Expected ArithmeticException");
+    }
+    catch (final ArithmeticException e) {
+    }
+  }
+
+  @Test
+  public void testSum() {
+    assertEquals(BigDecimal.ZERO, BigDecimals.sum(new BigDecimal[0]));
+    for (final int length : new int[] {1, 10, 1000, 50000}) {
+      final BigDecimal[] values = randomValues(length);
+      BigDecimal expected = values[0];
+      for (int i = 1; i < length; ++i)
+        expected = expected.add(values[i]);
+
+      assertEquals(expected, BigDecimals.sum(values));
+      assertEquals(expected, BigDecimals.sum(values, 0, length, true));
+      assertEquals(expected, BigDecimals.sum(new LinkedList<>(Arrays.asList(values)), 0, length, true));
+      assertEquals(Numbers.average(values), BigDecimals.average(values));
+      assertEquals(Numbers.average(values), BigDecimals.average(new ArrayList<>(Arrays.asList(values)), 0, length, true));
+    }
+
+    final BigDecimal[] values = {new BigDecimal("1"), new BigDecimal("2.5"), new BigDecimal("3.25"), new BigDecimal("4")};
+    assertEquals(new BigDecimal("5.75"), BigDecimals.sum(values, 1, 3, false));
+    assertEquals(new BigDecimal("2.88"), BigDecimals.average(values, 1, 3, false));
+
+    try {
+      BigDecimals.average(values, 2, 2, false);
+      fail("Expected ArithmeticException");
+    }
+    catch (final ArithmeticException e) {
+    }
+
+    try {
+      BigDecimals.sum(values, 0, 5, false);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+}
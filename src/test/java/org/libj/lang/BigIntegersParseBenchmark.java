@@ -0,0 +1,83 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks {@link BigIntegers#valueOf(CharSequence)} against
+ * {@link BigInteger#BigInteger(String)} over lengths around and far above
+ * {@link BigIntegers#PARSE_THRESHOLD}, to locate the crossover at which the
+ * recursive split overtakes the quadratic JDK constructor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BigIntegersParseBenchmark {
+  @Param({"64", "128", "256", "512", "1024", "4096", "16384", "65536"})
+  public int digits;
+
+  private String str;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(digits);
+    final StringBuilder builder = new StringBuilder(digits);
+    builder.append((char)('1' + random.nextInt(9)));
+    for (int i = 1; i < digits; ++i)
+      builder.append((char)('0' + random.nextInt(10)));
+
+    str = builder.toString();
+    // Verifies the sizes that are too large for the unit tests
+    if (!BigIntegers.valueOf(str).equals(new BigInteger(str)))
+      throw new IllegalStateException("valueOf(String) differs from new BigInteger(String) for " + digits + " digits");
+  }
+
+  @Benchmark
+  public BigInteger jdk() {
+    return new BigInteger(str);
+  }
+
+  @Benchmark
+  public BigInteger valueOf() {
+    return BigIntegers.valueOf(str);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(BigIntegersParseBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -19,6 +19,8 @@ package org.libj.lang;
 import static org.junit.Assert.*;
 
 import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
 
 import org.junit.Test;
 
@@ -36,6 +38,27 @@ public class BigIntegersTest {
     }
   }
 
+  @Test
+  public void testInternByValue() {
+    final BigInteger a = BigIntegers.intern(new BigInteger("-84731209847312098473120984731209"));
+    assertSame(a, BigIntegers.intern("-84731209847312098473120984731209"));
+    assertSame(a, BigIntegers.intern(new BigInteger("84731209847312098473120984731209").negate()));
+    assertSame(BigIntegers.TEN, BigIntegers.intern("10"));
+    assertSame(BigIntegers.TEN, BigIntegers.intern(BigInteger.valueOf(10)));
+  }
+
+  @Test
+  public void testInternConstantsAfterEviction() {
+    for (int i = 0; i < 200000; ++i)
+      BigIntegers.intern(String.valueOf(1000000 + i));
+
+    assertTrue(BigIntegers.interner().evictionCount() > 0);
+    assertTrue(BigIntegers.aliasInterner().evictionCount() > 0);
+    assertNotSame(BigIntegers.interner(), BigIntegers.aliasInterner());
+    assertSame(BigIntegers.TEN, BigIntegers.intern("10"));
+    assertSame(BigIntegers.ONE, BigIntegers.intern(BigInteger.valueOf(1)));
+  }
+
   @Test
   public void testInternString() {
     for (int i = 0; i < 100; ++i) {
@@ -46,4 +69,72 @@ public class BigIntegersTest {
       }).start();
     }
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testPow10() {
+    for (int i = 0; i <= PowersOfTen.MAX_CACHED_EXPONENT; ++i) {
+      final BigInteger pow = BigIntegers.pow10(i);
+      assertEquals(BigInteger.TEN.pow(i), pow);
+      assertSame(pow, BigIntegers.pow10(i));
+    }
+
+    assertEquals(BigInteger.TEN.pow(10000), BigIntegers.pow10(10000));
+    try {
+      BigIntegers.pow10(-1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testValueOf() {
+    final Random random = new Random();
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 300; ++i) {
+      builder.setLength(0);
+      final int sign = random.nextInt(3);
+      if (sign == 1)
+        builder.append('-');
+      else if (sign == 2)
+        builder.append('+');
+
+      final int digits = 1 + random.nextInt(4 * BigIntegers.PARSE_THRESHOLD);
+      for (int j = 0; j < digits; ++j)
+        builder.append((char)('0' + random.nextInt(10)));
+
+      final String str = builder.toString();
+      assertEquals(new BigInteger(str), BigIntegers.valueOf(str));
+      assertEquals(new BigInteger(str), BigIntegers.valueOf("x" + str + "x", 1, str.length() + 1));
+    }
+
+    final char[] chars = new char[BigIntegers.PARSE_THRESHOLD * 3];
+    Arrays.fill(chars, '7');
+    for (final char ch : new char[] {'-', '+', 'a', ' '}) {
+      chars[chars.length / 2] = ch;
+      try {
+        BigIntegers.valueOf(new String(chars));
+        fail("Expected NumberFormatException");
+      }
+      catch (final NumberFormatException e) {
+      }
+    }
+  }
+
+  @Test
+  public void testValueOfSplitBoundaries() {
+    final Random random = new Random();
+    assertTrue(BigIntegers.PARSE_THRESHOLD > 0);
+    // Sizes just below, at, and just above each level of recursion; larger sizes are covered by BigIntegersParseBenchmark
+    for (int k = 0; k < 8; ++k) {
+      for (int d = -1; d <= 1; ++d) {
+        final char[] chars = new char[(BigIntegers.PARSE_THRESHOLD << k) + d];
+        for (int i = 0; i < chars.length; ++i)
+          chars[i] = (char)('0' + random.nextInt(10));
+
+        final String str = new String(chars);
+        assertEquals(new BigInteger(str), BigIntegers.valueOf(str));
+      }
+    }
+  }
+}
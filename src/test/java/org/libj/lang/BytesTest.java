@@ -320,4 +320,21 @@ public class BytesTest {
     assertEquals(30, Bytes.writeBitsL(dest, 5, bytes, 25));
     assertArrayEquals(new byte[] {0b00000010, (byte)0b11011011, 0b01101011, 0b01001000}, dest);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testGetSize() {
+    assertEquals(0, Bytes.getSize(0));
+    assertEquals(0, Bytes.getSize(0L));
+    assertEquals(32, Bytes.getSize(-1));
+    assertEquals(64, Bytes.getSize(-1L));
+    for (int i = 0; i < 63; ++i) {
+      final long pow = 1L << i;
+      assertEquals(i + 1, Bytes.getSize(pow));
+      assertEquals(i + 1, Bytes.getSize(pow | (pow - 1)));
+      if (i < 31) {
+        assertEquals(i + 1, Bytes.getSize((int)pow));
+        assertEquals(i + 1, Bytes.getSize((int)(pow | (pow - 1))));
+      }
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the bulk {@code Numbers.Compound} encode and decode methods
+ * against loops of the per-element calls, packing {@code int[]} and
+ * {@code float[]} columns into a {@code long[]} and back.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CompoundBenchmark {
+  @Param({"16", "1024", "65536"})
+  public int length;
+
+  private int[] ints;
+  private float[] floats;
+  private long[] packed;
+
+  @Setup
+  public void setup() {
+    final Random random = new Random(length);
+    ints = new int[length];
+    floats = new float[length];
+    packed = new long[length];
+    for (int i = 0; i < length; ++i) {
+      ints[i] = random.nextInt();
+      floats[i] = random.nextFloat();
+    }
+
+    Numbers.Compound.encode(ints, 0, floats, 0, packed, 0, length);
+  }
+
+  @Benchmark
+  public long[] encodePerElement() {
+    for (int i = 0; i < length; ++i)
+      packed[i] = Numbers.Compound.encode(ints[i], floats[i]);
+
+    return packed;
+  }
+
+  @Benchmark
+  public long[] encodeBulk() {
+    Numbers.Compound.encode(ints, 0, floats, 0, packed, 0, length);
+    return packed;
+  }
+
+  @Benchmark
+  public float[] decodePerElement() {
+    for (int i = 0; i < length; ++i) {
+      ints[i] = Numbers.Compound.decodeInt(packed[i], 0);
+      floats[i] = Numbers.Compound.decodeFloat(packed[i], 1);
+    }
+
+    return floats;
+  }
+
+  @Benchmark
+  public float[] decodeBulk() {
+    Numbers.Compound.decodeInts(packed, 0, 0, ints, 0, length);
+    Numbers.Compound.decodeFloats(packed, 0, 1, floats, 0, length);
+    return floats;
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(CompoundBenchmark.class.getSimpleName()).build()).run();
+  }
+}
@@ -0,0 +1,198 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.LongSupplier;
+
+import org.junit.Test;
+
+public class Decimal64Test {
+  private static final Random random = new Random();
+  private static final int numTests = 1000000;
+  private static final RoundingMode[] roundingModes = RoundingMode.values();
+
+  private static long randomDecimal64() {
+    final long unscaled = random.nextLong() >> (Decimal64.SCALE_BITS + random.nextInt(64 - Decimal64.SCALE_BITS));
+    return Decimal64.valueOf(unscaled, random.nextInt(Decimal64.MAX_SCALE + 1));
+  }
+
+  private static BigDecimal setScale(final BigDecimal expected, final int scale, final RoundingMode rm) {
+    try {
+      return BigDecimals.setScale(expected, scale, rm);
+    }
+    catch (final ArithmeticException e) {
+      return null;
+    }
+  }
+
+  private static void assertDecimal64(final String message, final BigDecimal expected, final LongSupplier actual) {
+    BigDecimal result;
+    try {
+      result = Decimal64.toBigDecimal(actual.getAsLong());
+    }
+    catch (final ArithmeticException e) {
+      result = null;
+    }
+
+    if (expected == null || expected.unscaledValue().bitLength() > 63 - Decimal64.SCALE_BITS)
+      assertNull(message, result);
+    else
+      assertEquals(message, expected, result);
+  }
+
+  @Test
+  public void testBigDecimal() {
+    for (int i = 0; i < numTests; ++i) {
+      final long dec = randomDecimal64();
+      final BigDecimal big = Decimal64.toBigDecimal(dec);
+      assertEquals(dec, Decimal64.valueOf(big));
+      assertEquals(dec, Decimal64.valueOf(Decimal64.unscaledValue(dec), Decimal64.scale(dec)));
+    }
+
+    assertEquals(Decimal64.valueOf(1000, 0), Decimal64.valueOf(new BigDecimal("1E+3")));
+    assertEquals(Decimal64.valueOf(1, 1), Decimal64.valueOf(new BigDecimal("0.10000000000000000000").stripTrailingZeros()));
+    assertEquals(Decimal64.valueOf(100, Decimal64.MAX_SCALE), Decimal64.valueOf(new BigDecimal("0.000000000000000100000")));
+    try {
+      Decimal64.valueOf(new BigDecimal("0.0000000000000000001"));
+      fail("Expected ArithmeticException");
+    }
+    catch (final ArithmeticException e) {
+    }
+
+    try {
+      Decimal64.valueOf(Decimal64.MAX_UNSCALED + 1, 0);
+      fail("Expected ArithmeticException");
+    }
+    catch (final ArithmeticException e) {
+    }
+
+    try {
+      Decimal64.valueOf(1, Decimal64.MAX_SCALE + 1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testCompare() {
+    for (int i = 0; i < numTests; ++i) {
+      final long a = randomDecimal64();
+      long b = randomDecimal64();
+      if (i % 3 == 0) {
+        try {
+          b = Decimal64.setScale(a, Decimal64.MAX_SCALE, RoundingMode.DOWN);
+        }
+        catch (final ArithmeticException e) {
+        }
+      }
+
+      final int expected = Decimal64.toBigDecimal(a).compareTo(Decimal64.toBigDecimal(b));
+      assertEquals(expected, Decimal64.compare(a, b));
+    }
+  }
+
+  @Test
+  public void testAddSubtract() {
+    for (int i = 0; i < numTests; ++i) {
+      final long a = randomDecimal64();
+      final long b = randomDecimal64();
+      final BigDecimal x = Decimal64.toBigDecimal(a);
+      final BigDecimal y = Decimal64.toBigDecimal(b);
+      assertDecimal64(x + " + " + y, x.add(y), () -> Decimal64.add(a, b));
+      assertDecimal64(x + " - " + y, x.subtract(y), () -> Decimal64.subtract(a, b));
+      assertDecimal64("-" + x, x.negate(), () -> Decimal64.negate(a));
+    }
+  }
+
+  @Test
+  public void testMultiply() {
+    for (int i = 0; i < numTests; ++i) {
+      final long a = randomDecimal64();
+      final long b = randomDecimal64();
+      final int scale = random.nextInt(Decimal64.MAX_SCALE + 1);
+      final RoundingMode rm = roundingModes[random.nextInt(roundingModes.length)];
+      final BigDecimal x = Decimal64.toBigDecimal(a);
+      final BigDecimal y = Decimal64.toBigDecimal(b);
+      assertDecimal64(x + " * " + y + " " + scale + " " + rm, setScale(x.multiply(y), scale, rm), () -> Decimal64.multiply(a, b, scale, rm));
+    }
+  }
+
+  @Test
+  public void testDivide() {
+    for (int i = 0; i < numTests; ++i) {
+      final long a = randomDecimal64();
+      final long b = randomDecimal64();
+      final int scale = random.nextInt(Decimal64.MAX_SCALE + 1);
+      final RoundingMode rm = roundingModes[random.nextInt(roundingModes.length)];
+      final BigDecimal x = Decimal64.toBigDecimal(a);
+      final BigDecimal y = Decimal64.toBigDecimal(b);
+      final BigDecimal expected;
+      if (y.signum() == 0)
+        expected = null;
+      else if (rm == RoundingMode.UNNECESSARY)
+        expected = setScale(x.divide(y, scale + 1, RoundingMode.DOWN), scale, rm) == null || x.divide(y, 40, RoundingMode.DOWN).compareTo(x.divide(y, scale, RoundingMode.DOWN)) != 0 ? null : x.divide(y, scale, RoundingMode.DOWN);
+      else
+        expected = setScale(x.divide(y, scale + 1, RoundingMode.DOWN), scale, rm);
+
+      assertDecimal64(x + " / " + y + " " + scale + " " + rm, expected, () -> Decimal64.divide(a, b, scale, rm));
+    }
+  }
+
+  @Test
+  public void testSetScale() {
+    for (int i = 0; i < numTests; ++i) {
+      final long a = randomDecimal64();
+      final int scale = random.nextInt(Decimal64.MAX_SCALE + 1);
+      final RoundingMode rm = roundingModes[random.nextInt(roundingModes.length)];
+      final BigDecimal x = Decimal64.toBigDecimal(a);
+      assertDecimal64(x + " " + scale + " " + rm, setScale(x, scale, rm), () -> Decimal64.setScale(a, scale, rm));
+    }
+  }
+
+  @Test
+  public void testParseToString() {
+    final char[] buf = new char[22];
+    for (int i = 0; i < numTests; ++i) {
+      final long dec = randomDecimal64();
+      final String expected = Decimal64.toBigDecimal(dec).toPlainString();
+      assertEquals(expected, new String(buf, 1, Decimal64.toString(dec, buf, 1) - 1));
+      assertEquals(expected, Decimal64.toString(dec));
+      assertEquals(expected, dec, Decimal64.parse(expected, 7));
+      assertEquals(expected, dec, Decimal64.parse("x" + expected + "x", 1, expected.length() + 1, 7));
+    }
+
+    assertEquals(Decimal64.valueOf(15, 1), Decimal64.parse("+1.5", 7));
+    assertEquals(Decimal64.valueOf(-5, 2), Decimal64.parse("-.05", 7));
+    assertEquals(Decimal64.valueOf(1, 0), Decimal64.parse("1.", 7));
+    assertEquals(Decimal64.valueOf(Decimal64.MIN_UNSCALED, 0), Decimal64.parse(String.valueOf(Decimal64.MIN_UNSCALED), 7));
+    assertEquals(7, Decimal64.parse(String.valueOf(Decimal64.MIN_UNSCALED - 1), 7));
+    assertEquals(7, Decimal64.parse(String.valueOf(Decimal64.MAX_UNSCALED + 1), 7));
+    assertEquals(7, Decimal64.parse("0.0000000000000000001", 7));
+    assertEquals(7, Decimal64.parse((String)null, 7));
+    assertEquals(7, Decimal64.parse("", 7));
+    assertEquals(7, Decimal64.parse("-", 7));
+    assertEquals(7, Decimal64.parse(".", 7));
+    assertEquals(7, Decimal64.parse("1.2.3", 7));
+    assertEquals(7, Decimal64.parse("1e3", 7));
+  }
+}
@@ -0,0 +1,142 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class InternerTest {
+  @Test
+  public void testIllegalArguments() {
+    try {
+      new Interner<>(0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      new Interner<>(1, 0);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testIntern() {
+    final Interner<String,String> interner = new Interner<>(16);
+    final String a = new String("a");
+    assertSame(a, interner.intern("a", a));
+    assertSame(a, interner.intern("a", new String("a")));
+    assertSame(a, interner.get("a"));
+    assertNull(interner.get("b"));
+    assertEquals(1, interner.size());
+    assertEquals(2, interner.hitCount());
+    assertEquals(2, interner.missCount());
+  }
+
+  @Test
+  public void testComputeIfAbsent() {
+    final Interner<Integer,String> interner = new Interner<>(16);
+    final AtomicInteger calls = new AtomicInteger();
+    final String a = interner.computeIfAbsent(1, k -> {
+      calls.incrementAndGet();
+      return String.valueOf(k);
+    });
+
+    assertSame(a, interner.computeIfAbsent(1, k -> {
+      calls.incrementAndGet();
+      return String.valueOf(k);
+    }));
+
+    assertEquals(1, calls.get());
+    assertNull(interner.computeIfAbsent(2, k -> null));
+    assertEquals(1, interner.size());
+  }
+
+  @Test
+  public void testEviction() {
+    final Interner<Integer,Integer> interner = new Interner<>(4, 1);
+    for (int i = 0; i < 4; ++i)
+      interner.intern(i, i);
+
+    // Access 0, so that 1 is the least recently used
+    assertEquals(Integer.valueOf(0), interner.get(0));
+    interner.intern(4, 4);
+    assertEquals(4, interner.size());
+    assertEquals(1, interner.evictionCount());
+    assertNull(interner.get(1));
+    assertEquals(Integer.valueOf(0), interner.get(0));
+  }
+
+  @Test
+  public void testBounded() throws InterruptedException {
+    final Interner<Integer,Integer> interner = new Interner<>(1000, 16);
+    final Thread[] threads = new Thread[8];
+    for (int t = 0; t < threads.length; ++t) {
+      final int offset = t * 100000;
+      threads[t] = new Thread(() -> {
+        for (int i = 0; i < 100000; ++i) {
+          final Integer key = offset + i;
+          assertEquals(key, interner.computeIfAbsent(key, k -> k));
+        }
+      });
+      threads[t].start();
+    }
+
+    for (final Thread thread : threads)
+      thread.join();
+
+    assertTrue(interner.size() <= interner.maximumSize());
+    assertEquals(800000, interner.missCount());
+    assertEquals(800000 - interner.size(), interner.evictionCount());
+  }
+
+  @Test
+  public void testPin() {
+    final Interner<Integer,String> interner = new Interner<>(2, 1);
+    final String a = new String("a");
+    assertSame(a, interner.intern(1, a));
+    assertSame(a, interner.pin(1, new String("a")));
+    assertSame(a, interner.pin(1, new String("a")));
+    final String b = new String("b");
+    assertSame(b, interner.pin(2, b));
+    for (int i = 3; i < 10; ++i)
+      interner.intern(i, String.valueOf(i));
+
+    assertSame(a, interner.get(1));
+    assertSame(b, interner.intern(2, new String("b")));
+    assertSame(b, interner.computeIfAbsent(2, String::valueOf));
+    assertEquals(4, interner.size());
+    interner.clear();
+    assertEquals(2, interner.size());
+    assertSame(a, interner.get(1));
+  }
+
+  @Test
+  public void testClear() {
+    final Interner<Integer,Integer> interner = new Interner<>(16);
+    interner.intern(1, 1);
+    interner.clear();
+    assertEquals(0, interner.size());
+    assertNull(interner.get(1));
+  }
+}
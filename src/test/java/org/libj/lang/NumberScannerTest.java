@@ -0,0 +1,127 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+public class NumberScannerTest {
+  private static final Random random = new Random();
+
+  @Test
+  public void testNextInt() {
+    final NumberScanner scanner = new NumberScanner("1,-22,x,,7\r\n2147483647\n-5,", ',');
+    assertTrue(scanner.hasNext());
+    assertEquals(1, scanner.nextInt(7));
+    assertTrue(scanner.succeeded());
+    assertEquals(-22, scanner.nextInt(7));
+    assertTrue(scanner.succeeded());
+    assertEquals(7, scanner.nextInt(7));
+    assertFalse(scanner.succeeded());
+    assertEquals(7, scanner.nextInt(7));
+    assertFalse(scanner.succeeded());
+    assertEquals(7, scanner.nextInt(7));
+    assertTrue(scanner.succeeded());
+    assertEquals(Integer.MAX_VALUE, scanner.nextInt(7));
+    assertTrue(scanner.succeeded());
+    assertEquals(-5, scanner.nextInt(7));
+    assertTrue(scanner.succeeded());
+    assertFalse(scanner.hasNext());
+    assertEquals(7, scanner.nextInt(7));
+    assertFalse(scanner.succeeded());
+
+    scanner.reset();
+    assertEquals(0, scanner.position());
+    assertTrue(scanner.skip());
+    assertEquals(2, scanner.position());
+    assertEquals(-22, scanner.nextInt(7));
+
+    final NumberScanner overflow = new NumberScanner("2147483648,-2147483648,+,-0", ',');
+    assertEquals(-1, overflow.nextInt(-1));
+    assertFalse(overflow.succeeded());
+    assertEquals(Integer.MIN_VALUE, overflow.nextInt(Integer.MIN_VALUE));
+    assertTrue(overflow.succeeded());
+    assertEquals(0, overflow.nextInt(0));
+    assertFalse(overflow.succeeded());
+    assertEquals(0, overflow.nextInt(0));
+    assertTrue(overflow.succeeded());
+  }
+
+  @Test
+  public void testNextLongAndDouble() {
+    final NumberScanner scanner = new NumberScanner("[9223372036854775807;1.5;NaN;-0;abc]".toCharArray(), 1, 35, ';');
+    assertEquals(Long.MAX_VALUE, scanner.nextLong(0));
+    assertTrue(scanner.succeeded());
+    assertEquals(1.5, scanner.nextDouble(Double.NaN), 0);
+    assertTrue(scanner.succeeded());
+    assertTrue(Double.isNaN(scanner.nextDouble(Double.NaN)));
+    assertTrue(scanner.succeeded());
+    assertEquals(Double.doubleToLongBits(-0d), Double.doubleToLongBits(scanner.nextDouble(-0d)));
+    assertTrue(scanner.succeeded());
+    assertTrue(Double.isNaN(scanner.nextDouble(Double.NaN)));
+    assertFalse(scanner.succeeded());
+    assertFalse(scanner.hasNext());
+  }
+
+  @Test
+  public void testNextInts() {
+    final NumberScanner scanner = new NumberScanner("1,2,3\n4,5,6\n7,8", ',');
+    final int[] column = new int[4];
+    assertEquals(3, scanner.nextInts(column, 1, 3, -1));
+    assertTrue(scanner.succeeded());
+    assertArrayEquals(new int[] {0, 1, 2, 3}, column);
+    final long[] longs = new long[5];
+    assertEquals(5, scanner.nextLongs(longs, 0, 10, -1));
+    assertArrayEquals(new long[] {4, 5, 6, 7, 8}, longs);
+
+    final double[] doubles = new double[2];
+    assertEquals(2, new NumberScanner("1e3|z", '|').nextDoubles(doubles, 0, 2, -1));
+    assertArrayEquals(new double[] {1000, -1}, doubles, 0);
+  }
+
+  @Test
+  public void testParse() {
+    final StringBuilder builder = new StringBuilder();
+    final int count = 200000;
+    final int[] ints = new int[count];
+    for (int i = 0; i < count; ++i) {
+      ints[i] = random.nextInt() >> random.nextInt(32);
+      if (i > 0)
+        builder.append(i % 10 == 0 ? (i % 20 == 0 ? "\r\n" : "\n") : ",");
+
+      builder.append(ints[i]);
+    }
+
+    final String str = builder.toString();
+    assertArrayEquals(ints, NumberScanner.parseInts(str, ',', 0, false));
+    assertArrayEquals(ints, NumberScanner.parseInts(str, ',', 0, true));
+    assertArrayEquals(ints, NumberScanner.parseInts(str.toCharArray(), ',', 0, true));
+
+    final long[] longs = NumberScanner.parseLongs(str, ',', 0, true);
+    final double[] doubles = NumberScanner.parseDoubles(str.toCharArray(), ',', 0, true);
+    for (int i = 0; i < count; ++i) {
+      assertEquals(ints[i], longs[i]);
+      assertEquals(ints[i], doubles[i], 0);
+    }
+
+    assertArrayEquals(new int[] {1, 0, 3}, NumberScanner.parseInts("1,,3,", ',', 0, true));
+    assertArrayEquals(new int[0], NumberScanner.parseInts("", ',', 0, true));
+  }
+}
@@ -0,0 +1,119 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class NumberStatisticsTest {
+  private static final Random random = new Random();
+
+  @Test
+  public void testEmpty() {
+    final NumberStatistics statistics = new NumberStatistics();
+    assertEquals(0, statistics.getCount());
+    assertEquals(0, statistics.getSum(), 0);
+    assertEquals(Double.POSITIVE_INFINITY, statistics.getMin(), 0);
+    assertEquals(Double.NEGATIVE_INFINITY, statistics.getMax(), 0);
+    assertTrue(Double.isNaN(statistics.getMean()));
+    assertTrue(Double.isNaN(statistics.getVariance()));
+    assertTrue(Double.isNaN(statistics.getSampleVariance()));
+    assertSame(statistics, statistics.merge(new NumberStatistics()));
+    assertEquals(0, statistics.getCount());
+  }
+
+  @Test
+  public void testMoments() {
+    final NumberStatistics statistics = NumberStatistics.of(new int[] {2, 4, 4, 4, 5, 5, 7, 9});
+    assertEquals(8, statistics.getCount());
+    assertEquals(40, statistics.getSum(), 0);
+    assertEquals(2, statistics.getMin(), 0);
+    assertEquals(9, statistics.getMax(), 0);
+    assertEquals(5, statistics.getMean(), 0);
+    assertEquals(4, statistics.getVariance(), 1e-15);
+    assertEquals(32d / 7, statistics.getSampleVariance(), 1e-15);
+    assertEquals(2, statistics.getStandardDeviation(), 1e-15);
+
+    assertEquals(2.5, NumberStatistics.of(new byte[] {-1, 2, 3, 4, 127}, 1, 3, false).getMean(), 0);
+    assertEquals(-1, NumberStatistics.of(new short[] {-1, 2}).getMin(), 0);
+    assertEquals(1.5f, NumberStatistics.of(new float[] {1.5f}).getMax(), 0);
+  }
+
+  @Test
+  public void testOverflow() {
+    final long[] values = {Long.MAX_VALUE, Long.MAX_VALUE, Long.MAX_VALUE, 3};
+    final NumberStatistics statistics = NumberStatistics.of(values);
+    assertEquals(new BigDecimal(Long.MAX_VALUE).multiply(BigDecimal.valueOf(3)).add(BigDecimal.valueOf(3)).doubleValue(), statistics.getSum(), 0);
+    assertEquals(Long.MAX_VALUE * 0.75, statistics.getMean(), 1e3);
+    assertEquals(Long.MIN_VALUE, NumberStatistics.of(new long[] {Long.MIN_VALUE, Long.MIN_VALUE}).getMean(), 0);
+    assertEquals(Long.MAX_VALUE * 0.75, Numbers.average(values), 1e3);
+  }
+
+  @Test
+  public void testCompensation() {
+    final double[] values = new double[10001];
+    values[0] = 1;
+    for (int i = 1; i < values.length; ++i)
+      values[i] = 1e-16;
+
+    assertEquals(1 + 1e-12, NumberStatistics.of(values).getSum(), 1e-27);
+    assertEquals(Double.POSITIVE_INFINITY, NumberStatistics.of(new double[] {1, Double.POSITIVE_INFINITY}).getSum(), 0);
+    assertTrue(Double.isNaN(NumberStatistics.of(new double[] {Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY}).getSum()));
+  }
+
+  @Test
+  public void testMixed() {
+    final NumberStatistics statistics = new NumberStatistics();
+    statistics.accept(1);
+    statistics.accept(0.5);
+    assertEquals(1.5, statistics.getSum(), 0);
+    assertEquals(0.75, statistics.getMean(), 0);
+    assertEquals(0.0625, statistics.getVariance(), 0);
+  }
+
+  @Test
+  public void testParallel() {
+    final int length = 1000000;
+    final double[] doubles = new double[length];
+    final int[] ints = new int[length];
+    final NumberStatistics sequential = new NumberStatistics();
+    for (int i = 0; i < length; ++i) {
+      sequential.accept(doubles[i] = random.nextGaussian() * 1000 + 10);
+      ints[i] = random.nextInt();
+    }
+
+    for (final boolean parallel : new boolean[] {false, true}) {
+      final NumberStatistics statistics = NumberStatistics.of(doubles, 0, length, parallel);
+      assertEquals(length, statistics.getCount());
+      assertEquals(sequential.getSum(), statistics.getSum(), 1e-6);
+      assertEquals(sequential.getMin(), statistics.getMin(), 0);
+      assertEquals(sequential.getMax(), statistics.getMax(), 0);
+      assertEquals(sequential.getVariance(), statistics.getVariance(), 1e-6);
+    }
+
+    long sum = 0;
+    for (final int i : ints)
+      sum += i;
+
+    assertEquals(sum, NumberStatistics.of(ints, 0, length, true).getSum(), 0);
+    assertEquals(ints[5], NumberStatistics.of(ints, 5, 6, true).getSum(), 0);
+  }
+}
@@ -0,0 +1,567 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmarks the {@code Numbers.parse*} family against the {@code java.lang}
+ * equivalents. Each benchmark is run over valid and invalid inputs of several
+ * lengths, and radixes where applicable. Run with the {@code benchmark}
+ * profile, or via {@link #main(String[])}, to have {@code gc.alloc.rate}
+ * reported alongside throughput.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumbersParseBenchmark {
+  private static final int SIZE = 1024;
+  private static final int MASK = SIZE - 1;
+
+  public enum Length {
+    SHORT(7),
+    MEDIUM(15),
+    LONG(63);
+
+    private final int bits;
+
+    Length(final int bits) {
+      this.bits = bits;
+    }
+  }
+
+  @State(Scope.Thread)
+  public abstract static class Input {
+    @Param({"SHORT", "MEDIUM", "LONG"})
+    public Length length;
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    String[] strings;
+    char[][] chars;
+    String[] padded;
+    char[][] paddedChars;
+    byte[][] paddedBytes;
+    ByteBuffer direct;
+    int[] fromIndex;
+    int[] toIndex;
+    int[] directFromIndex;
+    int[] directToIndex;
+    private int index;
+
+    abstract int bits();
+
+    int radix() {
+      return 10;
+    }
+
+    @Setup
+    public void setup() {
+      final Random random = new Random(SIZE);
+      final int bits = Math.min(length.bits, bits());
+      final int radix = radix();
+      strings = new String[SIZE];
+      chars = new char[SIZE][];
+      padded = new String[SIZE];
+      paddedChars = new char[SIZE][];
+      paddedBytes = new byte[SIZE][];
+      direct = ByteBuffer.allocateDirect(SIZE * 72);
+      fromIndex = new int[SIZE];
+      toIndex = new int[SIZE];
+      directFromIndex = new int[SIZE];
+      directToIndex = new int[SIZE];
+      for (int i = 0; i < SIZE; ++i) {
+        final long value = (random.nextLong() >>> (64 - bits)) * (random.nextBoolean() ? 1 : -1);
+        String str = Long.toString(value, radix);
+        if (!valid) {
+          final char[] c = str.toCharArray();
+          c[c.length / 2] = '#';
+          str = new String(c);
+        }
+
+        strings[i] = str;
+        chars[i] = str.toCharArray();
+        padded[i] = "  " + str + "  ";
+        paddedChars[i] = padded[i].toCharArray();
+        paddedBytes[i] = padded[i].getBytes(StandardCharsets.US_ASCII);
+        fromIndex[i] = 2;
+        toIndex[i] = 2 + str.length();
+        directFromIndex[i] = direct.position() + fromIndex[i];
+        directToIndex[i] = direct.position() + toIndex[i];
+        direct.put(paddedBytes[i]);
+      }
+    }
+
+    int next() {
+      return index++ & MASK;
+    }
+  }
+
+  public static class ShortInput extends Input {
+    @Override
+    int bits() {
+      return 15;
+    }
+  }
+
+  public static class RadixShortInput extends ShortInput {
+    @Param({"10", "16", "36"})
+    public int radix;
+
+    @Override
+    int radix() {
+      return radix;
+    }
+  }
+
+  public static class IntInput extends Input {
+    @Override
+    int bits() {
+      return 31;
+    }
+  }
+
+  public static class RadixIntInput extends IntInput {
+    @Param({"10", "16", "36"})
+    public int radix;
+
+    @Override
+    int radix() {
+      return radix;
+    }
+  }
+
+  public static class LongInput extends Input {
+    @Override
+    int bits() {
+      return 63;
+    }
+  }
+
+  public static class RadixLongInput extends LongInput {
+    @Param({"10", "16", "36"})
+    public int radix;
+
+    @Override
+    int radix() {
+      return radix;
+    }
+  }
+
+  /**
+   * Typical ASCII identifiers: unsigned decimal IDs of 6 to 12 digits, and
+   * lowercase hexadecimal hashes of 15 digits.
+   */
+  @State(Scope.Thread)
+  public static class IdInput {
+    String[] ids;
+    char[][] idChars;
+    String[] hashes;
+    char[][] hashChars;
+    private int index;
+
+    @Setup
+    public void setup() {
+      final Random random = new Random(SIZE);
+      ids = new String[SIZE];
+      idChars = new char[SIZE][];
+      hashes = new String[SIZE];
+      hashChars = new char[SIZE][];
+      for (int i = 0; i < SIZE; ++i) {
+        ids[i] = Long.toString(100000 + (random.nextLong() >>> 1) % 999999900000L);
+        idChars[i] = ids[i].toCharArray();
+        hashes[i] = Long.toHexString(random.nextLong() >>> 4 | 1L << 56);
+        hashChars[i] = hashes[i].toCharArray();
+      }
+    }
+
+    int next() {
+      return index++ & MASK;
+    }
+  }
+
+  @Benchmark
+  public short jdkParseShort(final ShortInput in) {
+    try {
+      return Short.parseShort(in.strings[in.next()]);
+    }
+    catch (final NumberFormatException e) {
+      return Short.MIN_VALUE;
+    }
+  }
+
+  @Benchmark
+  public short jdkParseShortRadix(final RadixShortInput in) {
+    try {
+      return Short.parseShort(in.strings[in.next()], in.radix);
+    }
+    catch (final NumberFormatException e) {
+      return Short.MIN_VALUE;
+    }
+  }
+
+  @Benchmark
+  public Short parseShortCharSequence(final ShortInput in) {
+    return Numbers.parseShort(in.strings[in.next()]);
+  }
+
+  @Benchmark
+  public Short parseShortCharSequenceRange(final ShortInput in) {
+    final int i = in.next();
+    return Numbers.parseShort(in.padded[i], in.fromIndex[i], in.toIndex[i]);
+  }
+
+  @Benchmark
+  public short parseShortCharSequenceDefault(final ShortInput in) {
+    return Numbers.parseShort(in.strings[in.next()], Short.MIN_VALUE);
+  }
+
+  @Benchmark
+  public short parseShortCharSequenceRangeDefault(final ShortInput in) {
+    final int i = in.next();
+    return Numbers.parseShort(in.padded[i], in.fromIndex[i], in.toIndex[i], Short.MIN_VALUE);
+  }
+
+  @Benchmark
+  public short parseShortCharArrayDefault(final ShortInput in) {
+    return Numbers.parseShort(in.chars[in.next()], Short.MIN_VALUE);
+  }
+
+  @Benchmark
+  public short parseShortCharArrayRangeDefault(final ShortInput in) {
+    final int i = in.next();
+    return Numbers.parseShort(in.paddedChars[i], in.fromIndex[i], in.toIndex[i], Short.MIN_VALUE);
+  }
+
+  @Benchmark
+  public Short parseShortCharSequenceRadix(final RadixShortInput in) {
+    return Numbers.parseShort(in.strings[in.next()], in.radix);
+  }
+
+  @Benchmark
+  public Short parseShortCharSequenceRangeRadix(final RadixShortInput in) {
+    final int i = in.next();
+    return Numbers.parseShort(in.padded[i], in.fromIndex[i], in.toIndex[i], in.radix);
+  }
+
+  @Benchmark
+  public Short parseShortCharArrayRadix(final RadixShortInput in) {
+    return Numbers.parseShort(in.chars[in.next()], in.radix);
+  }
+
+  @Benchmark
+  public Short parseShortCharArrayRangeRadix(final RadixShortInput in) {
+    final int i = in.next();
+    return Numbers.parseShort(in.paddedChars[i], in.fromIndex[i], in.toIndex[i], in.radix);
+  }
+
+  @Benchmark
+  public short parseShortCharSequenceRadixDefault(final RadixShortInput in) {
+    return Numbers.parseShort(in.strings[in.next()], in.radix, Short.MIN_VALUE);
+  }
+
+  @Benchmark
+  public short parseShortCharSequenceRangeRadixDefault(final RadixShortInput in) {
+    final int i = in.next();
+    return Numbers.parseShort(in.padded[i], in.fromIndex[i], in.toIndex[i], in.radix, Short.MIN_VALUE);
+  }
+
+  @Benchmark
+  public short parseShortCharArrayRadixDefault(final RadixShortInput in) {
+    return Numbers.parseShort(in.chars[in.next()], in.radix, Short.MIN_VALUE);
+  }
+
+  @Benchmark
+  public short parseShortCharArrayRangeRadixDefault(final RadixShortInput in) {
+    final int i = in.next();
+    return Numbers.parseShort(in.paddedChars[i], in.fromIndex[i], in.toIndex[i], in.radix, Short.MIN_VALUE);
+  }
+
+  @Benchmark
+  public int jdkParseInt(final IntInput in) {
+    try {
+      return Integer.parseInt(in.strings[in.next()]);
+    }
+    catch (final NumberFormatException e) {
+      return Integer.MIN_VALUE;
+    }
+  }
+
+  @Benchmark
+  public int jdkParseIntRadix(final RadixIntInput in) {
+    try {
+      return Integer.parseInt(in.strings[in.next()], in.radix);
+    }
+    catch (final NumberFormatException e) {
+      return Integer.MIN_VALUE;
+    }
+  }
+
+  @Benchmark
+  public Integer parseIntegerCharSequence(final IntInput in) {
+    return Numbers.parseInteger(in.strings[in.next()]);
+  }
+
+  @Benchmark
+  public Integer parseIntegerCharSequenceRange(final IntInput in) {
+    final int i = in.next();
+    return Numbers.parseInteger(in.padded[i], in.fromIndex[i], in.toIndex[i]);
+  }
+
+  @Benchmark
+  public int parseIntCharSequenceDefault(final IntInput in) {
+    return Numbers.parseInt(in.strings[in.next()], Integer.MIN_VALUE);
+  }
+
+  @Benchmark
+  public int parseIntCharSequenceRangeDefault(final IntInput in) {
+    final int i = in.next();
+    return Numbers.parseInt(in.padded[i], in.fromIndex[i], in.toIndex[i], Integer.MIN_VALUE);
+  }
+
+  @Benchmark
+  public int parseIntCharArrayDefault(final IntInput in) {
+    return Numbers.parseInt(in.chars[in.next()], Integer.MIN_VALUE);
+  }
+
+  @Benchmark
+  public int parseIntCharArrayRangeDefault(final IntInput in) {
+    final int i = in.next();
+    return Numbers.parseInt(in.paddedChars[i], in.fromIndex[i], in.toIndex[i], Integer.MIN_VALUE);
+  }
+
+  @Benchmark
+  public Integer parseIntegerCharSequenceRadix(final RadixIntInput in) {
+    return Numbers.parseInteger(in.strings[in.next()], in.radix);
+  }
+
+  @Benchmark
+  public Integer parseIntegerCharSequenceRangeRadix(final RadixIntInput in) {
+    final int i = in.next();
+    return Numbers.parseInteger(in.padded[i], in.fromIndex[i], in.toIndex[i], in.radix);
+  }
+
+  @Benchmark
+  public Integer parseIntegerCharArrayRadix(final RadixIntInput in) {
+    return Numbers.parseInteger(in.chars[in.next()], in.radix);
+  }
+
+  @Benchmark
+  public Integer parseIntegerCharArrayRangeRadix(final RadixIntInput in) {
+    final int i = in.next();
+    return Numbers.parseInteger(in.paddedChars[i], in.fromIndex[i], in.toIndex[i], in.radix);
+  }
+
+  @Benchmark
+  public int parseIntByteArrayRangeDefault(final IntInput in) {
+    final int i = in.next();
+    return Numbers.parseInt(in.paddedBytes[i], in.fromIndex[i], in.toIndex[i], Integer.MIN_VALUE);
+  }
+
+  @Benchmark
+  public int parseIntDirectBufferRangeDefault(final IntInput in) {
+    final int i = in.next();
+    return Numbers.parseInt(in.direct, in.directFromIndex[i], in.directToIndex[i], Integer.MIN_VALUE);
+  }
+
+  @Benchmark
+  public int parseIntCharSequenceRadixDefault(final RadixIntInput in) {
+    return Numbers.parseInt(in.strings[in.next()], in.radix, Integer.MIN_VALUE);
+  }
+
+  @Benchmark
+  public int parseIntCharSequenceRangeRadixDefault(final RadixIntInput in) {
+    final int i = in.next();
+    return Numbers.parseInt(in.padded[i], in.fromIndex[i], in.toIndex[i], in.radix, Integer.MIN_VALUE);
+  }
+
+  @Benchmark
+  public int parseIntCharArrayRadixDefault(final RadixIntInput in) {
+    return Numbers.parseInt(in.chars[in.next()], in.radix, Integer.MIN_VALUE);
+  }
+
+  @Benchmark
+  public int parseIntCharArrayRangeRadixDefault(final RadixIntInput in) {
+    final int i = in.next();
+    return Numbers.parseInt(in.paddedChars[i], in.fromIndex[i], in.toIndex[i], in.radix, Integer.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long jdkParseLong(final LongInput in) {
+    try {
+      return Long.parseLong(in.strings[in.next()]);
+    }
+    catch (final NumberFormatException e) {
+      return Long.MIN_VALUE;
+    }
+  }
+
+  @Benchmark
+  public long jdkParseLongRadix(final RadixLongInput in) {
+    try {
+      return Long.parseLong(in.strings[in.next()], in.radix);
+    }
+    catch (final NumberFormatException e) {
+      return Long.MIN_VALUE;
+    }
+  }
+
+  @Benchmark
+  public Long parseLongCharSequence(final LongInput in) {
+    return Numbers.parseLong(in.strings[in.next()]);
+  }
+
+  @Benchmark
+  public Long parseLongCharSequenceRange(final LongInput in) {
+    final int i = in.next();
+    return Numbers.parseLong(in.padded[i], in.fromIndex[i], in.toIndex[i]);
+  }
+
+  @Benchmark
+  public long parseLongCharSequenceDefault(final LongInput in) {
+    return Numbers.parseLong(in.strings[in.next()], Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long parseLongCharSequenceRangeDefault(final LongInput in) {
+    final int i = in.next();
+    return Numbers.parseLong(in.padded[i], in.fromIndex[i], in.toIndex[i], Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long parseLongCharArrayDefault(final LongInput in) {
+    return Numbers.parseLong(in.chars[in.next()], Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long parseLongCharArrayRangeDefault(final LongInput in) {
+    final int i = in.next();
+    return Numbers.parseLong(in.paddedChars[i], in.fromIndex[i], in.toIndex[i], Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long parseLongByteArrayRangeDefault(final LongInput in) {
+    final int i = in.next();
+    return Numbers.parseLong(in.paddedBytes[i], in.fromIndex[i], in.toIndex[i], Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long parseLongDirectBufferRangeDefault(final LongInput in) {
+    final int i = in.next();
+    return Numbers.parseLong(in.direct, in.directFromIndex[i], in.directToIndex[i], Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public Long parseLongCharSequenceRadix(final RadixLongInput in) {
+    return Numbers.parseLong(in.strings[in.next()], in.radix);
+  }
+
+  @Benchmark
+  public Long parseLongCharSequenceRangeRadix(final RadixLongInput in) {
+    final int i = in.next();
+    return Numbers.parseLong(in.padded[i], in.fromIndex[i], in.toIndex[i], in.radix);
+  }
+
+  @Benchmark
+  public Long parseLongCharArrayRadix(final RadixLongInput in) {
+    return Numbers.parseLong(in.chars[in.next()], in.radix);
+  }
+
+  @Benchmark
+  public Long parseLongCharArrayRangeRadix(final RadixLongInput in) {
+    final int i = in.next();
+    return Numbers.parseLong(in.paddedChars[i], in.fromIndex[i], in.toIndex[i], in.radix);
+  }
+
+  @Benchmark
+  public long parseLongCharSequenceRadixDefault(final RadixLongInput in) {
+    return Numbers.parseLong(in.strings[in.next()], in.radix, Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long parseLongCharSequenceRangeRadixDefault(final RadixLongInput in) {
+    final int i = in.next();
+    return Numbers.parseLong(in.padded[i], in.fromIndex[i], in.toIndex[i], in.radix, Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long parseLongCharArrayRadixDefault(final RadixLongInput in) {
+    return Numbers.parseLong(in.chars[in.next()], in.radix, Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long parseLongCharArrayRangeRadixDefault(final RadixLongInput in) {
+    final int i = in.next();
+    return Numbers.parseLong(in.paddedChars[i], in.fromIndex[i], in.toIndex[i], in.radix, Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long jdkParseLongId(final IdInput in) {
+    return Long.parseLong(in.ids[in.next()]);
+  }
+
+  @Benchmark
+  public long parseLongId(final IdInput in) {
+    return Numbers.parseLong(in.ids[in.next()], Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long parseLongCharArrayId(final IdInput in) {
+    return Numbers.parseLong(in.idChars[in.next()], Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long jdkParseLongHash(final IdInput in) {
+    return Long.parseLong(in.hashes[in.next()], 16);
+  }
+
+  @Benchmark
+  public long parseLongHash(final IdInput in) {
+    return Numbers.parseLong(in.hashes[in.next()], 16, Long.MIN_VALUE);
+  }
+
+  @Benchmark
+  public long parseLongCharArrayHash(final IdInput in) {
+    return Numbers.parseLong(in.hashChars[in.next()], 16, Long.MIN_VALUE);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(NumbersParseBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+  }
+}
@@ -21,6 +21,10 @@ import static org.libj.lang.Numbers.Unsigned.*;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
 import java.util.Random;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -78,6 +82,92 @@ public class NumbersTest {
         assertEquals(signed, toUnsignedBigInteger(unsigned));
       }
     }
+
+    private static final long[] edgeCases = {0, 1, 2, 9, 10, 11, Integer.MAX_VALUE, 0xffffffffL, Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1, -8446744073709551617L, -8446744073709551616L, -2, -1};
+
+    private static long randomUINT64(final int i) {
+      return i < edgeCases.length ? edgeCases[i] : random.nextLong() >>> random.nextInt(64);
+    }
+
+    @Test
+    public void testCompare() {
+      for (int i = 0; i < numTests; ++i) {
+        final long a = randomUINT64(i);
+        final long b = randomUINT64(numTests - i - 1);
+        assertEquals(Integer.signum(Long.compareUnsigned(a, b)), Integer.signum(compare(a, b)));
+      }
+    }
+
+    @Test
+    public void testDivideRemainder() {
+      for (int i = 0; i < numTests; ++i) {
+        final long dividend = randomUINT64(i);
+        long divisor = randomUINT64(numTests - i - 1);
+        if (divisor == 0)
+          divisor = 1;
+
+        final BigInteger[] expected = toUnsignedBigInteger(dividend).divideAndRemainder(toUnsignedBigInteger(divisor));
+        assertEquals(expected[0].longValue(), divide(dividend, divisor));
+        assertEquals(expected[1].longValue(), remainder(dividend, divisor));
+      }
+
+      try {
+        divide(-1, 0);
+        fail("Expected ArithmeticException");
+      }
+      catch (final ArithmeticException e) {
+      }
+
+      try {
+        remainder(1, 0);
+        fail("Expected ArithmeticException");
+      }
+      catch (final ArithmeticException e) {
+      }
+    }
+
+    @Test
+    public void testMultiplyHigh() {
+      for (int i = 0; i < numTests; ++i) {
+        final long a = randomUINT64(i);
+        final long b = randomUINT64(numTests - i - 1);
+        assertEquals(toUnsignedBigInteger(a).multiply(toUnsignedBigInteger(b)).shiftRight(64).longValue(), multiplyHigh(a, b));
+      }
+    }
+
+    @Test
+    public void testParseUINT64() {
+      for (int i = 0; i < numTests; ++i) {
+        final long expected = randomUINT64(i);
+        final String s = Long.toUnsignedString(expected);
+        assertEquals(expected, parseUINT64(s, 7));
+        assertEquals(expected, parseUINT64("+" + s, 7));
+        assertEquals(expected, parseUINT64("x" + s + "x", 1, s.length() + 1, 7));
+        assertEquals(expected, parseUINT64(s.getBytes(StandardCharsets.US_ASCII), 7));
+      }
+
+      assertEquals(7, parseUINT64((String)null, 7));
+      assertEquals(7, parseUINT64("", 7));
+      assertEquals(7, parseUINT64("+", 7));
+      assertEquals(7, parseUINT64("-1", 7));
+      assertEquals(7, parseUINT64("1a", 7));
+      assertEquals(7, parseUINT64("18446744073709551616", 7));
+      assertEquals(7, parseUINT64("100000000000000000000", 7));
+      assertEquals(-1, parseUINT64("18446744073709551615", 7));
+      assertEquals(-1, parseUINT64("018446744073709551615".getBytes(StandardCharsets.US_ASCII), 7));
+    }
+
+    @Test
+    public void testToString() {
+      final char[] chars = new char[22];
+      final byte[] bytes = new byte[22];
+      for (int i = 0; i < numTests; ++i) {
+        final long uint64 = randomUINT64(i);
+        final String expected = Long.toUnsignedString(uint64);
+        assertEquals(expected, new String(chars, 1, Numbers.Unsigned.toString(uint64, chars, 1) - 1));
+        assertEquals(expected, new String(bytes, 1, Numbers.Unsigned.toString(uint64, bytes, 1) - 1, StandardCharsets.US_ASCII));
+      }
+    }
   }
 
   public static class CompoundTest {
@@ -228,6 +318,60 @@ public class NumbersTest {
           assertEquals("Index: " + j + ", Value: " + expected[j], expected[j], Numbers.Compound.decodeByte(encoded, j));
       }
     }
+
+    @Test
+    public void testBulkIntFloat() {
+      final int[] ints = randomInts(1000);
+      final float[] floats = randomFloats(1000);
+      final long[] encoded = Numbers.Compound.encode(ints, floats);
+      for (int i = 0; i < ints.length; ++i)
+        assertEquals(Numbers.Compound.encode(ints[i], floats[i]), encoded[i]);
+
+      assertArrayEquals(ints, Numbers.Compound.decodeInts(encoded, 0));
+      assertArrayEquals(floats, Numbers.Compound.decodeFloats(encoded, 1), 0);
+
+      final long[] reversed = new long[ints.length + 2];
+      Numbers.Compound.encode(floats, 1, ints, 1, reversed, 2, ints.length - 1);
+      assertEquals(0, reversed[1]);
+      for (int i = 1; i < ints.length; ++i)
+        assertEquals(Numbers.Compound.encode(floats[i], ints[i]), reversed[i + 1]);
+
+      final int[] column = new int[ints.length];
+      Numbers.Compound.decodeInts(reversed, 2, 1, column, 1, ints.length - 1);
+      assertEquals(0, column[0]);
+      for (int i = 1; i < ints.length; ++i)
+        assertEquals(ints[i], column[i]);
+    }
+
+    @Test
+    public void testBulkPairs() {
+      final int[] a = randomInts(100);
+      final int[] b = randomInts(100);
+      final long[] ints = Numbers.Compound.encode(a, b);
+      final float[] c = randomFloats(100);
+      final float[] d = randomFloats(100);
+      final long[] floats = Numbers.Compound.encode(c, d);
+      for (int i = 0; i < a.length; ++i) {
+        assertEquals(Numbers.Compound.encode(a[i], b[i]), ints[i]);
+        assertEquals(Numbers.Compound.encode(c[i], d[i]), floats[i]);
+      }
+
+      assertArrayEquals(b, Numbers.Compound.decodeInts(ints, 1));
+      assertArrayEquals(c, Numbers.Compound.decodeFloats(floats, 0), 0);
+      try {
+        Numbers.Compound.encode(a, new int[1]);
+        fail("Expected IllegalArgumentException");
+      }
+      catch (final IllegalArgumentException e) {
+      }
+
+      try {
+        Numbers.Compound.encode(a, 0, b, 1, new long[100], 0, 100);
+        fail("Expected IndexOutOfBoundsException");
+      }
+      catch (final IndexOutOfBoundsException e) {
+      }
+    }
   }
 
   @Test
@@ -244,6 +388,13 @@ public class NumbersTest {
     assertEquals(-6.022E23, Numbers.parseNumber(" -6.022E23"), 0);
     assertEquals(6.626068E-34, Numbers.parseNumber(" 6.626068E-34"), 0);
     assertEquals(-6.626068E-34, Numbers.parseNumber("-6.626068E-34 "), 0);
+    assertEquals(2.4, Numbers.parseNumber("12/5"), 0);
+    assertEquals(-1.5, Numbers.parseNumber("-2 1/2"), 0);
+    assertEquals(-6.626068E-34 + 24d / 49, Numbers.parseNumber("-6.626068E-34 24/49"), 0);
+    assertEquals(Double.POSITIVE_INFINITY, Numbers.parseNumber("1/0"), 0);
+    assertEquals(1.2345678901234567E29, Numbers.parseNumber("123456789012345678901234567890"), 0);
+    assertEquals(1.75, Numbers.parseNumber("[1 3/4]", 1, 6), 0);
+    assertEquals(3, Numbers.parseNumber(new StringBuilder("x3 "), 1, 3), 0);
 
     assertEquals(Double.NaN, Numbers.parseNumber(null), 0);
     assertEquals(Double.NaN, Numbers.parseNumber(""), 0);
@@ -295,6 +446,21 @@ public class NumbersTest {
     assertFalse(Numbers.isNumber("-6.626068E-3-4 "));
     assertFalse(Numbers.isNumber("-6.626068E-3.4"));
     assertFalse(Numbers.isNumber("-6.626E068E-34"));
+    assertFalse(Numbers.isNumber("E5"));
+    assertFalse(Numbers.isNumber("."));
+    assertFalse(Numbers.isNumber("+"));
+    assertFalse(Numbers.isNumber("1E2.5"));
+    assertFalse(Numbers.isNumber("1.5/2"));
+    assertFalse(Numbers.isNumber("1 2/"));
+
+    assertTrue(Numbers.isNumber("[12/5]", 1, 5));
+    assertFalse(Numbers.isNumber("[12/5]", 1, 4));
+    try {
+      Numbers.isNumber("12", 1, 3);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
   }
 
   @Test
@@ -302,6 +468,185 @@ public class NumbersTest {
     assertEquals("0.00833333333333", Numbers.toString(0.008333333333330742, 14));
     assertEquals("0.00833333333334", Numbers.toString(0.008333333333339323, 14));
     assertEquals("0.008333333333", Numbers.toString(0.008333333333000000, 14));
+    assertEquals("0.0", Numbers.toString(0d, 2));
+    assertEquals("0.0", Numbers.toString(-0.001, 2));
+    assertEquals("5.0", Numbers.toString(5d, 2));
+    assertEquals("0.13", Numbers.toString(0.125, 2));
+    assertEquals("-0.13", Numbers.toString(-0.125, 2));
+    assertEquals("1.01", Numbers.toString(1.005, 2));
+    assertEquals("1.0", Numbers.toString(0.9999, 3));
+    assertEquals("1200.0", Numbers.toString(1234.5, -2));
+    assertEquals("0.0", Numbers.toString(1234.5, -4));
+    assertEquals("10000.0", Numbers.toString(5000d, -4));
+    assertEquals("0.00012", Numbers.toString(1.2345E-4, 5));
+    assertEquals("12345678901234568000000.0", Numbers.toString(1.2345678901234568E22, 2));
+    assertEquals("0.0", Numbers.toString(Double.MIN_VALUE, 323));
+    assertEquals("0." + Strings.repeat('0', 323) + "5", Numbers.toString(Double.MIN_VALUE, 324));
+    assertEquals("NaN", Numbers.toString(Double.NaN, 2));
+    assertEquals("-Infinity", Numbers.toString(Double.NEGATIVE_INFINITY, 2));
+    assertEquals("0.0", Numbers.toString(1d, Integer.MIN_VALUE));
+    assertEquals("0.0", Numbers.toString(1d, Integer.MIN_VALUE + 1));
+    assertEquals("0.0", Numbers.toString(0.001, Integer.MIN_VALUE));
+    assertEquals("0.0", Numbers.toString(0.001, Integer.MIN_VALUE + 1));
+    assertEquals("0.0", Numbers.toString(-Double.MAX_VALUE, Integer.MIN_VALUE));
+    assertEquals("0.0", Numbers.toString(Double.MIN_VALUE, Integer.MIN_VALUE + 2));
+    assertEquals("1.0", Numbers.toString(1d, Integer.MAX_VALUE));
+
+    final char[] chars = new char[400];
+    final byte[] bytes = new byte[400];
+    for (int i = 0; i < 10000; ++i) {
+      final double n = random.nextDouble() * Math.pow(10, random.nextInt(40) - 20) * (random.nextBoolean() ? 1 : -1);
+      final int decimals = random.nextInt(30) - 5;
+      final String str = Numbers.toString(n, decimals);
+      final BigDecimal expected = new BigDecimal(Numbers.toString(n, new StringBuilder()).toString()).setScale(decimals, RoundingMode.HALF_UP);
+      assertEquals(str, 0, expected.compareTo(new BigDecimal(str)));
+      assertEquals(str, new String(chars, 3, Numbers.toString(n, decimals, chars, 3) - 3));
+      assertEquals(str, new String(bytes, 3, Numbers.toString(n, decimals, bytes, 3) - 3, StandardCharsets.US_ASCII));
+      assertEquals("x" + str, Numbers.toString(n, decimals, new StringBuilder("x")).toString());
+    }
+  }
+
+  private static void assertToString(final String expected, final double n) {
+    final char[] chars = new char[26];
+    final byte[] bytes = new byte[26];
+    assertEquals(expected, new String(chars, 1, Numbers.toString(n, chars, 1) - 1));
+    assertEquals(expected, new String(bytes, 1, Numbers.toString(n, bytes, 1) - 1, StandardCharsets.US_ASCII));
+    assertEquals("x" + expected, Numbers.toString(n, new StringBuilder("x")).toString());
+  }
+
+  private static void assertToString(final String expected, final float n) {
+    final char[] chars = new char[17];
+    final byte[] bytes = new byte[17];
+    assertEquals(expected, new String(chars, 1, Numbers.toString(n, chars, 1) - 1));
+    assertEquals(expected, new String(bytes, 1, Numbers.toString(n, bytes, 1) - 1, StandardCharsets.US_ASCII));
+    assertEquals("x" + expected, Numbers.toString(n, new StringBuilder("x")).toString());
+  }
+
+  @Test
+  public void testToStringShortest() {
+    assertToString("0.0", 0d);
+    assertToString("-0.0", -0d);
+    assertToString("NaN", Double.NaN);
+    assertToString("Infinity", Double.POSITIVE_INFINITY);
+    assertToString("-Infinity", Double.NEGATIVE_INFINITY);
+    assertToString("1.0", 1d);
+    assertToString("-1.5", -1.5);
+    assertToString("100.0", 100d);
+    assertToString("0.1", 0.1);
+    assertToString("0.3", 0.3);
+    assertToString("0.001", 0.001);
+    assertToString("0.002", 0.002);
+    assertToString("9.9E-4", 0.00099);
+    assertToString("9999999.0", 9999999d);
+    assertToString("1.0E7", 1e7);
+    assertToString("1.0E23", 1e23);
+    assertToString("2.0E23", 2e23);
+    assertToString("9.007199254740991E15", 9007199254740991d);
+    assertToString("4.9E-324", Double.MIN_VALUE);
+    assertToString("9.9E-324", 2 * Double.MIN_VALUE);
+    assertToString("2.2250738585072014E-308", Double.MIN_NORMAL);
+    assertToString("-1.7976931348623157E308", -Double.MAX_VALUE);
+    assertToString("5.960464477539063E-8", 0x1p-24);
+
+    assertToString("0.0", 0f);
+    assertToString("-0.0", -0f);
+    assertToString("NaN", Float.NaN);
+    assertToString("1.0", 1f);
+    assertToString("0.1", 0.1f);
+    assertToString("1.0E10", 1e10f);
+    assertToString("1.4E-45", Float.MIN_VALUE);
+    assertToString("-1.1754944E-38", -Float.MIN_NORMAL);
+    assertToString("3.4028235E38", Float.MAX_VALUE);
+
+    final char[] chars = new char[24];
+    for (int i = 0; i < 100000; ++i) {
+      final double d = Double.longBitsToDouble(random.nextLong());
+      final String str = new String(chars, 0, Numbers.toString(d, chars, 0));
+      assertEquals(str, Double.doubleToLongBits(d), Double.doubleToLongBits(Double.parseDouble(str)));
+      assertTrue(str, str.length() <= Double.toString(d).length());
+
+      final float f = Float.intBitsToFloat(random.nextInt());
+      final String fstr = new String(chars, 0, Numbers.toString(f, chars, 0));
+      assertEquals(fstr, Float.floatToIntBits(f), Float.floatToIntBits(Float.parseFloat(fstr)));
+      assertTrue(fstr, fstr.length() <= Float.toString(f).length());
+    }
+  }
+
+  @Test
+  public void testPowExact() {
+    for (int i = 0; i < 100000; ++i) {
+      final long base = random.nextInt(i < 1000 ? 5 : 100000) - (i < 1000 ? 2 : 50000);
+      final int exp = random.nextInt(70);
+      final BigInteger expected = BigInteger.valueOf(base).pow(exp);
+      try {
+        assertEquals(base + "^" + exp, expected.longValueExact(), Numbers.powExact(base, exp));
+      }
+      catch (final ArithmeticException e) {
+        try {
+          Numbers.powExact(base, exp);
+          fail("Expected ArithmeticException: " + base + "^" + exp);
+        }
+        catch (final ArithmeticException e1) {
+        }
+      }
+
+      try {
+        assertEquals(base + "^" + exp, expected.intValueExact(), Numbers.powExact((int)base, exp));
+      }
+      catch (final ArithmeticException e) {
+        try {
+          Numbers.powExact((int)base, exp);
+          fail("Expected ArithmeticException: " + base + "^" + exp);
+        }
+        catch (final ArithmeticException e1) {
+        }
+      }
+    }
+
+    assertEquals(Long.MIN_VALUE, Numbers.powExact(-2L, 63));
+    assertEquals(Integer.MIN_VALUE, Numbers.powExact(-2, 31));
+    assertEquals(1, Numbers.powExact(-1L, Integer.MAX_VALUE - 1));
+    assertEquals(0, Numbers.powExact(0, Integer.MAX_VALUE));
+    try {
+      Numbers.powExact(2, -1);
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+
+  @Test
+  public void testPowSaturated() {
+    final BigInteger longMax = BigInteger.valueOf(Long.MAX_VALUE);
+    final BigInteger longMin = BigInteger.valueOf(Long.MIN_VALUE);
+    final BigInteger intMax = BigInteger.valueOf(Integer.MAX_VALUE);
+    final BigInteger intMin = BigInteger.valueOf(Integer.MIN_VALUE);
+    for (int i = 0; i < 100000; ++i) {
+      final long base = i < 1000 ? random.nextInt(5) - 2 : random.nextBoolean() ? random.nextInt(100000) - 50000 : random.nextLong() >> random.nextInt(64);
+      final int exp = random.nextInt(70);
+      final BigInteger expected = BigInteger.valueOf(base).pow(exp);
+      assertEquals(base + "^" + exp, expected.max(longMin).min(longMax).longValue(), Numbers.powSaturated(base, exp));
+      assertEquals(base + "^" + exp, BigInteger.valueOf((int)base).pow(exp).max(intMin).min(intMax).intValue(), Numbers.powSaturated((int)base, exp));
+    }
+
+    assertEquals(Long.MIN_VALUE, Numbers.powSaturated(-2L, 63));
+    assertEquals(Long.MIN_VALUE, Numbers.powSaturated(Long.MIN_VALUE, 1));
+    assertEquals(Long.MAX_VALUE, Numbers.powSaturated(Long.MIN_VALUE, 2));
+    assertEquals(Long.MAX_VALUE, Numbers.powSaturated(2L, 63));
+  }
+
+  @Test
+  public void testPow10() {
+    long pow = 1;
+    for (int i = 0; i < 19; ++i, pow *= 10)
+      assertEquals(pow, Numbers.pow10(i));
+
+    try {
+      Numbers.pow10(19);
+      fail("Expected ArithmeticException");
+    }
+    catch (final ArithmeticException e) {
+    }
   }
 
   @Test
@@ -317,6 +662,45 @@ public class NumbersTest {
     assertEquals(19, Numbers.precision(BigInteger.valueOf(-4389429384493848239L)));
     assertEquals(19, Numbers.precision(Long.MIN_VALUE));
     assertEquals(19, Numbers.precision(new BigDecimal("-4389429384.493848239")));
+    assertEquals(1, Numbers.precision(0));
+    assertEquals(1, Numbers.precision(0L));
+    assertEquals(1, Numbers.precision(BigInteger.ZERO));
+    assertEquals(19, Numbers.precision(Long.MAX_VALUE));
+    assertEquals(20, Numbers.precision(BigInteger.TEN.pow(19)));
+  }
+
+  @Test
+  public void testPrecisionPowersOfTen() {
+    long pow = 1;
+    for (int i = 1; i < 19; ++i, pow *= 10) {
+      assertEquals(String.valueOf(pow), i, Numbers.precision(pow));
+      assertEquals(String.valueOf(-pow), i, Numbers.precision(-pow));
+      assertEquals(String.valueOf(pow * 10 - 1), i, Numbers.precision(pow * 10 - 1));
+      if (pow <= Integer.MAX_VALUE) {
+        assertEquals(String.valueOf(pow), i, Numbers.precision((int)pow));
+        if (pow * 10 - 1 <= Integer.MAX_VALUE)
+          assertEquals(String.valueOf(pow * 10 - 1), i, Numbers.precision((int)(pow * 10 - 1)));
+      }
+    }
+
+    BigInteger big = BigInteger.ONE;
+    for (int i = 1; i < 1000; ++i, big = big.multiply(BigInteger.TEN)) {
+      assertEquals(i, Numbers.precision(big));
+      assertEquals(i, Numbers.precision(big.negate()));
+      assertEquals(i, Numbers.precision(big.multiply(BigInteger.TEN).subtract(BigInteger.ONE)));
+    }
+  }
+
+  @Test
+  public void testPrecisionRandom() {
+    for (int i = 0; i < 100000; ++i) {
+      final long l = random.nextLong() >> random.nextInt(64);
+      assertEquals(String.valueOf(l), String.valueOf(l).replace("-", "").length(), Numbers.precision(l));
+      assertEquals(String.valueOf((int)l), String.valueOf((int)l).replace("-", "").length(), Numbers.precision((int)l));
+
+      final BigInteger b = new BigInteger(random.nextInt(1000) + 1, random);
+      assertEquals(b.toString(), b.toString().length(), Numbers.precision(b));
+    }
   }
 
   private static final byte countTrailingZeroes(final String str) {
@@ -393,6 +777,17 @@ public class NumbersTest {
     assertEquals(3d, Numbers.average(1, 1, 10, 0), 0.000000001);
     assertEquals(3d, Numbers.average(1L, 1L, 10L, 0L), 0.000000001);
     assertEquals(3d, Numbers.average((byte)1, 1L, 10, 0d), 0.000000001);
+    assertEquals(1.5, Numbers.average(1, 2), 0);
+    assertEquals(-0.5, Numbers.average((short)-1, (short)0), 0);
+    assertEquals(Long.MAX_VALUE, Numbers.average(Long.MAX_VALUE, Long.MAX_VALUE), 0);
+    assertEquals(Long.MIN_VALUE, Numbers.average(Long.MIN_VALUE, Long.MIN_VALUE, Long.MIN_VALUE), 0);
+    assertEquals(-0.5, Numbers.average(Long.MIN_VALUE, Long.MAX_VALUE), 0);
+    assertEquals(Long.MAX_VALUE / 2d, Numbers.average(Long.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE + 1, Long.MAX_VALUE), 0);
+    final long[] longs = new long[1000];
+    for (int i = 0; i < longs.length; ++i)
+      longs[i] = random.nextLong();
+
+    assertEquals(NumberStatistics.of(longs).getMean(), Numbers.average(longs), 0);
   }
 
   @SuppressWarnings("unchecked")
@@ -457,6 +852,193 @@ public class NumbersTest {
     }
   }
 
+  @Test
+  public void testParseDigits() {
+    assertEquals(0xCAFE, Numbers.parseInt("CaFe", 16, -1));
+    assertEquals(0xcafebabeL, (long)Numbers.parseLong("cafeBABE".toCharArray(), 16));
+    assertEquals(-1, Numbers.parseInt("1g", 16, -1));
+    assertEquals(35, Numbers.parseInt("z", 36, -1));
+    for (final char ch : new char[] {'/', ':', '@', '[', '`', '{', '\u007f', '\u0080'}) {
+      assertNull(String.valueOf(ch), Numbers.parseInteger("1" + ch, 36));
+      assertNull(String.valueOf(ch), Numbers.parseLong(new char[] {'1', ch}, 36));
+    }
+
+    // Non-ASCII digits are resolved with Character.digit(char,int)
+    assertEquals(12, Numbers.parseInt("\uff11\uff12", 10, -1));
+    assertEquals(-0x1a, (long)Numbers.parseLong("-\uff11\uff41".toCharArray(), 16));
+    assertEquals(42, Numbers.parseShort("\u0664\u0662", (short)-1));
+  }
+
+  private static final String[] floatingStrings = {"0", "-0", "+0", "0.0", "1", "-1", "1.5", ".5", "-.5", "1.", "1e10", "1E-10", "1.e5", "1e+5", " 1.5 ", "\t-2.5\n", "1f", "1.5F", "1e5d", "1D", "NaN", "-NaN", "Infinity", "-Infinity", "0x1p3", "0x1.8p1", "-0X.8P-1f", "4.9e-324", "2.4703282292062327e-324", "2.4703282292062328e-324", "2.2250738585072011e-308", "2.2250738585072012e-308", "1.7976931348623157e308", "1.7976931348623159e308", "1e309", "1e-400", "9007199254740993", "3.4028235e38", "3.4028236e38", "1.4e-45", "7.0e-46", "1.00000000000000011102230246251565404236316680908203125", "1.00000000000000011102230246251565404236316680908203124", "123456789012345678901234567890", "0e999999999", "1e999999999"};
+  private static final String[] notFloatingStrings = {"", " ", ".", "-", "+", "e5", "1e", "1e+", "1ee5", "1.2.3", "nan", "Infinityf", "1x", "0x", "0x1p", "0xp3", "1_0", "- 1", "1f5"};
+
+  @Test
+  public void testParseDouble() {
+    assertNull(Numbers.parseDouble((String)null));
+    assertEquals(7d, Numbers.parseDouble((String)null, 7d), 0);
+    assertEquals(7d, Numbers.parseDouble((char[])null, 7d), 0);
+    for (final String str : floatingStrings) {
+      final Double expected = Double.parseDouble(str);
+      assertEquals(str, expected, Numbers.parseDouble(str));
+      assertEquals(str, expected, Numbers.parseDouble(str, 7d), 0);
+      assertEquals(str, expected, Numbers.parseDouble(str.toCharArray(), 7d), 0);
+      assertEquals(str, expected, Numbers.parseDouble("[" + str + "]", 1, str.length() + 1, 7d), 0);
+      assertEquals(str, expected, Numbers.parseDouble(("[" + str + "]").toCharArray(), 1, str.length() + 1, 7d), 0);
+    }
+
+    for (final String str : notFloatingStrings) {
+      assertNull(str, Numbers.parseDouble(str));
+      assertEquals(str, 7d, Numbers.parseDouble(str, 7d), 0);
+      assertEquals(str, 7d, Numbers.parseDouble(str.toCharArray(), 7d), 0);
+    }
+
+    for (int i = 0; i < 100000; ++i) {
+      final double d = Double.longBitsToDouble(random.nextLong());
+      final String str = String.valueOf(d);
+      assertEquals(str, Double.doubleToLongBits(d), Double.doubleToLongBits(Numbers.parseDouble(str, 7d)));
+      final String digits = Strings.getRandomNumeric(1 + random.nextInt(25)) + "e" + (random.nextInt(700) - 350);
+      assertEquals(digits, Double.doubleToLongBits(Double.parseDouble(digits)), Double.doubleToLongBits(Numbers.parseDouble(digits, 7d)));
+    }
+  }
+
+  @Test
+  public void testParseFloat() {
+    assertNull(Numbers.parseFloat((String)null));
+    assertEquals(7f, Numbers.parseFloat((String)null, 7f), 0);
+    assertEquals(7f, Numbers.parseFloat((char[])null, 7f), 0);
+    for (final String str : floatingStrings) {
+      final Float expected = Float.parseFloat(str);
+      assertEquals(str, expected, Numbers.parseFloat(str));
+      assertEquals(str, expected, Numbers.parseFloat(str, 7f), 0);
+      assertEquals(str, expected, Numbers.parseFloat(str.toCharArray(), 7f), 0);
+      assertEquals(str, expected, Numbers.parseFloat("[" + str + "]", 1, str.length() + 1, 7f), 0);
+      assertEquals(str, expected, Numbers.parseFloat(("[" + str + "]").toCharArray(), 1, str.length() + 1, 7f), 0);
+    }
+
+    for (final String str : notFloatingStrings) {
+      assertNull(str, Numbers.parseFloat(str));
+      assertEquals(str, 7f, Numbers.parseFloat(str, 7f), 0);
+      assertEquals(str, 7f, Numbers.parseFloat(str.toCharArray(), 7f), 0);
+    }
+
+    for (int i = 0; i < 100000; ++i) {
+      final float f = Float.intBitsToFloat(random.nextInt());
+      final String str = String.valueOf(f);
+      assertEquals(str, Float.floatToIntBits(f), Float.floatToIntBits(Numbers.parseFloat(str, 7f)));
+      final String digits = Strings.getRandomNumeric(1 + random.nextInt(25)) + "e" + (random.nextInt(100) - 50);
+      assertEquals(digits, Float.floatToIntBits(Float.parseFloat(digits)), Float.floatToIntBits(Numbers.parseFloat(digits, 7f)));
+    }
+  }
+
+  private static ByteBuffer[] toByteBuffers(final String str) {
+    final byte[] bytes = ("  " + str + " ").getBytes(StandardCharsets.US_ASCII);
+    final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).position(2).limit(bytes.length - 1);
+    final ByteBuffer littleEndian = ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.LITTLE_ENDIAN);
+    littleEndian.put(bytes).position(2).limit(bytes.length - 1);
+    final ByteBuffer heap = ByteBuffer.wrap(bytes, 1, bytes.length - 1).slice();
+    heap.position(1).limit(bytes.length - 2);
+    final ByteBuffer readOnly = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    readOnly.position(2).limit(bytes.length - 1);
+    return new ByteBuffer[] {direct, littleEndian, heap, readOnly};
+  }
+
+  private static void assertParseIntBytes(final String str) {
+    Integer expected;
+    try {
+      expected = Integer.parseInt(str);
+    }
+    catch (final NumberFormatException e) {
+      expected = null;
+    }
+
+    final int defaultValue = expected == null || expected != 7 ? 7 : 8;
+    final int value = expected == null ? defaultValue : expected;
+    final byte[] bytes = str.getBytes(StandardCharsets.US_ASCII);
+    assertEquals(str, value, Numbers.parseInt(bytes, defaultValue));
+    assertEquals(str, value, Numbers.parseInt(("[" + str + "]").getBytes(StandardCharsets.US_ASCII), 1, bytes.length + 1, defaultValue));
+    for (final ByteBuffer buf : toByteBuffers(str)) {
+      final int position = buf.position();
+      assertEquals(str, value, Numbers.parseInt(buf, defaultValue));
+      assertEquals(str, value, Numbers.parseInt(buf, position, buf.limit(), defaultValue));
+      assertEquals(position, buf.position());
+    }
+  }
+
+  private static void assertParseLongBytes(final String str) {
+    Long expected;
+    try {
+      expected = Long.parseLong(str);
+    }
+    catch (final NumberFormatException e) {
+      expected = null;
+    }
+
+    final long defaultValue = expected == null || expected != 7 ? 7 : 8;
+    final long value = expected == null ? defaultValue : expected;
+    final byte[] bytes = str.getBytes(StandardCharsets.US_ASCII);
+    assertEquals(str, value, Numbers.parseLong(bytes, defaultValue));
+    assertEquals(str, value, Numbers.parseLong(("[" + str + "]").getBytes(StandardCharsets.US_ASCII), 1, bytes.length + 1, defaultValue));
+    for (final ByteBuffer buf : toByteBuffers(str)) {
+      assertEquals(str, value, Numbers.parseLong(buf, defaultValue));
+      assertEquals(str, value, Numbers.parseLong(buf, buf.position(), buf.limit(), defaultValue));
+    }
+  }
+
+  private static void assertParseDoubleBytes(final String str) {
+    final long expected = Double.doubleToLongBits(Numbers.parseDouble(str, 7d));
+    final byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+    assertEquals(str, expected, Double.doubleToLongBits(Numbers.parseDouble(bytes, 7d)));
+    assertEquals(str, expected, Double.doubleToLongBits(Numbers.parseDouble(("[" + str + "]").getBytes(StandardCharsets.ISO_8859_1), 1, bytes.length + 1, 7d)));
+    for (final ByteBuffer buf : toByteBuffers(str)) {
+      assertEquals(str, expected, Double.doubleToLongBits(Numbers.parseDouble(buf, 7d)));
+      assertEquals(str, expected, Double.doubleToLongBits(Numbers.parseDouble(buf, buf.position(), buf.limit(), 7d)));
+    }
+  }
+
+  @Test
+  public void testParseIntBytes() {
+    assertEquals(7, Numbers.parseInt((byte[])null, 7));
+    assertEquals(7, Numbers.parseInt((ByteBuffer)null, 7));
+    for (final String str : new String[] {"0", "-0", "+5", "-", "+", "", "12345678", "123456789", "-2147483648", "2147483647", "2147483648", "-2147483649", "00000000000000002147483647", "1234567a", "1234a5678", "12345678 ", "99999999999", " 1", "1.0"})
+      assertParseIntBytes(str);
+
+    for (int i = 0; i < 10000; ++i)
+      assertParseIntBytes(String.valueOf(random.nextInt() >> random.nextInt(32)));
+  }
+
+  @Test
+  public void testParseLongBytes() {
+    assertEquals(7L, Numbers.parseLong((byte[])null, 7L));
+    assertEquals(7L, Numbers.parseLong((ByteBuffer)null, 7L));
+    for (final String str : new String[] {"0", "-0", "+5", "-", "", "1234567812345678", "-9223372036854775808", "9223372036854775807", "9223372036854775808", "-9223372036854775809", "000000009223372036854775807", "12345678123/5678", "123456781234567:", "99999999999999999999"})
+      assertParseLongBytes(str);
+
+    for (int i = 0; i < 10000; ++i)
+      assertParseLongBytes(String.valueOf(random.nextLong() >> random.nextInt(64)));
+  }
+
+  @Test
+  public void testParseDoubleBytes() {
+    assertEquals(7d, Numbers.parseDouble((byte[])null, 7d), 0);
+    assertEquals(7d, Numbers.parseDouble((ByteBuffer)null, 7d), 0);
+    for (final String str : floatingStrings)
+      assertParseDoubleBytes(str);
+
+    for (final String str : notFloatingStrings)
+      assertParseDoubleBytes(str);
+
+    assertParseDoubleBytes("1\u00a0");
+    assertParseDoubleBytes("\u00a01");
+    assertParseDoubleBytes("1.2345678901234567890123");
+    assertParseDoubleBytes("0.00000000000000001234567812345678e10");
+    assertParseDoubleBytes("12345678.12345678/");
+    for (int i = 0; i < 10000; ++i) {
+      assertParseDoubleBytes(String.valueOf(Double.longBitsToDouble(random.nextLong())));
+      assertParseDoubleBytes(Strings.getRandomNumeric(1 + random.nextInt(12)) + "." + Strings.getRandomNumeric(1 + random.nextInt(25)) + "e" + (random.nextInt(100) - 50));
+    }
+  }
+
   private static void testIsDigit(final int radix) {
     for (int r = 0; r < radix; ++r) {
       if (r < 10) {
@@ -610,6 +1192,132 @@ public class NumbersTest {
     }
   }
 
+  @Test
+  public void testParser() {
+    assertSame(Numbers.parser(int.class), Numbers.parser(Integer.class));
+    assertEquals(Integer.valueOf(-7), Numbers.parser(int.class).parse("-7"));
+    assertEquals(Float.valueOf(1.5f), Numbers.parser(Float.class).parse("1.5"));
+    assertEquals(new BigInteger("123456789012345678901234567890"), Numbers.parser(BigInteger.class).parse("123456789012345678901234567890"));
+    assertEquals(new BigDecimal("1.50"), Numbers.parseNumber("1.50", BigDecimal.class));
+    try {
+      Numbers.parser(Byte.class).parse("128");
+      fail("Expected NumberFormatException");
+    }
+    catch (final NumberFormatException e) {
+    }
+
+    try {
+      Numbers.parser(Number.class);
+      fail("Expected UnsupportedOperationException");
+    }
+    catch (final UnsupportedOperationException e) {
+    }
+  }
+
+  @Test
+  public void testConverter() {
+    final NumberConverter<BigDecimal> toBigDecimal = Numbers.converter(BigDecimal.class);
+    assertNull(toBigDecimal.convert(null));
+    assertEquals(new BigDecimal("1.0E10"), toBigDecimal.convert(1e10));
+    assertEquals(new BigDecimal("0.1"), toBigDecimal.convert(0.1f));
+    assertEquals(new BigDecimal("-1.0E-10"), toBigDecimal.convert(-1e-10f));
+    assertEquals(new BigDecimal("123456789012345678901234567890"), toBigDecimal.convert(new BigInteger("123456789012345678901234567890")));
+
+    final NumberConverter<BigInteger> toBigInteger = Numbers.converter(BigInteger.class);
+    assertEquals(BigInteger.valueOf(-3), toBigInteger.convert(-3.9));
+    assertEquals(BigInteger.TEN.pow(20), toBigInteger.convert(1e20));
+    assertEquals(BigInteger.valueOf(12), toBigInteger.convert(new BigDecimal("12.75")));
+    assertEquals(BigInteger.valueOf(Byte.MIN_VALUE), toBigInteger.convert(Byte.MIN_VALUE));
+    assertEquals(Short.valueOf((short)-1), Numbers.converter(short.class).convert(65535));
+    assertEquals(new BigDecimal("0.0"), toBigDecimal.convert(-0d));
+    assertEquals(new BigDecimal("100.0"), toBigDecimal.convert(100d));
+    assertEquals(new BigDecimal("1234567.0"), toBigDecimal.convert(1234567f));
+    assertEquals(new BigDecimal("0.001"), toBigDecimal.convert(0.001));
+    assertEquals(new BigDecimal("1.0E-4"), toBigDecimal.convert(0.0001));
+    assertEquals(new BigDecimal("1.2345678E7"), toBigDecimal.convert(12345678d));
+    assertEquals(new BigDecimal("4.9E-324"), toBigDecimal.convert(Double.MIN_VALUE));
+    assertEquals(new BigDecimal("1.7976931348623157E308"), toBigDecimal.convert(Double.MAX_VALUE));
+    assertEquals(new BigDecimal("3.4028235E38"), toBigDecimal.convert(Float.MAX_VALUE));
+    assertEquals(new BigDecimal(Double.MAX_VALUE).toBigInteger(), toBigInteger.convert(-Double.MAX_VALUE).negate());
+    assertEquals(BigInteger.ONE.shiftLeft(63), toBigInteger.convert(0x1p63));
+    assertEquals(BigInteger.valueOf(Long.MIN_VALUE), toBigInteger.convert(-0x1p63f));
+    for (int i = 0; i < 100000; ++i) {
+      final double d = Double.longBitsToDouble(random.nextLong());
+      if (Double.isNaN(d) || Double.isInfinite(d))
+        continue;
+
+      assertEquals(new BigDecimal(d).toBigInteger(), toBigInteger.convert(d));
+      final BigDecimal decimal = toBigDecimal.convert(d);
+      assertEquals(d, decimal.doubleValue(), 0);
+      assertTrue(decimal.stripTrailingZeros().precision() <= new BigDecimal(Double.toString(d)).stripTrailingZeros().precision());
+      final float f = (float)d;
+      if (!Float.isInfinite(f))
+        assertEquals(f, toBigDecimal.convert(f).floatValue(), 0);
+    }
+
+    try {
+      toBigInteger.convert(Double.NaN);
+      fail("Expected NumberFormatException");
+    }
+    catch (final NumberFormatException e) {
+    }
+
+    try {
+      Numbers.converter(Number.class);
+      fail("Expected UnsupportedOperationException");
+    }
+    catch (final UnsupportedOperationException e) {
+    }
+  }
+
+  @Test
+  public void testCompare() {
+    assertEquals(0, Numbers.compare((Number)null, null));
+    assertEquals(1, Numbers.compare(null, 1));
+    assertEquals(-1, Numbers.compare(1, null));
+    assertEquals(0, Numbers.compare((byte)7, 7L));
+    assertEquals(0, Numbers.compare(7, 7f));
+    assertEquals(0, Numbers.compare(new BigDecimal("7.00"), BigInteger.valueOf(7)));
+    assertTrue(Numbers.compare(9007199254740993L, 9007199254740992d) > 0);
+    assertTrue(Numbers.compare(9007199254740992d, 9007199254740993L) < 0);
+    assertTrue(Numbers.compare(Long.MAX_VALUE, 0x1p63) < 0);
+    assertTrue(Numbers.compare(Long.MIN_VALUE, -0x1p63) == 0);
+    assertTrue(Numbers.compare(0.1d, new BigDecimal("0.1")) > 0);
+    assertTrue(Numbers.compare(new BigDecimal("0.1"), 0.1f) < 0);
+    assertTrue(Numbers.compare(BigInteger.ONE.shiftLeft(64), Long.MAX_VALUE) > 0);
+    assertTrue(Numbers.compare(Long.MIN_VALUE, BigInteger.ONE.shiftLeft(64).negate()) > 0);
+    assertTrue(Numbers.compare(new BigDecimal("1e400"), Double.POSITIVE_INFINITY) < 0);
+    assertTrue(Numbers.compare(Double.NaN, new BigDecimal("1e400")) > 0);
+    assertEquals(0, Numbers.compare(0L, -0d));
+    assertTrue(Numbers.compare(-0d, 0d) < 0);
+
+    assertEquals(0, Numbers.compare(new Number[] {1, 2L, 3d}, new Number[] {1d, BigInteger.valueOf(2), new BigDecimal("3.0")}));
+    assertTrue(Numbers.compare(new Number[] {1, 2}, new Number[] {1, 2, 3}) < 0);
+    assertTrue(Numbers.compare(new Number[] {1, 3}, new Number[] {1, 2, 3}) > 0);
+    assertTrue(Numbers.compare(new Number[] {1, null}, new Number[] {1, 2}) > 0);
+    assertTrue(Numbers.compare(new Number[] {null}, new Number[] {1}) > 0);
+    assertTrue(Numbers.compare(new Number[] {1}, new Number[] {null}) < 0);
+    assertTrue(Numbers.compare((Number[])null, new Number[0]) > 0);
+    assertTrue(Numbers.compare(new Number[0], (Number[])null) < 0);
+    assertEquals(0, Numbers.compare((Number[])null, (Number[])null));
+    assertEquals(0, Numbers.compare(new Number[] {0, 5, 6}, 1, 3, new Number[] {5L, 6d}, 0, 2));
+  }
+
+  @Test
+  public void testEquivalent() {
+    assertTrue(Numbers.equivalent(null, null, 0));
+    assertFalse(Numbers.equivalent(null, 0, 0));
+    assertTrue(Numbers.equivalent(1, new BigDecimal("1.00"), 0));
+    assertTrue(Numbers.equivalent(BigInteger.TEN, 10d, 0));
+    assertTrue(Numbers.equivalent(0d, -0f, 0));
+    assertFalse(Numbers.equivalent(Double.NaN, Double.NaN, 1));
+    assertFalse(Numbers.equivalent(9007199254740993L, 9007199254740992d, 0));
+    assertTrue(Numbers.equivalent(9007199254740993L, 9007199254740992d, 2));
+    assertFalse(Numbers.equivalent(new BigDecimal("0.1"), 0.1d, 0));
+    assertTrue(Numbers.equivalent(new BigDecimal("0.1"), 0.1d, 1e-9));
+    assertFalse(Numbers.equivalent(BigInteger.ONE.shiftLeft(64), new BigDecimal("18446744073709551616.5"), 1));
+  }
+
   @Test
   public void testSignumInt() {
     for (int i = 9, j; i < 1000000; ++i) {
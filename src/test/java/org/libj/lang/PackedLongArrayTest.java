@@ -0,0 +1,121 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.util.Random;
+
+import org.junit.Test;
+import org.libj.lang.PackedLongArray.Encoding;
+
+public class PackedLongArrayTest {
+  private static final Random random = new Random();
+
+  private static void assertPacked(final long[] values, final PackedLongArray packed) {
+    assertEquals(values.length, packed.size());
+    for (int i = 0; i < values.length; ++i)
+      assertEquals(packed.encoding() + " " + i, values[i], packed.get(i));
+
+    assertArrayEquals(values, packed.toArray());
+    for (int i = 0; i < 20 && values.length > 0; ++i) {
+      final int fromIndex = random.nextInt(values.length);
+      final int length = random.nextInt(values.length - fromIndex + 1);
+      final long[] dest = new long[length + 2];
+      packed.get(fromIndex, dest, 1, length);
+      for (int j = 0; j < length; ++j)
+        assertEquals(values[fromIndex + j], dest[j + 1]);
+    }
+  }
+
+  private static void assertAll(final long[] values) {
+    for (final Encoding encoding : Encoding.values())
+      assertPacked(values, PackedLongArray.of(values, encoding));
+
+    assertPacked(values, PackedLongArray.of(values));
+  }
+
+  @Test
+  public void testEmpty() {
+    assertAll(new long[0]);
+    assertAll(new long[] {7});
+    assertAll(new long[] {Long.MIN_VALUE, Long.MIN_VALUE});
+  }
+
+  @Test
+  public void testRandom() {
+    for (int bits = 0; bits <= 64; ++bits) {
+      final long[] values = new long[random.nextInt(300)];
+      final long offset = bits >= 63 ? 0 : random.nextLong() >> (bits + 1);
+      for (int i = 0; i < values.length; ++i)
+        values[i] = offset + (bits == 64 ? random.nextLong() : bits == 0 ? 0 : random.nextLong() >>> (64 - bits));
+
+      assertAll(values);
+      final PackedLongArray packed = PackedLongArray.of(values, Encoding.FRAME_OF_REFERENCE);
+      assertTrue(packed.bitsPerValue() <= bits);
+    }
+  }
+
+  @Test
+  public void testExtremes() {
+    final long[] values = {Long.MAX_VALUE, Long.MIN_VALUE, 0, -1, 1, Long.MIN_VALUE, Long.MAX_VALUE};
+    assertAll(values);
+    assertEquals(64, PackedLongArray.of(values, Encoding.DELTA).bitsPerValue());
+  }
+
+  @Test
+  public void testIds() {
+    final long[] ids = new long[100000];
+    ids[0] = 1L << 40;
+    for (int i = 1; i < ids.length; ++i)
+      ids[i] = ids[i - 1] + 1 + random.nextInt(100);
+
+    final PackedLongArray packed = PackedLongArray.of(ids);
+    assertEquals(Encoding.DELTA, packed.encoding());
+    assertEquals(7, packed.bitsPerValue());
+    assertTrue(packed.toString(), packed.sizeInBytes() * 7 < ids.length * Long.BYTES);
+    assertPacked(ids, packed);
+
+    final long[] range = new long[1000];
+    for (int i = 0; i < range.length; ++i)
+      range[i] = 5000000 + random.nextInt(1000);
+
+    final PackedLongArray frame = PackedLongArray.of(range);
+    assertEquals(Encoding.FRAME_OF_REFERENCE, frame.encoding());
+    assertEquals(10, frame.bitsPerValue());
+    assertPacked(range, frame);
+  }
+
+  @Test
+  public void testRange() {
+    final long[] values = {5, 6, 7, 8, 9};
+    assertArrayEquals(new long[] {6, 7, 8}, PackedLongArray.of(values, 1, 4).toArray());
+    try {
+      PackedLongArray.of(values, 0, 6);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+
+    try {
+      PackedLongArray.of(values).get(5);
+      fail("Expected IndexOutOfBoundsException");
+    }
+    catch (final IndexOutOfBoundsException e) {
+    }
+  }
+}
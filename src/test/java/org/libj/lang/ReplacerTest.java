@@ -0,0 +1,122 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class ReplacerTest {
+  private static final Random random = new Random();
+
+  private static String replace(final String text, final String[] targets, final String[] replacements) {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < text.length();) {
+      int best = -1;
+      for (int j = 0; j < targets.length; ++j)
+        if (text.startsWith(targets[j], i) && (best < 0 || targets[j].length() > targets[best].length()))
+          best = j;
+
+      if (best < 0) {
+        builder.append(text.charAt(i++));
+      }
+      else {
+        builder.append(replacements[best]);
+        i += targets[best].length();
+      }
+    }
+
+    return builder.toString();
+  }
+
+  private static String random(final int maxLength, final int alphabet) {
+    final char[] chars = new char[1 + random.nextInt(maxLength)];
+    for (int i = 0; i < chars.length; ++i)
+      chars[i] = (char)('a' + random.nextInt(alphabet));
+
+    return new String(chars);
+  }
+
+  @Test
+  public void testReplace() {
+    final Map<String,String> replacements = new LinkedHashMap<>();
+    replacements.put("he", "HE");
+    replacements.put("she", "SHE");
+    replacements.put("his", "HIS");
+    replacements.put("hers", "HERS");
+    final Replacer replacer = Replacer.of(replacements);
+    assertEquals("uSHErs HIS HERS", replacer.replace("ushers his hers"));
+    assertEquals("no match", replacer.replace("no match"));
+
+    final StringBuilder builder = new StringBuilder("ahishers");
+    assertTrue(replacer.replace(builder));
+    assertEquals("aHISHERS", builder.toString());
+    assertFalse(replacer.replace(new StringBuilder("xyz")));
+    assertEquals(">aHISb", replacer.appendTo("ahisb", new StringBuilder(">")).toString());
+  }
+
+  @Test
+  public void testLeftmostLongest() {
+    final Replacer replacer = Replacer.of(new String[] {"ab", "c", "abcz", "a", "abc"}, new String[] {"1", "2", "3", "4", "5"});
+    assertEquals("5q", replacer.replace("abcq"));
+    assertEquals("3", replacer.replace("abcz"));
+    assertEquals("1d", replacer.replace("abd"));
+    assertEquals("4x2", replacer.replace("axc"));
+    assertEquals("aa", Replacer.of(new String[] {"aa"}, new String[] {"a"}).replace("aaaa"));
+    assertEquals("ba", Replacer.of(new String[] {"aa"}, new String[] {"b"}).replace("aaa"));
+  }
+
+  @Test
+  public void testRandom() {
+    for (int n = 0; n < 3000; ++n) {
+      final int alphabet = 2 + random.nextInt(3);
+      final String[] targets = new String[1 + random.nextInt(6)];
+      final String[] replacements = new String[targets.length];
+      for (int i = 0; i < targets.length; ++i) {
+        targets[i] = random(5, alphabet);
+        replacements[i] = "<" + i + ">";
+      }
+
+      final Replacer replacer = Replacer.of(targets, replacements);
+      for (int m = 0; m < 10; ++m) {
+        final String text = random(40, alphabet);
+        assertEquals(String.join(",", targets) + " " + text, replace(text, targets, replacements), replacer.replace(text));
+      }
+    }
+  }
+
+  @Test
+  public void testInvalid() {
+    try {
+      Replacer.of(new String[] {"a", ""}, new String[] {"b", "c"});
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+
+    try {
+      Replacer.of(new String[] {"a"}, new String[] {"b", "c"});
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class SearcherTest {
+  private static final Random random = new Random();
+  // The second and third chars share their low 8 bits with the first
+  private static final char[] alphabet = {'a', (char)('a' + 0x100), (char)('a' + 0x200), 'b', 'c'};
+
+  private static String random(final int length, final int size) {
+    final char[] chars = new char[length];
+    for (int i = 0; i < length; ++i)
+      chars[i] = alphabet[random.nextInt(size)];
+
+    return new String(chars);
+  }
+
+  private static String repeat(final String str, final int count) {
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < count; ++i)
+      builder.append(str);
+
+    return builder.toString();
+  }
+
+  private static void assertSearch(final String text, final String pattern) {
+    final Searcher searcher = Searcher.of(pattern);
+    final StringBuilder builder = new StringBuilder(text);
+    final char[] chars = text.toCharArray();
+    final ArrayCharSequence sequence = new ArrayCharSequence(chars);
+    final String message = "\"" + pattern + "\" in \"" + text + "\"";
+    for (int from = -1; from <= text.length() + 1; ++from) {
+      final int expected = text.indexOf(pattern, from);
+      assertEquals(message + " from " + from, expected, searcher.indexOf(text, from));
+      assertEquals(message + " from " + from, expected, searcher.indexOf(builder, from));
+      assertEquals(message + " from " + from, expected, searcher.indexOf(chars, from));
+      assertEquals(message + " from " + from, expected, searcher.indexOf(sequence, from));
+
+      final int expectedLast = text.lastIndexOf(pattern, from);
+      assertEquals(message + " from " + from, expectedLast, searcher.lastIndexOf(text, from));
+      assertEquals(message + " from " + from, expectedLast, searcher.lastIndexOf(builder, from));
+      assertEquals(message + " from " + from, expectedLast, searcher.lastIndexOf(chars, from));
+      assertEquals(message + " from " + from, expectedLast, searcher.lastIndexOf(sequence, from));
+    }
+
+    assertEquals(message, text.indexOf(pattern), searcher.indexOf(text));
+    assertEquals(message, text.lastIndexOf(pattern), searcher.lastIndexOf(text));
+
+    final PrimitiveIterator.OfInt matches = searcher.matches(chars);
+    for (int index = 0; index <= text.length(); ++index)
+      if (text.startsWith(pattern, index))
+        assertEquals(message, index, matches.nextInt());
+
+    assertFalse(message, matches.hasNext());
+  }
+
+  @Test
+  public void testSearch() {
+    assertSearch("", "");
+    assertSearch("abc", "");
+    assertSearch("", "a");
+    assertSearch("abc", "abcd");
+    assertSearch("abcabcab", "abc");
+    assertSearch("aaaaaa", "aa");
+    assertSearch("xxabcxx", "abc");
+    final String period = "abaabaab";
+    assertSearch(repeat(period, 12), repeat(period, 5));
+    assertSearch(repeat(period, 12) + "c" + repeat(period, 12), repeat(period, 5) + "c");
+    assertSearch(repeat("a", 200), repeat("a", 40));
+    assertSearch(repeat("a", 100) + "b" + repeat("a", 100), repeat("a", 40) + "b" + repeat("a", 40));
+  }
+
+  @Test
+  public void testRandom() {
+    for (int i = 0; i < 2000; ++i) {
+      final int size = 1 + random.nextInt(alphabet.length);
+      final String text = random(random.nextInt(150), size);
+      if (random.nextBoolean() && text.length() > 0) {
+        final int start = random.nextInt(text.length());
+        assertSearch(text, text.substring(start, Math.min(text.length(), start + 1 + random.nextInt(80))));
+      }
+      else {
+        assertSearch(text, random(1 + random.nextInt(60), size));
+      }
+    }
+  }
+
+  @Test
+  public void testMatches() {
+    final PrimitiveIterator.OfInt matches = Searcher.of("").matches("ab");
+    for (int i = 0; i <= 2; ++i)
+      assertEquals(i, matches.nextInt());
+
+    assertFalse(matches.hasNext());
+    try {
+      matches.nextInt();
+      fail("Expected NoSuchElementException");
+    }
+    catch (final NoSuchElementException e) {
+    }
+  }
+}
@@ -19,10 +19,18 @@ package org.libj.lang;
 import static org.junit.Assert.*;
 import static org.libj.lang.Strings.Align.*;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
 import java.text.ParseException;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Properties;
 
 import org.junit.Test;
 
@@ -36,6 +44,19 @@ public class StringsTest {
     assertEquals(1, Strings.lastIndexOf("abc", 'b'));
     assertEquals(0, Strings.lastIndexOf("abc", 'a'));
     assertEquals(-1, Strings.lastIndexOf("abc", 'x'));
+
+    assertEquals(3, Strings.lastIndexOf("abcabc", "abc"));
+    assertEquals(0, Strings.lastIndexOf("abcabc", "abc", 2));
+    assertEquals(-1, Strings.lastIndexOf("abcabc", "abd"));
+
+    final StringBuilder builder = new StringBuilder();
+    for (int i = 0; i < 1000; ++i)
+      builder.append("abcd");
+
+    final String str = builder.toString();
+    assertEquals(str.lastIndexOf("cdab"), Strings.lastIndexOf(builder, "cdab"));
+    assertEquals(str.lastIndexOf("cdab", 2000), Strings.lastIndexOf(builder, "cdab", 2000));
+    assertEquals(-1, Strings.lastIndexOf(builder, "cdac"));
   }
 
   @Test
@@ -130,7 +151,7 @@ public class StringsTest {
       fail("Expected IllegalArgumentException");
     }
     catch (final IllegalArgumentException e) {
-      if (!"Loop detected".equals(e.getMessage()))
+      if (!"Loop detected: prop6 -> prop6".equals(e.getMessage()))
         throw e;
     }
 
@@ -139,7 +160,7 @@ public class StringsTest {
       fail("Expected IllegalArgumentException");
     }
     catch (final IllegalArgumentException e) {
-      if (!"Loop detected".equals(e.getMessage()))
+      if (!"Loop detected: prop6 -> prop6".equals(e.getMessage()))
         throw e;
     }
 
@@ -148,6 +169,98 @@ public class StringsTest {
     assertEquals("prop2 plus prop3", properties.get("prop5"));
   }
 
+  @Test
+  public void testInterpolateNested() {
+    final Map<String,String> properties = new HashMap<>();
+    properties.put("env", "prod");
+    properties.put("host.prod", "example.com");
+    properties.put("url", "https://${host.${env}}/${path}");
+    properties.put("empty", "");
+
+    assertEquals("https://example.com/${path}", Strings.interpolate("${url}", properties, "${", "}"));
+    assertEquals("${ ${env prod} }${}", Strings.interpolate("${ ${env ${env}} }${empty}${}", properties, "${", "}"));
+    assertEquals("a prod b %x% prod", Strings.interpolate("a %env% b %x% %env%", properties, "%", "%"));
+  }
+
+  @Test
+  public void testInterpolateLoop() {
+    final Map<String,String> properties = new LinkedHashMap<>();
+    properties.put("a", "x{{b}}");
+    properties.put("b", "{{c}}y");
+    properties.put("c", "{{d}} {{a}}");
+    properties.put("d", "d");
+    try {
+      Strings.interpolate(properties, "{{", "}}");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertEquals("Loop detected: a -> b -> c -> a", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testInterpolateChain() {
+    final Map<String,String> properties = new HashMap<>();
+    final int size = 20000;
+    for (int i = 0; i < size; ++i)
+      properties.put("k" + i, i % 100 == 99 ? "v" + i : "{{k" + (i + 1) + "}}.{{k" + (i / 100 * 100 + 99) + "}}");
+
+    Strings.interpolate(properties, "{{", "}}");
+    for (int i = 0; i < size; ++i) {
+      final String value = properties.get("k" + i);
+      assertTrue(value, value.endsWith("v" + (i / 100 * 100 + 99)));
+    }
+  }
+
+  @Test
+  public void testInterpolateEmptyDelimiters() {
+    final Map<String,String> properties = new LinkedHashMap<>();
+    properties.put("a", "{{b}}");
+    properties.put("b", "x");
+    properties.put("", "y");
+    assertEquals("a{{b}}c", Strings.interpolate("a{{b}}c", properties, "", "}}"));
+    assertEquals("a{{b}}c", Strings.interpolate("a{{b}}c", properties, "{{", ""));
+    assertEquals("abc", Strings.interpolate("abc", properties, "", ""));
+    Strings.interpolate(properties, "", "");
+    assertEquals("{{b}}", properties.get("a"));
+    assertEquals("x", properties.get("b"));
+  }
+
+  @Test
+  public void testInterpolateDeepChain() {
+    final Map<String,String> properties = new HashMap<>();
+    final int size = 20000;
+    for (int i = 0; i < size; ++i)
+      properties.put("k" + i, "{{k" + (i + 1) + "}}");
+
+    properties.put("k" + size, "end");
+    assertEquals("<end>", Strings.interpolate("<{{k0}}>", properties, "{{", "}}"));
+    Strings.interpolate(properties, "{{", "}}");
+    for (int i = 0; i <= size; ++i)
+      assertEquals("end", properties.get("k" + i));
+
+    // Each key is itself the result of rendering a reference
+    properties.clear();
+    for (int i = 0; i < size; ++i)
+      properties.put("n" + i, "{{{{m" + i + "}}}}");
+
+    for (int i = 0; i < size; ++i)
+      properties.put("m" + i, "n" + (i + 1));
+
+    properties.put("n" + size, "end");
+    assertEquals("end", Strings.interpolate("{{n0}}", properties, "{{", "}}"));
+
+    properties.put("n" + size, "{{n0}}");
+    try {
+      Strings.interpolate("{{n0}}", properties, "{{", "}}");
+      fail("Expected IllegalArgumentException");
+    }
+    catch (final IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("Loop detected: n0 -> n1 -> n2 -> "));
+      assertTrue(e.getMessage(), e.getMessage().endsWith(" -> n" + size + " -> n0"));
+    }
+  }
+
   private static String testReplace(final StringBuilder builder, final CharSequence target, final CharSequence replacement, final boolean expectReplace) {
     assertEquals(expectReplace, Strings.replace(builder, target, replacement));
     return builder.toString();
@@ -547,8 +660,35 @@ public class StringsTest {
     assertFlip("FooBar", "fooBar");
   }
 
+  /** A {@link Reader} that reads one character at a time, so that every name spans reads. */
+  private static final class TrickleReader extends StringReader {
+    private TrickleReader(final String s) {
+      super(s);
+    }
+
+    @Override
+    public int read(final char[] cbuf, final int off, final int len) throws IOException {
+      return super.read(cbuf, off, Math.min(1, len));
+    }
+  }
+
   private static void assertEL(final Map<String,String> variables, final String test, final String match) {
     assertEquals(match, Strings.derefEL(test, variables));
+    if (variables != null) {
+      final Properties properties = new Properties();
+      properties.putAll(variables);
+      assertEquals(match, Strings.derefEL(test, properties));
+    }
+
+    assertEquals(match, Template.compileEL(test).render(variables));
+    try {
+      assertEquals(match, Strings.derefEL(new TrickleReader(test), new StringBuilder(), variables).toString());
+      assertEquals(match, Strings.derefEL(new StringReader(test), new StringWriter(), variables).toString());
+      assertEquals(match, Strings.derefEL(CharBuffer.wrap(test), new StringBuilder(), variables).toString());
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
   }
 
   @Test
@@ -605,6 +745,51 @@ public class StringsTest {
 
   private static void assertEV(final Map<String,String> variables, final String test, final String match) throws ParseException {
     assertEquals(match, Strings.derefEV(test, variables));
+    assertEquals(match, Template.compileEV(test).render(variables));
+    try {
+      assertEquals(match, Strings.derefEV(new TrickleReader(test), new StringBuilder(), variables).toString());
+      assertEquals(match, Strings.derefEV(new StringReader(test), new StringWriter(), variables).toString());
+      assertEquals(match, Strings.derefEV(CharBuffer.wrap(test), new StringBuilder(), variables).toString());
+    }
+    catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Test
+  public void testDerefStreaming() throws IOException, ParseException {
+    final Map<String,String> variables = new HashMap<>();
+    variables.put("NAME", "value");
+    variables.put("name", "VALUE");
+
+    final StringBuilder expected = new StringBuilder();
+    final StringBuilder el = new StringBuilder();
+    final StringBuilder ev = new StringBuilder();
+    for (int i = 0; i < 5000; ++i) {
+      expected.append(i).append(i % 2 == 0 ? "value" : "VALUE").append(' ');
+      el.append(i).append(i % 2 == 0 ? "${NAME}" : "${name}").append(' ');
+      ev.append(i).append(i % 2 == 0 ? "$NAME" : "${name}").append(' ');
+    }
+
+    assertEquals(expected.toString(), Strings.derefEL(new StringReader(el.toString()), new StringWriter(), variables).toString());
+    assertEquals(expected.toString(), Strings.derefEV(new StringReader(ev.toString()), new StringWriter(), variables).toString());
+
+    for (final String test : new String[] {"abc ${NAME", "expect an $$ here", "${{NAME}} token here", "${NA ME}", "x${"}) {
+      try {
+        Strings.derefEV(test, variables);
+        fail("Expected ParseException");
+      }
+      catch (final ParseException e) {
+        try {
+          Strings.derefEV(new TrickleReader(test), new StringBuilder(), variables);
+          fail("Expected ParseException");
+        }
+        catch (final ParseException s) {
+          assertEquals(e.getMessage(), s.getMessage());
+          assertEquals(e.getErrorOffset(), s.getErrorOffset());
+        }
+      }
+    }
   }
 
   @Test
@@ -650,6 +835,19 @@ public class StringsTest {
     assertEV(variables, "$LEFT\\\\ token here", "left\\ token here");
     assertEV(variables, "$LEFT\\} token here", "left} token here");
     assertEV(variables, "$LEFT\\T token here", "leftT token here");
+    assertEV(variables, "${LEFT}:$RIGHT", "left:right");
+    assertEV(variables, "${LEFT}\\$RIGHT", "left$RIGHT");
+
+    for (final String test : new String[] {"${LEFT$RIGHT", "${LEFT$RIGHT}", "${LEFT\\RIGHT}"}) {
+      try {
+        assertEV(variables, test, "leftright");
+        fail("Expected a ParseException");
+      }
+      catch (final ParseException e) {
+        assertEquals(test.substring(0, 7) + ": bad substitution", e.getMessage());
+        assertEquals(6, e.getErrorOffset());
+      }
+    }
 
     try {
       assertEV(variables, "${LEFT token here", "left token here");
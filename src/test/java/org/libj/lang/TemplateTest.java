@@ -0,0 +1,87 @@
+/* Copyright (c) 2022 LibJ
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * You should have received a copy of The MIT License (MIT) along with this
+ * program. If not, see <http://opensource.org/licenses/MIT/>.
+ */
+
+package org.libj.lang;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.text.ParseException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.Test;
+
+public class TemplateTest {
+  @Test
+  public void testEL() throws IOException {
+    final Template template = Template.compileEL("Hello ${name}, \\${name} is ${missing} in ${place}.");
+    assertArrayEquals(new String[] {"name", "missing", "place"}, template.getNames());
+    assertEquals("Hello ${name}, \\${name} is ${missing} in ${place}.", template.toString());
+
+    final Map<String,String> variables = new HashMap<>();
+    variables.put("name", "Alice");
+    variables.put("place", "Paris");
+    assertEquals("Hello Alice, ${name} is ${missing} in Paris.", template.render(variables));
+
+    variables.put("name", "Bob");
+    final StringBuilder builder = new StringBuilder(">");
+    assertSame(builder, template.appendTo(builder, variables));
+    assertEquals(">Hello Bob, ${name} is ${missing} in Paris.", builder.toString());
+
+    final StringWriter writer = new StringWriter();
+    assertSame(writer, template.appendTo(writer, variables));
+    assertEquals("Hello Bob, ${name} is ${missing} in Paris.", writer.toString());
+
+    final Properties properties = new Properties();
+    properties.setProperty("missing", "found");
+    assertEquals("Hello ${name}, ${name} is found in ${place}.", template.render(properties));
+  }
+
+  @Test
+  public void testEV() throws IOException, ParseException {
+    final Template template = Template.compileEV("$HOME/bin:${PATH}:$MISSING");
+    assertArrayEquals(new String[] {"HOME", "PATH", "MISSING"}, template.getNames());
+
+    final Map<String,String> variables = new HashMap<>();
+    variables.put("HOME", "/home/user");
+    variables.put("PATH", "/usr/bin");
+    assertEquals("/home/user/bin:/usr/bin:", template.render(variables));
+    assertEquals("/home/user/bin:/usr/bin:", template.appendTo(new StringWriter(), variables).toString());
+    assertTrue(template.getEstimatedLength() >= "/bin::".length());
+
+    try {
+      Template.compileEV("${HOME");
+      fail("Expected ParseException");
+    }
+    catch (final ParseException e) {
+      assertEquals("${HOME: bad substitution", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testLiteral() throws ParseException {
+    final String literal = "no names here";
+    assertSame(literal, Template.compileEL(literal).render(null));
+    assertEquals(0, Template.compileEV(literal).getNames().length);
+    final Template escaped = Template.compileEL("a $\\{} b");
+    assertEquals("a ${} b", escaped.render(Collections.emptyMap()));
+    assertEquals("a $\\{} b", escaped.toString());
+  }
+}